@@ -0,0 +1,41 @@
+-- Migração: ID de domínio (UUID) passa a ser a chave primária de users e restaurants.
+--
+-- Antes: id BIGINT (IDENTITY/sequence) como chave primária + domain_id UUID com índice único.
+-- Depois: id UUID como única chave primária; novos registros recebem UUIDv7 (ordenado pelo tempo).
+--
+-- Os UUIDs existentes são preservados, pois são os IDs expostos na API e referenciados
+-- por restaurants.user_id. Linhas antigas continuam com UUIDs aleatórios (v4); apenas os
+-- registros novos são inseridos em ordem. A paginação keyset passa a seguir a ordem do UUID,
+-- então registros antigos deixam de aparecer na ordem de criação.
+--
+-- Sintaxe H2. Executar com a aplicação parada, em uma única transação.
+
+CREATE TABLE users_new (
+    id UUID NOT NULL PRIMARY KEY,
+    nome VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    tipo VARCHAR(255) NOT NULL CHECK (tipo IN ('CLIENTE', 'RESTAURANTE'))
+);
+
+INSERT INTO users_new (id, nome, email, tipo)
+SELECT domain_id, nome, email, tipo FROM users ORDER BY id;
+
+DROP TABLE users;
+ALTER TABLE users_new RENAME TO users;
+DROP SEQUENCE IF EXISTS users_seq;
+
+CREATE TABLE restaurants_new (
+    id UUID NOT NULL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    cnpj VARCHAR(255) NOT NULL UNIQUE,
+    is_active BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+INSERT INTO restaurants_new (id, user_id, name, cnpj, is_active, created_at, updated_at)
+SELECT domain_id, user_id, name, cnpj, is_active, created_at, updated_at FROM restaurants ORDER BY id;
+
+DROP TABLE restaurants;
+ALTER TABLE restaurants_new RENAME TO restaurants;
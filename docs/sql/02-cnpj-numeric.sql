@@ -0,0 +1,32 @@
+-- Migração: CNPJ de restaurants passa de texto livre para a forma numérica canônica.
+--
+-- Antes: cnpj VARCHAR(255) com índice único, gravado como recebido (com ou sem pontuação).
+-- Depois: cnpj BIGINT com índice único, somente o número de 14 dígitos (zeros à esquerda
+-- são restaurados pela aplicação ao ler). "11.222.333/0001-81" e "11222333000181" passam
+-- a ser o mesmo restaurante.
+--
+-- Antes de executar, verificar CNPJs que colidem após remover a pontuação; o INSERT abaixo
+-- falha no índice único enquanto houver algum:
+--   SELECT REGEXP_REPLACE(cnpj, '[^0-9]', '') AS numero, COUNT(*) FROM restaurants
+--   GROUP BY numero HAVING COUNT(*) > 1;
+-- Registros com dígitos verificadores inválidos são migrados, mas a aplicação os rejeita
+-- ao carregar; devem ser corrigidos antes.
+--
+-- Sintaxe H2. Executar com a aplicação parada, em uma única transação.
+
+CREATE TABLE restaurants_new (
+    id UUID NOT NULL PRIMARY KEY,
+    user_id VARCHAR(255) NOT NULL,
+    name VARCHAR(255) NOT NULL,
+    cnpj BIGINT NOT NULL UNIQUE,
+    is_active BOOLEAN NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6)
+);
+
+INSERT INTO restaurants_new (id, user_id, name, cnpj, is_active, created_at, updated_at)
+SELECT id, user_id, name, CAST(REGEXP_REPLACE(cnpj, '[^0-9]', '') AS BIGINT), is_active, created_at, updated_at
+FROM restaurants ORDER BY id;
+
+DROP TABLE restaurants;
+ALTER TABLE restaurants_new RENAME TO restaurants;
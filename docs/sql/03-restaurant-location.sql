@@ -0,0 +1,10 @@
+-- Migração: localização opcional dos restaurantes, usada na busca por proximidade.
+--
+-- Latitude e longitude em graus decimais (WGS84), nulas para restaurantes cadastrados sem
+-- localização; esses restaurantes não aparecem em GET /api/restaurants/nearby.
+-- Não há índice no banco: a busca usa a grade espacial em memória, carregada na inicialização.
+--
+-- Sintaxe H2. Pode ser executada com a aplicação no ar (apenas adiciona colunas nulas).
+
+ALTER TABLE restaurants ADD COLUMN latitude DOUBLE PRECISION;
+ALTER TABLE restaurants ADD COLUMN longitude DOUBLE PRECISION;
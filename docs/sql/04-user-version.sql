@@ -0,0 +1,8 @@
+-- Migração: versão dos usuários, usada nas ETags de GET /api/users/{id}.
+--
+-- A coluna é controlada pelo Hibernate (@Version): começa em 0 e é incrementada a cada UPDATE.
+-- Os usuários existentes recebem a versão 0.
+--
+-- Sintaxe H2. Pode ser executada com a aplicação no ar (a versão anterior ignora a coluna).
+
+ALTER TABLE users ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
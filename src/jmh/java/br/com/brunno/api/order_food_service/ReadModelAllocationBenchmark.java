@@ -0,0 +1,146 @@
+// Arquivo para o ReadModelAllocationBenchmark - Benchmark de Aplicação 
+
+package br.com.brunno.api.order_food_service;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.GetRestaurantResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.GetRestaurantUseCase;
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.ListRestaurantsUseCase;
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import br.com.brunno.api.order_food_service.user.application.usecase.GetUserUseCase;
+import br.com.brunno.api.order_food_service.user.application.usecase.ListUsersUseCase;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.get.GetUserResponse;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserJpaRepository;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.entity.UserJpaEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o caminho de leitura antigo (entidade JPA gerenciada -> domínio -> DTO) com o
+ * modelo de leitura por projeção, para as consultas de busca e listagem de usuários e
+ * restaurantes. Executar com o profiler de GC para obter bytes alocados por requisição:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="ReadModelAllocationBenchmark -prof gc"
+ * (métrica gc.alloc.rate.norm, em bytes por operação).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadModelAllocationBenchmark {
+    
+    @Param({"100"})
+    private int rows;
+    
+    private ConfigurableApplicationContext context;
+    private UserJpaRepository userJpaRepository;
+    private UserRepository userRepository;
+    private RestaurantRepository restaurantRepository;
+    private GetUserUseCase getUserUseCase;
+    private ListUsersUseCase listUsersUseCase;
+    private GetRestaurantUseCase getRestaurantUseCase;
+    private ListRestaurantsUseCase listRestaurantsUseCase;
+    private UUID userId;
+    private UUID restaurantId;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderFoodServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                // Argumentos de linha de comando: properties() só define padrões, e o
+                // application.properties ligaria o log de SQL dentro da medição
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:read_model_benchmark",
+                    "--spring.jpa.show-sql=false",
+                    "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                    "--logging.level.root=WARN",
+                    "--logging.level.org.hibernate.SQL=WARN",
+                    "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        
+        userJpaRepository = context.getBean(UserJpaRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        restaurantRepository = context.getBean(RestaurantRepository.class);
+        getUserUseCase = context.getBean(GetUserUseCase.class);
+        listUsersUseCase = context.getBean(ListUsersUseCase.class);
+        getRestaurantUseCase = context.getBean(GetRestaurantUseCase.class);
+        listRestaurantsUseCase = context.getBean(ListRestaurantsUseCase.class);
+        
+        for (int i = 0; i < rows; i++) {
+            User user = userRepository.save(new User("Usuário " + i, "usuario" + i + "@email.com", User.UserType.RESTAURANTE));
+            Restaurant restaurant = restaurantRepository.save(
+                    new Restaurant(user.getId().toString(), "Restaurante " + i, String.format("%014d", i)));
+            userId = user.getId();
+            restaurantId = restaurant.getId();
+        }
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public Optional<GetUserResponse> getUserEntityPath() {
+        return userJpaRepository.findById(userId)
+                .map(UserJpaEntity::toDomain)
+                .map(GetUserResponse::new);
+    }
+    
+    @Benchmark
+    public Optional<GetUserResponse> getUserReadModel() {
+        return getUserUseCase.execute(userId);
+    }
+    
+    @Benchmark
+    public ListUsersResponse listUsersEntityPath() {
+        List<ListUsersResponse.UserItem> items = userJpaRepository.findAll(PageRequest.of(0, rows, Sort.by("id")))
+                .stream()
+                .map(UserJpaEntity::toDomain)
+                .map(ListUsersResponse.UserItem::new)
+                .toList();
+        return new ListUsersResponse(items, null);
+    }
+    
+    @Benchmark
+    public ListUsersResponse listUsersReadModel() {
+        return listUsersUseCase.execute(null, rows);
+    }
+    
+    @Benchmark
+    public Optional<GetRestaurantResponse> getRestaurantEntityPath() {
+        return restaurantRepository.findById(restaurantId)
+                .map(GetRestaurantResponse::new);
+    }
+    
+    @Benchmark
+    public Optional<GetRestaurantResponse> getRestaurantReadModel() {
+        return getRestaurantUseCase.execute(restaurantId);
+    }
+    
+    @Benchmark
+    public ListRestaurantsResponse listRestaurantsEntityPath() {
+        return new ListRestaurantsResponse(restaurantRepository.findAll()
+                .stream()
+                .map(ListRestaurantsResponse.RestaurantItem::new)
+                .toList());
+    }
+    
+    @Benchmark
+    public ListRestaurantsResponse listRestaurantsReadModel() {
+        return listRestaurantsUseCase.execute();
+    }
+}
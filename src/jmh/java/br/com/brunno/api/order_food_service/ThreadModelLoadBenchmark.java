@@ -0,0 +1,292 @@
+// Arquivo para o ThreadModelLoadBenchmark - Benchmark de Carga
+
+package br.com.brunno.api.order_food_service;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Teste de carga que compara a API rodando em threads de plataforma (padrão) e em threads
+ * virtuais (perfil virtual-threads). Para cada modo sobe a aplicação numa porta livre, popula
+ * usuários e restaurantes pela própria API e dispara uma carga em circuito fechado sobre os
+ * endpoints existentes (busca e listagem de usuários e restaurantes, criação de usuários).
+ * Reporta vazão, p50, p99, máximo e respostas fora de 2xx (incluindo os 503 do limite de concorrência).
+ *
+ * Execução:
+ * mvn -Pbenchmark test-compile exec:exec -Dbenchmark.main=br.com.brunno.api.order_food_service.ThreadModelLoadBenchmark \
+ *     -Djmh.args="--modes=platform,virtual --concurrency=400 --duration=30 --warmup=10"
+ *
+ * O modo virtual exige Java 21+; em versões anteriores ele é ignorado com um aviso.
+ */
+public class ThreadModelLoadBenchmark {
+
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*\"([0-9a-f-]{36})\"");
+
+    private final int concurrency;
+    private final Duration duration;
+    private final Duration warmup;
+    private final int seedUsers;
+
+    private HttpClient client;
+    private String baseUrl;
+    private List<String> userIds;
+    private List<String> restaurantIds;
+
+    ThreadModelLoadBenchmark(int concurrency, Duration duration, Duration warmup, int seedUsers) {
+        this.concurrency = concurrency;
+        this.duration = duration;
+        this.warmup = warmup;
+        this.seedUsers = seedUsers;
+    }
+
+    public static void main(String[] args) throws Exception {
+        // O devtools reiniciaria a aplicação num classloader próprio a cada modo
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, String> options = parseOptions(args);
+        List<String> modes = Arrays.asList(options.getOrDefault("modes", "platform,virtual").split(","));
+        ThreadModelLoadBenchmark benchmark = new ThreadModelLoadBenchmark(
+            Integer.parseInt(options.getOrDefault("concurrency", "400")),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30"))),
+            Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "10"))),
+            Integer.parseInt(options.getOrDefault("users", "2000"))
+        );
+
+        List<String> report = new ArrayList<>();
+        for (String mode : modes) {
+            if (mode.equals("virtual") && Runtime.version().feature() < 21) {
+                report.add(String.format("%-9s ignorado: threads virtuais exigem Java 21+ (atual: %s)",
+                        mode, Runtime.version()));
+                continue;
+            }
+            report.add(benchmark.run(mode));
+        }
+
+        System.out.println();
+        System.out.printf("concorrência=%d duração=%ds aquecimento=%ds usuários=%d%n", benchmark.concurrency,
+                benchmark.duration.toSeconds(), benchmark.warmup.toSeconds(), benchmark.seedUsers);
+        System.out.printf("%-9s %10s %9s %9s %9s %9s %8s%n", "modo", "req", "req/s", "p50 ms", "p99 ms", "max ms", "erros");
+        report.forEach(System.out::println);
+    }
+
+    private String run(String mode) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(OrderFoodServiceApplication.class);
+        if (mode.equals("virtual")) {
+            builder.profiles("virtual-threads");
+        }
+
+        // Argumentos de linha de comando têm precedência sobre o application.properties (que liga o log de SQL)
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:load_" + mode,
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            baseUrl = "http://localhost:" + port;
+            client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+            seed();
+
+            load(warmup);
+            LoadResult result = load(duration);
+            return result.format(mode, duration);
+        }
+    }
+
+    private void seed() throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < seedUsers; i++) {
+            ndjson.append(String.format("{\"nome\":\"Usuário %d\",\"email\":\"carga%d@email.com\",\"tipo\":\"%s\"}%n",
+                    i, i, i % 10 == 0 ? "RESTAURANTE" : "CLIENTE"));
+        }
+        HttpResponse<String> imported = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/users/import"))
+                .header("Content-Type", "application/x-ndjson")
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        userIds = extractIds(imported.body());
+
+        restaurantIds = new ArrayList<>();
+        for (int i = 0; i < userIds.size(); i += 10) {
+            String body = String.format("{\"userId\":\"%s\",\"name\":\"Restaurante %d\",\"cnpj\":\"%s\"}",
+                    userIds.get(i), i, cnpj(i));
+            HttpResponse<String> created = client.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/restaurants"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            restaurantIds.addAll(extractIds(created.body()));
+        }
+        if (userIds.isEmpty() || restaurantIds.isEmpty()) {
+            throw new IllegalStateException("Falha ao popular a base para o teste de carga");
+        }
+    }
+
+    private LoadResult load(Duration window) throws InterruptedException {
+        long deadline = System.nanoTime() + window.toNanos();
+        long[][] latencies = new long[concurrency][];
+        int[] counts = new int[concurrency];
+        int[] errors = new int[concurrency];
+        CountDownLatch done = new CountDownLatch(concurrency);
+
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int w = 0; w < concurrency; w++) {
+            int worker = w;
+            workers.execute(() -> {
+                long[] samples = new long[4096];
+                int count = 0;
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    int status = send(nextRequest(worker, count));
+                    long elapsed = System.nanoTime() - start;
+                    if (count == samples.length) {
+                        samples = Arrays.copyOf(samples, count * 2);
+                    }
+                    samples[count++] = elapsed;
+                    if (status < 200 || status >= 300) {
+                        errors[worker]++;
+                    }
+                }
+                latencies[worker] = samples;
+                counts[worker] = count;
+                done.countDown();
+            });
+        }
+        done.await();
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+
+        int total = Arrays.stream(counts).sum();
+        long[] all = new long[total];
+        int offset = 0;
+        for (int w = 0; w < concurrency; w++) {
+            System.arraycopy(latencies[w], 0, all, offset, counts[w]);
+            offset += counts[w];
+        }
+        Arrays.sort(all);
+        return new LoadResult(all, Arrays.stream(errors).sum());
+    }
+
+    // Mistura de leitura e escrita: 40% busca de usuário, 20% página de usuários,
+    // 25% busca de restaurante, 5% listagem de restaurantes, 10% criação de usuário
+    private HttpRequest nextRequest(int worker, int sequence) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 40) {
+            return get("/api/users/" + userIds.get(random.nextInt(userIds.size())));
+        } else if (roll < 60) {
+            return get("/api/users?limit=50");
+        } else if (roll < 85) {
+            return get("/api/restaurants/" + restaurantIds.get(random.nextInt(restaurantIds.size())));
+        } else if (roll < 90) {
+            return get("/api/restaurants");
+        }
+        String body = String.format("{\"nome\":\"Carga %d-%d\",\"email\":\"carga-%d-%d-%d@email.com\",\"tipo\":\"CLIENTE\"}",
+                worker, sequence, worker, sequence, System.nanoTime());
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/users"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+    }
+
+    private int send(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private static List<String> extractIds(String body) {
+        List<String> ids = new ArrayList<>();
+        Matcher matcher = ID_PATTERN.matcher(body);
+        while (matcher.find()) {
+            ids.add(matcher.group(1));
+        }
+        return ids;
+    }
+
+    // CNPJ com dígitos verificadores válidos: base de 8 dígitos derivada do índice, filial 0001
+    private static String cnpj(int index) {
+        int[] digits = new int[14];
+        String base = String.format("%08d0001", 10_000_000 + index);
+        for (int i = 0; i < 12; i++) {
+            digits[i] = base.charAt(i) - '0';
+        }
+        digits[12] = checkDigit(digits, 12);
+        digits[13] = checkDigit(digits, 13);
+        StringBuilder cnpj = new StringBuilder();
+        for (int digit : digits) {
+            cnpj.append(digit);
+        }
+        return cnpj.toString();
+    }
+
+    private static int checkDigit(int[] digits, int length) {
+        int sum = 0;
+        int weight = length - 7;
+        for (int i = 0; i < length; i++) {
+            sum += digits[i] * weight;
+            weight = weight == 2 ? 9 : weight - 1;
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+
+    private static final class LoadResult {
+        private final long[] sortedLatencies;
+        private final int errors;
+
+        LoadResult(long[] sortedLatencies, int errors) {
+            this.sortedLatencies = sortedLatencies;
+            this.errors = errors;
+        }
+
+        String format(String mode, Duration window) {
+            int total = sortedLatencies.length;
+            return String.format("%-9s %10d %9.0f %9.2f %9.2f %9.2f %8d", mode, total,
+                    total / (double) window.toSeconds(), percentile(0.50), percentile(0.99),
+                    total == 0 ? 0 : sortedLatencies[total - 1] / 1e6, errors);
+        }
+
+        private double percentile(double p) {
+            if (sortedLatencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(index, 0)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+// Arquivo para o StockContentionBenchmark - Benchmark de Infraestrutura
+
+package br.com.brunno.api.order_food_service.inventory;
+
+import br.com.brunno.api.order_food_service.OrderFoodServiceApplication;
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Estoque de um único produto disputado por 64 threads: reserva e confirmação de uma unidade.
+ * "memory" usa a contagem em memória (locks listrados, diário e gravação em lote no banco a cada
+ * segundo); "database" faz a baixa direto na linha, com UPDATE condicional numa transação por
+ * unidade, e todas as threads esperam o lock da mesma linha.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="StockContentionBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(64)
+@Fork(1)
+public class StockContentionBenchmark {
+
+    private static final String DECREMENT =
+            "update stock_items set quantity = quantity - ?, revision = revision + 1 where product_id = ? and quantity >= ?";
+
+    @Param({"memory", "database"})
+    private String mode;
+
+    private ConfigurableApplicationContext context;
+    private StockLedger stockLedger;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private List<StockLine> line;
+    private UUID productId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(OrderFoodServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:stock_contention_benchmark_" + mode,
+                    "--inventory.journal-directory=" + Files.createTempDirectory("stock-contention-benchmark"),
+                    "--logging.level.root=WARN");
+        stockLedger = context.getBean(StockLedger.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        productId = UUID.randomUUID();
+        line = List.of(new StockLine(productId, 1));
+        StockItem item = context.getBean(StockRepository.class)
+                .save(new StockItem(productId, UUID.randomUUID(), Integer.MAX_VALUE));
+        stockLedger.register(item);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object reserveAndCommit() {
+        if (mode.equals("memory")) {
+            return stockLedger.commit(stockLedger.reserve(line).getId());
+        }
+        return transactionTemplate.execute(status -> jdbcTemplate.update(DECREMENT, 1, productId, 1));
+    }
+}
@@ -0,0 +1,110 @@
+// Arquivo para o StockDecrementBenchmark - Benchmark de Infraestrutura
+
+package br.com.brunno.api.order_food_service.inventory;
+
+import br.com.brunno.api.order_food_service.OrderFoodServiceApplication;
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.InventoryRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.StockJpaRepository;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity.StockItemJpaEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reserva de uma unidade de cada produto de um pedido, com 16 threads disputando os mesmos produtos.
+ * "conditional" usa o InventoryRepository: um UPDATE condicional por produto, enviados num único
+ * lote, sem ler a linha antes. "optimistic" é o caminho clássico de leitura, verificação e escrita
+ * com @Version: carrega as entidades, confere o disponível, soma a reserva e, se outra transação
+ * alterou a linha no meio, repete tudo.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="StockDecrementBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class StockDecrementBenchmark {
+
+    @Param({"conditional", "optimistic"})
+    private String mode;
+
+    @Param({"1", "5"})
+    private int skus;
+
+    private ConfigurableApplicationContext context;
+    private InventoryRepository inventoryRepository;
+    private StockJpaRepository stockJpaRepository;
+    private TransactionTemplate transactionTemplate;
+    private List<StockLine> lines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderFoodServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:stock_decrement_benchmark_" + mode + "_" + skus,
+                    "--inventory.mode=database",
+                    "--logging.level.root=WARN");
+        inventoryRepository = context.getBean(InventoryRepository.class);
+        stockJpaRepository = context.getBean(StockJpaRepository.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        StockRepository stockRepository = context.getBean(StockRepository.class);
+        UUID restaurantId = UUID.randomUUID();
+        lines = new ArrayList<>();
+        for (int i = 0; i < skus; i++) {
+            UUID productId = UUID.randomUUID();
+            stockRepository.save(new StockItem(productId, restaurantId, Integer.MAX_VALUE));
+            lines.add(new StockLine(productId, 1));
+        }
+        // Mesma ordem de bloqueio nos dois modos
+        lines.sort(Comparator.comparing(StockLine::productId));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Object reserve() {
+        if (mode.equals("conditional")) {
+            return transactionTemplate.execute(status -> {
+                inventoryRepository.reserve(lines);
+                return lines;
+            });
+        }
+        while (true) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    for (StockLine line : lines) {
+                        StockItemJpaEntity item = stockJpaRepository.findById(line.productId()).orElseThrow();
+                        if (item.getQuantity() - item.getReserved() < line.quantity()) {
+                            throw new IllegalStateException("Estoque esgotado no benchmark");
+                        }
+                        item.setReserved(item.getReserved() + line.quantity());
+                    }
+                    return lines;
+                });
+            } catch (ObjectOptimisticLockingFailureException e) {
+                // Outra transação mudou a revisão entre a leitura e a escrita; lê de novo
+            }
+        }
+    }
+}
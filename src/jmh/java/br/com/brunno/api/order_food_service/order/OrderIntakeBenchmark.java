@@ -0,0 +1,71 @@
+// Arquivo para o OrderIntakeBenchmark - Benchmark de Aplicação
+
+package br.com.brunno.api.order_food_service.order;
+
+import br.com.brunno.api.order_food_service.OrderFoodServiceApplication;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderRequest;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderResponse;
+import br.com.brunno.api.order_food_service.order.infrastructure.intake.OrderIntake;
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entrada de pedidos com 16 threads simulando as threads do Tomcat: uma transação por pedido
+ * (order.intake.enabled=false) x fila circular com gravação em lote (group commit).
+ * Mede vazão e a latência de cada pedido até o commit (SampleTime, com percentis).
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderIntakeBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class OrderIntakeBenchmark {
+
+    @Param({"false", "true"})
+    private boolean ringBuffer;
+
+    private ConfigurableApplicationContext context;
+    private OrderIntake orderIntake;
+    private CreateOrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderFoodServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:order_intake_benchmark_" + ringBuffer,
+                    "--order.intake.enabled=" + ringBuffer,
+                    "--logging.level.root=WARN");
+        orderIntake = context.getBean(OrderIntake.class);
+
+        Restaurant restaurant = context.getBean(RestaurantRepository.class)
+                .save(new Restaurant(UUID.randomUUID().toString(), "Restaurante Benchmark", "11222333000181"));
+        request = new CreateOrderRequest(UUID.randomUUID(), restaurant.getId(), List.of(
+                new CreateOrderRequest.Item(UUID.randomUUID(), 2, new BigDecimal("19.90")),
+                new CreateOrderRequest.Item(UUID.randomUUID(), 1, new BigDecimal("7.50")),
+                new CreateOrderRequest.Item(UUID.randomUUID(), 3, new BigDecimal("4.00"))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreateOrderResponse placeOrder() {
+        return orderIntake.submit(request).join();
+    }
+}
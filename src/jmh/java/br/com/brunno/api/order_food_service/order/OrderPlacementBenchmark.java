@@ -0,0 +1,78 @@
+// Arquivo para o OrderPlacementBenchmark - Benchmark de Aplicação
+
+package br.com.brunno.api.order_food_service.order;
+
+import br.com.brunno.api.order_food_service.OrderFoodServiceApplication;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderRequest;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderResponse;
+import br.com.brunno.api.order_food_service.order.application.usecase.CreateOrderUseCase;
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da criação de pedidos pelo caso de uso (verificação do restaurante, pedido e itens
+ * gravados numa transação) contra o H2 em memória, com o perfil prod (sem log de SQL).
+ * jdbcBatchSize=1 desliga o lote JDBC e grava cada item numa ida ao banco; com 100 os itens de
+ * um pedido seguem num único executeBatch.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="OrderPlacementBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class OrderPlacementBenchmark {
+
+    @Param({"1", "100"})
+    private int jdbcBatchSize;
+
+    @Param({"1", "5", "20"})
+    private int itemsPerOrder;
+
+    private ConfigurableApplicationContext context;
+    private CreateOrderUseCase createOrderUseCase;
+    private CreateOrderRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderFoodServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:order_placement_benchmark_" + jdbcBatchSize + "_" + itemsPerOrder,
+                    "--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize,
+                    "--spring.jpa.properties.hibernate.use_sql_comments=false",
+                    "--logging.level.root=WARN");
+        createOrderUseCase = context.getBean(CreateOrderUseCase.class);
+
+        Restaurant restaurant = context.getBean(RestaurantRepository.class)
+                .save(new Restaurant(UUID.randomUUID().toString(), "Restaurante Benchmark", "11222333000181"));
+        List<CreateOrderRequest.Item> items = new ArrayList<>(itemsPerOrder);
+        for (int i = 0; i < itemsPerOrder; i++) {
+            items.add(new CreateOrderRequest.Item(UUID.randomUUID(), i + 1, new BigDecimal("12.90")));
+        }
+        request = new CreateOrderRequest(UUID.randomUUID(), restaurant.getId(), items);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CreateOrderResponse placeOrder() {
+        return createOrderUseCase.execute(request);
+    }
+}
@@ -0,0 +1,105 @@
+// Arquivo para o RestaurantListCacheBenchmark - Benchmark de Listagem
+
+package br.com.brunno.api.order_food_service.restaurant;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.GetRestaurantWebResponse;
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+import br.com.brunno.api.order_food_service.shared.infrastructure.version.CollectionVersion;
+import br.com.brunno.api.order_food_service.shared.infrastructure.web.EncodedResponseCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * GET /api/restaurants depois da consulta: mapear os itens do modelo de leitura para as respostas
+ * web e serializá-las a cada requisição x servir o corpo já serializado do EncodedResponseCache.
+ * O caminho sem cache ainda não inclui a consulta ao banco, que o cache também evita.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="RestaurantListCacheBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantListCacheBenchmark {
+
+    @Param({"100", "1000"})
+    private int listSize;
+
+    private List<ListRestaurantsResponse.RestaurantItem> items;
+    private ObjectMapper objectMapper;
+    private EncodedResponseCache<String> cache;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        items = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            items.add(new ListRestaurantsResponse.RestaurantItem(TimeOrderedUuid.next(), TimeOrderedUuid.next().toString(),
+                    "Restaurante " + i, "11222333000181", -23.55 + i * 1e-4, -46.63, true, createdAt, createdAt));
+        }
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache = new EncodedResponseCache<>("restaurants", new CollectionVersion("restaurants", meterRegistry),
+                key -> toWebResponses(), objectMapper, true, true, meterRegistry);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        cache.close();
+    }
+
+    /**
+     * Caminho anterior: itens -> respostas web -> JSON a cada requisição
+     */
+    @Benchmark
+    public byte[] mapAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toWebResponses());
+    }
+
+    /**
+     * Caminho anterior com compressão gzip feita por requisição (server.compression)
+     */
+    @Benchmark
+    public byte[] mapSerializeAndGzip() throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(toWebResponses());
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        }
+        return compressed.toByteArray();
+    }
+
+    /**
+     * Acerto no cache: uma leitura da versão da coleção e uma consulta ao mapa
+     */
+    @Benchmark
+    public byte[] cachedJson() {
+        return cache.get("all").json();
+    }
+
+    @Benchmark
+    public byte[] cachedGzip() {
+        return cache.get("all").gzip();
+    }
+
+    private List<GetRestaurantWebResponse> toWebResponses() {
+        return items.stream()
+                .map(item -> new GetRestaurantWebResponse(item.getId(), item.getUserId(), item.getName(),
+                        item.getCnpj(), item.getLatitude(), item.getLongitude(), item.isActive(),
+                        item.getCreatedAt(), item.getUpdatedAt()))
+                .toList();
+    }
+}
@@ -0,0 +1,147 @@
+// Arquivo para o RestaurantMappingBenchmark - Benchmark de Domínio e Mapeamento
+
+package br.com.brunno.api.order_food_service.restaurant;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.CreateRestaurantRequest;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.CreateRestaurantResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.GetRestaurantResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity.RestaurantJpaEntity;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebRequest;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebResponse;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.GetRestaurantWebResponse;
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminhos quentes de domínio e mapeamento do módulo de restaurante, sem banco nem Spring:
+ * validação nos construtores de Restaurant (incluindo a do CNPJ), conversões da entidade JPA
+ * e as cadeias de DTOs percorridas pelo RestaurantController.
+ * Executar com o profiler de GC para obter bytes alocados por operação:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="RestaurantMappingBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantMappingBenchmark {
+
+    /**
+     * CNPJ como chega na API: só dígitos ou formatado com pontuação
+     */
+    @Param({"11222333000181", "11.222.333/0001-81"})
+    private String cnpj;
+
+    @Param({"100"})
+    private int listSize;
+
+    private String userId;
+    private String name;
+    private UUID id;
+    private LocalDateTime createdAt;
+    private Restaurant restaurant;
+    private RestaurantJpaEntity entity;
+    private CreateRestaurantWebRequest webRequest;
+    private List<ListRestaurantsResponse.RestaurantItem> items;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        userId = TimeOrderedUuid.next().toString();
+        name = "Restaurante Exemplo";
+        id = TimeOrderedUuid.next();
+        createdAt = LocalDateTime.now();
+        restaurant = new Restaurant(id, userId, name, cnpj, true, createdAt, createdAt);
+        entity = new RestaurantJpaEntity(id, userId, name, cnpj, true, createdAt, createdAt);
+        webRequest = new CreateRestaurantWebRequest(userId, name, cnpj);
+
+        items = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            items.add(new ListRestaurantsResponse.RestaurantItem(TimeOrderedUuid.next(), userId,
+                    "Restaurante " + i, cnpj, true, createdAt, createdAt));
+        }
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Criação de restaurante: gera o UUIDv7 e valida usuário, nome e CNPJ
+     */
+    @Benchmark
+    public Restaurant newRestaurant() {
+        return new Restaurant(userId, name, cnpj);
+    }
+
+    /**
+     * Reconstrução de um restaurante existente, que repete a validação do CNPJ a cada leitura
+     */
+    @Benchmark
+    public Restaurant rehydrateRestaurant() {
+        return new Restaurant(id, userId, name, cnpj, true, createdAt, createdAt);
+    }
+
+    @Benchmark
+    public Restaurant restaurantJpaEntityToDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public RestaurantJpaEntity restaurantJpaEntityFromDomain() {
+        return RestaurantJpaEntity.fromDomain(restaurant);
+    }
+
+    /**
+     * POST /api/restaurants sem o repositório: request web -> request do caso de uso (validado)
+     * -> domínio -> resposta do caso de uso -> resposta web
+     */
+    @Benchmark
+    public CreateRestaurantWebResponse createRestaurantChain() {
+        CreateRestaurantRequest request = new CreateRestaurantRequest(webRequest.getUserId(), webRequest.getName(), webRequest.getCnpj());
+        request.validate();
+        CreateRestaurantResponse response = new CreateRestaurantResponse(
+                new Restaurant(request.getUserId(), request.getName(), request.getCnpj()));
+        return new CreateRestaurantWebResponse(response.getId(), response.getUserId(), response.getName(),
+                response.getCnpj(), response.isActive(), response.getCreatedAt());
+    }
+
+    /**
+     * GET /api/restaurants/{id} pelo caminho de domínio: entidade -> domínio -> resposta -> resposta web
+     */
+    @Benchmark
+    public GetRestaurantWebResponse getRestaurantChain() {
+        GetRestaurantResponse response = new GetRestaurantResponse(entity.toDomain());
+        return new GetRestaurantWebResponse(response.getId(), response.getUserId(), response.getName(),
+                response.getCnpj(), response.isActive(), response.getCreatedAt(), response.getUpdatedAt());
+    }
+
+    /**
+     * GET /api/restaurants/{id} incluindo a serialização JSON da resposta web
+     */
+    @Benchmark
+    public byte[] getRestaurantChainAsJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getRestaurantChain());
+    }
+
+    /**
+     * GET /api/restaurants: itens do modelo de leitura -> lista de respostas web
+     */
+    @Benchmark
+    public List<GetRestaurantWebResponse> listRestaurantsChain() {
+        return items.stream()
+                .map(item -> new GetRestaurantWebResponse(item.getId(), item.getUserId(), item.getName(),
+                        item.getCnpj(), item.isActive(), item.getCreatedAt(), item.getUpdatedAt()))
+                .toList();
+    }
+}
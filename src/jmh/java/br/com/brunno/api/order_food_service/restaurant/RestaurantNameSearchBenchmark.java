@@ -0,0 +1,88 @@
+// Arquivo para o RestaurantNameSearchBenchmark - Benchmark de Busca
+
+package br.com.brunno.api.order_food_service.restaurant;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.search.TrigramIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca por trecho do nome sobre um milhão de restaurantes: índice de trigramas (usado por
+ * GET /api/restaurants/search) contra a varredura sequencial dos nomes, que é o que o
+ * LIKE '%termo%' faz no banco (aqui sem I/O, ou seja, um limite inferior para a consulta SQL).
+ * Os termos cobrem um trecho comum (muitos resultados, parada no limite), um trecho de três
+ * palavras, um nome único, um termo inexistente e um termo de dois caracteres (sem trigramas).
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="RestaurantNameSearchBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RestaurantNameSearchBenchmark {
+    
+    private static final String[] TYPES = {"Pizzaria", "Cantina", "Churrascaria", "Padaria", "Lanchonete",
+        "Açaí", "Sushi", "Hamburgueria", "Restaurante", "Pastelaria", "Sorveteria", "Bistrô", "Boteco"};
+    private static final String[] NAMES = {"São João", "Bella Napoli", "da Praça", "do Zé", "Sabor Mineiro",
+        "Dona Maria", "Tio Jorge", "Estrela", "Gaúcha", "Nordestina", "Sol Nascente", "Vovó Ana", "Central",
+        "Família Souza", "Recanto", "Beira-Mar", "Primavera", "Imperial", "Real", "Paulista"};
+    private static final String[] DISTRICTS = {"Centro", "Pinheiros", "Copacabana", "Savassi", "Moinhos",
+        "Boa Viagem", "Batel", "Jardins", "Lapa", "Tijuca", "Meireles", "Asa Sul", "Barra", "Graças"};
+    
+    @Param({"1000000"})
+    private int restaurants;
+    
+    @Param({"pizza", "napoli copacabana", "zulmira", "yakisobaxx", "zé"})
+    private String term;
+    
+    @Param({"20"})
+    private int limit;
+    
+    private TrigramIndex<Integer> index;
+    private String[] foldedNames;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new TrigramIndex<>();
+        foldedNames = new String[restaurants];
+        List<String> names = new ArrayList<>(restaurants);
+        for (int i = 0; i < restaurants; i++) {
+            names.add(name(i));
+        }
+        // Um único restaurante com nome raro, no fim da tabela
+        names.set(restaurants - 1, "Cantina da Zulmira");
+        for (int i = 0; i < restaurants; i++) {
+            index.put(i, names.get(i));
+            foldedNames[i] = TrigramIndex.fold(names.get(i));
+        }
+    }
+    
+    @Benchmark
+    public List<Integer> trigramIndex() {
+        return index.search(term, limit);
+    }
+    
+    /**
+     * Referência: percorre os nomes em sequência até achar o limite de resultados
+     */
+    @Benchmark
+    public List<Integer> sequentialScan() {
+        String folded = TrigramIndex.fold(term);
+        List<Integer> result = new ArrayList<>();
+        for (int i = 0; i < foldedNames.length && result.size() < limit; i++) {
+            if (foldedNames[i].contains(folded)) {
+                result.add(i);
+            }
+        }
+        return result;
+    }
+    
+    private static String name(int i) {
+        return TYPES[i % TYPES.length] + " " + NAMES[(i / TYPES.length) % NAMES.length] + " "
+                + DISTRICTS[(i / (TYPES.length * NAMES.length)) % DISTRICTS.length] + " " + (i % 9973);
+    }
+}
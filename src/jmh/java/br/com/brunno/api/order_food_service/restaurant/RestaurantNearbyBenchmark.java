@@ -0,0 +1,118 @@
+// Arquivo para o RestaurantNearbyBenchmark - Benchmark de Busca
+
+package br.com.brunno.api.order_food_service.restaurant;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.geo.GeoGridIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Busca "restaurantes perto de mim" sobre um milhão de restaurantes: grade espacial (usada por
+ * GET /api/restaurants/nearby) contra a varredura de todas as coordenadas calculando a distância
+ * de haversine, que é o que uma consulta sem índice espacial faz no banco (aqui sem I/O, ou seja,
+ * um limite inferior para a consulta SQL). Os pontos se concentram ao redor de capitais brasileiras,
+ * com parte espalhada pelo território; as buscas partem do centro de São Paulo (região densa).
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="RestaurantNearbyBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class RestaurantNearbyBenchmark {
+    
+    // Latitude, longitude e peso relativo (aproximadamente a população) de cada capital
+    private static final double[][] CITIES = {
+        {-23.5505, -46.6333, 12}, {-22.9068, -43.1729, 7}, {-19.9167, -43.9345, 3}, {-15.7939, -47.8828, 3},
+        {-12.9777, -38.5016, 3}, {-3.7319, -38.5267, 3}, {-8.0476, -34.8770, 2}, {-25.4284, -49.2733, 2},
+        {-30.0346, -51.2177, 2}, {-3.1190, -60.0217, 2}, {-1.4558, -48.4902, 1}, {-16.6869, -49.2648, 1}
+    };
+    
+    private static final double CENTER_LATITUDE = -23.5505;
+    private static final double CENTER_LONGITUDE = -46.6333;
+    
+    @Param({"1000000"})
+    private int restaurants;
+    
+    @Param({"2", "5", "20"})
+    private double radiusKm;
+    
+    @Param({"20"})
+    private int limit;
+    
+    private GeoGridIndex<Integer> index;
+    private double[] latitudes;
+    private double[] longitudes;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        double totalWeight = 0;
+        for (double[] city : CITIES) {
+            totalWeight += city[2];
+        }
+        latitudes = new double[restaurants];
+        longitudes = new double[restaurants];
+        for (int i = 0; i < restaurants; i++) {
+            if (random.nextInt(10) == 0) {
+                // 10% espalhados pelo território
+                latitudes[i] = -33 + random.nextDouble() * 38;
+                longitudes[i] = -73 + random.nextDouble() * 39;
+                continue;
+            }
+            double roll = random.nextDouble() * totalWeight;
+            double[] city = CITIES[0];
+            for (double[] candidate : CITIES) {
+                city = candidate;
+                roll -= candidate[2];
+                if (roll < 0) {
+                    break;
+                }
+            }
+            // Desvio de cerca de 10 km ao redor do centro da cidade
+            latitudes[i] = city[0] + random.nextGaussian() * 0.09;
+            longitudes[i] = city[1] + random.nextGaussian() * 0.09;
+        }
+        
+        index = new GeoGridIndex<>(0.02);
+        for (int i = 0; i < restaurants; i++) {
+            index.put(i, latitudes[i], longitudes[i]);
+        }
+    }
+    
+    @Benchmark
+    public List<GeoGridIndex.Neighbor<Integer>> gridIndex() {
+        return index.nearest(CENTER_LATITUDE, CENTER_LONGITUDE, radiusKm, limit);
+    }
+    
+    /**
+     * Referência: calcula a distância até todos os pontos e mantém os mais próximos dentro do raio
+     */
+    @Benchmark
+    public List<GeoGridIndex.Neighbor<Integer>> linearScan() {
+        PriorityQueue<GeoGridIndex.Neighbor<Integer>> farthestFirst = new PriorityQueue<>(limit,
+                Comparator.comparingDouble(GeoGridIndex.Neighbor<Integer>::distanceKm).reversed());
+        for (int i = 0; i < latitudes.length; i++) {
+            double distance = GeoGridIndex.distanceKm(CENTER_LATITUDE, CENTER_LONGITUDE, latitudes[i], longitudes[i]);
+            if (distance > radiusKm) {
+                continue;
+            }
+            if (farthestFirst.size() < limit) {
+                farthestFirst.add(new GeoGridIndex.Neighbor<>(i, distance));
+            } else if (distance < farthestFirst.peek().distanceKm()) {
+                farthestFirst.poll();
+                farthestFirst.add(new GeoGridIndex.Neighbor<>(i, distance));
+            }
+        }
+        List<GeoGridIndex.Neighbor<Integer>> result = new ArrayList<>(farthestFirst);
+        result.sort(Comparator.comparingDouble(GeoGridIndex.Neighbor::distanceKm));
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+// Arquivo para o OutboxRelayBenchmark - Benchmark de Infraestrutura
+
+package br.com.brunno.api.order_food_service.shared;
+
+import br.com.brunno.api.order_food_service.OrderFoodServiceApplication;
+import br.com.brunno.api.order_food_service.shared.infrastructure.outbox.OutboxRelay;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Relay da caixa de saída: tempo para publicar 5.000 eventos pendentes no broker em memória,
+ * por tamanho de lote. Com lote 1 cada evento paga duas transações e três comandos; com lotes
+ * maiores a reserva e a marcação saem em um lote JDBC por vez.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="OutboxRelayBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class OutboxRelayBenchmark {
+
+    private static final int PENDING_EVENTS = 5_000;
+    private static final String INSERT = """
+            insert into outbox_event (id, aggregate_type, aggregate_id, event_type, payload, occurred_at, attempts)
+            values (?, 'pedido', ?, 'PedidoCriado', '{"total":42.30}', ?, 0)""";
+
+    @Param({"1", "50", "500"})
+    private int batchSize;
+
+    private ConfigurableApplicationContext context;
+    private OutboxRelay outboxRelay;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(OrderFoodServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("prod")
+                .run(
+                    "--spring.datasource.url=jdbc:h2:mem:outbox_relay_benchmark_" + batchSize,
+                    "--outbox.relay-enabled=false",
+                    "--outbox.batch-size=" + batchSize,
+                    "--logging.level.root=WARN");
+        outboxRelay = context.getBean(OutboxRelay.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillOutbox() {
+        jdbcTemplate.update("delete from outbox_event");
+        Timestamp occurredAt = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(PENDING_EVENTS);
+        for (int i = 0; i < PENDING_EVENTS; i++) {
+            rows.add(new Object[] {UUID.randomUUID(), UUID.randomUUID(), occurredAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int relayAll() {
+        int total = 0;
+        int relayed;
+        while ((relayed = outboxRelay.relayOnce()) > 0) {
+            total += relayed;
+        }
+        return total;
+    }
+}
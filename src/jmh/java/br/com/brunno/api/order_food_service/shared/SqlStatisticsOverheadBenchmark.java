@@ -0,0 +1,87 @@
+// Arquivo para o SqlStatisticsOverheadBenchmark - Benchmark de Infraestrutura
+
+package br.com.brunno.api.order_food_service.shared;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.sql.SqlStatistics;
+import br.com.brunno.api.order_food_service.shared.infrastructure.sql.SqlStatisticsProperties;
+import br.com.brunno.api.order_food_service.shared.infrastructure.sql.StatisticsDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das estatísticas de comandos SQL: a mesma consulta preparada executada direto no H2 em
+ * memória e através do StatisticsDataSource (proxies de conexão, statement e ResultSet).
+ * Uma conexão por trial, como uma conexão já obtida do pool.
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="SqlStatisticsOverheadBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SqlStatisticsOverheadBenchmark {
+
+    /**
+     * Linhas lidas por consulta: busca por chave (1) e listagem (100)
+     */
+    @Param({"1", "100"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean statistics;
+
+    private Connection connection;
+    private PreparedStatement select;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sql_statistics_benchmark;DB_CLOSE_DELAY=-1");
+        DataSource dataSource = statistics
+                ? new StatisticsDataSource(h2, new SqlStatistics(new SqlStatisticsProperties(true, Duration.ofMillis(100), 50, 500, true)))
+                : h2;
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table if not exists pessoa (id int primary key, nome varchar(50))");
+            statement.execute("delete from pessoa");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("insert into pessoa (id, nome) values (?, ?)")) {
+            for (int id = 1; id <= 1000; id++) {
+                insert.setInt(1, id);
+                insert.setString(2, "Pessoa " + id);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        select = connection.prepareStatement("select id, nome from pessoa where id between ? and ?");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        select.close();
+        connection.close();
+    }
+
+    @Benchmark
+    public int query() throws SQLException {
+        select.setInt(1, 500);
+        select.setInt(2, 500 + rows - 1);
+        int sum = 0;
+        try (ResultSet resultSet = select.executeQuery()) {
+            while (resultSet.next()) {
+                sum += resultSet.getInt(1) + resultSet.getString(2).length();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,136 @@
+// Arquivo para o UserMappingBenchmark - Benchmark de Domínio e Mapeamento
+
+package br.com.brunno.api.order_food_service.user;
+
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.CreateUserRequest;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.CreateUserResponse;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.get.GetUserResponse;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.entity.UserJpaEntity;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebRequest;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebResponse;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.GetUserWebResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caminhos quentes de domínio e mapeamento do módulo de usuário, sem banco nem Spring:
+ * validação nos construtores de User, conversões da entidade JPA e as cadeias de DTOs
+ * percorridas pelo UserController (web -> caso de uso -> domínio -> caso de uso -> web).
+ * Executar com o profiler de GC para obter bytes alocados por operação:
+ * mvn -Pbenchmark test-compile exec:exec -Djmh.args="UserMappingBenchmark -prof gc"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserMappingBenchmark {
+
+    @Param({"100"})
+    private int listSize;
+
+    private String nome;
+    private String email;
+    private User.UserType tipo;
+    private UUID id;
+    private User user;
+    private UserJpaEntity entity;
+    private CreateUserWebRequest webRequest;
+    private List<ListUsersResponse.UserItem> items;
+    private ObjectMapper objectMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        nome = "João Silva";
+        email = "joao.silva@email.com";
+        tipo = User.UserType.CLIENTE;
+        id = TimeOrderedUuid.next();
+        user = new User(id, nome, email, tipo);
+        entity = new UserJpaEntity(id, nome, email, tipo);
+        webRequest = new CreateUserWebRequest(nome, email, tipo);
+
+        items = new ArrayList<>(listSize);
+        for (int i = 0; i < listSize; i++) {
+            items.add(new ListUsersResponse.UserItem(TimeOrderedUuid.next(), "Usuário " + i,
+                    "usuario" + i + "@email.com", tipo));
+        }
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    }
+
+    /**
+     * Criação de usuário: gera o UUIDv7 e valida nome, email e tipo
+     */
+    @Benchmark
+    public User newUser() {
+        return new User(nome, email, tipo);
+    }
+
+    /**
+     * Reconstrução de um usuário existente, que repete a validação a cada leitura
+     */
+    @Benchmark
+    public User rehydrateUser() {
+        return new User(id, nome, email, tipo);
+    }
+
+    @Benchmark
+    public User userJpaEntityToDomain() {
+        return entity.toDomain();
+    }
+
+    @Benchmark
+    public UserJpaEntity userJpaEntityFromDomain() {
+        return UserJpaEntity.fromDomain(user);
+    }
+
+    /**
+     * POST /api/users sem o repositório: request web -> request do caso de uso (validado)
+     * -> domínio -> resposta do caso de uso -> resposta web
+     */
+    @Benchmark
+    public CreateUserWebResponse createUserChain() {
+        CreateUserRequest request = new CreateUserRequest(webRequest.getNome(), webRequest.getEmail(), webRequest.getTipo());
+        request.validate();
+        CreateUserResponse response = new CreateUserResponse(new User(request.getNome(), request.getEmail(), request.getTipo()));
+        return new CreateUserWebResponse(response.getId(), response.getNome(), response.getEmail(), response.getTipo());
+    }
+
+    /**
+     * GET /api/users/{id} a partir da entidade carregada: entidade -> domínio -> resposta -> resposta web
+     */
+    @Benchmark
+    public GetUserWebResponse getUserChain() {
+        GetUserResponse response = new GetUserResponse(entity.toDomain());
+        return new GetUserWebResponse(response.getId(), response.getNome(), response.getEmail(), response.getTipo());
+    }
+
+    /**
+     * GET /api/users/{id} incluindo a serialização JSON da resposta web
+     */
+    @Benchmark
+    public byte[] getUserChainAsJson() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(getUserChain());
+    }
+
+    /**
+     * GET /api/users: itens do modelo de leitura -> lista de respostas web
+     */
+    @Benchmark
+    public List<GetUserWebResponse> listUsersChain() {
+        return items.stream()
+                .map(item -> new GetUserWebResponse(item.getId(), item.getNome(), item.getEmail(), item.getTipo()))
+                .toList();
+    }
+}
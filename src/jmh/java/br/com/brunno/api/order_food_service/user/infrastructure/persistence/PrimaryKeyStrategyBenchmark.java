@@ -0,0 +1,117 @@
+// Arquivo para o PrimaryKeyStrategyBenchmark - Benchmark de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o esquema antigo da tabela users (BIGINT IDENTITY como chave primária + domain_id
+ * UUID aleatório com índice único) com o atual (UUIDv7 como única chave primária).
+ * Mede inserts de uma linha e buscas pelo UUID exposto na API, em H2 com a tabela pré-carregada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PrimaryKeyStrategyBenchmark {
+    
+    public enum Scheme {
+        IDENTITY_WITH_DOMAIN_ID,
+        UUID_V7_PRIMARY_KEY
+    }
+    
+    @Param({"IDENTITY_WITH_DOMAIN_ID", "UUID_V7_PRIMARY_KEY"})
+    private Scheme scheme;
+    
+    @Param({"200000"})
+    private int preloadedRows;
+    
+    private Connection connection;
+    private PreparedStatement insert;
+    private PreparedStatement lookup;
+    private UUID[] existingIds;
+    private long sequence;
+    
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:pk_benchmark_" + scheme + ";DB_CLOSE_DELAY=-1", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS users");
+            if (scheme == Scheme.IDENTITY_WITH_DOMAIN_ID) {
+                statement.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, "
+                        + "domain_id UUID NOT NULL UNIQUE, nome VARCHAR(255) NOT NULL, "
+                        + "email VARCHAR(255) NOT NULL UNIQUE, tipo VARCHAR(255) NOT NULL)");
+                insert = connection.prepareStatement("INSERT INTO users (domain_id, nome, email, tipo) VALUES (?, ?, ?, ?)");
+                lookup = connection.prepareStatement("SELECT domain_id, nome, email, tipo FROM users WHERE domain_id = ?");
+            } else {
+                statement.execute("CREATE TABLE users (id UUID NOT NULL PRIMARY KEY, nome VARCHAR(255) NOT NULL, "
+                        + "email VARCHAR(255) NOT NULL UNIQUE, tipo VARCHAR(255) NOT NULL)");
+                insert = connection.prepareStatement("INSERT INTO users (id, nome, email, tipo) VALUES (?, ?, ?, ?)");
+                lookup = connection.prepareStatement("SELECT id, nome, email, tipo FROM users WHERE id = ?");
+            }
+        }
+        
+        existingIds = new UUID[preloadedRows];
+        for (int i = 0; i < preloadedRows; i++) {
+            existingIds[i] = newId();
+            bindInsert(existingIds[i]);
+            insert.addBatch();
+            if (i % 1000 == 999) {
+                insert.executeBatch();
+            }
+        }
+        insert.executeBatch();
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+    
+    @Benchmark
+    public int insertUser() throws SQLException {
+        bindInsert(newId());
+        return insert.executeUpdate();
+    }
+    
+    @Benchmark
+    public void findUserById(Blackhole blackhole) throws SQLException {
+        lookup.setObject(1, existingIds[ThreadLocalRandom.current().nextInt(existingIds.length)]);
+        try (ResultSet resultSet = lookup.executeQuery()) {
+            resultSet.next();
+            blackhole.consume(resultSet.getObject(1));
+            blackhole.consume(resultSet.getString(2));
+            blackhole.consume(resultSet.getString(3));
+            blackhole.consume(resultSet.getString(4));
+        }
+    }
+    
+    private UUID newId() {
+        return scheme == Scheme.IDENTITY_WITH_DOMAIN_ID ? UUID.randomUUID() : TimeOrderedUuid.next();
+    }
+    
+    private void bindInsert(UUID id) throws SQLException {
+        long n = sequence++;
+        insert.setObject(1, id);
+        insert.setString(2, "Usuário " + n);
+        insert.setString(3, "usuario" + n + "@email.com");
+        insert.setString(4, "CLIENTE");
+    }
+}
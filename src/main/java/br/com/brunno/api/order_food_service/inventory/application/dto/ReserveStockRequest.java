@@ -0,0 +1,55 @@
+// Arquivo para o ReserveStockRequest - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dados de entrada para reserva de estoque.
+ * Contém os produtos e as quantidades a reservar juntos.
+ */
+public class ReserveStockRequest {
+    
+    private final List<Item> items;
+    
+    /**
+     * Construtor que recebe os itens da reserva
+     * @param items produtos e quantidades
+     */
+    public ReserveStockRequest(List<Item> items) {
+        this.items = items;
+    }
+    
+    /**
+     * Valida os dados de entrada
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public void validate() {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Reserva deve ter ao menos um produto");
+        }
+        
+        for (Item item : items) {
+            if (item == null || item.productId() == null) {
+                throw new IllegalArgumentException("ID do produto não pode ser nulo");
+            }
+            if (item.quantity() <= 0) {
+                throw new IllegalArgumentException("Quantidade deve ser maior que zero");
+            }
+        }
+    }
+    
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    /**
+     * Produto a reservar
+     *
+     * @param productId ID do produto
+     * @param quantity quantidade
+     */
+    public record Item(UUID productId, int quantity) {
+    }
+}
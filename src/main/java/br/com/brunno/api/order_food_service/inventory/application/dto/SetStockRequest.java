@@ -0,0 +1,54 @@
+// Arquivo para o SetStockRequest - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.dto;
+
+import java.util.UUID;
+
+/**
+ * Dados de entrada para definir o estoque de um produto.
+ * O restaurante é obrigatório só no cadastro do primeiro estoque do produto.
+ */
+public class SetStockRequest {
+    
+    private final UUID productId;
+    private final UUID restaurantId;
+    private final int quantity;
+    
+    /**
+     * Construtor que recebe os dados do estoque
+     * @param productId ID do produto
+     * @param restaurantId ID do restaurante dono do produto
+     * @param quantity unidades em estoque, incluindo as reservadas
+     */
+    public SetStockRequest(UUID productId, UUID restaurantId, int quantity) {
+        this.productId = productId;
+        this.restaurantId = restaurantId;
+        this.quantity = quantity;
+    }
+    
+    /**
+     * Valida os dados de entrada
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public void validate() {
+        if (productId == null) {
+            throw new IllegalArgumentException("ID do produto não pode ser nulo");
+        }
+        
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Quantidade em estoque não pode ser negativa");
+        }
+    }
+    
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,44 @@
+// Arquivo para o StockReservationResponse - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.dto;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado de uma operação sobre reserva de estoque.
+ */
+public class StockReservationResponse {
+    
+    private final UUID id;
+    private final List<StockLine> lines;
+    private final StockReservation.Status status;
+    private final Instant createdAt;
+    
+    public StockReservationResponse(StockReservation reservation) {
+        this.id = reservation.getId();
+        this.lines = reservation.getLines();
+        this.status = reservation.getStatus();
+        this.createdAt = reservation.getCreatedAt();
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public List<StockLine> getLines() {
+        return lines;
+    }
+    
+    public StockReservation.Status getStatus() {
+        return status;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,47 @@
+// Arquivo para o StockResponse - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.dto;
+
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+
+import java.util.UUID;
+
+/**
+ * Posição de estoque de um produto para retorno ao cliente.
+ */
+public class StockResponse {
+    
+    private final UUID productId;
+    private final UUID restaurantId;
+    private final int onHand;
+    private final int reserved;
+    private final int available;
+    
+    public StockResponse(StockLevel level) {
+        this.productId = level.productId();
+        this.restaurantId = level.restaurantId();
+        this.onHand = level.onHand();
+        this.reserved = level.reserved();
+        this.available = level.available();
+    }
+    
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public int getOnHand() {
+        return onHand;
+    }
+    
+    public int getReserved() {
+        return reserved;
+    }
+    
+    public int getAvailable() {
+        return available;
+    }
+}
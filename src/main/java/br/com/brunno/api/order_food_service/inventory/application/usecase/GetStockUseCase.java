@@ -0,0 +1,39 @@
+// Arquivo para o GetStockUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.usecase;
+
+import br.com.brunno.api.order_food_service.inventory.application.dto.StockResponse;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de uso para busca da posição de estoque de um produto.
+ * A posição vem da contagem em memória, que está à frente do banco.
+ */
+@Service
+public class GetStockUseCase {
+    
+    private final StockLedger stockLedger;
+    
+    /**
+     * Construtor que recebe a dependência da contagem de estoque
+     * @param stockLedger contagem de estoque em memória
+     */
+    public GetStockUseCase(StockLedger stockLedger) {
+        this.stockLedger = stockLedger;
+    }
+    
+    /**
+     * Busca a posição de estoque de um produto
+     * @param productId ID do produto
+     * @return Optional contendo a posição se o produto tiver estoque cadastrado
+     */
+    public Optional<StockResponse> execute(UUID productId) {
+        return stockLedger.find(productId)
+                .map(StockResponse::new);
+    }
+}
@@ -0,0 +1,51 @@
+// Arquivo para o ReserveStockUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.usecase;
+
+import br.com.brunno.api.order_food_service.inventory.application.dto.ReserveStockRequest;
+import br.com.brunno.api.order_food_service.inventory.application.dto.StockReservationResponse;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de uso para reserva de estoque.
+ * Reserva todos os produtos ou nenhum; sem transação de banco, a reserva é feita na contagem em memória.
+ */
+@Service
+public class ReserveStockUseCase {
+    
+    private final StockLedger stockLedger;
+    
+    /**
+     * Construtor que recebe a dependência da contagem de estoque
+     * @param stockLedger contagem de estoque em memória
+     */
+    public ReserveStockUseCase(StockLedger stockLedger) {
+        this.stockLedger = stockLedger;
+    }
+    
+    /**
+     * Executa o caso de uso de reserva de estoque
+     * @param request produtos e quantidades
+     * @return reserva criada
+     * @throws IllegalArgumentException se os dados forem inválidos
+     * @throws InsufficientStockException se algum produto não tiver unidades disponíveis
+     * @throws StockItemNotFoundException se algum produto não tiver estoque cadastrado
+     */
+    public StockReservationResponse execute(ReserveStockRequest request) {
+        // Validações de entrada
+        if (request == null) {
+            throw new IllegalArgumentException("Request não pode ser nulo");
+        }
+        
+        request.validate();
+        
+        return new StockReservationResponse(stockLedger.reserve(request.getItems().stream()
+                .map(item -> new StockLine(item.productId(), item.quantity()))
+                .toList()));
+    }
+}
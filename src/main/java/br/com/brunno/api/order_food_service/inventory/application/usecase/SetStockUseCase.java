@@ -0,0 +1,73 @@
+// Arquivo para o SetStockUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.usecase;
+
+import br.com.brunno.api.order_food_service.inventory.application.dto.SetStockRequest;
+import br.com.brunno.api.order_food_service.inventory.application.dto.StockResponse;
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para definir o estoque de um produto (cadastro, reposição ou contagem física).
+ * O primeiro estoque do produto é gravado no banco e passa a ser contado em memória após o commit;
+ * as alterações seguintes são feitas na contagem em memória e chegam ao banco em lote.
+ */
+@Service
+public class SetStockUseCase {
+    
+    private final StockRepository stockRepository;
+    private final StockLedger stockLedger;
+    
+    /**
+     * Construtor que recebe as dependências do repositório e da contagem de estoque
+     * @param stockRepository repositório de estoque
+     * @param stockLedger contagem de estoque em memória
+     */
+    public SetStockUseCase(StockRepository stockRepository, StockLedger stockLedger) {
+        this.stockRepository = stockRepository;
+        this.stockLedger = stockLedger;
+    }
+    
+    /**
+     * Executa o caso de uso de definição de estoque
+     * @param request dados do estoque
+     * @return posição de estoque atualizada
+     * @throws IllegalArgumentException se os dados forem inválidos ou a quantidade for menor que a reservada
+     */
+    @Transactional
+    public StockResponse execute(SetStockRequest request) {
+        // Validações de entrada
+        if (request == null) {
+            throw new IllegalArgumentException("Request não pode ser nulo");
+        }
+        
+        request.validate();
+        
+        // Produto já contado: altera só a contagem em memória
+        Optional<StockLevel> current = stockLedger.find(request.getProductId());
+        if (current.isPresent()) {
+            if (request.getRestaurantId() != null && !request.getRestaurantId().equals(current.get().restaurantId())) {
+                throw new IllegalArgumentException("Produto pertence a outro restaurante");
+            }
+            return new StockResponse(stockLedger.setOnHand(request.getProductId(), request.getQuantity()));
+        }
+        
+        if (request.getRestaurantId() == null) {
+            throw new IllegalArgumentException("ID do restaurante é obrigatório no cadastro do estoque");
+        }
+        
+        // Cadastra o estoque e o registra na contagem em memória após o commit
+        StockItem item = stockRepository.save(new StockItem(request.getProductId(), request.getRestaurantId(),
+                request.getQuantity()));
+        stockLedger.register(item);
+        
+        return new StockResponse(new StockLevel(item.getProductId(), item.getRestaurantId(), item.getQuantity(), 0));
+    }
+}
@@ -0,0 +1,48 @@
+// Arquivo para o SettleStockReservationUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.inventory.application.usecase;
+
+import br.com.brunno.api.order_food_service.inventory.application.dto.StockReservationResponse;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockReservationNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+/**
+ * Caso de uso para encerrar uma reserva de estoque: confirmação (baixa das unidades) ou liberação.
+ */
+@Service
+public class SettleStockReservationUseCase {
+    
+    private final StockLedger stockLedger;
+    
+    /**
+     * Construtor que recebe a dependência da contagem de estoque
+     * @param stockLedger contagem de estoque em memória
+     */
+    public SettleStockReservationUseCase(StockLedger stockLedger) {
+        this.stockLedger = stockLedger;
+    }
+    
+    /**
+     * Confirma a reserva: as unidades saem do estoque
+     * @param reservationId ID da reserva
+     * @return reserva confirmada
+     * @throws StockReservationNotFoundException se a reserva não existir ou já estiver encerrada
+     */
+    public StockReservationResponse commit(UUID reservationId) {
+        return new StockReservationResponse(stockLedger.commit(reservationId));
+    }
+    
+    /**
+     * Libera a reserva: as unidades voltam a ficar disponíveis
+     * @param reservationId ID da reserva
+     * @return reserva liberada
+     * @throws StockReservationNotFoundException se a reserva não existir ou já estiver encerrada
+     */
+    public StockReservationResponse release(UUID reservationId) {
+        return new StockReservationResponse(stockLedger.release(reservationId));
+    }
+}
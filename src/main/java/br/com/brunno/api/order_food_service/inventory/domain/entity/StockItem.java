@@ -0,0 +1,67 @@
+// Arquivo para o StockItem - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.entity;
+
+import java.util.UUID;
+
+/**
+ * Entidade de domínio que representa o estoque de um produto de um restaurante.
+ * A revisão cresce a cada alteração da quantidade e ordena as gravações do estoque:
+ * uma quantidade só substitui outra de revisão menor.
+ */
+public class StockItem {
+    
+    private final UUID productId;
+    private final UUID restaurantId;
+    private final int quantity;
+    private final long revision;
+    
+    /**
+     * Construtor para um produto novo no estoque
+     * @param productId ID do produto
+     * @param restaurantId ID do restaurante
+     * @param quantity unidades em estoque
+     */
+    public StockItem(UUID productId, UUID restaurantId, int quantity) {
+        this(productId, restaurantId, quantity, 0);
+    }
+    
+    /**
+     * Construtor completo (reconstrução a partir da persistência)
+     */
+    public StockItem(UUID productId, UUID restaurantId, int quantity, long revision) {
+        this.productId = productId;
+        this.restaurantId = restaurantId;
+        this.quantity = quantity;
+        this.revision = revision;
+        validate();
+    }
+    
+    private void validate() {
+        if (productId == null) {
+            throw new IllegalArgumentException("ID do produto é obrigatório");
+        }
+        if (restaurantId == null) {
+            throw new IllegalArgumentException("ID do restaurante é obrigatório");
+        }
+        if (quantity < 0) {
+            throw new IllegalArgumentException("Quantidade em estoque não pode ser negativa");
+        }
+    }
+    
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public long getRevision() {
+        return revision;
+    }
+}
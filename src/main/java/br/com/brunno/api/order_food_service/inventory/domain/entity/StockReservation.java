@@ -0,0 +1,65 @@
+// Arquivo para o StockReservation - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.entity;
+
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reserva de estoque: as unidades ficam presas até a reserva ser confirmada (baixa definitiva)
+ * ou liberada (voltam a ficar disponíveis). Todas as linhas são reservadas juntas ou nenhuma.
+ */
+public class StockReservation {
+    
+    private final UUID id;
+    private final List<StockLine> lines;
+    private final Status status;
+    private final Instant createdAt;
+    
+    public StockReservation(UUID id, List<StockLine> lines, Status status, Instant createdAt) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID da reserva é obrigatório");
+        }
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Reserva deve ter ao menos um produto");
+        }
+        this.id = id;
+        this.lines = List.copyOf(lines);
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+    
+    /**
+     * Cria a mesma reserva em outro estado
+     * @param status novo estado
+     * @return reserva com o estado informado
+     */
+    public StockReservation withStatus(Status status) {
+        return new StockReservation(id, lines, status, createdAt);
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public List<StockLine> getLines() {
+        return lines;
+    }
+    
+    public Status getStatus() {
+        return status;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    
+    public enum Status {
+        RESERVED,
+        COMMITTED,
+        RELEASED
+    }
+}
@@ -0,0 +1,34 @@
+// Arquivo para a exceção InsufficientStockException - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.exceptions;
+
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockShortage;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Exceção lançada quando não há unidades disponíveis para reservar.
+ * Informa todos os produtos da reserva que ficaram sem unidades suficientes.
+ */
+public class InsufficientStockException extends RuntimeException {
+    
+    private final List<StockShortage> shortages;
+    
+    public InsufficientStockException(UUID productId, int requested, int available) {
+        this(List.of(new StockShortage(productId, requested, available)));
+    }
+    
+    public InsufficientStockException(List<StockShortage> shortages) {
+        super("Estoque insuficiente para " + shortages.stream()
+                .map(shortage -> "o produto " + shortage.productId() + " (solicitado " + shortage.requested()
+                        + ", disponível " + shortage.available() + ")")
+                .collect(Collectors.joining(", ")));
+        this.shortages = List.copyOf(shortages);
+    }
+    
+    public List<StockShortage> getShortages() {
+        return shortages;
+    }
+}
@@ -0,0 +1,15 @@
+// Arquivo para a exceção StockItemNotFoundException - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando o produto não tem estoque cadastrado.
+ */
+public class StockItemNotFoundException extends RuntimeException {
+    
+    public StockItemNotFoundException(UUID productId) {
+        super("Estoque não encontrado para o produto: " + productId);
+    }
+}
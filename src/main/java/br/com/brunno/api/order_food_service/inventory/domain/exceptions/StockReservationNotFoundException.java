@@ -0,0 +1,15 @@
+// Arquivo para a exceção StockReservationNotFoundException - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando a reserva não existe ou já foi confirmada, liberada ou expirada.
+ */
+public class StockReservationNotFoundException extends RuntimeException {
+    
+    public StockReservationNotFoundException(UUID id) {
+        super("Reserva de estoque não encontrada ou já encerrada: " + id);
+    }
+}
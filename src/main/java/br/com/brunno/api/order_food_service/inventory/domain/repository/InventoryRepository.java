@@ -0,0 +1,79 @@
+// Arquivo para a interface InventoryRepository - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.repository;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface do repositório de estoque contado direto no banco (porta da arquitetura hexagonal),
+ * para quando a contagem não pode ficar em memória (ex: várias instâncias do serviço).
+ * Cada alteração de quantidade é um UPDATE condicional: a condição de estoque é conferida pelo
+ * próprio banco, sem ler, conferir e gravar, e o lock da linha dura só o comando.
+ */
+public interface InventoryRepository {
+    
+    /**
+     * Busca a posição de estoque de um produto
+     * @param productId ID do produto
+     * @return Optional contendo a posição se o produto tiver estoque cadastrado
+     */
+    Optional<StockLevel> findLevel(UUID productId);
+    
+    /**
+     * Define as unidades em estoque, se não ficarem abaixo das reservadas
+     * @param productId ID do produto
+     * @param quantity unidades em estoque, incluindo as reservadas
+     * @return false se o produto não existir ou a quantidade for menor que a reservada
+     */
+    boolean setOnHand(UUID productId, int quantity);
+    
+    /**
+     * Reserva as unidades de todas as linhas, num único lote de comandos, ou de nenhuma
+     * @param lines produtos (sem repetição) e quantidades
+     * @throws InsufficientStockException com todos os produtos sem unidades disponíveis suficientes
+     * @throws StockItemNotFoundException se algum produto não tiver estoque cadastrado
+     */
+    void reserve(List<StockLine> lines);
+    
+    /**
+     * Baixa unidades reservadas: saem do estoque e da reserva
+     * @param lines produtos e quantidades reservadas
+     */
+    void commit(List<StockLine> lines);
+    
+    /**
+     * Devolve unidades reservadas ao disponível
+     * @param lines produtos e quantidades reservadas
+     */
+    void release(List<StockLine> lines);
+    
+    /**
+     * Grava uma reserva aberta
+     * @param reservation reserva criada
+     */
+    void saveReservation(StockReservation reservation);
+    
+    /**
+     * Encerra a reserva se ela ainda estiver aberta; entre chamadas concorrentes, só uma encerra
+     * @param reservationId ID da reserva
+     * @param status estado final (COMMITTED ou RELEASED)
+     * @return Optional contendo a reserva encerrada, ou vazio se ela não existir ou já estiver encerrada
+     */
+    Optional<StockReservation> closeReservation(UUID reservationId, StockReservation.Status status);
+    
+    /**
+     * Lista as reservas abertas criadas antes do instante informado
+     * @param createdBefore limite de criação
+     * @return IDs das reservas
+     */
+    List<UUID> findOpenReservationIds(Instant createdBefore);
+}
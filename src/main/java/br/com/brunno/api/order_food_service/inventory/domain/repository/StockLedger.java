@@ -0,0 +1,70 @@
+// Arquivo para a interface StockLedger - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.repository;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockReservationNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Contagem de estoque em uso (porta da arquitetura hexagonal): reserva, confirmação e liberação
+ * de unidades. Cada operação é atômica; a gravação no StockRepository acontece depois, em lote.
+ */
+public interface StockLedger {
+    
+    /**
+     * Passa a contar o estoque de um produto recém-cadastrado, depois do commit da transação corrente
+     * @param item estoque cadastrado
+     */
+    void register(StockItem item);
+    
+    /**
+     * Busca a posição de estoque de um produto
+     * @param productId ID do produto
+     * @return Optional contendo a posição se o produto tiver estoque cadastrado
+     */
+    Optional<StockLevel> find(UUID productId);
+    
+    /**
+     * Define as unidades em estoque (ex: reposição ou contagem física)
+     * @param productId ID do produto
+     * @param quantity unidades em estoque, incluindo as já reservadas
+     * @return posição de estoque atualizada
+     * @throws StockItemNotFoundException se o produto não tiver estoque cadastrado
+     * @throws IllegalArgumentException se a quantidade for menor que as unidades reservadas
+     */
+    StockLevel setOnHand(UUID productId, int quantity);
+    
+    /**
+     * Reserva todas as linhas ou nenhuma
+     * @param lines produtos e quantidades; um produto repetido tem as quantidades somadas
+     * @return reserva criada
+     * @throws InsufficientStockException se algum produto não tiver unidades disponíveis
+     * @throws StockItemNotFoundException se algum produto não tiver estoque cadastrado
+     */
+    StockReservation reserve(List<StockLine> lines);
+    
+    /**
+     * Confirma a reserva: as unidades saem do estoque
+     * @param reservationId ID da reserva
+     * @return reserva confirmada
+     * @throws StockReservationNotFoundException se a reserva não existir ou já estiver encerrada
+     */
+    StockReservation commit(UUID reservationId);
+    
+    /**
+     * Libera a reserva: as unidades voltam a ficar disponíveis
+     * @param reservationId ID da reserva
+     * @return reserva liberada
+     * @throws StockReservationNotFoundException se a reserva não existir ou já estiver encerrada
+     */
+    StockReservation release(UUID reservationId);
+}
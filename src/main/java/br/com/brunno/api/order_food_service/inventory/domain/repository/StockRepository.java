@@ -0,0 +1,35 @@
+// Arquivo para a interface StockRepository - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.repository;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+
+import java.util.List;
+
+/**
+ * Interface do repositório de estoque (porta da arquitetura hexagonal).
+ * Guarda a cópia durável das quantidades; a contagem quente fica no StockLedger.
+ */
+public interface StockRepository {
+    
+    /**
+     * Cadastra o estoque de um produto novo
+     * @param item estoque a ser cadastrado
+     * @return estoque cadastrado
+     */
+    StockItem save(StockItem item);
+    
+    /**
+     * Lista o estoque de todos os produtos
+     * @return lista de estoques
+     */
+    List<StockItem> findAll();
+    
+    /**
+     * Grava as quantidades em lote. Cada linha só é alterada se a revisão gravada for menor que a
+     * informada, então regravar uma quantidade antiga não desfaz uma mais nova
+     * @param items quantidades e revisões a gravar
+     * @return quantidade de produtos alterados
+     */
+    int updateQuantities(List<StockItem> items);
+}
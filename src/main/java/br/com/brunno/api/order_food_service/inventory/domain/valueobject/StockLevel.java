@@ -0,0 +1,23 @@
+// Arquivo para o StockLevel - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * Posição de estoque de um produto em um instante.
+ *
+ * @param productId ID do produto
+ * @param restaurantId ID do restaurante dono do produto
+ * @param onHand unidades em estoque, incluindo as reservadas
+ * @param reserved unidades presas em reservas ainda não confirmadas nem liberadas
+ */
+public record StockLevel(UUID productId, UUID restaurantId, int onHand, int reserved) {
+    
+    /**
+     * @return unidades que ainda podem ser reservadas
+     */
+    public int available() {
+        return onHand - reserved;
+    }
+}
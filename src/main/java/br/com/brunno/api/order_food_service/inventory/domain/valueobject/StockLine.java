@@ -0,0 +1,46 @@
+// Arquivo para o StockLine - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.valueobject;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Quantidade de um produto em uma reserva de estoque.
+ *
+ * @param productId ID do produto
+ * @param quantity quantidade, maior que zero
+ */
+public record StockLine(UUID productId, int quantity) {
+    
+    public StockLine {
+        if (productId == null) {
+            throw new IllegalArgumentException("ID do produto é obrigatório");
+        }
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantidade deve ser maior que zero");
+        }
+    }
+    
+    /**
+     * Soma as quantidades de produtos repetidos, mantendo a ordem da primeira ocorrência
+     * @param lines linhas da reserva
+     * @return a própria lista, se não houver repetidos, ou uma linha por produto
+     */
+    public static List<StockLine> merge(List<StockLine> lines) {
+        if (lines.size() == 1) {
+            return lines;
+        }
+        Map<UUID, Integer> quantities = new LinkedHashMap<>();
+        lines.forEach(line -> quantities.merge(line.productId(), line.quantity(), Integer::sum));
+        if (quantities.size() == lines.size()) {
+            return lines;
+        }
+        List<StockLine> merged = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> merged.add(new StockLine(productId, quantity)));
+        return merged;
+    }
+}
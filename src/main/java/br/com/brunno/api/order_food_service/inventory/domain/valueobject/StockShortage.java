@@ -0,0 +1,15 @@
+// Arquivo para o StockShortage - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.inventory.domain.valueobject;
+
+import java.util.UUID;
+
+/**
+ * Produto sem unidades disponíveis suficientes para uma reserva.
+ *
+ * @param productId ID do produto
+ * @param requested quantidade solicitada
+ * @param available unidades disponíveis no momento da recusa
+ */
+public record StockShortage(UUID productId, int requested, int available) {
+}
@@ -0,0 +1,40 @@
+// Arquivo para o InventoryConfig - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.engine;
+
+import br.com.brunno.api.order_food_service.inventory.domain.repository.InventoryRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockRepository;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.DatabaseStockLedger;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuração da contagem de estoque que atende o StockLedger dos casos de uso.
+ * Em memória por padrão; inventory.mode=database conta direto no banco.
+ */
+@Configuration
+@EnableConfigurationProperties(InventoryProperties.class)
+public class InventoryConfig {
+    
+    @Bean
+    @ConditionalOnProperty(name = "inventory.mode", havingValue = "memory", matchIfMissing = true)
+    public StockEngine stockEngine(InventoryProperties properties, StockRepository stockRepository,
+                                   MeterRegistry meterRegistry) {
+        return new StockEngine(properties, stockRepository, meterRegistry);
+    }
+    
+    @Bean
+    @ConditionalOnProperty(name = "inventory.mode", havingValue = "database")
+    public DatabaseStockLedger databaseStockLedger(InventoryRepository inventoryRepository,
+                                                   InventoryProperties properties,
+                                                   PlatformTransactionManager transactionManager,
+                                                   MeterRegistry meterRegistry) {
+        return new DatabaseStockLedger(inventoryRepository, properties, new TransactionTemplate(transactionManager),
+                meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+// Arquivo para o InventoryProperties - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.engine;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do estoque em memória (prefixo inventory).
+ *
+ * @param mode onde o estoque é contado: MEMORY (StockEngine, uma instância) ou DATABASE (UPDATE condicionais no banco)
+ * @param capacity quantidade máxima de produtos com estoque cadastrado
+ * @param stripes locks que dividem os produtos, potência de 2
+ * @param flushInterval espera entre as gravações em lote das quantidades no banco (e entre as buscas de reservas expiradas)
+ * @param reservationTtl tempo máximo de uma reserva aberta; depois dele as unidades são liberadas
+ * @param journalDirectory diretório do diário usado para recuperar o estoque após uma queda
+ * @param journalBufferSize slots da fila do diário, potência de 2
+ * @param journalFsync força cada bloco do diário para o disco (sobrevive à queda da máquina, não só do processo)
+ */
+@ConfigurationProperties(prefix = "inventory")
+public record InventoryProperties(
+        @DefaultValue("memory") Mode mode,
+        @DefaultValue("65536") int capacity,
+        @DefaultValue("64") int stripes,
+        @DefaultValue("1s") Duration flushInterval,
+        @DefaultValue("15m") Duration reservationTtl,
+        @DefaultValue("data/inventory-journal") String journalDirectory,
+        @DefaultValue("8192") int journalBufferSize,
+        @DefaultValue("false") boolean journalFsync) {
+    
+    /**
+     * Onde o estoque é contado
+     */
+    public enum Mode {
+        MEMORY,
+        DATABASE
+    }
+}
@@ -0,0 +1,97 @@
+// Arquivo para o ProductSlotTable - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.engine;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.UUID;
+
+/**
+ * Índice de produto para posição nos vetores de contagem, em endereçamento aberto com sondagem
+ * linear. O UUID fica como dois long em vetores primitivos: a busca não cria objetos nem segue
+ * ponteiros, e vizinhos de sondagem estão na mesma linha de cache.
+ * Capacidade fixa (o dobro da quantidade máxima de produtos, em potência de 2), sem remoções
+ * e sem redimensionamento; a escrita é serializada e a leitura não usa lock: a posição é publicada
+ * por último, com semântica release, depois das duas metades do UUID.
+ */
+final class ProductSlotTable {
+    
+    private static final VarHandle POSITIONS = MethodHandles.arrayElementVarHandle(int[].class);
+    
+    private final long[] mostSignificant;
+    private final long[] leastSignificant;
+    // Posição + 1; 0 marca o endereço vazio
+    private final int[] positions;
+    private final int mask;
+    private final int maxSize;
+    private int size;
+    
+    ProductSlotTable(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Capacidade do estoque deve ser positiva");
+        }
+        int length = Integer.highestOneBit(Math.max(2, maxSize * 2 - 1)) << 1;
+        this.mostSignificant = new long[length];
+        this.leastSignificant = new long[length];
+        this.positions = new int[length];
+        this.mask = length - 1;
+        this.maxSize = maxSize;
+    }
+    
+    /**
+     * @return posição do produto, ou -1 se ele não estiver no índice
+     */
+    int indexOf(UUID productId) {
+        long msb = productId.getMostSignificantBits();
+        long lsb = productId.getLeastSignificantBits();
+        for (int address = hash(msb, lsb) & mask; ; address = (address + 1) & mask) {
+            int position = (int) POSITIONS.getAcquire(positions, address);
+            if (position == 0) {
+                return -1;
+            }
+            if (mostSignificant[address] == msb && leastSignificant[address] == lsb) {
+                return position - 1;
+            }
+        }
+    }
+    
+    /**
+     * Inclui o produto na próxima posição livre
+     * @return posição atribuída, ou a existente se o produto já estiver no índice
+     * @throws IllegalStateException se a capacidade for atingida
+     */
+    synchronized int add(UUID productId) {
+        long msb = productId.getMostSignificantBits();
+        long lsb = productId.getLeastSignificantBits();
+        int address = hash(msb, lsb) & mask;
+        while (positions[address] != 0) {
+            if (mostSignificant[address] == msb && leastSignificant[address] == lsb) {
+                return positions[address] - 1;
+            }
+            address = (address + 1) & mask;
+        }
+        if (size == maxSize) {
+            throw new IllegalStateException("Capacidade do estoque em memória atingida: " + maxSize + " produtos");
+        }
+        mostSignificant[address] = msb;
+        leastSignificant[address] = lsb;
+        int position = size++;
+        POSITIONS.setRelease(positions, address, position + 1);
+        return position;
+    }
+    
+    synchronized int size() {
+        return size;
+    }
+    
+    // Finalizador do MurmurHash3: UUIDv7 tem os bits altos em ordem de tempo, então mistura as duas metades
+    private static int hash(long msb, long lsb) {
+        long h = msb ^ Long.rotateLeft(lsb, 32);
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,521 @@
+// Arquivo para o StockEngine - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.engine;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockReservationNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockShortage;
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+import br.com.brunno.api.order_food_service.shared.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Contagem de estoque em memória para produtos disputados por muitos pedidos ao mesmo tempo.
+ * Com a contagem no banco, cada reserva do mesmo produto espera o lock da linha até o commit da
+ * anterior; aqui ela custa um lock curto, sem E/S enquanto ele está preso.
+ * <ul>
+ *   <li>Cada produto ocupa uma posição nos vetores primitivos de contagem (em estoque, reservado,
+ *   revisão), localizada pelo ProductSlotTable</li>
+ *   <li>As posições são protegidas por locks listrados (posição & (stripes - 1)); uma reserva com
+ *   vários produtos trava as listras envolvidas em ordem crescente e reserva tudo ou nada</li>
+ *   <li>Cada operação vai para o StockJournal depois de soltar o lock; as quantidades alteradas são
+ *   gravadas no banco em lote a cada inventory.flush-interval (write-behind), e reservas abertas
+ *   há mais de inventory.reservation-ttl são liberadas</li>
+ *   <li>Na inicialização a contagem é reconstruída: quantidades do banco, corrigidas pelas de revisão
+ *   maior no diário, e reservas abertas do diário presas de novo</li>
+ * </ul>
+ * A confirmação de uma operação não espera o disco: uma queda do processo perde no máximo os
+ * registros ainda na fila do diário (com inventory.journal-fsync, uma queda da máquina também).
+ * Publica inventory.reservations (por outcome), inventory.reservations.open, inventory.journal.backlog,
+ * inventory.flush (tempo por lote) e inventory.flush.items.
+ */
+@Slf4j
+public class StockEngine implements StockLedger, SmartLifecycle {
+    
+    private final InventoryProperties properties;
+    private final StockRepository stockRepository;
+    private final StockJournal journal;
+    private final ProductSlotTable table;
+    private final ReentrantLock[] stripes;
+    private final int stripeMask;
+    private final UUID[] productIds;
+    private final UUID[] restaurantIds;
+    private final int[] onHand;
+    private final int[] reserved;
+    private final long[] revisions;
+    private final boolean[] dirty;
+    private final Map<UUID, StockReservation> openReservations = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Counter reservedCounter;
+    private final Counter insufficientCounter;
+    private final Counter committedCounter;
+    private final Counter releasedCounter;
+    private final Counter expiredCounter;
+    private final Counter flushedItems;
+    private final Timer flushTimer;
+    private ScheduledExecutorService flusher;
+    private volatile boolean running;
+    
+    public StockEngine(InventoryProperties properties, StockRepository stockRepository, MeterRegistry meterRegistry) {
+        if (Integer.bitCount(properties.stripes()) != 1) {
+            throw new IllegalArgumentException("Quantidade de listras do estoque deve ser potência de 2");
+        }
+        this.properties = properties;
+        this.stockRepository = stockRepository;
+        this.journal = new StockJournal(Path.of(properties.journalDirectory()), properties.journalBufferSize(),
+                properties.journalFsync());
+        int capacity = properties.capacity();
+        this.table = new ProductSlotTable(capacity);
+        this.stripes = new ReentrantLock[properties.stripes()];
+        Arrays.setAll(stripes, i -> new ReentrantLock());
+        this.stripeMask = properties.stripes() - 1;
+        this.productIds = new UUID[capacity];
+        this.restaurantIds = new UUID[capacity];
+        this.onHand = new int[capacity];
+        this.reserved = new int[capacity];
+        this.revisions = new long[capacity];
+        this.dirty = new boolean[capacity];
+        
+        this.reservedCounter = reservationCounter(meterRegistry, "reserved");
+        this.insufficientCounter = reservationCounter(meterRegistry, "insufficient");
+        this.committedCounter = reservationCounter(meterRegistry, "committed");
+        this.releasedCounter = reservationCounter(meterRegistry, "released");
+        this.expiredCounter = reservationCounter(meterRegistry, "expired");
+        Gauge.builder("inventory.reservations.open", openReservations, Map::size)
+                .description("Reservas de estoque ainda não confirmadas nem liberadas")
+                .register(meterRegistry);
+        Gauge.builder("inventory.journal.backlog", journal, StockJournal::backlog)
+                .description("Registros do diário de estoque aguardando gravação em disco")
+                .register(meterRegistry);
+        this.flushedItems = Counter.builder("inventory.flush.items")
+                .description("Quantidades de produtos gravadas no banco pelo write-behind")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("inventory.flush")
+                .description("Tempo para trocar o diário e gravar no banco as quantidades alteradas")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    public void register(StockItem item) {
+        TransactionCallbacks.afterCommit(() -> load(item));
+    }
+    
+    @Override
+    public Optional<StockLevel> find(UUID productId) {
+        int slot = table.indexOf(productId);
+        if (slot < 0) {
+            return Optional.empty();
+        }
+        ReentrantLock lock = stripeOf(slot);
+        lock.lock();
+        try {
+            return Optional.of(level(slot));
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    @Override
+    public StockLevel setOnHand(UUID productId, int quantity) {
+        int slot = slotOf(productId);
+        StockLevel level;
+        long revision;
+        ReentrantLock lock = stripeOf(slot);
+        lock.lock();
+        try {
+            if (quantity < reserved[slot]) {
+                throw new IllegalArgumentException("Quantidade em estoque não pode ser menor que a reservada ("
+                        + reserved[slot] + ")");
+            }
+            onHand[slot] = quantity;
+            revision = ++revisions[slot];
+            dirty[slot] = true;
+            level = level(slot);
+        } finally {
+            lock.unlock();
+        }
+        journal.quantity(productId, quantity, revision);
+        return level;
+    }
+    
+    @Override
+    public StockReservation reserve(List<StockLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Reserva deve ter ao menos um produto");
+        }
+        List<StockLine> merged = StockLine.merge(lines);
+        int[] slots = new int[merged.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = slotOf(merged.get(i).productId());
+        }
+        
+        ReentrantLock[] locks = lockAll(slots);
+        try {
+            List<StockShortage> shortages = null;
+            for (int i = 0; i < slots.length; i++) {
+                int available = onHand[slots[i]] - reserved[slots[i]];
+                if (available < merged.get(i).quantity()) {
+                    if (shortages == null) {
+                        shortages = new ArrayList<>();
+                    }
+                    shortages.add(new StockShortage(merged.get(i).productId(), merged.get(i).quantity(), available));
+                }
+            }
+            if (shortages != null) {
+                insufficientCounter.increment();
+                throw new InsufficientStockException(shortages);
+            }
+            for (int i = 0; i < slots.length; i++) {
+                reserved[slots[i]] += merged.get(i).quantity();
+            }
+        } finally {
+            unlockAll(locks);
+        }
+        
+        StockReservation reservation = new StockReservation(TimeOrderedUuid.next(), merged,
+                StockReservation.Status.RESERVED, Instant.now());
+        // Entra no mapa antes do diário: uma troca de arquivo entre os dois passos ainda a encontra aberta
+        openReservations.put(reservation.getId(), reservation);
+        journal.reserved(reservation);
+        reservedCounter.increment();
+        return reservation;
+    }
+    
+    @Override
+    public StockReservation commit(UUID reservationId) {
+        StockReservation reservation = close(reservationId);
+        List<StockLine> lines = reservation.getLines();
+        int[] slots = slotsOf(lines);
+        int[] quantities = new int[slots.length];
+        long[] revisionsAfter = new long[slots.length];
+        
+        ReentrantLock[] locks = lockAll(slots);
+        try {
+            for (int i = 0; i < slots.length; i++) {
+                int slot = slots[i];
+                int quantity = lines.get(i).quantity();
+                reserved[slot] -= quantity;
+                onHand[slot] -= quantity;
+                revisionsAfter[i] = ++revisions[slot];
+                quantities[i] = onHand[slot];
+                dirty[slot] = true;
+            }
+        } finally {
+            unlockAll(locks);
+        }
+        
+        for (int i = 0; i < slots.length; i++) {
+            journal.quantity(lines.get(i).productId(), quantities[i], revisionsAfter[i]);
+        }
+        journal.closed(reservationId);
+        committedCounter.increment();
+        return reservation.withStatus(StockReservation.Status.COMMITTED);
+    }
+    
+    @Override
+    public StockReservation release(UUID reservationId) {
+        StockReservation reservation = close(reservationId);
+        unreserve(reservation);
+        releasedCounter.increment();
+        return reservation.withStatus(StockReservation.Status.RELEASED);
+    }
+    
+    /**
+     * Troca o arquivo do diário, grava no banco as quantidades alteradas desde a última vez e apaga
+     * os arquivos antigos do diário. Chamado pelo agendador; público para testes e desligamento
+     * @return quantidade de produtos gravados
+     */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushChanged();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    private int flushChanged() {
+        long start = System.nanoTime();
+        List<Path> sealed = journal.rotate(() -> List.copyOf(openReservations.values())).join();
+        
+        List<StockItem> changed = new ArrayList<>();
+        for (int stripe = 0; stripe < stripes.length; stripe++) {
+            stripes[stripe].lock();
+            try {
+                for (int slot = stripe, size = table.size(); slot < size; slot += stripes.length) {
+                    if (dirty[slot]) {
+                        changed.add(new StockItem(productIds[slot], restaurantIds[slot], onHand[slot], revisions[slot]));
+                        dirty[slot] = false;
+                    }
+                }
+            } finally {
+                stripes[stripe].unlock();
+            }
+        }
+        
+        if (!changed.isEmpty()) {
+            try {
+                stockRepository.updateQuantities(changed);
+            } catch (RuntimeException e) {
+                // Os arquivos antigos do diário ficam: continuam sendo a cópia durável dessas quantidades
+                changed.forEach(item -> markDirty(item.getProductId()));
+                throw e;
+            }
+        }
+        journal.delete(sealed);
+        flushedItems.increment(changed.size());
+        flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return changed.size();
+    }
+    
+    /**
+     * Libera as reservas abertas há mais tempo que inventory.reservation-ttl
+     * @return quantidade de reservas liberadas
+     */
+    public int expireReservations() {
+        Instant limit = Instant.now().minus(properties.reservationTtl());
+        int expired = 0;
+        for (StockReservation reservation : openReservations.values()) {
+            if (reservation.getCreatedAt().isBefore(limit) && openReservations.remove(reservation.getId(), reservation)) {
+                unreserve(reservation);
+                expired++;
+            }
+        }
+        expiredCounter.increment(expired);
+        return expired;
+    }
+    
+    @Override
+    public void start() {
+        recover();
+        journal.start(openReservations.values());
+        flush();
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.flushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Falha na última gravação do estoque; o diário será reaplicado na próxima inicialização", e);
+        }
+        journal.stop();
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    /**
+     * Inicia antes do servidor web, que não deve receber reservas sem a contagem recuperada
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+    
+    private void tick() {
+        try {
+            expireReservations();
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar o estoque no banco; nova tentativa no próximo intervalo", e);
+        }
+    }
+    
+    // Quantidades do banco, corrigidas pelo diário, e as reservas que estavam abertas na queda
+    private void recover() {
+        stockRepository.findAll().forEach(this::load);
+        Map<UUID, StockReservation> pending = new LinkedHashMap<>();
+        journal.replay(new StockJournal.Replay() {
+            @Override
+            public void reserved(UUID reservationId, long createdAtMillis, List<StockLine> lines) {
+                pending.put(reservationId, new StockReservation(reservationId, lines, StockReservation.Status.RESERVED,
+                        Instant.ofEpochMilli(createdAtMillis)));
+            }
+            
+            @Override
+            public void closed(UUID reservationId) {
+                pending.remove(reservationId);
+            }
+            
+            @Override
+            public void quantity(UUID productId, int quantity, long revision) {
+                int slot = table.indexOf(productId);
+                if (slot >= 0 && revision > revisions[slot]) {
+                    onHand[slot] = quantity;
+                    revisions[slot] = revision;
+                    dirty[slot] = true;
+                }
+            }
+        });
+        for (StockReservation reservation : pending.values()) {
+            for (StockLine line : reservation.getLines()) {
+                int slot = table.indexOf(line.productId());
+                if (slot >= 0) {
+                    reserved[slot] += line.quantity();
+                }
+            }
+            openReservations.put(reservation.getId(), reservation);
+        }
+        if (!pending.isEmpty()) {
+            log.info("Estoque recuperado do diário com {} reservas abertas", pending.size());
+        }
+    }
+    
+    // Serializado: a posição nova é a próxima livre, preenchida antes de entrar no índice
+    private synchronized void load(StockItem item) {
+        int slot = table.indexOf(item.getProductId());
+        if (slot < 0) {
+            slot = table.size();
+            ReentrantLock lock = stripeOf(slot);
+            lock.lock();
+            try {
+                productIds[slot] = item.getProductId();
+                restaurantIds[slot] = item.getRestaurantId();
+                onHand[slot] = item.getQuantity();
+                revisions[slot] = item.getRevision();
+            } finally {
+                lock.unlock();
+            }
+            table.add(item.getProductId());
+        }
+    }
+    
+    private StockReservation close(UUID reservationId) {
+        if (reservationId == null) {
+            throw new IllegalArgumentException("ID da reserva não pode ser nulo");
+        }
+        // Sai do mapa antes do diário: uma troca de arquivo entre os dois passos não a grava como aberta
+        StockReservation reservation = openReservations.remove(reservationId);
+        if (reservation == null) {
+            throw new StockReservationNotFoundException(reservationId);
+        }
+        return reservation;
+    }
+    
+    private void unreserve(StockReservation reservation) {
+        int[] slots = slotsOf(reservation.getLines());
+        ReentrantLock[] locks = lockAll(slots);
+        try {
+            for (int i = 0; i < slots.length; i++) {
+                reserved[slots[i]] -= reservation.getLines().get(i).quantity();
+            }
+        } finally {
+            unlockAll(locks);
+        }
+        journal.closed(reservation.getId());
+    }
+    
+    private void markDirty(UUID productId) {
+        int slot = table.indexOf(productId);
+        ReentrantLock lock = stripeOf(slot);
+        lock.lock();
+        try {
+            dirty[slot] = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private StockLevel level(int slot) {
+        return new StockLevel(productIds[slot], restaurantIds[slot], onHand[slot], reserved[slot]);
+    }
+    
+    private int slotOf(UUID productId) {
+        if (productId == null) {
+            throw new IllegalArgumentException("ID do produto não pode ser nulo");
+        }
+        int slot = table.indexOf(productId);
+        if (slot < 0) {
+            throw new StockItemNotFoundException(productId);
+        }
+        return slot;
+    }
+    
+    private int[] slotsOf(List<StockLine> lines) {
+        int[] slots = new int[lines.size()];
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = table.indexOf(lines.get(i).productId());
+        }
+        return slots;
+    }
+    
+    private ReentrantLock stripeOf(int slot) {
+        return stripes[slot & stripeMask];
+    }
+    
+    // Trava as listras distintas em ordem crescente, a mesma para todas as threads: sem deadlock
+    private ReentrantLock[] lockAll(int[] slots) {
+        if (slots.length == 1) {
+            ReentrantLock lock = stripeOf(slots[0]);
+            lock.lock();
+            return new ReentrantLock[] {lock};
+        }
+        int[] stripeIndexes = Arrays.stream(slots).map(slot -> slot & stripeMask).distinct().sorted().toArray();
+        ReentrantLock[] locks = new ReentrantLock[stripeIndexes.length];
+        for (int i = 0; i < stripeIndexes.length; i++) {
+            locks[i] = stripes[stripeIndexes[i]];
+            locks[i].lock();
+        }
+        return locks;
+    }
+    
+    private static void unlockAll(ReentrantLock[] locks) {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+    
+    private static Counter reservationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("inventory.reservations")
+                .description("Operações de reserva de estoque por resultado")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
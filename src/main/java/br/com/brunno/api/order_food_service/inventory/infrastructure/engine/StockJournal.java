@@ -0,0 +1,337 @@
+// Arquivo para o StockJournal - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.engine;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import br.com.brunno.api.order_food_service.shared.infrastructure.concurrency.RingBuffer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Diário de reservas do estoque em memória, para reconstruir a contagem depois de uma queda.
+ * As operações entram numa fila circular e uma única thread grava os registros acumulados em um
+ * bloco por vez (com fsync opcional), sem disputa entre as threads que reservam.
+ * Registros: reserva aberta (com as linhas), reserva encerrada, e quantidade absoluta de um
+ * produto com a revisão. Quantidades absolutas tornam a reaplicação idempotente: na recuperação
+ * vale a maior revisão entre o banco e o diário.
+ * A cada gravação em lote no banco o diário troca de arquivo: o novo começa com as reservas
+ * abertas naquele instante e os antigos são apagados depois que o banco confirma.
+ */
+@Slf4j
+final class StockJournal {
+    
+    private static final byte RESERVED = 1;
+    private static final byte CLOSED = 2;
+    private static final byte QUANTITY = 3;
+    private static final long IDLE_WAIT_MILLIS = 100;
+    private static final int MAX_BATCH = 1024;
+    
+    /**
+     * Recebe os registros do diário na ordem em que foram gravados
+     */
+    interface Replay {
+        void reserved(UUID reservationId, long createdAtMillis, List<StockLine> lines);
+        
+        void closed(UUID reservationId);
+        
+        void quantity(UUID productId, int onHand, long revision);
+    }
+    
+    private final Path directory;
+    private final boolean fsync;
+    private final RingBuffer<Slot> ringBuffer;
+    private final List<Path> sealed = new ArrayList<>();
+    private FileOutputStream file;
+    private DataOutputStream out;
+    private long fileSequence;
+    private Thread writer;
+    private volatile boolean running;
+    
+    StockJournal(Path directory, int bufferSize, boolean fsync) {
+        this.directory = directory;
+        this.fsync = fsync;
+        this.ringBuffer = new RingBuffer<>(bufferSize, Slot::new);
+    }
+    
+    /**
+     * Lê todos os arquivos do diário, do mais antigo para o mais novo. Um registro cortado no fim de
+     * um arquivo (queda no meio da gravação) encerra a leitura daquele arquivo
+     */
+    void replay(Replay replay) {
+        for (Path path : journalFiles()) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                while (true) {
+                    byte[] record = readRecord(in);
+                    if (record == null) {
+                        break;
+                    }
+                    decode(ByteBuffer.wrap(record), replay);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o diário de estoque " + path, e);
+            }
+            sealed.add(path);
+        }
+    }
+    
+    /**
+     * Abre um arquivo novo e inicia a thread de gravação
+     * @param openReservations reservas abertas, gravadas no início do arquivo
+     */
+    void start(Collection<StockReservation> openReservations) {
+        try {
+            Files.createDirectories(directory);
+            openNextFile(openReservations);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir o diário de estoque em " + directory, e);
+        }
+        running = true;
+        writer = new Thread(this::write, "inventory-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+    
+    /**
+     * Grava o que ainda está na fila e fecha o arquivo
+     */
+    void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+    
+    void reserved(StockReservation reservation) {
+        append(encodeReserved(reservation), null, null);
+    }
+    
+    void closed(UUID reservationId) {
+        ByteBuffer record = ByteBuffer.allocate(1 + 16);
+        record.put(CLOSED);
+        putUuid(record, reservationId);
+        append(record.array(), null, null);
+    }
+    
+    void quantity(UUID productId, int onHand, long revision) {
+        ByteBuffer record = ByteBuffer.allocate(1 + 16 + 4 + 8);
+        record.put(QUANTITY);
+        putUuid(record, productId);
+        record.putInt(onHand);
+        record.putLong(revision);
+        append(record.array(), null, null);
+    }
+    
+    /**
+     * Pede a troca de arquivo. Tudo que foi enfileirado antes fica nos arquivos antigos; o novo
+     * começa com as reservas abertas lidas pela thread de gravação no momento da troca
+     * @return arquivos antigos, que podem ser apagados quando as quantidades estiverem no banco
+     */
+    CompletableFuture<List<Path>> rotate(Supplier<Collection<StockReservation>> openReservations) {
+        CompletableFuture<List<Path>> rotated = new CompletableFuture<>();
+        append(null, rotated, openReservations);
+        return rotated;
+    }
+    
+    /**
+     * Apaga arquivos antigos do diário
+     */
+    void delete(List<Path> paths) {
+        for (Path path : paths) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                log.warn("Falha ao apagar o diário de estoque {}", path, e);
+            }
+        }
+    }
+    
+    int backlog() {
+        return ringBuffer.backlog();
+    }
+    
+    private void append(byte[] record, CompletableFuture<List<Path>> rotated,
+                        Supplier<Collection<StockReservation>> openReservations) {
+        long sequence;
+        while ((sequence = ringBuffer.next(1, TimeUnit.SECONDS)) < 0) {
+            log.warn("Diário de estoque sem espaço na fila; aguardando a gravação em disco");
+        }
+        Slot slot = ringBuffer.get(sequence);
+        slot.record = record;
+        slot.rotated = rotated;
+        slot.openReservations = openReservations;
+        ringBuffer.publish(sequence);
+    }
+    
+    private void write() {
+        while (running || ringBuffer.backlog() > 0) {
+            if (ringBuffer.awaitPublished(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                ringBuffer.drain(MAX_BATCH, this::take);
+            }
+        }
+        try {
+            out.close();
+        } catch (IOException e) {
+            log.warn("Falha ao fechar o diário de estoque", e);
+        }
+    }
+    
+    // Grava o registro do slot e o limpa: ao fim do drain ele volta para os produtores
+    private void take(Slot slot, boolean endOfBatch) {
+        try {
+            if (slot.record != null) {
+                writeRecord(slot.record);
+            } else {
+                sync();
+                Path current = currentPath();
+                openNextFile(slot.openReservations.get());
+                sealed.add(current);
+                List<Path> old = List.copyOf(sealed);
+                sealed.clear();
+                slot.rotated.complete(old);
+            }
+            if (endOfBatch) {
+                sync();
+            }
+        } catch (IOException | RuntimeException e) {
+            // Sem diário a contagem ainda vale; só a recuperação após uma queda fica comprometida
+            log.error("Falha ao gravar o diário de estoque", e);
+            if (slot.rotated != null) {
+                slot.rotated.completeExceptionally(e);
+            }
+        } finally {
+            slot.record = null;
+            slot.rotated = null;
+            slot.openReservations = null;
+        }
+    }
+    
+    // Cada registro é precedido do tamanho
+    private void writeRecord(byte[] record) throws IOException {
+        out.writeInt(record.length);
+        out.write(record);
+    }
+    
+    private void sync() throws IOException {
+        out.flush();
+        if (fsync) {
+            file.getChannel().force(false);
+        }
+    }
+    
+    private void openNextFile(Collection<StockReservation> openReservations) throws IOException {
+        if (out != null) {
+            out.close();
+        }
+        fileSequence = Math.max(fileSequence + 1, System.currentTimeMillis());
+        Path path = directory.resolve(String.format("stock-%020d.journal", fileSequence));
+        while (Files.exists(path)) {
+            fileSequence++;
+            path = directory.resolve(String.format("stock-%020d.journal", fileSequence));
+        }
+        file = new FileOutputStream(path.toFile());
+        out = new DataOutputStream(new BufferedOutputStream(file, 64 * 1024));
+        for (StockReservation reservation : openReservations) {
+            writeRecord(encodeReserved(reservation));
+        }
+        sync();
+    }
+    
+    private Path currentPath() {
+        return directory.resolve(String.format("stock-%020d.journal", fileSequence));
+    }
+    
+    private List<Path> journalFiles() {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().endsWith(".journal"))
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar o diário de estoque em " + directory, e);
+        }
+    }
+    
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            byte[] record = new byte[in.readInt()];
+            in.readFully(record);
+            return record;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+    
+    private static byte[] encodeReserved(StockReservation reservation) {
+        List<StockLine> lines = reservation.getLines();
+        ByteBuffer record = ByteBuffer.allocate(1 + 16 + 8 + 4 + lines.size() * 20);
+        record.put(RESERVED);
+        putUuid(record, reservation.getId());
+        record.putLong(reservation.getCreatedAt().toEpochMilli());
+        record.putInt(lines.size());
+        for (StockLine line : lines) {
+            putUuid(record, line.productId());
+            record.putInt(line.quantity());
+        }
+        return record.array();
+    }
+    
+    private static void decode(ByteBuffer record, Replay replay) {
+        byte type = record.get();
+        switch (type) {
+            case RESERVED -> {
+                UUID reservationId = getUuid(record);
+                long createdAtMillis = record.getLong();
+                int count = record.getInt();
+                List<StockLine> lines = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    lines.add(new StockLine(getUuid(record), record.getInt()));
+                }
+                replay.reserved(reservationId, createdAtMillis, lines);
+            }
+            case CLOSED -> replay.closed(getUuid(record));
+            case QUANTITY -> replay.quantity(getUuid(record), record.getInt(), record.getLong());
+            default -> throw new IllegalStateException("Registro desconhecido no diário de estoque: " + type);
+        }
+    }
+    
+    private static void putUuid(ByteBuffer buffer, UUID id) {
+        buffer.putLong(id.getMostSignificantBits());
+        buffer.putLong(id.getLeastSignificantBits());
+    }
+    
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+    
+    private static final class Slot {
+        private byte[] record;
+        private CompletableFuture<List<Path>> rotated;
+        private Supplier<Collection<StockReservation>> openReservations;
+    }
+}
@@ -0,0 +1,197 @@
+// Arquivo para o DatabaseStockLedger - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockReservationNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.InventoryRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.engine.InventoryProperties;
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contagem de estoque direto no banco (inventory.mode=database), para quando ela não pode ficar em
+ * memória, ex: várias instâncias do serviço dividindo o estoque.
+ * Reservar é um lote de UPDATE condicionais (InventoryRepository) e gravar a reserva, numa
+ * transação; confirmar ou liberar encerra a reserva com um UPDATE condicional no estado, então
+ * duas chamadas concorrentes não baixam as mesmas unidades duas vezes.
+ * A cada inventory.flush-interval libera as reservas abertas há mais de inventory.reservation-ttl.
+ * Publica inventory.reservations (por outcome), como o StockEngine.
+ */
+@Slf4j
+public class DatabaseStockLedger implements StockLedger, SmartLifecycle {
+    
+    private final InventoryRepository inventoryRepository;
+    private final InventoryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter reservedCounter;
+    private final Counter insufficientCounter;
+    private final Counter committedCounter;
+    private final Counter releasedCounter;
+    private final Counter expiredCounter;
+    private ScheduledExecutorService expirer;
+    private volatile boolean running;
+    
+    public DatabaseStockLedger(InventoryRepository inventoryRepository, InventoryProperties properties,
+                               TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.inventoryRepository = inventoryRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.reservedCounter = reservationCounter(meterRegistry, "reserved");
+        this.insufficientCounter = reservationCounter(meterRegistry, "insufficient");
+        this.committedCounter = reservationCounter(meterRegistry, "committed");
+        this.releasedCounter = reservationCounter(meterRegistry, "released");
+        this.expiredCounter = reservationCounter(meterRegistry, "expired");
+    }
+    
+    /**
+     * Nada a fazer: o estoque gravado pelo StockRepository já é a contagem
+     */
+    @Override
+    public void register(StockItem item) {
+    }
+    
+    @Override
+    public Optional<StockLevel> find(UUID productId) {
+        return inventoryRepository.findLevel(productId);
+    }
+    
+    @Override
+    public StockLevel setOnHand(UUID productId, int quantity) {
+        if (!inventoryRepository.setOnHand(productId, quantity)) {
+            StockLevel level = inventoryRepository.findLevel(productId)
+                    .orElseThrow(() -> new StockItemNotFoundException(productId));
+            throw new IllegalArgumentException("Quantidade em estoque não pode ser menor que a reservada ("
+                    + level.reserved() + ")");
+        }
+        return inventoryRepository.findLevel(productId).orElseThrow(() -> new StockItemNotFoundException(productId));
+    }
+    
+    @Override
+    public StockReservation reserve(List<StockLine> lines) {
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("Reserva deve ter ao menos um produto");
+        }
+        StockReservation reservation = new StockReservation(TimeOrderedUuid.next(), StockLine.merge(lines),
+                StockReservation.Status.RESERVED, Instant.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                inventoryRepository.reserve(reservation.getLines());
+                inventoryRepository.saveReservation(reservation);
+            });
+        } catch (InsufficientStockException e) {
+            insufficientCounter.increment();
+            throw e;
+        }
+        reservedCounter.increment();
+        return reservation;
+    }
+    
+    @Override
+    public StockReservation commit(UUID reservationId) {
+        StockReservation reservation = close(reservationId, StockReservation.Status.COMMITTED);
+        committedCounter.increment();
+        return reservation;
+    }
+    
+    @Override
+    public StockReservation release(UUID reservationId) {
+        StockReservation reservation = close(reservationId, StockReservation.Status.RELEASED);
+        releasedCounter.increment();
+        return reservation;
+    }
+    
+    /**
+     * Libera as reservas abertas há mais tempo que inventory.reservation-ttl
+     * @return quantidade de reservas liberadas
+     */
+    public int expireReservations() {
+        int expired = 0;
+        for (UUID reservationId : inventoryRepository.findOpenReservationIds(
+                Instant.now().minus(properties.reservationTtl()))) {
+            try {
+                close(reservationId, StockReservation.Status.RELEASED);
+                expired++;
+            } catch (StockReservationNotFoundException e) {
+                // Encerrada por outra chamada (ou instância) depois da consulta
+            }
+        }
+        expiredCounter.increment(expired);
+        return expired;
+    }
+    
+    @Override
+    public void start() {
+        expirer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "inventory-expirer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.flushInterval().toMillis();
+        expirer.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        if (expirer != null) {
+            expirer.shutdownNow();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private void tick() {
+        try {
+            expireReservations();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao liberar reservas de estoque expiradas; nova tentativa no próximo intervalo", e);
+        }
+    }
+    
+    // Encerrar a reserva e mover as unidades vão na mesma transação: quem não encerra não move nada
+    private StockReservation close(UUID reservationId, StockReservation.Status status) {
+        if (reservationId == null) {
+            throw new IllegalArgumentException("ID da reserva não pode ser nulo");
+        }
+        return transactionTemplate.execute(tx -> {
+            StockReservation reservation = inventoryRepository.closeReservation(reservationId, status)
+                    .orElseThrow(() -> new StockReservationNotFoundException(reservationId));
+            if (status == StockReservation.Status.COMMITTED) {
+                inventoryRepository.commit(reservation.getLines());
+            } else {
+                inventoryRepository.release(reservation.getLines());
+            }
+            return reservation;
+        });
+    }
+    
+    private static Counter reservationCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("inventory.reservations")
+                .description("Operações de reserva de estoque por resultado")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,163 @@
+// Arquivo para o InventoryPersistenceAdapter - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.InventoryRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockShortage;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity.StockReservationJpaEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adaptador de persistência que implementa InventoryRepository.
+ * As quantidades são alteradas só por UPDATE condicional em stock_items, enviados num único lote
+ * JDBC por reserva; a contagem de linhas alteradas de cada comando diz qual produto falhou, e
+ * só então o disponível é lido, para compor a recusa. Os comandos seguem a ordem do ID do produto:
+ * duas reservas com os mesmos produtos travam as linhas na mesma ordem, sem deadlock.
+ */
+@Component
+@RequiredArgsConstructor
+public class InventoryPersistenceAdapter implements InventoryRepository {
+    
+    private static final String RESERVE =
+            "update stock_items set reserved = reserved + ?, revision = revision + 1 where product_id = ? and quantity - reserved >= ?";
+    private static final String COMMIT =
+            "update stock_items set quantity = quantity - ?, reserved = reserved - ?, revision = revision + 1 where product_id = ? and reserved >= ?";
+    private static final String RELEASE =
+            "update stock_items set reserved = reserved - ?, revision = revision + 1 where product_id = ? and reserved >= ?";
+    private static final String SET_ON_HAND =
+            "update stock_items set quantity = ?, revision = revision + 1 where product_id = ? and reserved <= ?";
+    private static final String CLOSE_RESERVATION =
+            "update stock_reservations set status = ? where id = ? and status = 'RESERVED'";
+    private static final String FIND_LEVEL =
+            "select product_id, restaurant_id, quantity, reserved from stock_items where product_id = ?";
+    
+    private final StockReservationJpaRepository stockReservationJpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StockLevel> findLevel(UUID productId) {
+        return jdbcTemplate.query(FIND_LEVEL, (rs, rowNum) -> new StockLevel(
+                rs.getObject("product_id", UUID.class),
+                rs.getObject("restaurant_id", UUID.class),
+                rs.getInt("quantity"),
+                rs.getInt("reserved")), productId).stream().findFirst();
+    }
+    
+    @Override
+    @Transactional
+    public boolean setOnHand(UUID productId, int quantity) {
+        return jdbcTemplate.update(SET_ON_HAND, quantity, productId, quantity) == 1;
+    }
+    
+    @Override
+    @Transactional
+    public void reserve(List<StockLine> lines) {
+        List<StockLine> ordered = inProductOrder(lines);
+        int[] counts = update(RESERVE, ordered, (ps, line) -> {
+            ps.setInt(1, line.quantity());
+            ps.setObject(2, line.productId());
+            ps.setInt(3, line.quantity());
+        });
+        
+        List<StockShortage> shortages = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                StockLine line = ordered.get(i);
+                StockLevel level = findLevel(line.productId())
+                        .orElseThrow(() -> new StockItemNotFoundException(line.productId()));
+                shortages.add(new StockShortage(line.productId(), line.quantity(), level.available()));
+            }
+        }
+        // A exceção desfaz, com a transação, as reservas dos produtos que tinham estoque
+        if (!shortages.isEmpty()) {
+            throw new InsufficientStockException(shortages);
+        }
+    }
+    
+    @Override
+    @Transactional
+    public void commit(List<StockLine> lines) {
+        requireAll(update(COMMIT, inProductOrder(lines), (ps, line) -> {
+            ps.setInt(1, line.quantity());
+            ps.setInt(2, line.quantity());
+            ps.setObject(3, line.productId());
+            ps.setInt(4, line.quantity());
+        }));
+    }
+    
+    @Override
+    @Transactional
+    public void release(List<StockLine> lines) {
+        requireAll(update(RELEASE, inProductOrder(lines), (ps, line) -> {
+            ps.setInt(1, line.quantity());
+            ps.setObject(2, line.productId());
+            ps.setInt(3, line.quantity());
+        }));
+    }
+    
+    @Override
+    @Transactional
+    public void saveReservation(StockReservation reservation) {
+        entityManager.persist(StockReservationJpaEntity.fromDomain(reservation));
+    }
+    
+    @Override
+    @Transactional
+    public Optional<StockReservation> closeReservation(UUID reservationId, StockReservation.Status status) {
+        if (jdbcTemplate.update(CLOSE_RESERVATION, status.name(), reservationId) == 0) {
+            return Optional.empty();
+        }
+        return stockReservationJpaRepository.findWithLinesById(reservationId)
+                .map(StockReservationJpaEntity::toDomain)
+                .map(reservation -> reservation.withStatus(status));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> findOpenReservationIds(Instant createdBefore) {
+        return stockReservationJpaRepository.findIdsByStatusAndCreatedAtBefore(StockReservation.Status.RESERVED,
+                createdBefore);
+    }
+    
+    // Linhas alteradas por comando, na ordem das linhas. Exige um driver que informe a contagem de cada
+    // comando do lote (H2, PostgreSQL); SUCCESS_NO_INFO não diria qual produto falhou
+    private int[] update(String sql, List<StockLine> lines, ParameterizedPreparedStatementSetter<StockLine> setter) {
+        int[][] counts = jdbcTemplate.batchUpdate(sql, lines, lines.size(), setter);
+        return counts.length == 0 ? new int[0] : counts[0];
+    }
+    
+    // Unidades reservadas sempre existem: um comando sem efeito indica contagem corrompida
+    private static void requireAll(int[] counts) {
+        for (int count : counts) {
+            if (count == 0) {
+                throw new IllegalStateException("Unidades reservadas não encontradas no estoque");
+            }
+        }
+    }
+    
+    private static List<StockLine> inProductOrder(List<StockLine> lines) {
+        if (lines.size() == 1) {
+            return lines;
+        }
+        return lines.stream().sorted(Comparator.comparing(StockLine::productId)).toList();
+    }
+}
@@ -0,0 +1,16 @@
+// Arquivo para o StockJpaRepository - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity.StockItemJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório Spring Data JPA para StockItemJpaEntity.
+ */
+@Repository
+public interface StockJpaRepository extends JpaRepository<StockItemJpaEntity, UUID> {
+}
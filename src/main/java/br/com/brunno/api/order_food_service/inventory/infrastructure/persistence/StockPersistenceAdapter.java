@@ -0,0 +1,64 @@
+// Arquivo para o StockPersistenceAdapter - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockRepository;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity.StockItemJpaEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Adaptador de persistência que implementa StockRepository.
+ * As quantidades vindas da contagem em memória são gravadas num único lote JDBC, sem carregar
+ * as entidades: cada UPDATE só vale se a revisão gravada for menor que a nova.
+ */
+@Component
+@RequiredArgsConstructor
+public class StockPersistenceAdapter implements StockRepository {
+    
+    private static final String UPDATE_QUANTITY =
+            "update stock_items set quantity = ?, revision = ? where product_id = ? and revision < ?";
+    
+    private final StockJpaRepository stockJpaRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    @Transactional
+    public StockItem save(StockItem item) {
+        entityManager.persist(StockItemJpaEntity.fromDomain(item));
+        return item;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<StockItem> findAll() {
+        return stockJpaRepository.findAll().stream()
+                .map(StockItemJpaEntity::toDomain)
+                .toList();
+    }
+    
+    @Override
+    @Transactional
+    public int updateQuantities(List<StockItem> items) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_QUANTITY, items, items.size(), (ps, item) -> {
+            ps.setInt(1, item.getQuantity());
+            ps.setLong(2, item.getRevision());
+            ps.setObject(3, item.getProductId());
+            ps.setLong(4, item.getRevision());
+        });
+        int updated = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                updated += Math.max(count, 0);
+            }
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,35 @@
+// Arquivo para o StockReservationJpaRepository - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity.StockReservationJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório Spring Data JPA para StockReservationJpaEntity.
+ */
+@Repository
+public interface StockReservationJpaRepository extends JpaRepository<StockReservationJpaEntity, UUID> {
+    
+    /**
+     * Busca a reserva com as linhas numa única consulta
+     */
+    @Query("select r from StockReservationJpaEntity r left join fetch r.lines where r.id = :id")
+    Optional<StockReservationJpaEntity> findWithLinesById(@Param("id") UUID id);
+    
+    /**
+     * Lista os IDs das reservas no estado informado criadas antes do instante
+     */
+    @Query("select r.id from StockReservationJpaEntity r where r.status = :status and r.createdAt < :createdBefore")
+    List<UUID> findIdsByStatusAndCreatedAtBefore(@Param("status") StockReservation.Status status,
+                                                 @Param("createdBefore") Instant createdBefore);
+}
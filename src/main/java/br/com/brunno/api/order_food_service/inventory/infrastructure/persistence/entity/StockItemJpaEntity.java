@@ -0,0 +1,90 @@
+// Arquivo para a entidade StockItemJpaEntity - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.util.UUID;
+
+/**
+ * Entidade JPA para persistência do estoque de produtos.
+ * Representa a tabela stock_items; a chave primária é o ID do produto.
+ * A revisão é o @Version da linha e cresce a cada alteração: pela gravação em lote da contagem em
+ * memória (que só substitui revisões menores) ou pelos UPDATE condicionais do estoque no banco.
+ * A coluna reserved só é usada com o estoque no banco (inventory.mode=database); com a contagem em
+ * memória as reservas ficam no diário.
+ */
+@Entity
+@Table(name = "stock_items", indexes = @Index(name = "idx_stock_items_restaurant_id", columnList = "restaurant_id"))
+@Data
+@NoArgsConstructor
+public class StockItemJpaEntity implements Persistable<UUID> {
+    
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+    
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+    
+    @Column(nullable = false)
+    private int quantity;
+    
+    @Column(nullable = false)
+    private int reserved;
+    
+    @Version
+    @Column(nullable = false)
+    private long revision;
+    
+    // Evita o SELECT que o Spring Data faria antes de inserir uma entidade com ID atribuído
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+    
+    /**
+     * Converte a entidade JPA para a entidade de domínio
+     * @return entidade de domínio StockItem
+     */
+    public StockItem toDomain() {
+        return new StockItem(productId, restaurantId, quantity, revision);
+    }
+    
+    @Override
+    public UUID getId() {
+        return productId;
+    }
+    
+    /**
+     * Entidades criadas a partir do domínio são sempre inserções; as carregadas do banco não
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+    
+    /**
+     * Cria uma entidade JPA a partir da entidade de domínio
+     * @param item entidade de domínio
+     * @return entidade JPA
+     */
+    public static StockItemJpaEntity fromDomain(StockItem item) {
+        StockItemJpaEntity entity = new StockItemJpaEntity();
+        entity.productId = item.getProductId();
+        entity.restaurantId = item.getRestaurantId();
+        entity.quantity = item.getQuantity();
+        entity.revision = item.getRevision();
+        return entity;
+    }
+}
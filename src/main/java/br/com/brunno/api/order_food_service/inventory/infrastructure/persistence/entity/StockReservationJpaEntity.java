@@ -0,0 +1,89 @@
+// Arquivo para a entidade StockReservationJpaEntity - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entidade JPA para persistência de reservas de estoque (usada com inventory.mode=database).
+ * Representa a tabela stock_reservations e, como coleção de valores, stock_reservation_lines.
+ * O índice por (status, created_at) atende a busca de reservas abertas expiradas.
+ */
+@Entity
+@Table(name = "stock_reservations",
+        indexes = @Index(name = "idx_stock_reservations_status_created_at", columnList = "status, created_at"))
+@Data
+@NoArgsConstructor
+public class StockReservationJpaEntity implements Persistable<UUID> {
+    
+    @Id
+    private UUID id;
+    
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private StockReservation.Status status;
+    
+    @ElementCollection
+    @CollectionTable(name = "stock_reservation_lines", joinColumns = @JoinColumn(name = "reservation_id"))
+    @OrderColumn(name = "line")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private List<StockReservationLineJpaEmbeddable> lines = new ArrayList<>();
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    // Evita o SELECT que o Spring Data faria antes de inserir uma entidade com ID atribuído
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+    
+    /**
+     * Converte a entidade JPA para a entidade de domínio
+     * @return entidade de domínio StockReservation
+     */
+    public StockReservation toDomain() {
+        return new StockReservation(id, lines.stream().map(StockReservationLineJpaEmbeddable::toDomain).toList(),
+                status, createdAt);
+    }
+    
+    /**
+     * Entidades criadas a partir do domínio são sempre inserções; as carregadas do banco não
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+    
+    /**
+     * Cria uma entidade JPA a partir da entidade de domínio
+     * @param reservation entidade de domínio
+     * @return entidade JPA
+     */
+    public static StockReservationJpaEntity fromDomain(StockReservation reservation) {
+        StockReservationJpaEntity entity = new StockReservationJpaEntity();
+        entity.id = reservation.getId();
+        entity.status = reservation.getStatus();
+        entity.lines = new ArrayList<>(reservation.getLines().size());
+        reservation.getLines().forEach(line -> entity.lines.add(StockReservationLineJpaEmbeddable.fromDomain(line)));
+        entity.createdAt = reservation.getCreatedAt();
+        return entity;
+    }
+}
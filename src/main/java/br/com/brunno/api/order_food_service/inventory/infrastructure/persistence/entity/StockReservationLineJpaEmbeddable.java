@@ -0,0 +1,40 @@
+// Arquivo para o StockReservationLineJpaEmbeddable - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.entity;
+
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Linha da tabela stock_reservation_lines. As linhas não têm identidade própria: pertencem à
+ * reserva e são identificadas por (reservation_id, line).
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+public class StockReservationLineJpaEmbeddable {
+    
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+    
+    @Column(nullable = false)
+    private int quantity;
+    
+    public StockReservationLineJpaEmbeddable(UUID productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+    
+    public StockLine toDomain() {
+        return new StockLine(productId, quantity);
+    }
+    
+    public static StockReservationLineJpaEmbeddable fromDomain(StockLine line) {
+        return new StockReservationLineJpaEmbeddable(line.productId(), line.quantity());
+    }
+}
@@ -0,0 +1,126 @@
+// Arquivo para o InventoryController - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.inventory.application.dto.ReserveStockRequest;
+import br.com.brunno.api.order_food_service.inventory.application.dto.SetStockRequest;
+import br.com.brunno.api.order_food_service.inventory.application.dto.StockReservationResponse;
+import br.com.brunno.api.order_food_service.inventory.application.dto.StockResponse;
+import br.com.brunno.api.order_food_service.inventory.application.usecase.GetStockUseCase;
+import br.com.brunno.api.order_food_service.inventory.application.usecase.ReserveStockUseCase;
+import br.com.brunno.api.order_food_service.inventory.application.usecase.SetStockUseCase;
+import br.com.brunno.api.order_food_service.inventory.application.usecase.SettleStockReservationUseCase;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.ReserveStockWebRequest;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.SetStockWebRequest;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.StockLineWebResponse;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.StockReservationWebResponse;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.StockWebResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Controller REST para operações de estoque.
+ * Responsável por expor endpoints HTTP para o módulo de estoque: posição por produto e
+ * reservas (criação, confirmação e liberação).
+ */
+@RestController
+@RequestMapping("/api/inventory")
+@RequiredArgsConstructor
+public class InventoryController {
+    
+    private final SetStockUseCase setStockUseCase;
+    private final GetStockUseCase getStockUseCase;
+    private final ReserveStockUseCase reserveStockUseCase;
+    private final SettleStockReservationUseCase settleStockReservationUseCase;
+    
+    /**
+     * Define as unidades em estoque de um produto, cadastrando o estoque se ainda não existir
+     * @param productId ID do produto
+     * @param request restaurante e quantidade
+     * @return posição de estoque atualizada
+     */
+    @PutMapping("/products/{productId}/stock")
+    public ResponseEntity<StockWebResponse> setStock(@PathVariable UUID productId,
+                                                     @Valid @RequestBody SetStockWebRequest request) {
+        StockResponse useCaseResponse = setStockUseCase.execute(
+            new SetStockRequest(productId, request.getRestaurantId(), request.getQuantity()));
+        
+        return ResponseEntity.ok(toWebResponse(useCaseResponse));
+    }
+    
+    /**
+     * Busca a posição de estoque de um produto
+     * @param productId ID do produto
+     * @return posição de estoque
+     */
+    @GetMapping("/products/{productId}/stock")
+    public ResponseEntity<StockWebResponse> getStock(@PathVariable UUID productId) {
+        StockResponse useCaseResponse = getStockUseCase.execute(productId)
+                .orElseThrow(() -> new StockItemNotFoundException(productId));
+        
+        return ResponseEntity.ok(toWebResponse(useCaseResponse));
+    }
+    
+    /**
+     * Reserva os produtos informados, todos ou nenhum
+     * @param request produtos e quantidades
+     * @return reserva criada
+     */
+    @PostMapping("/reservations")
+    public ResponseEntity<StockReservationWebResponse> reserve(@Valid @RequestBody ReserveStockWebRequest request) {
+        StockReservationResponse useCaseResponse = reserveStockUseCase.execute(new ReserveStockRequest(
+            request.getItems().stream()
+                .map(item -> new ReserveStockRequest.Item(item.getProductId(), item.getQuantity()))
+                .toList()
+        ));
+        
+        return ResponseEntity.status(HttpStatus.CREATED).body(toWebResponse(useCaseResponse));
+    }
+    
+    /**
+     * Confirma a reserva: as unidades saem do estoque
+     * @param id ID da reserva
+     * @return reserva confirmada
+     */
+    @PostMapping("/reservations/{id}/commit")
+    public ResponseEntity<StockReservationWebResponse> commit(@PathVariable UUID id) {
+        return ResponseEntity.ok(toWebResponse(settleStockReservationUseCase.commit(id)));
+    }
+    
+    /**
+     * Libera a reserva: as unidades voltam a ficar disponíveis
+     * @param id ID da reserva
+     * @return reserva liberada
+     */
+    @PostMapping("/reservations/{id}/release")
+    public ResponseEntity<StockReservationWebResponse> release(@PathVariable UUID id) {
+        return ResponseEntity.ok(toWebResponse(settleStockReservationUseCase.release(id)));
+    }
+    
+    private static StockWebResponse toWebResponse(StockResponse response) {
+        return new StockWebResponse(
+            response.getProductId(),
+            response.getRestaurantId(),
+            response.getOnHand(),
+            response.getReserved(),
+            response.getAvailable()
+        );
+    }
+    
+    private static StockReservationWebResponse toWebResponse(StockReservationResponse response) {
+        return new StockReservationWebResponse(
+            response.getId(),
+            response.getLines().stream()
+                .map(line -> new StockLineWebResponse(line.productId(), line.quantity()))
+                .toList(),
+            response.getStatus(),
+            response.getCreatedAt()
+        );
+    }
+}
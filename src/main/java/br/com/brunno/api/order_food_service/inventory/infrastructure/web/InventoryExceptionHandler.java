@@ -0,0 +1,211 @@
+// Arquivo para o InventoryExceptionHandler - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockReservationNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockShortage;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Handler de exceções específico para o módulo Inventory.
+ * Trata apenas exceções relacionadas ao InventoryController.
+ */
+@Order(1)
+@RestControllerAdvice(assignableTypes = {InventoryController.class})
+public class InventoryExceptionHandler {
+    
+    /**
+     * Trata exceções de validação Bean Validation
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<InventoryValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        
+        InventoryValidationErrorResponse errorResponse = new InventoryValidationErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            errors,
+            "Erro de validação"
+        );
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+    
+    /**
+     * Trata exceção quando não há unidades disponíveis para a reserva, listando os produtos em falta
+     */
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<InventoryShortageErrorResponse> handleInsufficientStockException(InsufficientStockException ex) {
+        InventoryShortageErrorResponse errorResponse = new InventoryShortageErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.value(),
+            "Estoque insuficiente",
+            ex.getMessage(),
+            ex.getShortages()
+        );
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
+    /**
+     * Trata exceção quando o produto não tem estoque cadastrado
+     */
+    @ExceptionHandler(StockItemNotFoundException.class)
+    public ResponseEntity<InventoryErrorResponse> handleStockItemNotFoundException(StockItemNotFoundException ex) {
+        InventoryErrorResponse errorResponse = new InventoryErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.NOT_FOUND.value(),
+            "Estoque não encontrado",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+    
+    /**
+     * Trata exceção quando a reserva não existe ou já foi encerrada
+     */
+    @ExceptionHandler(StockReservationNotFoundException.class)
+    public ResponseEntity<InventoryErrorResponse> handleStockReservationNotFoundException(StockReservationNotFoundException ex) {
+        InventoryErrorResponse errorResponse = new InventoryErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.NOT_FOUND.value(),
+            "Reserva não encontrada",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+    
+    /**
+     * Trata exceções de argumento ilegal
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<InventoryErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        InventoryErrorResponse errorResponse = new InventoryErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Argumento inválido",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+    
+    /**
+     * Trata exceções genéricas
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<InventoryErrorResponse> handleGenericException(Exception ex) {
+        InventoryErrorResponse errorResponse = new InventoryErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            "Erro interno do servidor",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+    
+    /**
+     * DTO para resposta de erro de validação
+     */
+    public static class InventoryValidationErrorResponse {
+        private final LocalDateTime timestamp;
+        private final int status;
+        private final Map<String, String> errors;
+        private final String message;
+        
+        public InventoryValidationErrorResponse(LocalDateTime timestamp, int status, Map<String, String> errors, String message) {
+            this.timestamp = timestamp;
+            this.status = status;
+            this.errors = errors;
+            this.message = message;
+        }
+        
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public Map<String, String> getErrors() {
+            return errors;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+    }
+    
+    /**
+     * DTO para resposta de erro genérico
+     */
+    public static class InventoryErrorResponse {
+        private final LocalDateTime timestamp;
+        private final int status;
+        private final String error;
+        private final String message;
+        
+        public InventoryErrorResponse(LocalDateTime timestamp, int status, String error, String message) {
+            this.timestamp = timestamp;
+            this.status = status;
+            this.error = error;
+            this.message = message;
+        }
+        
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+    }
+    
+    /**
+     * DTO para resposta de estoque insuficiente, com os produtos em falta
+     */
+    public static class InventoryShortageErrorResponse extends InventoryErrorResponse {
+        private final List<StockShortage> shortages;
+        
+        public InventoryShortageErrorResponse(LocalDateTime timestamp, int status, String error, String message,
+                                              List<StockShortage> shortages) {
+            super(timestamp, status, error, message);
+            this.shortages = shortages;
+        }
+        
+        public List<StockShortage> getShortages() {
+            return shortages;
+        }
+    }
+}
\ No newline at end of file
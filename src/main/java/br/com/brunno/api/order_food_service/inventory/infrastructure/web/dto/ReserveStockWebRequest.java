@@ -0,0 +1,35 @@
+// Arquivo para o ReserveStockWebRequest - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+/**
+ * DTO de requisição para reserva de estoque na camada web.
+ * Todos os produtos são reservados juntos ou nenhum.
+ */
+public class ReserveStockWebRequest {
+    
+    @NotEmpty(message = "Reserva deve ter ao menos um produto")
+    private List<@Valid @NotNull StockLineWebRequest> items;
+    
+    // Construtores
+    public ReserveStockWebRequest() {}
+    
+    public ReserveStockWebRequest(List<StockLineWebRequest> items) {
+        this.items = items;
+    }
+    
+    // Getters e Setters
+    public List<StockLineWebRequest> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<StockLineWebRequest> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,44 @@
+// Arquivo para o SetStockWebRequest - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto;
+
+import jakarta.validation.constraints.Min;
+
+import java.util.UUID;
+
+/**
+ * DTO de requisição para definir o estoque de um produto na camada web.
+ * O restaurante é obrigatório só no cadastro do primeiro estoque do produto.
+ */
+public class SetStockWebRequest {
+    
+    private UUID restaurantId;
+    
+    @Min(value = 0, message = "Quantidade em estoque não pode ser negativa")
+    private int quantity;
+    
+    // Construtores
+    public SetStockWebRequest() {}
+    
+    public SetStockWebRequest(UUID restaurantId, int quantity) {
+        this.restaurantId = restaurantId;
+        this.quantity = quantity;
+    }
+    
+    // Getters e Setters
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,45 @@
+// Arquivo para o StockLineWebRequest - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * DTO de requisição de um produto da reserva de estoque na camada web.
+ */
+public class StockLineWebRequest {
+    
+    @NotNull(message = "ID do produto é obrigatório")
+    private UUID productId;
+    
+    @Min(value = 1, message = "Quantidade deve ser maior que zero")
+    private int quantity;
+    
+    // Construtores
+    public StockLineWebRequest() {}
+    
+    public StockLineWebRequest(UUID productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+    
+    // Getters e Setters
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
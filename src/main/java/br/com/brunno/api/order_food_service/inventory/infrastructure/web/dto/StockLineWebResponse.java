@@ -0,0 +1,39 @@
+// Arquivo para o StockLineWebResponse - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO de resposta de um produto da reserva de estoque na camada web.
+ */
+public class StockLineWebResponse {
+    
+    private UUID productId;
+    private int quantity;
+    
+    // Construtores
+    public StockLineWebResponse() {}
+    
+    public StockLineWebResponse(UUID productId, int quantity) {
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+    
+    // Getters e Setters
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,63 @@
+// Arquivo para o StockReservationWebResponse - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resposta de reserva de estoque na camada web.
+ */
+public class StockReservationWebResponse {
+    
+    private UUID id;
+    private List<StockLineWebResponse> lines;
+    private StockReservation.Status status;
+    private Instant createdAt;
+    
+    // Construtores
+    public StockReservationWebResponse() {}
+    
+    public StockReservationWebResponse(UUID id, List<StockLineWebResponse> lines, StockReservation.Status status, Instant createdAt) {
+        this.id = id;
+        this.lines = lines;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters e Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public List<StockLineWebResponse> getLines() {
+        return lines;
+    }
+    
+    public void setLines(List<StockLineWebResponse> lines) {
+        this.lines = lines;
+    }
+    
+    public StockReservation.Status getStatus() {
+        return status;
+    }
+    
+    public void setStatus(StockReservation.Status status) {
+        this.status = status;
+    }
+    
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,69 @@
+// Arquivo para o StockWebResponse - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto;
+
+import java.util.UUID;
+
+/**
+ * DTO de resposta da posição de estoque de um produto na camada web.
+ */
+public class StockWebResponse {
+    
+    private UUID productId;
+    private UUID restaurantId;
+    private int onHand;
+    private int reserved;
+    private int available;
+    
+    // Construtores
+    public StockWebResponse() {}
+    
+    public StockWebResponse(UUID productId, UUID restaurantId, int onHand, int reserved, int available) {
+        this.productId = productId;
+        this.restaurantId = restaurantId;
+        this.onHand = onHand;
+        this.reserved = reserved;
+        this.available = available;
+    }
+    
+    // Getters e Setters
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+    
+    public int getOnHand() {
+        return onHand;
+    }
+    
+    public void setOnHand(int onHand) {
+        this.onHand = onHand;
+    }
+    
+    public int getReserved() {
+        return reserved;
+    }
+    
+    public void setReserved(int reserved) {
+        this.reserved = reserved;
+    }
+    
+    public int getAvailable() {
+        return available;
+    }
+    
+    public void setAvailable(int available) {
+        this.available = available;
+    }
+}
@@ -0,0 +1,40 @@
+// Arquivo para o CreateOrderBatchResult - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.order.application.dto;
+
+/**
+ * Resultado de um pedido dentro de uma criação em lote: o pedido criado ou o motivo da falha.
+ */
+public class CreateOrderBatchResult {
+    
+    private final CreateOrderResponse response;
+    private final RuntimeException error;
+    
+    private CreateOrderBatchResult(CreateOrderResponse response, RuntimeException error) {
+        this.response = response;
+        this.error = error;
+    }
+    
+    public static CreateOrderBatchResult created(CreateOrderResponse response) {
+        return new CreateOrderBatchResult(response, null);
+    }
+    
+    public static CreateOrderBatchResult failed(RuntimeException error) {
+        return new CreateOrderBatchResult(null, error);
+    }
+    
+    public CreateOrderResponse getResponse() {
+        return response;
+    }
+    
+    /**
+     * Exceção que o pedido teria lançado se criado sozinho (validação, restaurante indisponível ou falha de gravação)
+     */
+    public RuntimeException getError() {
+        return error;
+    }
+    
+    public boolean isCreated() {
+        return error == null;
+    }
+}
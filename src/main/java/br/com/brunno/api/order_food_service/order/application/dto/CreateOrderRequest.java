@@ -0,0 +1,70 @@
+// Arquivo para o CreateOrderRequest - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.order.application.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dados de entrada para criação de pedido.
+ * Contém o cliente, o restaurante e os itens do pedido.
+ */
+public class CreateOrderRequest {
+    
+    private final UUID customerId;
+    private final UUID restaurantId;
+    private final List<Item> items;
+    
+    /**
+     * Construtor que recebe os dados para criação do pedido
+     * @param customerId ID do cliente
+     * @param restaurantId ID do restaurante
+     * @param items itens do pedido
+     */
+    public CreateOrderRequest(UUID customerId, UUID restaurantId, List<Item> items) {
+        this.customerId = customerId;
+        this.restaurantId = restaurantId;
+        this.items = items;
+    }
+    
+    /**
+     * Valida os dados de entrada
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public void validate() {
+        if (customerId == null) {
+            throw new IllegalArgumentException("ID do cliente não pode ser nulo");
+        }
+        
+        if (restaurantId == null) {
+            throw new IllegalArgumentException("ID do restaurante não pode ser nulo");
+        }
+        
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Pedido deve ter ao menos um item");
+        }
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public List<Item> getItems() {
+        return items;
+    }
+    
+    /**
+     * Item solicitado no pedido
+     *
+     * @param productId ID do produto
+     * @param quantity quantidade
+     * @param unitPrice preço unitário
+     */
+    public record Item(UUID productId, int quantity, BigDecimal unitPrice) {
+    }
+}
@@ -0,0 +1,66 @@
+// Arquivo para o CreateOrderResponse - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.order.application.dto;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Resultado da criação de pedido.
+ * Contém os dados do pedido criado para retorno ao cliente.
+ */
+public class CreateOrderResponse {
+    
+    private final UUID id;
+    private final UUID customerId;
+    private final UUID restaurantId;
+    private final int itemCount;
+    private final BigDecimal total;
+    private final Order.OrderStatus status;
+    private final LocalDateTime createdAt;
+    
+    /**
+     * Construtor que recebe a entidade Order para criar a resposta
+     * @param order pedido criado
+     */
+    public CreateOrderResponse(Order order) {
+        this.id = order.getId();
+        this.customerId = order.getCustomerId();
+        this.restaurantId = order.getRestaurantId();
+        this.itemCount = order.getItems().size();
+        this.total = order.getTotal();
+        this.status = order.getStatus();
+        this.createdAt = order.getCreatedAt();
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public int getItemCount() {
+        return itemCount;
+    }
+    
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
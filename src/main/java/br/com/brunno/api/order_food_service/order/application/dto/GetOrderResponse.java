@@ -0,0 +1,69 @@
+// Arquivo para o GetOrderResponse - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.order.application.dto;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+import br.com.brunno.api.order_food_service.order.domain.entity.OrderItem;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resultado da busca de pedido por ID, com os itens.
+ */
+public class GetOrderResponse {
+    
+    private final UUID id;
+    private final UUID customerId;
+    private final UUID restaurantId;
+    private final List<OrderItem> items;
+    private final BigDecimal total;
+    private final Order.OrderStatus status;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    
+    public GetOrderResponse(Order order) {
+        this.id = order.getId();
+        this.customerId = order.getCustomerId();
+        this.restaurantId = order.getRestaurantId();
+        this.items = order.getItems();
+        this.total = order.getTotal();
+        this.status = order.getStatus();
+        this.createdAt = order.getCreatedAt();
+        this.updatedAt = order.getUpdatedAt();
+    }
+    
+    public UUID getId() {
+        return id;
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public List<OrderItem> getItems() {
+        return items;
+    }
+    
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
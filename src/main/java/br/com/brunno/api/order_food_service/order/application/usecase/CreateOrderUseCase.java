@@ -0,0 +1,101 @@
+// Arquivo para o CreateOrderUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.order.application.usecase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderRequest;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderResponse;
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+import br.com.brunno.api.order_food_service.order.domain.entity.OrderItem;
+import br.com.brunno.api.order_food_service.order.domain.event.OrderCreatedEvent;
+import br.com.brunno.api.order_food_service.order.domain.exceptions.RestaurantUnavailableException;
+import br.com.brunno.api.order_food_service.order.domain.repository.OrderRepository;
+import br.com.brunno.api.order_food_service.restaurant.application.query.RestaurantQueryRepository;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
+
+import java.util.List;
+
+/**
+ * Caso de uso para criação de pedidos.
+ * Implementa as regras de negócio para criação de um novo pedido com seus itens.
+ * Caminho de escrita mais quente da aplicação: a verificação do restaurante é feita em memória
+ * e o pedido é gravado com um único insert e um único lote para os itens. O evento PedidoCriado
+ * é gravado na caixa de saída na mesma transação.
+ */
+@Service
+public class CreateOrderUseCase {
+    
+    private final OrderRepository orderRepository;
+    private final RestaurantQueryRepository restaurantQueryRepository;
+    private final OutboxRepository outboxRepository;
+    
+    /**
+     * Construtor que recebe as dependências dos repositórios
+     * @param orderRepository repositório de pedidos
+     * @param restaurantQueryRepository repositório de leitura de restaurantes
+     * @param outboxRepository caixa de saída de eventos
+     */
+    public CreateOrderUseCase(OrderRepository orderRepository, RestaurantQueryRepository restaurantQueryRepository,
+                              OutboxRepository outboxRepository) {
+        this.orderRepository = orderRepository;
+        this.restaurantQueryRepository = restaurantQueryRepository;
+        this.outboxRepository = outboxRepository;
+    }
+    
+    /**
+     * Executa o caso de uso de criação de pedido
+     * @param request dados para criação do pedido
+     * @return resposta com informações sobre o pedido criado
+     * @throws IllegalArgumentException se os dados forem inválidos
+     * @throws RestaurantUnavailableException se o restaurante não existir ou estiver inativo
+     */
+    @Transactional
+    public CreateOrderResponse execute(CreateOrderRequest request) {
+        // Valida e cria a entidade de domínio
+        Order order = newOrder(request, restaurantQueryRepository);
+        
+        // Salva no repositório
+        Order savedOrder = orderRepository.save(order);
+        
+        // Registra o evento para publicação após o commit
+        outboxRepository.append(OrderCreatedEvent.of(savedOrder));
+        
+        // Retorna a resposta
+        return new CreateOrderResponse(savedOrder);
+    }
+    
+    /**
+     * Valida a requisição e cria o pedido; compartilhado com a criação em lote
+     * @throws IllegalArgumentException se os dados forem inválidos
+     * @throws RestaurantUnavailableException se o restaurante não existir ou estiver inativo
+     */
+    static Order newOrder(CreateOrderRequest request, RestaurantQueryRepository restaurantQueryRepository) {
+        // Validações de entrada
+        if (request == null) {
+            throw new IllegalArgumentException("Request não pode ser nulo");
+        }
+        
+        request.validate();
+        
+        // Pedidos só são aceitos por restaurantes ativos
+        if (!restaurantQueryRepository.isActive(request.getRestaurantId())) {
+            throw new RestaurantUnavailableException(request.getRestaurantId());
+        }
+        
+        // Cria a entidade de domínio
+        return new Order(request.getCustomerId(), request.getRestaurantId(), toItems(request.getItems()));
+    }
+    
+    private static List<OrderItem> toItems(List<CreateOrderRequest.Item> items) {
+        return items.stream()
+                .map(item -> {
+                    if (item == null) {
+                        throw new IllegalArgumentException("Item do pedido não pode ser nulo");
+                    }
+                    return OrderItem.of(item.productId(), item.quantity(), item.unitPrice());
+                })
+                .toList();
+    }
+}
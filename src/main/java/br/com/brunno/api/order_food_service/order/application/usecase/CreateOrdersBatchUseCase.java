@@ -0,0 +1,100 @@
+// Arquivo para o CreateOrdersBatchUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.order.application.usecase;
+
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderBatchResult;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderRequest;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderResponse;
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+import br.com.brunno.api.order_food_service.order.domain.event.OrderCreatedEvent;
+import br.com.brunno.api.order_food_service.order.domain.repository.OrderRepository;
+import br.com.brunno.api.order_food_service.restaurant.application.query.RestaurantQueryRepository;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Caso de uso para criação de vários pedidos independentes de uma vez (group commit).
+ * Cada pedido é validado com as mesmas regras da criação individual; os válidos são gravados
+ * juntos em uma única transação, com os eventos PedidoCriado na caixa de saída. Se o lote
+ * falhar, grava pedido a pedido (cada um com seu evento) para que apenas os pedidos com
+ * problema falhem. As transações são abertas aqui, e não por anotação, porque a falha do lote
+ * não pode marcar para rollback a transação das gravações individuais.
+ */
+@Service
+public class CreateOrdersBatchUseCase {
+    
+    private final OrderRepository orderRepository;
+    private final RestaurantQueryRepository restaurantQueryRepository;
+    private final OutboxRepository outboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    
+    /**
+     * Construtor que recebe as dependências dos repositórios e o gerenciador de transações
+     * @param orderRepository repositório de pedidos
+     * @param restaurantQueryRepository repositório de leitura de restaurantes
+     * @param outboxRepository caixa de saída de eventos
+     * @param transactionManager gerenciador das transações do lote e das gravações individuais
+     */
+    public CreateOrdersBatchUseCase(OrderRepository orderRepository, RestaurantQueryRepository restaurantQueryRepository,
+                                    OutboxRepository outboxRepository, PlatformTransactionManager transactionManager) {
+        this.orderRepository = orderRepository;
+        this.restaurantQueryRepository = restaurantQueryRepository;
+        this.outboxRepository = outboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * Executa a criação em lote
+     * @param requests pedidos a criar
+     * @return resultado de cada pedido, na mesma ordem das requisições
+     */
+    public List<CreateOrderBatchResult> execute(List<CreateOrderRequest> requests) {
+        CreateOrderBatchResult[] results = new CreateOrderBatchResult[requests.size()];
+        List<Order> toSave = new ArrayList<>(requests.size());
+        List<Integer> positions = new ArrayList<>(requests.size());
+        
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                toSave.add(CreateOrderUseCase.newOrder(requests.get(i), restaurantQueryRepository));
+                positions.add(i);
+            } catch (RuntimeException e) {
+                results[i] = CreateOrderBatchResult.failed(e);
+            }
+        }
+        
+        if (!toSave.isEmpty()) {
+            try {
+                List<Order> saved = transactionTemplate.execute(status -> {
+                    List<Order> orders = orderRepository.saveAll(toSave);
+                    outboxRepository.appendAll(orders.stream().map(OrderCreatedEvent::of).toList());
+                    return orders;
+                });
+                for (int i = 0; i < saved.size(); i++) {
+                    results[positions.get(i)] = CreateOrderBatchResult.created(new CreateOrderResponse(saved.get(i)));
+                }
+            } catch (RuntimeException batchFailure) {
+                for (int i = 0; i < toSave.size(); i++) {
+                    try {
+                        Order order = toSave.get(i);
+                        Order saved = transactionTemplate.execute(status -> {
+                            Order single = orderRepository.save(order);
+                            outboxRepository.append(OrderCreatedEvent.of(single));
+                            return single;
+                        });
+                        results[positions.get(i)] = CreateOrderBatchResult.created(new CreateOrderResponse(saved));
+                    } catch (RuntimeException e) {
+                        results[positions.get(i)] = CreateOrderBatchResult.failed(e);
+                    }
+                }
+            }
+        }
+        
+        return Arrays.asList(results);
+    }
+}
@@ -0,0 +1,41 @@
+// Arquivo para o GetOrderUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.order.application.usecase;
+
+import br.com.brunno.api.order_food_service.order.application.dto.GetOrderResponse;
+import br.com.brunno.api.order_food_service.order.domain.repository.OrderRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Caso de uso para busca de pedido por ID.
+ * Implementa as regras de negócio para buscar um pedido específico com seus itens.
+ */
+@Service
+public class GetOrderUseCase {
+    
+    private final OrderRepository orderRepository;
+    
+    /**
+     * Construtor que recebe a dependência do repositório
+     * @param orderRepository repositório de pedidos
+     */
+    public GetOrderUseCase(OrderRepository orderRepository) {
+        this.orderRepository = orderRepository;
+    }
+    
+    /**
+     * Busca um pedido pelo ID
+     * @param id ID do pedido
+     * @return Optional contendo o pedido se encontrado
+     */
+    @Transactional(readOnly = true)
+    public Optional<GetOrderResponse> execute(UUID id) {
+        return orderRepository.findById(id)
+                .map(GetOrderResponse::new);
+    }
+}
@@ -0,0 +1,164 @@
+// Arquivo para a entidade Order - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.order.domain.entity;
+
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Entidade de domínio Order representando um pedido de um cliente em um restaurante.
+ * Segue a arquitetura hexagonal sem influências de ORM.
+ * O pedido e seus itens formam uma unidade: são gravados juntos e o total é sempre a soma
+ * dos subtotais dos itens.
+ */
+public class Order {
+    
+    /**
+     * Quantidade máxima de itens em um pedido
+     */
+    public static final int MAX_ITEMS = 100;
+    
+    private final UUID id;
+    private final UUID customerId;
+    private final UUID restaurantId;
+    private final List<OrderItem> items;
+    private final BigDecimal total;
+    private OrderStatus status;
+    private final LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    /**
+     * Enum com os estados do pedido conforme especificado no README.md
+     */
+    public enum OrderStatus {
+        CRIADO,
+        PAGO,
+        EM_PREPARO,
+        ENTREGUE,
+        CANCELADO
+    }
+    
+    /**
+     * Construtor para criação de um novo pedido
+     */
+    public Order(UUID customerId, UUID restaurantId, List<OrderItem> items) {
+        this(TimeOrderedUuid.next(), customerId, restaurantId, items, OrderStatus.CRIADO, LocalDateTime.now(), null);
+    }
+    
+    /**
+     * Construtor para reconstrução de um pedido existente
+     */
+    public Order(UUID id, UUID customerId, UUID restaurantId, List<OrderItem> items, OrderStatus status,
+                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.restaurantId = restaurantId;
+        this.items = items == null ? null : List.copyOf(items);
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        validate();
+        this.total = sum(this.items);
+    }
+    
+    /**
+     * Validações de domínio
+     */
+    private void validate() {
+        if (customerId == null) {
+            throw new IllegalArgumentException("ID do cliente não pode ser nulo");
+        }
+        
+        if (restaurantId == null) {
+            throw new IllegalArgumentException("ID do restaurante não pode ser nulo");
+        }
+        
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("Pedido deve ter ao menos um item");
+        }
+        
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("Pedido deve ter no máximo " + MAX_ITEMS + " itens");
+        }
+        
+        if (status == null) {
+            throw new IllegalArgumentException("Status não pode ser nulo");
+        }
+    }
+    
+    private static BigDecimal sum(List<OrderItem> items) {
+        BigDecimal total = BigDecimal.ZERO.setScale(2);
+        for (OrderItem item : items) {
+            total = total.add(item.subtotal());
+        }
+        return total;
+    }
+    
+    // Getters
+    public UUID getId() {
+        return id;
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    /**
+     * Itens do pedido, como lista somente leitura
+     */
+    public List<OrderItem> getItems() {
+        return items;
+    }
+    
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    public OrderStatus getStatus() {
+        return status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Order order = (Order) o;
+        return Objects.equals(id, order.id);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+    
+    @Override
+    public String toString() {
+        return "Order{" +
+                "id=" + id +
+                ", customerId=" + customerId +
+                ", restaurantId=" + restaurantId +
+                ", items=" + items.size() +
+                ", total=" + total +
+                ", status=" + status +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -0,0 +1,51 @@
+// Arquivo para a entidade OrderItem - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.order.domain.entity;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.UUID;
+
+/**
+ * Item de um pedido: produto, quantidade e preço unitário no momento da compra.
+ * Imutável; o subtotal é calculado na criação.
+ *
+ * @param productId ID do produto
+ * @param quantity quantidade, maior que zero
+ * @param unitPrice preço unitário, com duas casas decimais
+ * @param subtotal quantidade x preço unitário
+ */
+public record OrderItem(UUID productId, int quantity, BigDecimal unitPrice, BigDecimal subtotal) {
+    
+    /**
+     * Cria um item calculando o subtotal
+     */
+    public static OrderItem of(UUID productId, int quantity, BigDecimal unitPrice) {
+        if (unitPrice == null) {
+            throw new IllegalArgumentException("Preço unitário não pode ser nulo");
+        }
+        BigDecimal price = unitPrice.setScale(2, RoundingMode.HALF_EVEN);
+        return new OrderItem(productId, quantity, price, price.multiply(BigDecimal.valueOf(quantity)));
+    }
+    
+    /**
+     * Validações de domínio
+     */
+    public OrderItem {
+        if (productId == null) {
+            throw new IllegalArgumentException("ID do produto não pode ser nulo");
+        }
+        
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantidade deve ser maior que zero");
+        }
+        
+        if (unitPrice == null || unitPrice.signum() < 0) {
+            throw new IllegalArgumentException("Preço unitário não pode ser negativo");
+        }
+        
+        if (subtotal == null) {
+            throw new IllegalArgumentException("Subtotal não pode ser nulo");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+// Arquivo para o OrderCreatedEvent - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.order.domain.event;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento PedidoCriado, publicado em pedido.events quando um pedido é gravado.
+ * Consumido pelo pagamento para iniciar a cobrança.
+ */
+public record OrderCreatedEvent(UUID orderId, UUID customerId, UUID restaurantId, BigDecimal total,
+                                int itemCount, LocalDateTime createdAt) {
+    
+    public static final String TYPE = "PedidoCriado";
+    public static final String AGGREGATE_TYPE = "pedido";
+    
+    /**
+     * Cria o evento de domínio para o pedido criado
+     * @param order pedido criado
+     * @return evento a ser gravado na caixa de saída
+     */
+    public static DomainEvent of(Order order) {
+        return DomainEvent.of(TYPE, AGGREGATE_TYPE, order.getId(), new OrderCreatedEvent(
+            order.getId(),
+            order.getCustomerId(),
+            order.getRestaurantId(),
+            order.getTotal(),
+            order.getItems().size(),
+            order.getCreatedAt()
+        ));
+    }
+}
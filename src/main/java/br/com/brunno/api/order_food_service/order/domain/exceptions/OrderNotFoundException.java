@@ -0,0 +1,15 @@
+// Arquivo para a exceção OrderNotFoundException - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.order.domain.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando um pedido não é encontrado.
+ */
+public class OrderNotFoundException extends RuntimeException {
+    
+    public OrderNotFoundException(UUID id) {
+        super("Pedido não encontrado com o ID: " + id);
+    }
+}
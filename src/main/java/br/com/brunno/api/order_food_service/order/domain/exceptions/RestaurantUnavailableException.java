@@ -0,0 +1,15 @@
+// Arquivo para a exceção RestaurantUnavailableException - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.order.domain.exceptions;
+
+import java.util.UUID;
+
+/**
+ * Exceção lançada quando o pedido é feito para um restaurante inexistente ou inativo.
+ */
+public class RestaurantUnavailableException extends RuntimeException {
+    
+    public RestaurantUnavailableException(UUID restaurantId) {
+        super("Restaurante não está aceitando pedidos: " + restaurantId);
+    }
+}
@@ -0,0 +1,37 @@
+// Arquivo para a interface OrderRepository - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.order.domain.repository;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Interface do repositório de pedidos (porta da arquitetura hexagonal).
+ * Define os contratos para persistência de pedidos com seus itens.
+ */
+public interface OrderRepository {
+    
+    /**
+     * Salva um novo pedido com todos os seus itens
+     * @param order pedido a ser salvo
+     * @return pedido salvo
+     */
+    Order save(Order order);
+    
+    /**
+     * Salva vários pedidos novos com seus itens em uma única ida ao banco por tabela
+     * @param orders pedidos a serem salvos
+     * @return pedidos salvos, na mesma ordem
+     */
+    List<Order> saveAll(List<Order> orders);
+    
+    /**
+     * Busca um pedido pelo ID, com os itens
+     * @param id ID do pedido
+     * @return Optional contendo o pedido se encontrado
+     */
+    Optional<Order> findById(UUID id);
+}
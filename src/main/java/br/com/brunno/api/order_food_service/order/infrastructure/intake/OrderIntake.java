@@ -0,0 +1,194 @@
+// Arquivo para o OrderIntake - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.intake;
+
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderBatchResult;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderRequest;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderResponse;
+import br.com.brunno.api.order_food_service.order.application.usecase.CreateOrderUseCase;
+import br.com.brunno.api.order_food_service.order.application.usecase.CreateOrdersBatchUseCase;
+import br.com.brunno.api.order_food_service.shared.infrastructure.concurrency.RingBuffer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entrada de pedidos entre o controller e a persistência.
+ * As requisições entram numa fila circular pré-alocada (RingBuffer): cada thread do Tomcat
+ * reserva um slot sem lock, publica o pedido e recebe um CompletableFuture. Uma única thread
+ * consumidora drena de uma vez tudo o que foi publicado (até maxBatch) e grava o lote em uma
+ * transação pelo CreateOrdersBatchUseCase, completando cada future com o pedido criado ou com a
+ * exceção que a criação individual lançaria. Enquanto um lote é gravado, os próximos pedidos
+ * se acumulam na fila e vão juntos no commit seguinte (group commit), sem esperar tempo fixo.
+ * Com order.intake.enabled=false, cada pedido é criado na thread da requisição.
+ * Publica order.intake.batch.size, order.intake.backlog e order.intake.rejected.
+ */
+@Slf4j
+public class OrderIntake implements SmartLifecycle {
+    
+    // Para depois do servidor web: requisições em andamento ainda conseguem entregar seus pedidos
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+    private static final long IDLE_WAIT_MILLIS = 100;
+    
+    private final CreateOrderUseCase createOrderUseCase;
+    private final CreateOrdersBatchUseCase createOrdersBatchUseCase;
+    private final OrderIntakeProperties properties;
+    private final RingBuffer<Slot> ringBuffer;
+    // Usadas apenas pela thread consumidora
+    private final List<CreateOrderRequest> batchRequests;
+    private final List<CompletableFuture<CreateOrderResponse>> batchResults;
+    private final DistributionSummary batchSize;
+    private final Counter rejected;
+    private volatile boolean running;
+    private Thread consumer;
+    
+    /**
+     * Construtor que recebe os casos de uso e registra as métricas da fila
+     * @param createOrderUseCase criação individual, usada com a fila desligada
+     * @param createOrdersBatchUseCase criação em lote, usada pela thread consumidora
+     * @param properties configuração da fila
+     * @param meterRegistry registro de métricas
+     */
+    public OrderIntake(CreateOrderUseCase createOrderUseCase,
+                       CreateOrdersBatchUseCase createOrdersBatchUseCase,
+                       OrderIntakeProperties properties,
+                       MeterRegistry meterRegistry) {
+        if (properties.maxBatch() < 1) {
+            throw new IllegalArgumentException("Tamanho máximo do lote deve ser positivo");
+        }
+        this.createOrderUseCase = createOrderUseCase;
+        this.createOrdersBatchUseCase = createOrdersBatchUseCase;
+        this.properties = properties;
+        this.ringBuffer = new RingBuffer<>(properties.bufferSize(), Slot::new);
+        this.batchRequests = new ArrayList<>(properties.maxBatch());
+        this.batchResults = new ArrayList<>(properties.maxBatch());
+        
+        this.batchSize = DistributionSummary.builder("order.intake.batch.size")
+                .description("Pedidos gravados por transação pela fila de entrada")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("order.intake.rejected")
+                .description("Pedidos recusados com 503 por falta de espaço na fila de entrada")
+                .register(meterRegistry);
+        Gauge.builder("order.intake.backlog", ringBuffer, RingBuffer::backlog)
+                .description("Pedidos na fila de entrada aguardando gravação")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Entrega um pedido para criação
+     * @param request dados do pedido
+     * @return future completado com o pedido criado, ou com a exceção da criação
+     * (IllegalArgumentException, RestaurantUnavailableException, OrderIntakeSaturatedException)
+     */
+    public CompletableFuture<CreateOrderResponse> submit(CreateOrderRequest request) {
+        if (!properties.enabled()) {
+            try {
+                return CompletableFuture.completedFuture(createOrderUseCase.execute(request));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        
+        long sequence = running ? ringBuffer.next(properties.offerTimeout().toNanos(), TimeUnit.NANOSECONDS) : -1;
+        if (sequence < 0) {
+            rejected.increment();
+            return CompletableFuture.failedFuture(new OrderIntakeSaturatedException());
+        }
+        CompletableFuture<CreateOrderResponse> result = new CompletableFuture<>();
+        Slot slot = ringBuffer.get(sequence);
+        slot.request = request;
+        slot.result = result;
+        ringBuffer.publish(sequence);
+        return result;
+    }
+    
+    @Override
+    public void start() {
+        if (!properties.enabled()) {
+            return;
+        }
+        running = true;
+        consumer = new Thread(this::consume, "order-intake");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        if (consumer != null) {
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(30));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            consumer = null;
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+    
+    // Depois do stop, grava o que ainda estiver na fila antes de encerrar
+    private void consume() {
+        while (running || ringBuffer.backlog() > 0) {
+            if (ringBuffer.awaitPublished(IDLE_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+                ringBuffer.drain(properties.maxBatch(), this::take);
+                process();
+            }
+        }
+    }
+    
+    // Copia o slot para o lote e o limpa: ao fim do drain ele volta para os produtores
+    private void take(Slot slot, boolean endOfBatch) {
+        batchRequests.add(slot.request);
+        batchResults.add(slot.result);
+        slot.request = null;
+        slot.result = null;
+    }
+    
+    private void process() {
+        try {
+            List<CreateOrderBatchResult> results = createOrdersBatchUseCase.execute(batchRequests);
+            for (int i = 0; i < results.size(); i++) {
+                CreateOrderBatchResult result = results.get(i);
+                if (result.isCreated()) {
+                    batchResults.get(i).complete(result.getResponse());
+                } else {
+                    batchResults.get(i).completeExceptionally(result.getError());
+                }
+            }
+            batchSize.record(results.size());
+        } catch (Throwable e) {
+            // Nenhuma requisição pode ficar sem resposta, nem a thread consumidora morrer
+            log.error("Falha ao gravar lote de {} pedidos", batchRequests.size(), e);
+            batchResults.forEach(result -> result.completeExceptionally(e));
+        } finally {
+            batchRequests.clear();
+            batchResults.clear();
+        }
+    }
+    
+    /**
+     * Slot pré-alocado da fila: o pedido e o future de quem o enviou
+     */
+    private static final class Slot {
+        private CreateOrderRequest request;
+        private CompletableFuture<CreateOrderResponse> result;
+    }
+}
@@ -0,0 +1,27 @@
+// Arquivo para o OrderIntakeConfig - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.intake;
+
+import br.com.brunno.api.order_food_service.order.application.usecase.CreateOrderUseCase;
+import br.com.brunno.api.order_food_service.order.application.usecase.CreateOrdersBatchUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da entrada de pedidos.
+ * A fila circular fica ligada por padrão; order.intake.enabled=false volta a uma transação por pedido.
+ */
+@Configuration
+@EnableConfigurationProperties(OrderIntakeProperties.class)
+public class OrderIntakeConfig {
+    
+    @Bean
+    public OrderIntake orderIntake(CreateOrderUseCase createOrderUseCase,
+                                   CreateOrdersBatchUseCase createOrdersBatchUseCase,
+                                   OrderIntakeProperties properties,
+                                   MeterRegistry meterRegistry) {
+        return new OrderIntake(createOrderUseCase, createOrdersBatchUseCase, properties, meterRegistry);
+    }
+}
@@ -0,0 +1,24 @@
+// Arquivo para o OrderIntakeProperties - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.intake;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração da entrada de pedidos pela fila circular (prefixo order.intake).
+ *
+ * @param enabled false cria cada pedido na thread da requisição, em uma transação própria
+ * @param bufferSize slots da fila circular, potência de 2
+ * @param maxBatch pedidos gravados no máximo por transação
+ * @param offerTimeout espera máxima por um slot livre antes de recusar o pedido com 503
+ */
+@ConfigurationProperties(prefix = "order.intake")
+public record OrderIntakeProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("4096") int bufferSize,
+        @DefaultValue("256") int maxBatch,
+        @DefaultValue("100ms") Duration offerTimeout) {
+}
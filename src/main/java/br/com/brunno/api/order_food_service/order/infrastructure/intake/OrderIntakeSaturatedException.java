@@ -0,0 +1,14 @@
+// Arquivo para a exceção OrderIntakeSaturatedException - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.intake;
+
+/**
+ * Exceção lançada quando a fila de entrada de pedidos não libera espaço a tempo
+ * (ou a aplicação está encerrando).
+ */
+public class OrderIntakeSaturatedException extends RuntimeException {
+    
+    public OrderIntakeSaturatedException() {
+        super("Entrada de pedidos saturada, tente novamente");
+    }
+}
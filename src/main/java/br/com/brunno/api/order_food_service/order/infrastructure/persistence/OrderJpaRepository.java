@@ -0,0 +1,25 @@
+// Arquivo para o OrderJpaRepository - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.order.infrastructure.persistence.entity.OrderJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório Spring Data JPA para OrderJpaEntity.
+ */
+@Repository
+public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, UUID> {
+    
+    /**
+     * Busca o pedido com os itens numa única consulta
+     */
+    @Query("select o from OrderJpaEntity o left join fetch o.items where o.id = :id")
+    Optional<OrderJpaEntity> findWithItemsById(@Param("id") UUID id);
+}
@@ -0,0 +1,55 @@
+// Arquivo para o OrderPersistenceAdapter - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+import br.com.brunno.api.order_food_service.order.domain.repository.OrderRepository;
+import br.com.brunno.api.order_food_service.order.infrastructure.persistence.entity.OrderJpaEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adaptador de persistência que implementa OrderRepository.
+ * Responsável por converter entre entidades de domínio e JPA.
+ * Gravações usam persist direto (sem o merge do save) e um único flush: com
+ * hibernate.jdbc.batch_size e order_inserts, um pedido custa um insert em orders e um lote em
+ * order_items; vários pedidos juntos custam um lote por tabela.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderPersistenceAdapter implements OrderRepository {
+    
+    private final OrderJpaRepository orderJpaRepository;
+    private final EntityManager entityManager;
+    
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        OrderJpaEntity entity = OrderJpaEntity.fromDomain(order);
+        entityManager.persist(entity);
+        return order;
+    }
+    
+    @Override
+    @Transactional
+    public List<Order> saveAll(List<Order> orders) {
+        orders.forEach(order -> entityManager.persist(OrderJpaEntity.fromDomain(order)));
+        entityManager.flush();
+        // Os pedidos gravados não são lidos de volta nesta transação: libera a memória do contexto
+        entityManager.clear();
+        return orders;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Order> findById(UUID id) {
+        return orderJpaRepository.findWithItemsById(id)
+                .map(OrderJpaEntity::toDomain);
+    }
+}
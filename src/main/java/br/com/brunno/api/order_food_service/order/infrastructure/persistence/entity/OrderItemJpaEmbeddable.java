@@ -0,0 +1,49 @@
+// Arquivo para o OrderItemJpaEmbeddable - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.persistence.entity;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.OrderItem;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Linha da tabela order_items. Os itens não têm identidade própria: pertencem ao pedido e são
+ * identificados por (order_id, line).
+ */
+@Embeddable
+@Data
+@NoArgsConstructor
+public class OrderItemJpaEmbeddable {
+    
+    @Column(name = "product_id", nullable = false)
+    private UUID productId;
+    
+    @Column(nullable = false)
+    private int quantity;
+    
+    @Column(name = "unit_price", nullable = false, precision = 12, scale = 2)
+    private BigDecimal unitPrice;
+    
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal subtotal;
+    
+    public OrderItemJpaEmbeddable(UUID productId, int quantity, BigDecimal unitPrice, BigDecimal subtotal) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+        this.subtotal = subtotal;
+    }
+    
+    public OrderItem toDomain() {
+        return new OrderItem(productId, quantity, unitPrice, subtotal);
+    }
+    
+    public static OrderItemJpaEmbeddable fromDomain(OrderItem item) {
+        return new OrderItemJpaEmbeddable(item.productId(), item.quantity(), item.unitPrice(), item.subtotal());
+    }
+}
@@ -0,0 +1,108 @@
+// Arquivo para a entidade OrderJpaEntity - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.persistence.entity;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Entidade JPA para persistência de pedidos.
+ * Representa a tabela orders e, como coleção de valores, a tabela order_items.
+ * A chave primária é o próprio ID de domínio (UUIDv7, ordenado pelo tempo): os inserts vão para
+ * o fim do índice e não há SELECT de sequência nem de existência antes de gravar.
+ * Os itens são gravados pelo Hibernate num único lote JDBC (hibernate.jdbc.batch_size).
+ */
+@Entity
+@Table(name = "orders", indexes = @Index(name = "idx_orders_customer_id", columnList = "customer_id"))
+@Data
+@NoArgsConstructor
+public class OrderJpaEntity implements Persistable<UUID> {
+    
+    @Id
+    private UUID id;
+    
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+    
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+    
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private Order.OrderStatus status;
+    
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal total;
+    
+    @ElementCollection
+    @CollectionTable(name = "order_items", joinColumns = @JoinColumn(name = "order_id"))
+    @OrderColumn(name = "line")
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private List<OrderItemJpaEmbeddable> items = new ArrayList<>();
+    
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+    
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+    
+    // Evita o SELECT que o Spring Data faria antes de inserir uma entidade com ID atribuído
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+    
+    /**
+     * Converte a entidade JPA para a entidade de domínio
+     * @return entidade de domínio Order
+     */
+    public Order toDomain() {
+        return new Order(id, customerId, restaurantId,
+                items.stream().map(OrderItemJpaEmbeddable::toDomain).toList(),
+                status, createdAt, updatedAt);
+    }
+    
+    /**
+     * Entidades criadas a partir do domínio são sempre inserções; as carregadas do banco não
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+    
+    /**
+     * Cria uma entidade JPA a partir da entidade de domínio
+     * @param order entidade de domínio
+     * @return entidade JPA
+     */
+    public static OrderJpaEntity fromDomain(Order order) {
+        OrderJpaEntity entity = new OrderJpaEntity();
+        entity.id = order.getId();
+        entity.customerId = order.getCustomerId();
+        entity.restaurantId = order.getRestaurantId();
+        entity.status = order.getStatus();
+        entity.total = order.getTotal();
+        entity.items = new ArrayList<>(order.getItems().size());
+        order.getItems().forEach(item -> entity.items.add(OrderItemJpaEmbeddable.fromDomain(item)));
+        entity.createdAt = order.getCreatedAt();
+        entity.updatedAt = order.getUpdatedAt();
+        return entity;
+    }
+}
@@ -0,0 +1,89 @@
+// Arquivo para o OrderController - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.order.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderRequest;
+import br.com.brunno.api.order_food_service.order.application.dto.GetOrderResponse;
+import br.com.brunno.api.order_food_service.order.application.usecase.GetOrderUseCase;
+import br.com.brunno.api.order_food_service.order.domain.exceptions.OrderNotFoundException;
+import br.com.brunno.api.order_food_service.order.infrastructure.intake.OrderIntake;
+import br.com.brunno.api.order_food_service.order.infrastructure.web.dto.CreateOrderWebRequest;
+import br.com.brunno.api.order_food_service.order.infrastructure.web.dto.CreateOrderWebResponse;
+import br.com.brunno.api.order_food_service.order.infrastructure.web.dto.GetOrderWebResponse;
+import br.com.brunno.api.order_food_service.order.infrastructure.web.dto.OrderItemWebResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Controller REST para operações de pedido.
+ * Responsável por expor endpoints HTTP para o módulo de pedido.
+ */
+@RestController
+@RequestMapping("/api/orders")
+@RequiredArgsConstructor
+public class OrderController {
+    
+    private final OrderIntake orderIntake;
+    private final GetOrderUseCase getOrderUseCase;
+    
+    /**
+     * Cria um novo pedido com seus itens.
+     * O pedido é entregue à fila de entrada e a resposta sai quando o lote em que ele foi
+     * gravado é confirmado; a thread da requisição fica livre enquanto isso.
+     * @param request dados do pedido a ser criado
+     * @return dados do pedido criado
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<CreateOrderWebResponse>> createOrder(@Valid @RequestBody CreateOrderWebRequest request) {
+        // Converte DTO web para DTO do use case
+        CreateOrderRequest useCaseRequest = new CreateOrderRequest(
+            request.getCustomerId(),
+            request.getRestaurantId(),
+            request.getItems().stream()
+                .map(item -> new CreateOrderRequest.Item(item.getProductId(), item.getQuantity(), item.getUnitPrice()))
+                .toList()
+        );
+        
+        // Entrega o pedido à fila e converte a resposta do use case para DTO web
+        return orderIntake.submit(useCaseRequest)
+                .thenApply(useCaseResponse -> ResponseEntity.status(HttpStatus.CREATED).body(new CreateOrderWebResponse(
+                    useCaseResponse.getId(),
+                    useCaseResponse.getCustomerId(),
+                    useCaseResponse.getRestaurantId(),
+                    useCaseResponse.getItemCount(),
+                    useCaseResponse.getTotal(),
+                    useCaseResponse.getStatus(),
+                    useCaseResponse.getCreatedAt()
+                )));
+    }
+    
+    /**
+     * Busca um pedido pelo ID, com os itens
+     * @param id ID do pedido
+     * @return dados do pedido encontrado
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<GetOrderWebResponse> getOrderById(@PathVariable UUID id) {
+        GetOrderResponse useCaseResponse = getOrderUseCase.execute(id)
+                .orElseThrow(() -> new OrderNotFoundException(id));
+        
+        return ResponseEntity.ok(new GetOrderWebResponse(
+            useCaseResponse.getId(),
+            useCaseResponse.getCustomerId(),
+            useCaseResponse.getRestaurantId(),
+            useCaseResponse.getItems().stream()
+                .map(item -> new OrderItemWebResponse(item.productId(), item.quantity(), item.unitPrice(), item.subtotal()))
+                .toList(),
+            useCaseResponse.getTotal(),
+            useCaseResponse.getStatus(),
+            useCaseResponse.getCreatedAt(),
+            useCaseResponse.getUpdatedAt()
+        ));
+    }
+}
@@ -0,0 +1,192 @@
+// Arquivo para o OrderExceptionHandler - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.order.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.order.domain.exceptions.OrderNotFoundException;
+import br.com.brunno.api.order_food_service.order.domain.exceptions.RestaurantUnavailableException;
+import br.com.brunno.api.order_food_service.order.infrastructure.intake.OrderIntakeSaturatedException;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Handler de exceções específico para o módulo Order.
+ * Trata apenas exceções relacionadas ao OrderController.
+ */
+@Order(1)
+@RestControllerAdvice(assignableTypes = {OrderController.class})
+public class OrderExceptionHandler {
+    
+    /**
+     * Trata exceções de validação Bean Validation
+     */
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<OrderValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException ex) {
+        Map<String, String> errors = new HashMap<>();
+        ex.getBindingResult().getAllErrors().forEach((error) -> {
+            String fieldName = ((FieldError) error).getField();
+            String errorMessage = error.getDefaultMessage();
+            errors.put(fieldName, errorMessage);
+        });
+        
+        OrderValidationErrorResponse errorResponse = new OrderValidationErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            errors,
+            "Erro de validação"
+        );
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+    
+    /**
+     * Trata exceção quando o restaurante do pedido não existe ou está inativo
+     */
+    @ExceptionHandler(RestaurantUnavailableException.class)
+    public ResponseEntity<OrderErrorResponse> handleRestaurantUnavailableException(RestaurantUnavailableException ex) {
+        OrderErrorResponse errorResponse = new OrderErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.UNPROCESSABLE_ENTITY.value(),
+            "Restaurante indisponível",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
+    }
+    
+    /**
+     * Trata exceção quando a fila de entrada de pedidos está cheia
+     */
+    @ExceptionHandler(OrderIntakeSaturatedException.class)
+    public ResponseEntity<OrderErrorResponse> handleOrderIntakeSaturatedException(OrderIntakeSaturatedException ex) {
+        OrderErrorResponse errorResponse = new OrderErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.value(),
+            "Serviço sobrecarregado",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(errorResponse);
+    }
+    
+    /**
+     * Trata exceção quando pedido não é encontrado
+     */
+    @ExceptionHandler(OrderNotFoundException.class)
+    public ResponseEntity<OrderErrorResponse> handleOrderNotFoundException(OrderNotFoundException ex) {
+        OrderErrorResponse errorResponse = new OrderErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.NOT_FOUND.value(),
+            "Pedido não encontrado",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    }
+    
+    /**
+     * Trata exceções de argumento ilegal
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<OrderErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        OrderErrorResponse errorResponse = new OrderErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Argumento inválido",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+    
+    /**
+     * Trata exceções genéricas
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<OrderErrorResponse> handleGenericException(Exception ex) {
+        OrderErrorResponse errorResponse = new OrderErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.INTERNAL_SERVER_ERROR.value(),
+            "Erro interno do servidor",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+    }
+    
+    /**
+     * DTO para resposta de erro de validação
+     */
+    public static class OrderValidationErrorResponse {
+        private final LocalDateTime timestamp;
+        private final int status;
+        private final Map<String, String> errors;
+        private final String message;
+        
+        public OrderValidationErrorResponse(LocalDateTime timestamp, int status, Map<String, String> errors, String message) {
+            this.timestamp = timestamp;
+            this.status = status;
+            this.errors = errors;
+            this.message = message;
+        }
+        
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public Map<String, String> getErrors() {
+            return errors;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+    }
+    
+    /**
+     * DTO para resposta de erro genérico
+     */
+    public static class OrderErrorResponse {
+        private final LocalDateTime timestamp;
+        private final int status;
+        private final String error;
+        private final String message;
+        
+        public OrderErrorResponse(LocalDateTime timestamp, int status, String error, String message) {
+            this.timestamp = timestamp;
+            this.status = status;
+            this.error = error;
+            this.message = message;
+        }
+        
+        public LocalDateTime getTimestamp() {
+            return timestamp;
+        }
+        
+        public int getStatus() {
+            return status;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public String getMessage() {
+            return message;
+        }
+    }
+} 
\ No newline at end of file
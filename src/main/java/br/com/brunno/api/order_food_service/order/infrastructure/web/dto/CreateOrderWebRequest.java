@@ -0,0 +1,63 @@
+// Arquivo para o CreateOrderWebRequest - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.order.infrastructure.web.dto;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de requisição para criação de pedido na camada web.
+ * Contém o cliente, o restaurante e os itens do pedido.
+ */
+public class CreateOrderWebRequest {
+    
+    @NotNull(message = "ID do cliente é obrigatório")
+    private UUID customerId;
+    
+    @NotNull(message = "ID do restaurante é obrigatório")
+    private UUID restaurantId;
+    
+    @NotEmpty(message = "Pedido deve ter ao menos um item")
+    @Size(max = Order.MAX_ITEMS, message = "Pedido deve ter no máximo " + Order.MAX_ITEMS + " itens")
+    private List<@Valid @NotNull OrderItemWebRequest> items;
+    
+    // Construtores
+    public CreateOrderWebRequest() {}
+    
+    public CreateOrderWebRequest(UUID customerId, UUID restaurantId, List<OrderItemWebRequest> items) {
+        this.customerId = customerId;
+        this.restaurantId = restaurantId;
+        this.items = items;
+    }
+    
+    // Getters e Setters
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+    
+    public List<OrderItemWebRequest> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<OrderItemWebRequest> items) {
+        this.items = items;
+    }
+}
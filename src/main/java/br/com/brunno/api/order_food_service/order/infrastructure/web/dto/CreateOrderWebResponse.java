@@ -0,0 +1,95 @@
+// Arquivo para o CreateOrderWebResponse - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.order.infrastructure.web.dto;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de resposta para criação de pedido na camada web.
+ * Contém os dados do pedido criado para retorno ao cliente.
+ */
+public class CreateOrderWebResponse {
+    
+    private UUID id;
+    private UUID customerId;
+    private UUID restaurantId;
+    private int itemCount;
+    private BigDecimal total;
+    private Order.OrderStatus status;
+    private LocalDateTime createdAt;
+    
+    // Construtores
+    public CreateOrderWebResponse() {}
+    
+    public CreateOrderWebResponse(UUID id, UUID customerId, UUID restaurantId, int itemCount, BigDecimal total,
+                                  Order.OrderStatus status, LocalDateTime createdAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.restaurantId = restaurantId;
+        this.itemCount = itemCount;
+        this.total = total;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+    
+    // Getters e Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+    
+    public int getItemCount() {
+        return itemCount;
+    }
+    
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+    
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+    
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,107 @@
+// Arquivo para o GetOrderWebResponse - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.order.infrastructure.web.dto;
+
+import br.com.brunno.api.order_food_service.order.domain.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resposta para consulta de pedido na camada web.
+ * Contém os dados do pedido e seus itens para retorno ao cliente.
+ */
+public class GetOrderWebResponse {
+    
+    private UUID id;
+    private UUID customerId;
+    private UUID restaurantId;
+    private List<OrderItemWebResponse> items;
+    private BigDecimal total;
+    private Order.OrderStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    
+    // Construtores
+    public GetOrderWebResponse() {}
+    
+    public GetOrderWebResponse(UUID id, UUID customerId, UUID restaurantId, List<OrderItemWebResponse> items,
+                               BigDecimal total, Order.OrderStatus status, LocalDateTime createdAt,
+                               LocalDateTime updatedAt) {
+        this.id = id;
+        this.customerId = customerId;
+        this.restaurantId = restaurantId;
+        this.items = items;
+        this.total = total;
+        this.status = status;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
+    // Getters e Setters
+    public UUID getId() {
+        return id;
+    }
+    
+    public void setId(UUID id) {
+        this.id = id;
+    }
+    
+    public UUID getCustomerId() {
+        return customerId;
+    }
+    
+    public void setCustomerId(UUID customerId) {
+        this.customerId = customerId;
+    }
+    
+    public UUID getRestaurantId() {
+        return restaurantId;
+    }
+    
+    public void setRestaurantId(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+    }
+    
+    public List<OrderItemWebResponse> getItems() {
+        return items;
+    }
+    
+    public void setItems(List<OrderItemWebResponse> items) {
+        this.items = items;
+    }
+    
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    public void setTotal(BigDecimal total) {
+        this.total = total;
+    }
+    
+    public Order.OrderStatus getStatus() {
+        return status;
+    }
+    
+    public void setStatus(Order.OrderStatus status) {
+        this.status = status;
+    }
+    
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+    
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+    
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+    
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,62 @@
+// Arquivo para o OrderItemWebRequest - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.order.infrastructure.web.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO de requisição de um item do pedido na camada web.
+ */
+public class OrderItemWebRequest {
+    
+    @NotNull(message = "ID do produto é obrigatório")
+    private UUID productId;
+    
+    @Min(value = 1, message = "Quantidade deve ser maior que zero")
+    private int quantity;
+    
+    @NotNull(message = "Preço unitário é obrigatório")
+    @DecimalMin(value = "0.00", message = "Preço unitário não pode ser negativo")
+    @Digits(integer = 10, fraction = 2, message = "Preço unitário deve ter no máximo duas casas decimais")
+    private BigDecimal unitPrice;
+    
+    // Construtores
+    public OrderItemWebRequest() {}
+    
+    public OrderItemWebRequest(UUID productId, int quantity, BigDecimal unitPrice) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+    
+    // Getters e Setters
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+    
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+    
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+}
@@ -0,0 +1,60 @@
+// Arquivo para o OrderItemWebResponse - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.order.infrastructure.web.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * DTO de resposta de um item do pedido na camada web.
+ */
+public class OrderItemWebResponse {
+    
+    private UUID productId;
+    private int quantity;
+    private BigDecimal unitPrice;
+    private BigDecimal subtotal;
+    
+    // Construtores
+    public OrderItemWebResponse() {}
+    
+    public OrderItemWebResponse(UUID productId, int quantity, BigDecimal unitPrice, BigDecimal subtotal) {
+        this.productId = productId;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+        this.subtotal = subtotal;
+    }
+    
+    // Getters e Setters
+    public UUID getProductId() {
+        return productId;
+    }
+    
+    public void setProductId(UUID productId) {
+        this.productId = productId;
+    }
+    
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    public void setQuantity(int quantity) {
+        this.quantity = quantity;
+    }
+    
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+    
+    public void setUnitPrice(BigDecimal unitPrice) {
+        this.unitPrice = unitPrice;
+    }
+    
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+    
+    public void setSubtotal(BigDecimal subtotal) {
+        this.subtotal = subtotal;
+    }
+}
@@ -11,6 +11,8 @@ public class CreateRestaurantRequest {
     private final String userId;
     private final String name;
     private final String cnpj;
+    private final Double latitude;
+    private final Double longitude;
     
     /**
      * Construtor que recebe os dados para criação do restaurante
@@ -19,9 +21,23 @@ public class CreateRestaurantRequest {
      * @param cnpj CNPJ do restaurante
      */
     public CreateRestaurantRequest(String userId, String name, String cnpj) {
+        this(userId, name, cnpj, null, null);
+    }
+    
+    /**
+     * Construtor que recebe os dados para criação do restaurante com localização
+     * @param userId ID do usuário proprietário
+     * @param name nome do restaurante
+     * @param cnpj CNPJ do restaurante
+     * @param latitude latitude do restaurante (opcional, junto com a longitude)
+     * @param longitude longitude do restaurante (opcional, junto com a latitude)
+     */
+    public CreateRestaurantRequest(String userId, String name, String cnpj, Double latitude, Double longitude) {
         this.userId = userId;
         this.name = name;
         this.cnpj = cnpj;
+        this.latitude = latitude;
+        this.longitude = longitude;
     }
     
     /**
@@ -40,6 +56,10 @@ public class CreateRestaurantRequest {
         if (cnpj == null || cnpj.trim().isEmpty()) {
             throw new IllegalArgumentException("CNPJ não pode ser vazio");
         }
+        
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude e longitude devem ser informadas juntas");
+        }
     }
     
     public String getUserId() {
@@ -53,4 +73,12 @@ public class CreateRestaurantRequest {
     public String getCnpj() {
         return cnpj;
     }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
 } 
\ No newline at end of file
@@ -17,6 +17,8 @@ public class CreateRestaurantResponse {
     private final String userId;
     private final String name;
     private final String cnpj;
+    private final Double latitude;
+    private final Double longitude;
     private final boolean isActive;
     private final LocalDateTime createdAt;
     
@@ -29,6 +31,8 @@ public class CreateRestaurantResponse {
         this.userId = restaurant.getUserId();
         this.name = restaurant.getName();
         this.cnpj = restaurant.getCnpj();
+        this.latitude = restaurant.getLocation() == null ? null : restaurant.getLocation().latitude();
+        this.longitude = restaurant.getLocation() == null ? null : restaurant.getLocation().longitude();
         this.isActive = restaurant.isActive();
         this.createdAt = restaurant.getCreatedAt();
     }
@@ -49,6 +53,14 @@ public class CreateRestaurantResponse {
         return cnpj;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
     public boolean isActive() {
         return isActive;
     }
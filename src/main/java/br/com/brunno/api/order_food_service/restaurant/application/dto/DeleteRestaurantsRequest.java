@@ -0,0 +1,41 @@
+// Arquivo para o DeleteRestaurantsRequest - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Dados de entrada para exclusão de restaurantes em lote.
+ * Contém os IDs dos restaurantes a serem excluídos.
+ */
+public class DeleteRestaurantsRequest {
+    
+    private final List<UUID> restaurantIds;
+    
+    /**
+     * Construtor que recebe os IDs dos restaurantes a serem excluídos
+     * @param restaurantIds IDs dos restaurantes
+     */
+    public DeleteRestaurantsRequest(List<UUID> restaurantIds) {
+        this.restaurantIds = restaurantIds;
+    }
+    
+    /**
+     * Valida os dados de entrada
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public void validate() {
+        if (restaurantIds == null || restaurantIds.isEmpty()) {
+            throw new IllegalArgumentException("Lista de IDs não pode ser vazia");
+        }
+        if (restaurantIds.contains(null)) {
+            throw new IllegalArgumentException("ID do restaurante não pode ser nulo");
+        }
+    }
+    
+    // Getters
+    public List<UUID> getRestaurantIds() {
+        return restaurantIds;
+    }
+}
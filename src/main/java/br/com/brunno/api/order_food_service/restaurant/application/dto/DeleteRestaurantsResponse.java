@@ -0,0 +1,36 @@
+// Arquivo para o DeleteRestaurantsResponse - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.dto;
+
+/**
+ * Dados de saída da exclusão de restaurantes em lote.
+ * Informa quantos IDs distintos foram solicitados e quantos restaurantes foram de fato excluídos.
+ */
+public class DeleteRestaurantsResponse {
+    
+    private final int requested;
+    private final int deleted;
+    
+    /**
+     * Construtor que recebe as quantidades da exclusão
+     * @param requested quantidade de IDs distintos solicitados
+     * @param deleted quantidade de restaurantes excluídos
+     */
+    public DeleteRestaurantsResponse(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+    
+    // Getters
+    public int getRequested() {
+        return requested;
+    }
+    
+    public int getDeleted() {
+        return deleted;
+    }
+    
+    public int getNotFound() {
+        return requested - deleted;
+    }
+}
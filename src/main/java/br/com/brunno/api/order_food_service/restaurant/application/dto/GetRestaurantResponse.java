@@ -16,6 +16,8 @@ public class GetRestaurantResponse {
     private final String userId;
     private final String name;
     private final String cnpj;
+    private final Double latitude;
+    private final Double longitude;
     private final boolean isActive;
     private final LocalDateTime createdAt;
     private final LocalDateTime updatedAt;
@@ -25,11 +27,31 @@ public class GetRestaurantResponse {
         this.userId = restaurant.getUserId();
         this.name = restaurant.getName();
         this.cnpj = restaurant.getCnpj();
+        this.latitude = restaurant.getLocation() == null ? null : restaurant.getLocation().latitude();
+        this.longitude = restaurant.getLocation() == null ? null : restaurant.getLocation().longitude();
         this.isActive = restaurant.isActive();
         this.createdAt = restaurant.getCreatedAt();
         this.updatedAt = restaurant.getUpdatedAt();
     }
     
+    public GetRestaurantResponse(UUID id, String userId, String name, String cnpj, boolean isActive,
+                                 LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, name, cnpj, null, null, isActive, createdAt, updatedAt);
+    }
+    
+    public GetRestaurantResponse(UUID id, String userId, String name, String cnpj, Double latitude, Double longitude,
+                                 boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.name = name;
+        this.cnpj = cnpj;
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.isActive = isActive;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+    
     public UUID getId() {
         return id;
     }
@@ -46,6 +68,14 @@ public class GetRestaurantResponse {
         return cnpj;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
     public boolean isActive() {
         return isActive;
     }
@@ -15,10 +15,8 @@ public class ListRestaurantsResponse {
     
     private final List<RestaurantItem> restaurants;
     
-    public ListRestaurantsResponse(List<Restaurant> restaurants) {
-        this.restaurants = restaurants.stream()
-                .map(RestaurantItem::new)
-                .toList();
+    public ListRestaurantsResponse(List<RestaurantItem> restaurants) {
+        this.restaurants = restaurants;
     }
     
     public List<RestaurantItem> getRestaurants() {
@@ -33,6 +31,8 @@ public class ListRestaurantsResponse {
         private final String userId;
         private final String name;
         private final String cnpj;
+        private final Double latitude;
+        private final Double longitude;
         private final boolean isActive;
         private final LocalDateTime createdAt;
         private final LocalDateTime updatedAt;
@@ -42,11 +42,31 @@ public class ListRestaurantsResponse {
             this.userId = restaurant.getUserId();
             this.name = restaurant.getName();
             this.cnpj = restaurant.getCnpj();
+            this.latitude = restaurant.getLocation() == null ? null : restaurant.getLocation().latitude();
+            this.longitude = restaurant.getLocation() == null ? null : restaurant.getLocation().longitude();
             this.isActive = restaurant.isActive();
             this.createdAt = restaurant.getCreatedAt();
             this.updatedAt = restaurant.getUpdatedAt();
         }
         
+        public RestaurantItem(UUID id, String userId, String name, String cnpj, boolean isActive,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this(id, userId, name, cnpj, null, null, isActive, createdAt, updatedAt);
+        }
+        
+        public RestaurantItem(UUID id, String userId, String name, String cnpj, Double latitude, Double longitude,
+                              boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+            this.id = id;
+            this.userId = userId;
+            this.name = name;
+            this.cnpj = cnpj;
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.isActive = isActive;
+            this.createdAt = createdAt;
+            this.updatedAt = updatedAt;
+        }
+        
         public UUID getId() {
             return id;
         }
@@ -63,6 +83,14 @@ public class ListRestaurantsResponse {
             return cnpj;
         }
         
+        public Double getLatitude() {
+            return latitude;
+        }
+        
+        public Double getLongitude() {
+            return longitude;
+        }
+        
         public boolean isActive() {
             return isActive;
         }
@@ -0,0 +1,42 @@
+// Arquivo para o NearbyRestaurantsResponse - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.dto;
+
+import java.util.List;
+
+/**
+ * Resultado da busca de restaurantes próximos a um ponto, do mais próximo ao mais distante.
+ */
+public class NearbyRestaurantsResponse {
+    
+    private final List<NearbyItem> restaurants;
+    
+    public NearbyRestaurantsResponse(List<NearbyItem> restaurants) {
+        this.restaurants = restaurants;
+    }
+    
+    public List<NearbyItem> getRestaurants() {
+        return restaurants;
+    }
+    
+    /**
+     * Restaurante encontrado e sua distância até o ponto da busca
+     */
+    public static class NearbyItem {
+        private final ListRestaurantsResponse.RestaurantItem restaurant;
+        private final double distanceKm;
+        
+        public NearbyItem(ListRestaurantsResponse.RestaurantItem restaurant, double distanceKm) {
+            this.restaurant = restaurant;
+            this.distanceKm = distanceKm;
+        }
+        
+        public ListRestaurantsResponse.RestaurantItem getRestaurant() {
+            return restaurant;
+        }
+        
+        public double getDistanceKm() {
+            return distanceKm;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// Arquivo para a interface RestaurantQueryRepository - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.query;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.GetRestaurantResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.NearbyRestaurantsResponse;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Porta de leitura de restaurantes (modelo de leitura).
+ * Entrega os dados já no formato de resposta dos casos de uso, sem passar pela
+ * entidade de domínio, para as consultas que apenas exibem dados.
+ */
+public interface RestaurantQueryRepository {
+    
+    /**
+     * Busca um restaurante pelo ID
+     * @param id ID do restaurante
+     * @return Optional contendo o restaurante se encontrado
+     */
+    Optional<GetRestaurantResponse> findById(UUID id);
+    
+    /**
+     * Lista todos os restaurantes
+     * @return lista de restaurantes
+     */
+    ListRestaurantsResponse findAll();
+    
+    /**
+     * Lista os restaurantes pelo status
+     * @param active true para ativos, false para inativos
+     * @return restaurantes com o status informado, em ordem de ID
+     */
+    ListRestaurantsResponse findByActive(boolean active);
+    
+    /**
+     * Busca restaurantes cujo nome contém o termo, ignorando maiúsculas e acentos
+     * @param term trecho do nome
+     * @param limit quantidade máxima de restaurantes
+     * @return restaurantes encontrados, em ordem de cadastro
+     */
+    ListRestaurantsResponse searchByName(String term, int limit);
+    
+    /**
+     * Busca os restaurantes ativos dentro do raio a partir do ponto
+     * @param latitude latitude do ponto
+     * @param longitude longitude do ponto
+     * @param radiusKm raio em quilômetros
+     * @param limit quantidade máxima de restaurantes
+     * @return restaurantes encontrados, do mais próximo ao mais distante
+     */
+    NearbyRestaurantsResponse findNearby(double latitude, double longitude, double radiusKm, int limit);
+    
+    /**
+     * Versão da coleção, incrementada após cada alteração confirmada.
+     * Deve ser lida antes dos dados que ela valida
+     * @return versão atual da coleção
+     */
+    long version();
+    
+    /**
+     * Verifica se o restaurante existe e está ativo (aceitando pedidos)
+     * @param id ID do restaurante
+     * @return true se o restaurante está ativo
+     */
+    boolean isActive(UUID id);
+    
+    /**
+     * Percorre todos os restaurantes em ordem de ID, sem carregá-los todos em memória
+     * @param consumer consumidor chamado para cada restaurante
+     */
+    void streamAll(Consumer<ListRestaurantsResponse.RestaurantItem> consumer);
+}
@@ -0,0 +1,114 @@
+// Arquivo para o ChangeRestaurantStatusUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.usecase;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.GetRestaurantResponse;
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.event.RestaurantDeactivatedEvent;
+import br.com.brunno.api.order_food_service.restaurant.domain.exceptions.RestaurantNotFoundException;
+import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import br.com.brunno.api.order_food_service.shared.application.event.DomainEventPublisher;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Caso de uso para ativação e desativação de restaurantes.
+ * Apenas restaurantes ativos aparecem na listagem da vitrine.
+ * A desativação de um restaurante ativo gera o evento RestauranteDesativado, gravado na caixa
+ * de saída e publicado no barramento de eventos em memória.
+ */
+@Service
+public class ChangeRestaurantStatusUseCase {
+    
+    private final RestaurantRepository restaurantRepository;
+    private final OutboxRepository outboxRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    
+    /**
+     * Construtor que recebe as dependências dos repositórios e do barramento de eventos
+     * @param restaurantRepository repositório de restaurantes
+     * @param outboxRepository caixa de saída de eventos
+     * @param domainEventPublisher barramento de eventos em memória
+     */
+    public ChangeRestaurantStatusUseCase(RestaurantRepository restaurantRepository, OutboxRepository outboxRepository,
+                                         DomainEventPublisher domainEventPublisher) {
+        this.restaurantRepository = restaurantRepository;
+        this.outboxRepository = outboxRepository;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+    
+    /**
+     * Ativa um restaurante
+     * @param id ID do restaurante
+     * @return restaurante atualizado
+     * @throws RestaurantNotFoundException se o restaurante não for encontrado
+     */
+    @Transactional
+    public GetRestaurantResponse activate(UUID id) {
+        return change(id, Restaurant::activate);
+    }
+    
+    /**
+     * Desativa um restaurante
+     * @param id ID do restaurante
+     * @return restaurante atualizado
+     * @throws RestaurantNotFoundException se o restaurante não for encontrado
+     */
+    @Transactional
+    public GetRestaurantResponse deactivate(UUID id) {
+        return change(id, this::markInactive);
+    }
+    
+    /**
+     * Desativa o restaurante do usuário, se ele tiver um ativo (ex: quando o usuário é excluído).
+     * A leitura trava a linha: chamadas concorrentes para o mesmo usuário (o barramento e o relay da
+     * caixa de saída entregam o mesmo UsuarioExcluido) esperam uma pela outra, e só a primeira vê o
+     * restaurante ativo e grava o RestauranteDesativado
+     * @param userId ID do usuário dono do restaurante
+     * @return restaurante desativado, ou vazio se o usuário não tem restaurante ativo
+     */
+    @Transactional
+    public Optional<GetRestaurantResponse> deactivateOwnedBy(String userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("ID do usuário não pode ser nulo");
+        }
+        
+        return restaurantRepository.findByUserIdForUpdate(userId)
+                .filter(Restaurant::isActive)
+                .map(restaurant -> {
+                    markInactive(restaurant);
+                    return new GetRestaurantResponse(restaurantRepository.update(restaurant));
+                });
+    }
+    
+    private GetRestaurantResponse change(UUID id, Consumer<Restaurant> transition) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID do restaurante não pode ser nulo");
+        }
+        
+        Restaurant restaurant = restaurantRepository.findById(id)
+                .orElseThrow(() -> new RestaurantNotFoundException("Restaurante não encontrado com ID: " + id));
+        transition.accept(restaurant);
+        
+        return new GetRestaurantResponse(restaurantRepository.update(restaurant));
+    }
+    
+    private void markInactive(Restaurant restaurant) {
+        boolean wasActive = restaurant.isActive();
+        restaurant.deactivate();
+        
+        // Só a transição de ativo para inativo gera evento; desativar de novo não notifica ninguém
+        if (wasActive) {
+            DomainEvent event = RestaurantDeactivatedEvent.of(restaurant);
+            outboxRepository.append(event);
+            domainEventPublisher.publish(event);
+        }
+    }
+}
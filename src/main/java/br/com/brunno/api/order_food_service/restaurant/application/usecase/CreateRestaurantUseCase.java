@@ -8,24 +8,38 @@ import org.springframework.transaction.annotation.Transactional;
 import br.com.brunno.api.order_food_service.restaurant.application.dto.CreateRestaurantRequest;
 import br.com.brunno.api.order_food_service.restaurant.application.dto.CreateRestaurantResponse;
 import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.event.RestaurantCreatedEvent;
 import br.com.brunno.api.order_food_service.restaurant.domain.exceptions.RestaurantAlreadyExistsException;
 import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.GeoLocation;
+import br.com.brunno.api.order_food_service.shared.application.event.DomainEventPublisher;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
 
 /**
  * Caso de uso para criação de restaurantes.
  * Implementa as regras de negócio para criação de um novo restaurante.
+ * O evento RestauranteCriado é gravado na caixa de saída na mesma transação do restaurante
+ * e publicado no barramento de eventos em memória após o commit.
  */
 @Service
 public class CreateRestaurantUseCase {
     
     private final RestaurantRepository restaurantRepository;
+    private final OutboxRepository outboxRepository;
+    private final DomainEventPublisher domainEventPublisher;
     
     /**
-     * Construtor que recebe a dependência do repositório
+     * Construtor que recebe as dependências dos repositórios e do barramento de eventos
      * @param restaurantRepository repositório de restaurantes
+     * @param outboxRepository caixa de saída de eventos
+     * @param domainEventPublisher barramento de eventos em memória
      */
-    public CreateRestaurantUseCase(RestaurantRepository restaurantRepository) {
+    public CreateRestaurantUseCase(RestaurantRepository restaurantRepository, OutboxRepository outboxRepository,
+                                   DomainEventPublisher domainEventPublisher) {
         this.restaurantRepository = restaurantRepository;
+        this.outboxRepository = outboxRepository;
+        this.domainEventPublisher = domainEventPublisher;
     }
     
     /**
@@ -55,11 +69,17 @@ public class CreateRestaurantUseCase {
         }
         
         // Cria a entidade de domínio
-        Restaurant restaurant = new Restaurant(request.getUserId(), request.getName(), request.getCnpj());
+        Restaurant restaurant = new Restaurant(request.getUserId(), request.getName(), request.getCnpj(),
+                GeoLocation.of(request.getLatitude(), request.getLongitude()));
         
         // Salva no repositório
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
         
+        // Registra o evento para publicação após o commit
+        DomainEvent event = RestaurantCreatedEvent.of(savedRestaurant);
+        outboxRepository.append(event);
+        domainEventPublisher.publish(event);
+        
         // Retorna a resposta
         return new CreateRestaurantResponse(savedRestaurant);
     }
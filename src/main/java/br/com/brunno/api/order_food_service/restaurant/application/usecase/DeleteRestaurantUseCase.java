@@ -0,0 +1,44 @@
+// Arquivo para o DeleteRestaurantUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.usecase;
+
+import br.com.brunno.api.order_food_service.restaurant.domain.exceptions.RestaurantNotFoundException;
+import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Caso de uso para exclusão de restaurante.
+ * Implementa as regras de negócio para exclusão de um restaurante existente.
+ */
+@Service
+public class DeleteRestaurantUseCase {
+    
+    private final RestaurantRepository restaurantRepository;
+    
+    /**
+     * Construtor que recebe a dependência do repositório
+     * @param restaurantRepository repositório de restaurantes
+     */
+    public DeleteRestaurantUseCase(RestaurantRepository restaurantRepository) {
+        this.restaurantRepository = restaurantRepository;
+    }
+    
+    /**
+     * Exclui um restaurante pelo ID
+     * @param id ID do restaurante
+     * @throws IllegalArgumentException se o ID for nulo
+     * @throws RestaurantNotFoundException se o restaurante não for encontrado
+     */
+    public void execute(UUID id) {
+        if (id == null) {
+            throw new IllegalArgumentException("ID do restaurante não pode ser nulo");
+        }
+        
+        // Exclui direto: nenhuma linha afetada significa que o restaurante não existe
+        if (restaurantRepository.deleteById(id) == 0) {
+            throw new RestaurantNotFoundException("Restaurante não encontrado com ID: " + id);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+// Arquivo para o DeleteRestaurantsUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.usecase;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.DeleteRestaurantsRequest;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.DeleteRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Caso de uso para exclusão de restaurantes em lote.
+ * IDs inexistentes não geram erro; a resposta informa quantos restaurantes foram excluídos.
+ */
+@Service
+public class DeleteRestaurantsUseCase {
+    
+    private final RestaurantRepository restaurantRepository;
+    
+    /**
+     * Construtor que recebe a dependência do repositório
+     * @param restaurantRepository repositório de restaurantes
+     */
+    public DeleteRestaurantsUseCase(RestaurantRepository restaurantRepository) {
+        this.restaurantRepository = restaurantRepository;
+    }
+    
+    /**
+     * Exclui os restaurantes informados
+     * @param request IDs dos restaurantes a serem excluídos
+     * @return quantidades solicitada e excluída
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public DeleteRestaurantsResponse execute(DeleteRestaurantsRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Request não pode ser nulo");
+        }
+        
+        request.validate();
+        
+        Set<UUID> distinctIds = new LinkedHashSet<>(request.getRestaurantIds());
+        int deleted = restaurantRepository.deleteAllById(distinctIds);
+        
+        return new DeleteRestaurantsResponse(distinctIds.size(), deleted);
+    }
+}
@@ -0,0 +1,55 @@
+// Arquivo para o FindNearbyRestaurantsUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.usecase;
+
+import org.springframework.stereotype.Service;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.NearbyRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.query.RestaurantQueryRepository;
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.GeoLocation;
+
+/**
+ * Caso de uso para busca de restaurantes ativos próximos a um ponto ("perto de mim").
+ * Retorna os restaurantes dentro do raio, ordenados pela distância.
+ */
+@Service
+public class FindNearbyRestaurantsUseCase {
+    
+    public static final double DEFAULT_RADIUS_KM = 5;
+    public static final double MAX_RADIUS_KM = 50;
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    
+    private final RestaurantQueryRepository restaurantQueryRepository;
+    
+    /**
+     * Construtor que recebe a dependência do repositório de leitura
+     * @param restaurantQueryRepository repositório de leitura de restaurantes
+     */
+    public FindNearbyRestaurantsUseCase(RestaurantQueryRepository restaurantQueryRepository) {
+        this.restaurantQueryRepository = restaurantQueryRepository;
+    }
+    
+    /**
+     * Busca os restaurantes ativos mais próximos do ponto
+     * @param latitude latitude do ponto
+     * @param longitude longitude do ponto
+     * @param radiusKm raio da busca em quilômetros, ou null para usar o padrão
+     * @param limit quantidade máxima de resultados, ou null para usar o padrão
+     * @return restaurantes encontrados, do mais próximo ao mais distante
+     * @throws IllegalArgumentException se as coordenadas, o raio ou o limite forem inválidos
+     */
+    public NearbyRestaurantsResponse execute(double latitude, double longitude, Double radiusKm, Integer limit) {
+        GeoLocation center = new GeoLocation(latitude, longitude);
+        double radius = radiusKm == null ? DEFAULT_RADIUS_KM : radiusKm;
+        if (!(radius > 0 && radius <= MAX_RADIUS_KM)) {
+            throw new IllegalArgumentException("Raio deve ser maior que 0 e no máximo " + (int) MAX_RADIUS_KM + " km");
+        }
+        int maxResults = limit == null ? DEFAULT_LIMIT : limit;
+        if (maxResults < 1 || maxResults > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + MAX_LIMIT);
+        }
+        
+        return restaurantQueryRepository.findNearby(center.latitude(), center.longitude(), radius, maxResults);
+    }
+}
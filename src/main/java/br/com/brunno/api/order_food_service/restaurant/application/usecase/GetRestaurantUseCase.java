@@ -3,12 +3,13 @@
 package br.com.brunno.api.order_food_service.restaurant.application.usecase;
 
 import br.com.brunno.api.order_food_service.restaurant.application.dto.GetRestaurantResponse;
-import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import br.com.brunno.api.order_food_service.restaurant.application.query.RestaurantQueryRepository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Caso de uso para busca de restaurante por ID.
@@ -17,14 +18,14 @@ import org.springframework.stereotype.Service;
 @Service
 public class GetRestaurantUseCase {
     
-    private final RestaurantRepository restaurantRepository;
+    private final RestaurantQueryRepository restaurantQueryRepository;
     
     /**
-     * Construtor que recebe a dependência do repositório
-     * @param restaurantRepository repositório de restaurantes
+     * Construtor que recebe a dependência do repositório de leitura
+     * @param restaurantQueryRepository repositório de leitura de restaurantes
      */
-    public GetRestaurantUseCase(RestaurantRepository restaurantRepository) {
-        this.restaurantRepository = restaurantRepository;
+    public GetRestaurantUseCase(RestaurantQueryRepository restaurantQueryRepository) {
+        this.restaurantQueryRepository = restaurantQueryRepository;
     }
 
     
@@ -33,8 +34,8 @@ public class GetRestaurantUseCase {
      * @param id ID do restaurante
      * @return Optional contendo o restaurante se encontrado
      */
+    @Transactional(readOnly = true)
     public Optional<GetRestaurantResponse> execute(UUID id) {
-        return restaurantRepository.findById(id)
-                .map(GetRestaurantResponse::new);
+        return restaurantQueryRepository.findById(id);
     }
 } 
\ No newline at end of file
@@ -3,9 +3,12 @@
 package br.com.brunno.api.order_food_service.restaurant.application.usecase;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
-import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import br.com.brunno.api.order_food_service.restaurant.application.query.RestaurantQueryRepository;
+
+import java.util.function.Consumer;
 
 /**
  * Caso de uso para listagem de restaurantes.
@@ -14,21 +17,49 @@ import br.com.brunno.api.order_food_service.restaurant.domain.repository.Restaur
 @Service
 public class ListRestaurantsUseCase {
     
-    private final RestaurantRepository restaurantRepository;
+    private final RestaurantQueryRepository restaurantQueryRepository;
     
     /**
-     * Construtor que recebe a dependência do repositório
-     * @param restaurantRepository repositório de restaurantes
+     * Construtor que recebe a dependência do repositório de leitura
+     * @param restaurantQueryRepository repositório de leitura de restaurantes
      */
-    public ListRestaurantsUseCase(RestaurantRepository restaurantRepository) {
-        this.restaurantRepository = restaurantRepository;
+    public ListRestaurantsUseCase(RestaurantQueryRepository restaurantQueryRepository) {
+        this.restaurantQueryRepository = restaurantQueryRepository;
     }
     
     /**
      * Lista todos os restaurantes
      * @return lista de restaurantes
      */
+    @Transactional(readOnly = true)
     public ListRestaurantsResponse execute() {
-        return new ListRestaurantsResponse(restaurantRepository.findAll());
+        return restaurantQueryRepository.findAll();
+    }
+    
+    /**
+     * Lista os restaurantes pelo status
+     * @param active true para ativos, false para inativos
+     * @return lista de restaurantes
+     */
+    @Transactional(readOnly = true)
+    public ListRestaurantsResponse execute(boolean active) {
+        return restaurantQueryRepository.findByActive(active);
+    }
+    
+    /**
+     * Versão atual da coleção, usada para validar listagens já entregues sem refazer a consulta
+     * @return versão da coleção
+     */
+    public long version() {
+        return restaurantQueryRepository.version();
+    }
+    
+    /**
+     * Percorre todos os restaurantes, entregando cada item à medida que é lido do repositório
+     * @param consumer consumidor que recebe cada item da listagem
+     */
+    @Transactional(readOnly = true)
+    public void executeStreaming(Consumer<ListRestaurantsResponse.RestaurantItem> consumer) {
+        restaurantQueryRepository.streamAll(consumer);
     }
 } 
\ No newline at end of file
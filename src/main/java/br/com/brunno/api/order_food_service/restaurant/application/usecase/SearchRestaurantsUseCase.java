@@ -0,0 +1,48 @@
+// Arquivo para o SearchRestaurantsUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.restaurant.application.usecase;
+
+import org.springframework.stereotype.Service;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.query.RestaurantQueryRepository;
+
+/**
+ * Caso de uso para busca de restaurantes por trecho do nome.
+ * Ignora maiúsculas e acentos, de modo que "acai" encontra "Açaí da Praça".
+ */
+@Service
+public class SearchRestaurantsUseCase {
+    
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+    
+    private final RestaurantQueryRepository restaurantQueryRepository;
+    
+    /**
+     * Construtor que recebe a dependência do repositório de leitura
+     * @param restaurantQueryRepository repositório de leitura de restaurantes
+     */
+    public SearchRestaurantsUseCase(RestaurantQueryRepository restaurantQueryRepository) {
+        this.restaurantQueryRepository = restaurantQueryRepository;
+    }
+    
+    /**
+     * Busca restaurantes cujo nome contém o termo
+     * @param term trecho do nome
+     * @param limit quantidade máxima de resultados, ou null para usar o padrão
+     * @return restaurantes encontrados
+     * @throws IllegalArgumentException se o termo for vazio ou o limite for inválido
+     */
+    public ListRestaurantsResponse execute(String term, Integer limit) {
+        if (term == null || term.isBlank()) {
+            throw new IllegalArgumentException("Termo de busca não pode ser vazio");
+        }
+        int maxResults = limit == null ? DEFAULT_LIMIT : limit;
+        if (maxResults < 1 || maxResults > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + MAX_LIMIT);
+        }
+        
+        return restaurantQueryRepository.searchByName(term, maxResults);
+    }
+}
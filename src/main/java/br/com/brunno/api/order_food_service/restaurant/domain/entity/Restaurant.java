@@ -2,6 +2,10 @@
 
 package br.com.brunno.api.order_food_service.restaurant.domain.entity;
 
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.Cnpj;
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.GeoLocation;
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -16,6 +20,7 @@ public class Restaurant {
     private final String userId;
     private String name;
     private String cnpj;
+    private GeoLocation location;
     private boolean isActive;
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -24,10 +29,18 @@ public class Restaurant {
      * Construtor para criação de um novo restaurante
      */
     public Restaurant(String userId, String name, String cnpj) {
-        this.id = UUID.randomUUID();
+        this(userId, name, cnpj, null);
+    }
+    
+    /**
+     * Construtor para criação de um novo restaurante com localização (opcional)
+     */
+    public Restaurant(String userId, String name, String cnpj, GeoLocation location) {
+        this.id = TimeOrderedUuid.next();
         this.userId = userId;
         this.name = name;
         this.cnpj = cnpj;
+        this.location = location;
         this.isActive = true;
         this.createdAt = LocalDateTime.now();
         validate();
@@ -37,10 +50,19 @@ public class Restaurant {
      * Construtor para reconstrução de um restaurante existente
      */
     public Restaurant(UUID id, String userId, String name, String cnpj, boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, name, cnpj, null, isActive, createdAt, updatedAt);
+    }
+    
+    /**
+     * Construtor para reconstrução de um restaurante existente com localização (opcional)
+     */
+    public Restaurant(UUID id, String userId, String name, String cnpj, GeoLocation location, boolean isActive,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.userId = userId;
         this.name = name;
         this.cnpj = cnpj;
+        this.location = location;
         this.isActive = isActive;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -63,18 +85,19 @@ public class Restaurant {
             throw new IllegalArgumentException("CNPJ não pode ser vazio");
         }
         
-        if (!isValidCnpj(cnpj)) {
-            throw new IllegalArgumentException("CNPJ deve ter formato válido");
-        }
+        // Mantém sempre a forma canônica (somente dígitos), independente da pontuação recebida
+        this.cnpj = canonicalCnpj(cnpj);
     }
     
     /**
-     * Validação simples de CNPJ
+     * Valida o CNPJ, incluindo os dígitos verificadores, e devolve a forma canônica
      */
-    private boolean isValidCnpj(String cnpj) {
-        // Remove caracteres não numéricos
-        String cnpjNumerico = cnpj.replaceAll("[^0-9]", "");
-        return cnpjNumerico.length() == 14;
+    private static String canonicalCnpj(String cnpj) {
+        String canonical = Cnpj.normalize(cnpj);
+        if (canonical == null) {
+            throw new IllegalArgumentException("CNPJ deve ter formato válido");
+        }
+        return canonical;
     }
     
     /**
@@ -86,16 +109,22 @@ public class Restaurant {
         }
         
         if (cnpj != null && !cnpj.trim().isEmpty()) {
-            if (!isValidCnpj(cnpj)) {
-                throw new IllegalArgumentException("CNPJ deve ter formato válido");
-            }
-            this.cnpj = cnpj;
+            this.cnpj = canonicalCnpj(cnpj);
         }
         
         this.updatedAt = LocalDateTime.now();
         validate();
     }
     
+    /**
+     * Altera a localização do restaurante
+     * @param location nova localização, ou null para remover
+     */
+    public void relocate(GeoLocation location) {
+        this.location = location;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
     /**
      * Ativa o restaurante
      */
@@ -136,6 +165,13 @@ public class Restaurant {
         return cnpj;
     }
     
+    /**
+     * Localização do restaurante, ou null se não informada
+     */
+    public GeoLocation getLocation() {
+        return location;
+    }
+    
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -164,6 +200,7 @@ public class Restaurant {
                 ", userId=" + userId +
                 ", name='" + name + '\'' +
                 ", cnpj='" + cnpj + '\'' +
+                ", location=" + location +
                 ", isActive=" + isActive +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
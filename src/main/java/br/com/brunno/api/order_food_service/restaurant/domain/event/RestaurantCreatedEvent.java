@@ -0,0 +1,33 @@
+// Arquivo para o RestaurantCreatedEvent - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.restaurant.domain.event;
+
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento RestauranteCriado, publicado em restaurante.events quando um restaurante é cadastrado.
+ */
+public record RestaurantCreatedEvent(UUID restaurantId, String userId, String name, String cnpj, LocalDateTime createdAt) {
+    
+    public static final String TYPE = "RestauranteCriado";
+    public static final String AGGREGATE_TYPE = "restaurante";
+    
+    /**
+     * Cria o evento de domínio para o restaurante cadastrado
+     * @param restaurant restaurante cadastrado
+     * @return evento a ser gravado na caixa de saída
+     */
+    public static DomainEvent of(Restaurant restaurant) {
+        return DomainEvent.of(TYPE, AGGREGATE_TYPE, restaurant.getId(), new RestaurantCreatedEvent(
+            restaurant.getId(),
+            restaurant.getUserId(),
+            restaurant.getName(),
+            restaurant.getCnpj(),
+            restaurant.getCreatedAt()
+        ));
+    }
+}
@@ -0,0 +1,27 @@
+// Arquivo para o RestaurantDeactivatedEvent - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.restaurant.domain.event;
+
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * Evento RestauranteDesativado, publicado em restaurante.events quando um restaurante
+ * deixa de receber pedidos.
+ */
+public record RestaurantDeactivatedEvent(UUID restaurantId, String userId) {
+    
+    public static final String TYPE = "RestauranteDesativado";
+    
+    /**
+     * Cria o evento de domínio para o restaurante desativado
+     * @param restaurant restaurante desativado
+     * @return evento a ser gravado na caixa de saída
+     */
+    public static DomainEvent of(Restaurant restaurant) {
+        return DomainEvent.of(TYPE, RestaurantCreatedEvent.AGGREGATE_TYPE, restaurant.getId(),
+            new RestaurantDeactivatedEvent(restaurant.getId(), restaurant.getUserId()));
+    }
+}
@@ -4,6 +4,7 @@ package br.com.brunno.api.order_food_service.restaurant.domain.repository;
 
 import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,6 +22,13 @@ public interface RestaurantRepository {
      */
     Restaurant save(Restaurant restaurant);
     
+    /**
+     * Atualiza um restaurante existente
+     * @param restaurant restaurante com os dados alterados
+     * @return restaurante atualizado
+     */
+    Restaurant update(Restaurant restaurant);
+    
     /**
      * Busca um restaurante pelo ID
      * @param id ID do restaurante
@@ -30,7 +38,7 @@ public interface RestaurantRepository {
     
     /**
      * Busca um restaurante pelo CNPJ
-     * @param cnpj CNPJ do restaurante
+     * @param cnpj CNPJ do restaurante, com ou sem pontuação
      * @return Optional contendo o restaurante se encontrado
      */
     Optional<Restaurant> findByCnpj(String cnpj);
@@ -42,6 +50,14 @@ public interface RestaurantRepository {
      */
     Optional<Restaurant> findByUserId(String userId);
     
+    /**
+     * Busca o restaurante do usuário travando a linha até o fim da transação, para que
+     * alterações concorrentes sobre o mesmo restaurante sejam feitas uma de cada vez
+     * @param userId ID do usuário
+     * @return Optional contendo o restaurante se encontrado
+     */
+    Optional<Restaurant> findByUserIdForUpdate(String userId);
+    
     /**
      * Lista todos os restaurantes
      * @return lista de restaurantes
@@ -56,7 +72,7 @@ public interface RestaurantRepository {
     List<Restaurant> findByIsActive(boolean isActive);
     
     /**
-     * Lista restaurantes por nome (case insensitive)
+     * Lista restaurantes cujo nome contém o trecho informado, ignorando maiúsculas e acentos
      * @param name nome do restaurante
      * @return lista de restaurantes
      */
@@ -64,7 +80,7 @@ public interface RestaurantRepository {
     
     /**
      * Verifica se existe um restaurante com o CNPJ fornecido
-     * @param cnpj CNPJ a ser verificado
+     * @param cnpj CNPJ a ser verificado, com ou sem pontuação
      * @return true se existe, false caso contrário
      */
     boolean existsByCnpj(String cnpj);
@@ -79,6 +95,14 @@ public interface RestaurantRepository {
     /**
      * Deleta um restaurante pelo ID
      * @param id ID do restaurante a ser deletado
+     * @return quantidade de restaurantes deletados (0 se o restaurante não existir)
+     */
+    int deleteById(UUID id);
+    
+    /**
+     * Deleta vários restaurantes pelos IDs; IDs inexistentes são ignorados
+     * @param ids IDs dos restaurantes a serem deletados
+     * @return quantidade de restaurantes deletados
      */
-    void deleteById(UUID id);
+    int deleteAllById(Collection<UUID> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,121 @@
+// Arquivo para o Cnpj - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.restaurant.domain.valueobject;
+
+/**
+ * Validação e normalização de CNPJ.
+ * A forma canônica é o número de 14 dígitos: como long é o valor gravado no banco e como
+ * String (com zeros à esquerda) é o valor exposto pelo domínio e pela API.
+ * A leitura é feita em uma única passada sobre os caracteres, sem expressões regulares
+ * e sem criar objetos, já verificando os dois dígitos verificadores.
+ */
+public final class Cnpj {
+    
+    /**
+     * Valor retornado por {@link #parse(CharSequence)} quando o CNPJ é inválido
+     */
+    public static final long INVALID = -1L;
+    
+    private static final int DIGITS = 14;
+    
+    // Pesos dos dígitos verificadores: o primeiro usa as 12 primeiras posições e o segundo as 13
+    private static final int[] FIRST_WEIGHTS = {5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    private static final int[] SECOND_WEIGHTS = {6, 5, 4, 3, 2, 9, 8, 7, 6, 5, 4, 3, 2};
+    
+    private Cnpj() {
+    }
+    
+    /**
+     * Lê um CNPJ com ou sem pontuação ("11.222.333/0001-81" ou "11222333000181").
+     * Aceita apenas dígitos e os separadores '.', '/' e '-', exige exatamente 14 dígitos,
+     * rejeita sequências repetidas (como 00000000000000) e confere os dígitos verificadores.
+     * @param value CNPJ informado
+     * @return número canônico do CNPJ ou {@link #INVALID}
+     */
+    public static long parse(CharSequence value) {
+        if (value == null) {
+            return INVALID;
+        }
+        long number = 0;
+        int count = 0;
+        int firstSum = 0;
+        int secondSum = 0;
+        int firstDigit = -1;
+        boolean repeated = true;
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '.' || c == '/' || c == '-') {
+                continue;
+            }
+            if (c < '0' || c > '9' || count == DIGITS) {
+                return INVALID;
+            }
+            int digit = c - '0';
+            if (count == 0) {
+                firstDigit = digit;
+            } else if (digit != firstDigit) {
+                repeated = false;
+            }
+            if (count < 12) {
+                firstSum += digit * FIRST_WEIGHTS[count];
+            }
+            if (count < 13) {
+                secondSum += digit * SECOND_WEIGHTS[count];
+            }
+            if (count == 12 && digit != checkDigit(firstSum)) {
+                return INVALID;
+            }
+            if (count == 13 && digit != checkDigit(secondSum)) {
+                return INVALID;
+            }
+            number = number * 10 + digit;
+            count++;
+        }
+        return count == DIGITS && !repeated ? number : INVALID;
+    }
+    
+    /**
+     * Verifica se o CNPJ é válido, com ou sem pontuação
+     * @param value CNPJ informado
+     * @return true se válido
+     */
+    public static boolean isValid(CharSequence value) {
+        return parse(value) != INVALID;
+    }
+    
+    /**
+     * Converte o número canônico para os 14 dígitos, preservando zeros à esquerda
+     * @param number número do CNPJ
+     * @return CNPJ somente com dígitos
+     */
+    public static String toDigits(long number) {
+        if (number < 0 || number > 99_999_999_999_999L) {
+            throw new IllegalArgumentException("Número de CNPJ fora do intervalo: " + number);
+        }
+        char[] digits = new char[DIGITS];
+        for (int i = DIGITS - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return new String(digits);
+    }
+    
+    /**
+     * Normaliza o CNPJ para a forma canônica de 14 dígitos.
+     * Quando o valor já está nessa forma a mesma instância é devolvida, sem alocação.
+     * @param value CNPJ informado
+     * @return CNPJ somente com dígitos ou null se inválido
+     */
+    public static String normalize(String value) {
+        long number = parse(value);
+        if (number == INVALID) {
+            return null;
+        }
+        return value.length() == DIGITS ? value : toDigits(number);
+    }
+    
+    private static int checkDigit(int sum) {
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
@@ -0,0 +1,63 @@
+// Arquivo para o GeoLocation - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.restaurant.domain.valueobject;
+
+/**
+ * Localização geográfica (WGS84) em graus decimais.
+ *
+ * @param latitude latitude, de -90 a 90
+ * @param longitude longitude, de -180 a 180
+ */
+public record GeoLocation(double latitude, double longitude) {
+    
+    /**
+     * Raio médio da Terra em quilômetros
+     */
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+    
+    public GeoLocation {
+        if (Double.isNaN(latitude) || latitude < -90 || latitude > 90) {
+            throw new IllegalArgumentException("Latitude deve estar entre -90 e 90");
+        }
+        if (Double.isNaN(longitude) || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Longitude deve estar entre -180 e 180");
+        }
+    }
+    
+    /**
+     * Cria a localização a partir de coordenadas opcionais
+     * @param latitude latitude ou null
+     * @param longitude longitude ou null
+     * @return localização, ou null se as duas coordenadas forem nulas
+     * @throws IllegalArgumentException se apenas uma coordenada for informada ou estiver fora do intervalo
+     */
+    public static GeoLocation of(Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return null;
+        }
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("Latitude e longitude devem ser informadas juntas");
+        }
+        return new GeoLocation(latitude, longitude);
+    }
+    
+    /**
+     * Distância em quilômetros pela fórmula de haversine
+     * @param other outra localização
+     * @return distância em quilômetros
+     */
+    public double distanceKm(GeoLocation other) {
+        return distanceKm(latitude, longitude, other.latitude, other.longitude);
+    }
+    
+    /**
+     * Distância em quilômetros entre dois pontos pela fórmula de haversine
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+}
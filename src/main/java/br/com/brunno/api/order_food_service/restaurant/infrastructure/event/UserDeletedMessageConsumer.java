@@ -0,0 +1,45 @@
+// Arquivo para o UserDeletedMessageConsumer - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.event;
+
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.ChangeRestaurantStatusUseCase;
+import br.com.brunno.api.order_food_service.shared.application.messaging.OutboundMessage;
+import br.com.brunno.api.order_food_service.shared.infrastructure.messaging.InMemoryMessageBroker;
+import br.com.brunno.api.order_food_service.user.domain.event.UserCreatedEvent;
+import br.com.brunno.api.order_food_service.user.domain.event.UserDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/**
+ * Desativa o restaurante de um usuário excluído, para que ele saia da vitrine e pare de receber pedidos.
+ * Consome o UsuarioExcluido publicado pelo relay da caixa de saída: o evento é gravado na transação
+ * da exclusão e o lote volta a ser publicado se este consumidor falhar, então a entrega é pelo menos
+ * uma vez. Repetições e a entrega simultânea pelo UserDeletedSubscriber são inofensivas: a
+ * desativação trava o restaurante e só grava RestauranteDesativado se ele ainda estava ativo.
+ * Assina o broker em memória; com RabbitMQ, o mesmo tratamento fica no listener da fila.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDeletedMessageConsumer implements Consumer<OutboundMessage>, SmartInitializingSingleton {
+    
+    static final String DESTINATION = UserCreatedEvent.AGGREGATE_TYPE + ".events";
+    
+    private final ChangeRestaurantStatusUseCase changeRestaurantStatusUseCase;
+    private final ObjectProvider<InMemoryMessageBroker> inMemoryMessageBroker;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        inMemoryMessageBroker.ifAvailable(broker -> broker.subscribe(DESTINATION, this));
+    }
+    
+    @Override
+    public void accept(OutboundMessage message) {
+        if (UserDeletedEvent.TYPE.equals(message.type())) {
+            changeRestaurantStatusUseCase.deactivateOwnedBy(message.key().toString());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+// Arquivo para o UserDeletedSubscriber - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.event;
+
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.ChangeRestaurantStatusUseCase;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.infrastructure.eventbus.DomainEventSubscriber;
+import br.com.brunno.api.order_food_service.shared.infrastructure.eventbus.OverflowPolicy;
+import br.com.brunno.api.order_food_service.user.domain.event.UserDeletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Caminho rápido da desativação do restaurante de um usuário excluído: reage pelo barramento em
+ * memória logo após o commit, sem esperar o relay da caixa de saída.
+ * O barramento entrega no máximo uma vez (descarta com a fila de entrada cheia e ao desligar); a
+ * garantia fica com o UserDeletedMessageConsumer, que recebe o mesmo evento pela caixa de saída.
+ * Por isso a fila descarta os mais antigos (DROP_OLDEST) em vez de segurar o despachante.
+ * Os dois caminhos podem rodar ao mesmo tempo; a desativação trava o restaurante, então só um
+ * deles grava o RestauranteDesativado.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserDeletedSubscriber implements DomainEventSubscriber {
+    
+    private final ChangeRestaurantStatusUseCase changeRestaurantStatusUseCase;
+    
+    @Override
+    public String name() {
+        return "restaurant-user-deleted";
+    }
+    
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(UserDeletedEvent.TYPE);
+    }
+    
+    @Override
+    public OverflowPolicy overflowPolicy() {
+        return OverflowPolicy.DROP_OLDEST;
+    }
+    
+    @Override
+    public void onEvent(DomainEvent event) {
+        changeRestaurantStatusUseCase.deactivateOwnedBy(event.aggregateId().toString());
+    }
+}
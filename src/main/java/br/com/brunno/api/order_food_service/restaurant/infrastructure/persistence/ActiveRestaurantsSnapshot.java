@@ -0,0 +1,206 @@
+// Arquivo para o ActiveRestaurantsSnapshot - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse.RestaurantItem;
+import br.com.brunno.api.order_food_service.shared.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Fotografia imutável dos restaurantes ativos, mantida em memória para a listagem da vitrine.
+ * Cada alteração gera uma nova versão (cópia do array ordenado por ID com a mudança aplicada),
+ * publicada com compare-and-set; leitores apenas leem a referência atual, sem lock e sem banco.
+ * Atualizada após o commit de gravações, mudanças de status e exclusões (pelo
+ * RestaurantJpaEntityListener e, nas exclusões diretas, pelo RestaurantPersistenceAdapter), e
+ * carregada do banco na inicialização.
+ */
+@Component
+public class ActiveRestaurantsSnapshot {
+    
+    private static final Comparator<RestaurantItem> BY_ID = Comparator.comparing(RestaurantItem::getId);
+    
+    private final Clock clock;
+    private final AtomicReference<Snapshot> current;
+    
+    @Autowired
+    public ActiveRestaurantsSnapshot(MeterRegistry meterRegistry) {
+        this(meterRegistry, Clock.systemUTC());
+    }
+    
+    ActiveRestaurantsSnapshot(MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.current = new AtomicReference<>(new Snapshot(0, clock.instant(), new RestaurantItem[0]));
+        
+        Gauge.builder("restaurants.active.snapshot.version", this, snapshot -> snapshot.current().version())
+                .description("Versão atual da fotografia de restaurantes ativos")
+                .register(meterRegistry);
+        Gauge.builder("restaurants.active.snapshot.age", this, ActiveRestaurantsSnapshot::ageSeconds)
+                .description("Tempo desde a última alteração da fotografia de restaurantes ativos")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("restaurants.active.snapshot.size", this, snapshot -> snapshot.current().items().size())
+                .description("Restaurantes ativos na fotografia")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Versão atual da fotografia
+     */
+    public Snapshot current() {
+        return current.get();
+    }
+    
+    /**
+     * Aplica o estado gravado de um restaurante após o commit da transação corrente:
+     * ativo entra (ou é substituído) na fotografia, inativo sai
+     * @param item estado do restaurante gravado
+     */
+    public void applyAfterCommit(RestaurantItem item) {
+        TransactionCallbacks.afterCommit(() -> apply(item));
+    }
+    
+    /**
+     * Remove os restaurantes da fotografia após o commit da transação corrente
+     * @param ids IDs dos restaurantes excluídos
+     */
+    public void removeAfterCommit(Collection<UUID> ids) {
+        TransactionCallbacks.afterCommit(() -> remove(ids));
+    }
+    
+    /**
+     * Substitui a fotografia pelos restaurantes ativos lidos do banco
+     * @param activeItems restaurantes ativos
+     */
+    public void rebuild(Stream<RestaurantItem> activeItems) {
+        RestaurantItem[] items = activeItems.sorted(BY_ID).toArray(RestaurantItem[]::new);
+        current.updateAndGet(previous -> new Snapshot(previous.version() + 1, clock.instant(), items));
+    }
+    
+    void apply(RestaurantItem item) {
+        current.updateAndGet(previous -> {
+            RestaurantItem[] items = previous.array;
+            int index = Arrays.binarySearch(items, item, BY_ID);
+            // Commits concorrentes podem chegar fora de ordem: não sobrescreve um estado mais novo
+            if (index >= 0 && lastChange(items[index]).isAfter(lastChange(item))) {
+                return previous;
+            }
+            
+            RestaurantItem[] next;
+            if (item.isActive() && index >= 0) {
+                next = items.clone();
+                next[index] = item;
+            } else if (item.isActive()) {
+                int insertion = -index - 1;
+                next = new RestaurantItem[items.length + 1];
+                System.arraycopy(items, 0, next, 0, insertion);
+                next[insertion] = item;
+                System.arraycopy(items, insertion, next, insertion + 1, items.length - insertion);
+            } else if (index >= 0) {
+                next = withoutIndex(items, index);
+            } else {
+                return previous;
+            }
+            return new Snapshot(previous.version() + 1, clock.instant(), next);
+        });
+    }
+    
+    void remove(Collection<UUID> ids) {
+        Set<UUID> removed = new HashSet<>(ids);
+        current.updateAndGet(previous -> {
+            RestaurantItem[] next = Arrays.stream(previous.array)
+                    .filter(item -> !removed.contains(item.getId()))
+                    .toArray(RestaurantItem[]::new);
+            return next.length == previous.array.length
+                    ? previous
+                    : new Snapshot(previous.version() + 1, clock.instant(), next);
+        });
+    }
+    
+    private double ageSeconds() {
+        return Duration.between(current().updatedAt(), clock.instant()).toMillis() / 1000.0;
+    }
+    
+    private static RestaurantItem[] withoutIndex(RestaurantItem[] items, int index) {
+        RestaurantItem[] next = new RestaurantItem[items.length - 1];
+        System.arraycopy(items, 0, next, 0, index);
+        System.arraycopy(items, index + 1, next, index, items.length - index - 1);
+        return next;
+    }
+    
+    private static LocalDateTime lastChange(RestaurantItem item) {
+        return item.getUpdatedAt() != null ? item.getUpdatedAt() : item.getCreatedAt();
+    }
+    
+    /**
+     * Versão imutável da fotografia: os itens nunca são alterados depois de publicados
+     */
+    public static final class Snapshot {
+        
+        private final long version;
+        private final Instant updatedAt;
+        private final RestaurantItem[] array;
+        private final List<RestaurantItem> items;
+        
+        Snapshot(long version, Instant updatedAt, RestaurantItem[] array) {
+            this.version = version;
+            this.updatedAt = updatedAt;
+            this.array = array;
+            this.items = Collections.unmodifiableList(Arrays.asList(array));
+        }
+        
+        public long version() {
+            return version;
+        }
+        
+        public Instant updatedAt() {
+            return updatedAt;
+        }
+        
+        /**
+         * Restaurantes ativos em ordem de ID, como lista somente leitura
+         */
+        public List<RestaurantItem> items() {
+            return items;
+        }
+        
+        /**
+         * Busca binária de um restaurante ativo pelo ID
+         * @param id ID do restaurante
+         * @return o restaurante, ou null se não estiver ativo nesta versão
+         */
+        public RestaurantItem find(UUID id) {
+            int low = 0;
+            int high = array.length - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = array[middle].getId().compareTo(id);
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else if (comparison > 0) {
+                    high = middle - 1;
+                } else {
+                    return array[middle];
+                }
+            }
+            return null;
+        }
+    }
+}
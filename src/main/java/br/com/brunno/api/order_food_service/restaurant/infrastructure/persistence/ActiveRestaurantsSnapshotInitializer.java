@@ -0,0 +1,25 @@
+// Arquivo para o ActiveRestaurantsSnapshotInitializer - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carrega a fotografia de restaurantes ativos a partir do banco durante a
+ * inicialização, antes de o servidor web começar a receber requisições.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActiveRestaurantsSnapshotInitializer implements SmartInitializingSingleton {
+    
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final ActiveRestaurantsSnapshot activeRestaurantsSnapshot;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        // A fotografia mantém todos os ativos em memória, então a lista completa não é um custo extra
+        activeRestaurantsSnapshot.rebuild(restaurantJpaRepository.findItemsByIsActive(true).stream());
+    }
+}
@@ -0,0 +1,20 @@
+// Arquivo para o RestaurantCollectionVersion - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.version.CollectionVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versão da coleção de restaurantes, usada nas ETags das listagens.
+ * Incrementada pelo RestaurantJpaEntityListener em toda gravação e exclusão feita via JPA
+ * e pelo RestaurantPersistenceAdapter nas exclusões via JPQL.
+ */
+@Component
+public class RestaurantCollectionVersion extends CollectionVersion {
+    
+    public RestaurantCollectionVersion(MeterRegistry meterRegistry) {
+        super("restaurants", meterRegistry);
+    }
+}
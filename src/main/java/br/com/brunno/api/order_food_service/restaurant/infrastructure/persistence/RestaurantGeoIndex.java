@@ -0,0 +1,91 @@
+// Arquivo para o RestaurantGeoIndex - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.shared.infrastructure.geo.GeoGridIndex;
+import br.com.brunno.api.order_food_service.shared.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Índice espacial dos restaurantes ativos com localização, usado na busca por proximidade
+ * sem varrer a tabela. Mantido pelo RestaurantJpaEntityListener nas gravações, mudanças de status
+ * e exclusões via JPA e pelo RestaurantPersistenceAdapter nas exclusões diretas (somente após o
+ * commit), e reconstruído a partir do banco na inicialização.
+ * Guarda apenas IDs e coordenadas: os dados exibidos vêm da fotografia de restaurantes ativos.
+ */
+@Component
+public class RestaurantGeoIndex {
+    
+    /**
+     * Lado da célula da grade em graus (cerca de 2,2 km de latitude): um raio de 5 km
+     * visita algumas dezenas de células
+     */
+    static final double CELL_DEGREES = 0.02;
+    
+    private final GeoGridIndex<UUID> index = new GeoGridIndex<>(CELL_DEGREES);
+    
+    public RestaurantGeoIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("search.index.documents", index, GeoGridIndex::size)
+                .description("Documentos no índice de busca")
+                .tag("index", "restaurants.location")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Busca os restaurantes mais próximos do ponto dentro do raio
+     * @param latitude latitude do centro
+     * @param longitude longitude do centro
+     * @param radiusKm raio em quilômetros
+     * @param limit quantidade máxima de resultados
+     * @return IDs e distâncias, do mais próximo ao mais distante
+     */
+    public List<GeoGridIndex.Neighbor<UUID>> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        return index.nearest(latitude, longitude, radiusKm, limit);
+    }
+    
+    /**
+     * Aplica o estado gravado do restaurante após o commit da transação corrente:
+     * ativo com localização entra (ou muda de posição) no índice, os demais saem
+     * @param restaurant restaurante gravado
+     */
+    public void applyAfterCommit(Restaurant restaurant) {
+        UUID id = restaurant.getId();
+        if (restaurant.isActive() && restaurant.getLocation() != null) {
+            double latitude = restaurant.getLocation().latitude();
+            double longitude = restaurant.getLocation().longitude();
+            TransactionCallbacks.afterCommit(() -> index.put(id, latitude, longitude));
+        } else {
+            TransactionCallbacks.afterCommit(() -> index.remove(id));
+        }
+    }
+    
+    /**
+     * Remove os restaurantes do índice após o commit da transação corrente
+     * @param ids IDs dos restaurantes excluídos
+     */
+    public void removeAfterCommit(Collection<UUID> ids) {
+        TransactionCallbacks.afterCommit(() -> ids.forEach(index::remove));
+    }
+    
+    /**
+     * Reconstrói o índice com as localizações existentes no banco
+     * @param entries IDs e coordenadas dos restaurantes ativos com localização
+     */
+    public void rebuild(Stream<Entry> entries) {
+        index.rebuild(entries, Entry::id, Entry::latitude, Entry::longitude);
+    }
+    
+    /**
+     * ID e coordenadas de um restaurante, projetados do banco para a reconstrução do índice
+     */
+    public record Entry(UUID id, double latitude, double longitude) {
+    }
+}
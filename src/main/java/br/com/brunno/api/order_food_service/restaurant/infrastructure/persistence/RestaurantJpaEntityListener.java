@@ -0,0 +1,97 @@
+// Arquivo para o RestaurantJpaEntityListener - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.Cnpj;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity.RestaurantJpaEntity;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Entity listener de RestaurantJpaEntity.
+ * Mantém as estruturas em memória do módulo de restaurante atualizadas em toda gravação
+ * e exclusão feita via JPA, inclusive as que não passam pelo adaptador de persistência.
+ * Só as exclusões diretas via JPQL, que não disparam callbacks, ficam com o adaptador.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantJpaEntityListener {
+    
+    private final RestaurantMembershipFilters restaurantMembershipFilters;
+    private final RestaurantNameIndex restaurantNameIndex;
+    private final ActiveRestaurantsSnapshot activeRestaurantsSnapshot;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final RestaurantCollectionVersion restaurantCollectionVersion;
+    
+    // Adiciona antes do INSERT: com ID atribuído o insert só ocorre no flush, e o filtro não
+    // pode ter falsos negativos nesse intervalo. Um rollback deixa apenas um falso positivo
+    @PrePersist
+    void onPersisting(RestaurantJpaEntity entity) {
+        // Entidades gravadas direto pelo JPA podem trazer o CNPJ pontuado; o filtro usa a forma canônica
+        String cnpj = Cnpj.normalize(entity.getCnpj());
+        if (cnpj != null) {
+            restaurantMembershipFilters.cnpjs().add(cnpj);
+        }
+        restaurantMembershipFilters.owners().add(entity.getUserId());
+        // Uma exclusão antes do flush ainda encontra as chaves adicionadas
+        entity.setPersistedCnpj(entity.getCnpj());
+        entity.setPersistedUserId(entity.getUserId());
+        restaurantCollectionVersion.incrementAfterCommit();
+    }
+    
+    // Os filtros são de contagem: adicionar as mesmas chaves a cada UPDATE (ativação, desativação,
+    // edição) faria a exclusão, que remove uma vez só, deixá-las para sempre como "talvez presentes".
+    // Só a troca de CNPJ ou de dono mexe nos filtros
+    @PreUpdate
+    void onUpdating(RestaurantJpaEntity entity) {
+        String cnpj = Cnpj.normalize(entity.getCnpj());
+        String persistedCnpj = Cnpj.normalize(entity.getPersistedCnpj());
+        if (!Objects.equals(cnpj, persistedCnpj)) {
+            if (cnpj != null) {
+                restaurantMembershipFilters.cnpjs().add(cnpj);
+            }
+            if (persistedCnpj != null) {
+                restaurantMembershipFilters.cnpjs().removeAfterCommit(persistedCnpj);
+            }
+        }
+        if (!Objects.equals(entity.getUserId(), entity.getPersistedUserId())) {
+            restaurantMembershipFilters.owners().add(entity.getUserId());
+            restaurantMembershipFilters.owners().removeAfterCommit(entity.getPersistedUserId());
+        }
+        restaurantCollectionVersion.incrementAfterCommit();
+    }
+    
+    // Índice de nomes, fotografia de ativos e índice espacial recebem o estado gravado somente após o
+    // commit, qualquer que seja o caminho da gravação (adaptador, saveAll ou o repositório JPA direto)
+    @PostPersist
+    @PostUpdate
+    void onWritten(RestaurantJpaEntity entity) {
+        Restaurant saved = entity.toDomain();
+        restaurantNameIndex.putAfterCommit(saved.getId(), saved.getName());
+        activeRestaurantsSnapshot.applyAfterCommit(new ListRestaurantsResponse.RestaurantItem(saved));
+        restaurantGeoIndex.applyAfterCommit(saved);
+    }
+    
+    @PostRemove
+    void onRemoved(RestaurantJpaEntity entity) {
+        String cnpj = Cnpj.normalize(entity.getPersistedCnpj());
+        if (cnpj != null) {
+            restaurantMembershipFilters.cnpjs().removeAfterCommit(cnpj);
+        }
+        restaurantNameIndex.removeAfterCommit(List.of(entity.getId()));
+        activeRestaurantsSnapshot.removeAfterCommit(List.of(entity.getId()));
+        restaurantGeoIndex.removeAfterCommit(List.of(entity.getId()));
+        restaurantMembershipFilters.owners().removeAfterCommit(entity.getPersistedUserId());
+        restaurantCollectionVersion.incrementAfterCommit();
+    }
+}
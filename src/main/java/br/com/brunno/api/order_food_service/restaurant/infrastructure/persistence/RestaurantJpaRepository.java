@@ -2,23 +2,32 @@
 
 package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
 
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity.RestaurantJpaEntity;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Interface JPA para persistência de restaurantes.
  * Responsável pela comunicação direta com o banco de dados.
  */
 @Repository
-public interface RestaurantJpaRepository extends JpaRepository<RestaurantJpaEntity, Long> {
+public interface RestaurantJpaRepository extends JpaRepository<RestaurantJpaEntity, UUID> {
     
     /**
-     * Busca um restaurante pelo CNPJ
+     * Busca um restaurante pelo CNPJ (convertido para a forma numérica pelo CnpjConverter)
      * @param cnpj CNPJ do restaurante
      * @return Optional contendo o restaurante se encontrado
      */
@@ -32,21 +41,23 @@ public interface RestaurantJpaRepository extends JpaRepository<RestaurantJpaEnti
     Optional<RestaurantJpaEntity> findByUserId(String userId);
     
     /**
-     * Busca restaurantes por status ativo/inativo
-     * @param isActive status do restaurante
-     * @return lista de restaurantes
+     * Busca um restaurante pelo ID do usuário travando a linha (SELECT ... FOR UPDATE)
+     * @param userId ID do usuário
+     * @return Optional contendo o restaurante se encontrado
      */
-    List<RestaurantJpaEntity> findByIsActive(boolean isActive);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from RestaurantJpaEntity r where r.userId = :userId")
+    Optional<RestaurantJpaEntity> findLockedByUserId(String userId);
     
     /**
-     * Busca restaurantes por nome (case insensitive)
-     * @param name nome do restaurante
+     * Busca restaurantes por status ativo/inativo
+     * @param isActive status do restaurante
      * @return lista de restaurantes
      */
-    List<RestaurantJpaEntity> findByNameContainingIgnoreCase(String name);
+    List<RestaurantJpaEntity> findByIsActive(boolean isActive);
     
     /**
-     * Verifica se existe um restaurante com o CNPJ fornecido
+     * Verifica se existe um restaurante com o CNPJ fornecido (pela forma numérica, via índice único)
      * @param cnpj CNPJ a ser verificado
      * @return true se existe, false caso contrário
      */
@@ -60,15 +71,94 @@ public interface RestaurantJpaRepository extends JpaRepository<RestaurantJpaEnti
     boolean existsByUserId(String userId);
 
     /**
-     * Busca um restaurante pelo id de domínio
-     * @param id ID de domínio
-     * @return Optional contendo o restaurante se encontrado
+     * Lista todos os restaurantes projetando direto nos itens de listagem
+     * @return itens de listagem
+     */
+    @Query("select new br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse$RestaurantItem("
+            + "r.id, r.userId, r.name, r.cnpj, r.latitude, r.longitude, r.isActive, r.createdAt, r.updatedAt) "
+            + "from RestaurantJpaEntity r")
+    List<ListRestaurantsResponse.RestaurantItem> findAllItems();
+
+    /**
+     * Percorre todos os restaurantes em ordem de id, lendo do banco em lotes.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * @return stream de itens de listagem
+     */
+    @Query("select new br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse$RestaurantItem("
+            + "r.id, r.userId, r.name, r.cnpj, r.latitude, r.longitude, r.isActive, r.createdAt, r.updatedAt) "
+            + "from RestaurantJpaEntity r order by r.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ListRestaurantsResponse.RestaurantItem> streamAllItems();
+
+    /**
+     * Deleta os restaurantes com os IDs fornecidos com um único comando e devolve ID, CNPJ e dono das linhas deletadas.
+     * Exclusões diretas não disparam @PostRemove: as chaves devolvidas saem dos filtros de unicidade.
+     * Sintaxe H2 (OLD TABLE); no PostgreSQL o equivalente é DELETE ... RETURNING id, cnpj, user_id
+     * @param ids IDs dos restaurantes
+     * @return IDs, CNPJs (forma numérica) e IDs de usuário dos restaurantes deletados
+     */
+    @Query(value = "select cast(id as varchar) as id, cnpj, user_id from old table (delete from restaurants where id in :ids)", nativeQuery = true)
+    List<RestaurantKey> removeAllByIdInReturningKeys(Collection<UUID> ids);
+
+    /**
+     * Percorre os CNPJs de todos os restaurantes, usado para carregar o filtro de unicidade
+     * @return stream de CNPJs
+     */
+    @Query("select r.cnpj from RestaurantJpaEntity r")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllCnpjs();
+
+    /**
+     * Lista os restaurantes com o status informado em ordem de id, projetando direto nos itens de listagem
+     * @param isActive status dos restaurantes
+     * @return itens de listagem
+     */
+    @Query("select new br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse$RestaurantItem("
+            + "r.id, r.userId, r.name, r.cnpj, r.latitude, r.longitude, r.isActive, r.createdAt, r.updatedAt) "
+            + "from RestaurantJpaEntity r where r.isActive = :isActive order by r.id")
+    List<ListRestaurantsResponse.RestaurantItem> findItemsByIsActive(boolean isActive);
+
+    /**
+     * Busca os itens de listagem dos restaurantes com os IDs fornecidos
+     * @param ids IDs dos restaurantes
+     * @return itens de listagem, sem ordem definida
+     */
+    @Query("select new br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse$RestaurantItem("
+            + "r.id, r.userId, r.name, r.cnpj, r.latitude, r.longitude, r.isActive, r.createdAt, r.updatedAt) "
+            + "from RestaurantJpaEntity r where r.id in :ids")
+    List<ListRestaurantsResponse.RestaurantItem> findItemsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Percorre IDs e nomes de todos os restaurantes em ordem de id, usado para carregar o índice de busca
+     * @return stream de IDs e nomes
+     */
+    @Query("select new br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantNameIndex$Entry("
+            + "r.id, r.name) from RestaurantJpaEntity r order by r.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<RestaurantNameIndex.Entry> streamAllNames();
+
+    /**
+     * Percorre IDs e coordenadas dos restaurantes ativos com localização, usado para carregar o índice espacial
+     * @return stream de IDs e coordenadas
+     */
+    @Query("select new br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantGeoIndex$Entry("
+            + "r.id, r.latitude, r.longitude) from RestaurantJpaEntity r "
+            + "where r.isActive = true and r.latitude is not null and r.longitude is not null")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<RestaurantGeoIndex.Entry> streamActiveLocations();
+
+    /**
+     * Percorre os IDs de usuário de todos os restaurantes, usado para carregar o filtro de unicidade
+     * @return stream de IDs de usuário
      */
-    Optional<RestaurantJpaEntity> findByDomainId(UUID id);
+    @Query("select r.userId from RestaurantJpaEntity r")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllUserIds();
 
     /**
-     * Deleta um restaurante pelo id de domínio
-     * @param id ID de domínio
+     * ID, CNPJ (forma numérica) e dono de um restaurante deletado, devolvidos pelo próprio DELETE.
+     * O ID vem como texto: o resultado da consulta nativa não tem o tipo UUID da entidade
      */
-    void deleteByDomainId(UUID id);
+    record RestaurantKey(String id, Long cnpj, String userId) {
+    }
 } 
\ No newline at end of file
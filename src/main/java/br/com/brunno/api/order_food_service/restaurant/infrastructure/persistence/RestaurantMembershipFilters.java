@@ -0,0 +1,39 @@
+// Arquivo para o RestaurantMembershipFilters - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.membership.MembershipFilter;
+import br.com.brunno.api.order_food_service.shared.infrastructure.membership.MembershipFilterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Filtros de pertinência do módulo de restaurante, consultados antes de existsByCnpj e existsByUserId.
+ * Mantidos atualizados pelo RestaurantJpaEntityListener em toda gravação e exclusão feita via JPA,
+ * e pelo RestaurantPersistenceAdapter nas exclusões diretas via JPQL.
+ */
+@Component
+public class RestaurantMembershipFilters {
+    
+    private final MembershipFilter cnpjs;
+    private final MembershipFilter owners;
+    
+    public RestaurantMembershipFilters(MembershipFilterProperties properties, MeterRegistry meterRegistry) {
+        this.cnpjs = new MembershipFilter("restaurants.cnpj", properties, meterRegistry);
+        this.owners = new MembershipFilter("restaurants.owner", properties, meterRegistry);
+    }
+    
+    /**
+     * Filtro de CNPJs de restaurantes cadastrados
+     */
+    public MembershipFilter cnpjs() {
+        return cnpjs;
+    }
+    
+    /**
+     * Filtro de IDs de usuários que já possuem restaurante
+     */
+    public MembershipFilter owners() {
+        return owners;
+    }
+}
@@ -0,0 +1,36 @@
+// Arquivo para o RestaurantMembershipFiltersInitializer - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Carrega os filtros de pertinência do módulo de restaurante a partir do banco
+ * durante a inicialização, antes de o servidor web começar a receber requisições.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantMembershipFiltersInitializer implements SmartInitializingSingleton {
+    
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantMembershipFilters restaurantMembershipFilters;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            long currentSize = restaurantJpaRepository.count();
+            try (Stream<String> cnpjs = restaurantJpaRepository.streamAllCnpjs()) {
+                restaurantMembershipFilters.cnpjs().rebuild(currentSize, cnpjs);
+            }
+            try (Stream<String> userIds = restaurantJpaRepository.streamAllUserIds()) {
+                restaurantMembershipFilters.owners().rebuild(currentSize, userIds);
+            }
+        });
+    }
+}
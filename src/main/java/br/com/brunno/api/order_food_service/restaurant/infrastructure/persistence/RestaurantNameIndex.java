@@ -0,0 +1,79 @@
+// Arquivo para o RestaurantNameIndex - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.search.TrigramIndex;
+import br.com.brunno.api.order_food_service.shared.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Índice de trigramas dos nomes de restaurantes, usado na busca por trecho do nome
+ * sem varrer a tabela. Mantido pelo RestaurantJpaEntityListener nas gravações e exclusões via JPA
+ * e pelo RestaurantPersistenceAdapter nas exclusões diretas (somente após o commit), e reconstruído
+ * a partir do banco na inicialização.
+ * O índice guarda apenas IDs: quem consulta sempre lê os dados atuais do banco.
+ */
+@Component
+public class RestaurantNameIndex {
+    
+    private final TrigramIndex<UUID> index = new TrigramIndex<>();
+    
+    public RestaurantNameIndex(MeterRegistry meterRegistry) {
+        Gauge.builder("search.index.documents", index, TrigramIndex::size)
+                .description("Documentos no índice de busca")
+                .tag("index", "restaurants.name")
+                .register(meterRegistry);
+        Gauge.builder("search.index.trigrams", index, TrigramIndex::trigramCount)
+                .description("Trigramas distintos no índice de busca")
+                .tag("index", "restaurants.name")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Busca restaurantes cujo nome contém o termo, ignorando maiúsculas e acentos
+     * @param term trecho do nome
+     * @param limit quantidade máxima de resultados
+     * @return IDs dos restaurantes encontrados
+     */
+    public List<UUID> search(String term, int limit) {
+        return index.search(term, limit);
+    }
+    
+    /**
+     * Indexa (ou reindexa) o nome do restaurante após o commit da transação corrente
+     * @param id ID do restaurante
+     * @param name nome do restaurante
+     */
+    public void putAfterCommit(UUID id, String name) {
+        TransactionCallbacks.afterCommit(() -> index.put(id, name));
+    }
+    
+    /**
+     * Remove os restaurantes do índice após o commit da transação corrente
+     * @param ids IDs dos restaurantes excluídos
+     */
+    public void removeAfterCommit(Collection<UUID> ids) {
+        TransactionCallbacks.afterCommit(() -> ids.forEach(index::remove));
+    }
+    
+    /**
+     * Reconstrói o índice com os nomes existentes no banco
+     * @param entries IDs e nomes de todos os restaurantes
+     */
+    public void rebuild(Stream<Entry> entries) {
+        index.rebuild(entries, Entry::id, Entry::name);
+    }
+    
+    /**
+     * ID e nome de um restaurante, projetados do banco para a reconstrução do índice
+     */
+    public record Entry(UUID id, String name) {
+    }
+}
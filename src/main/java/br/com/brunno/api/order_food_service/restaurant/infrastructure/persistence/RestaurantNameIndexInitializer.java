@@ -0,0 +1,32 @@
+// Arquivo para o RestaurantNameIndexInitializer - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Carrega o índice de busca por nome de restaurante a partir do banco durante a
+ * inicialização, antes de o servidor web começar a receber requisições.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantNameIndexInitializer implements SmartInitializingSingleton {
+    
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantNameIndex restaurantNameIndex;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<RestaurantNameIndex.Entry> entries = restaurantJpaRepository.streamAllNames()) {
+                restaurantNameIndex.rebuild(entries);
+            }
+        });
+    }
+}
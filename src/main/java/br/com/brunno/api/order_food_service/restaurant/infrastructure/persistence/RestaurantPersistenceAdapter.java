@@ -4,10 +4,14 @@ package br.com.brunno.api.order_food_service.restaurant.infrastructure.persisten
 
 import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
 import br.com.brunno.api.order_food_service.restaurant.domain.repository.RestaurantRepository;
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.Cnpj;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity.RestaurantJpaEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -21,24 +25,46 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class RestaurantPersistenceAdapter implements RestaurantRepository {
     
+    /**
+     * Quantidade máxima de IDs por comando DELETE na exclusão em lote
+     */
+    private static final int DELETE_BATCH_SIZE = 500;
+    
     private final RestaurantJpaRepository restaurantJpaRepository;
+    private final EntityManager entityManager;
+    private final RestaurantMembershipFilters restaurantMembershipFilters;
+    private final RestaurantNameIndex restaurantNameIndex;
+    private final ActiveRestaurantsSnapshot activeRestaurantsSnapshot;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final RestaurantCollectionVersion restaurantCollectionVersion;
     
     @Override
     public Restaurant save(Restaurant restaurant) {
         RestaurantJpaEntity restaurantJpaEntity = RestaurantJpaEntity.fromDomain(restaurant);
+        // Índices e fotografia em memória são atualizados pelo RestaurantJpaEntityListener após o commit
         RestaurantJpaEntity savedEntity = restaurantJpaRepository.save(restaurantJpaEntity);
         return savedEntity.toDomain();
     }
     
+    @Override
+    public Restaurant update(Restaurant restaurant) {
+        RestaurantJpaEntity savedEntity = restaurantJpaRepository.save(RestaurantJpaEntity.fromExistingDomain(restaurant));
+        return savedEntity.toDomain();
+    }
+    
     @Override
     public Optional<Restaurant> findById(UUID id) {
-        return restaurantJpaRepository.findByDomainId(id)
+        return restaurantJpaRepository.findById(id)
                 .map(RestaurantJpaEntity::toDomain);
     }
     
     @Override
     public Optional<Restaurant> findByCnpj(String cnpj) {
-        return restaurantJpaRepository.findByCnpj(cnpj)
+        String canonical = Cnpj.normalize(cnpj);
+        if (canonical == null) {
+            return Optional.empty();
+        }
+        return restaurantJpaRepository.findByCnpj(canonical)
                 .map(RestaurantJpaEntity::toDomain);
     }
     
@@ -48,6 +74,12 @@ public class RestaurantPersistenceAdapter implements RestaurantRepository {
                 .map(RestaurantJpaEntity::toDomain);
     }
     
+    @Override
+    public Optional<Restaurant> findByUserIdForUpdate(String userId) {
+        return restaurantJpaRepository.findLockedByUserId(userId)
+                .map(RestaurantJpaEntity::toDomain);
+    }
+    
     @Override
     public List<Restaurant> findAll() {
         return restaurantJpaRepository.findAll()
@@ -66,7 +98,8 @@ public class RestaurantPersistenceAdapter implements RestaurantRepository {
     
     @Override
     public List<Restaurant> findByNameContainingIgnoreCase(String name) {
-        return restaurantJpaRepository.findByNameContainingIgnoreCase(name)
+        // O índice de trigramas evita o LIKE '%...%', que percorre a tabela inteira
+        return restaurantJpaRepository.findAllById(restaurantNameIndex.search(name, Integer.MAX_VALUE))
                 .stream()
                 .map(RestaurantJpaEntity::toDomain)
                 .collect(Collectors.toList());
@@ -74,16 +107,69 @@ public class RestaurantPersistenceAdapter implements RestaurantRepository {
     
     @Override
     public boolean existsByCnpj(String cnpj) {
-        return restaurantJpaRepository.existsByCnpj(cnpj);
+        // O filtro é indexado pela forma canônica; CNPJ inválido não pode estar cadastrado
+        String canonical = Cnpj.normalize(cnpj);
+        if (canonical == null) {
+            return false;
+        }
+        // O filtro descarta sem consulta ao banco os CNPJs que com certeza não existem
+        if (!restaurantMembershipFilters.cnpjs().mightContain(canonical)) {
+            return false;
+        }
+        boolean exists = restaurantJpaRepository.existsByCnpj(canonical);
+        restaurantMembershipFilters.cnpjs().recordQueryResult(exists);
+        return exists;
     }
     
     @Override
     public boolean existsByUserId(String userId) {
-        return restaurantJpaRepository.existsByUserId(userId);
+        if (!restaurantMembershipFilters.owners().mightContain(userId)) {
+            return false;
+        }
+        boolean exists = restaurantJpaRepository.existsByUserId(userId);
+        restaurantMembershipFilters.owners().recordQueryResult(exists);
+        return exists;
     }
     
     @Override
-    public void deleteById(UUID id) {
-        restaurantJpaRepository.deleteByDomainId(id);
+    @Transactional
+    public int deleteById(UUID id) {
+        // DELETE direto: as linhas devolvidas pelo próprio comando indicam se o registro existia
+        return delete(List.of(id));
+    }
+    
+    @Override
+    @Transactional
+    public int deleteAllById(Collection<UUID> ids) {
+        List<UUID> distinctIds = ids.stream().distinct().toList();
+        int deleted = 0;
+        // Um comando DELETE por lote, limitando o tamanho da lista IN
+        for (int from = 0; from < distinctIds.size(); from += DELETE_BATCH_SIZE) {
+            deleted += delete(distinctIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctIds.size())));
+        }
+        return deleted;
+    }
+    
+    // Exclusões diretas não disparam @PostRemove: as chaves devolvidas pelo DELETE saem dos filtros
+    // de unicidade e das estruturas em memória após o commit
+    private int delete(List<UUID> ids) {
+        List<RestaurantJpaRepository.RestaurantKey> keys = restaurantJpaRepository.removeAllByIdInReturningKeys(ids);
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        // O DELETE nativo não passa pelo contexto de persistência: descarta entidades das linhas excluídas
+        entityManager.clear();
+        List<UUID> deletedIds = keys.stream().map(key -> UUID.fromString(key.id())).toList();
+        for (RestaurantJpaRepository.RestaurantKey key : keys) {
+            if (key.cnpj() != null) {
+                restaurantMembershipFilters.cnpjs().removeAfterCommit(Cnpj.toDigits(key.cnpj()));
+            }
+            restaurantMembershipFilters.owners().removeAfterCommit(key.userId());
+        }
+        restaurantNameIndex.removeAfterCommit(deletedIds);
+        activeRestaurantsSnapshot.removeAfterCommit(deletedIds);
+        restaurantGeoIndex.removeAfterCommit(deletedIds);
+        restaurantCollectionVersion.incrementAfterCommit();
+        return keys.size();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,132 @@
+// Arquivo para o RestaurantQueryAdapter - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.GetRestaurantResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.NearbyRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.query.RestaurantQueryRepository;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity.RestaurantJpaEntity;
+import br.com.brunno.api.order_food_service.shared.infrastructure.geo.GeoGridIndex;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador do modelo de leitura de restaurantes.
+ * As consultas projetam as colunas direto nos DTOs de resposta, em transações somente
+ * leitura, sem entidades gerenciadas nem conversão para o domínio.
+ */
+@Component
+@RequiredArgsConstructor
+public class RestaurantQueryAdapter implements RestaurantQueryRepository {
+    
+    private static final Map<String, Object> READ_ONLY = Map.of(HibernateHints.HINT_READ_ONLY, true);
+    
+    private final RestaurantJpaRepository restaurantJpaRepository;
+    private final RestaurantNameIndex restaurantNameIndex;
+    private final ActiveRestaurantsSnapshot activeRestaurantsSnapshot;
+    private final RestaurantGeoIndex restaurantGeoIndex;
+    private final RestaurantCollectionVersion restaurantCollectionVersion;
+    private final EntityManager entityManager;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<GetRestaurantResponse> findById(UUID id) {
+        // Para uma linha pela chave primária, find() read-only aloca menos que uma consulta JPQL:
+        // a entidade não guarda cópia para dirty checking e é mapeada direto na resposta
+        return Optional.ofNullable(entityManager.find(RestaurantJpaEntity.class, id, READ_ONLY))
+                .map(entity -> new GetRestaurantResponse(
+                    entity.getId(),
+                    entity.getUserId(),
+                    entity.getName(),
+                    entity.getCnpj(),
+                    entity.getLatitude(),
+                    entity.getLongitude(),
+                    entity.isActive(),
+                    entity.getCreatedAt(),
+                    entity.getUpdatedAt()));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ListRestaurantsResponse findAll() {
+        return new ListRestaurantsResponse(restaurantJpaRepository.findAllItems());
+    }
+    
+    @Override
+    public ListRestaurantsResponse findByActive(boolean active) {
+        // Ativos saem da fotografia em memória, sem transação nem consulta; inativos vêm do banco
+        if (active) {
+            return new ListRestaurantsResponse(activeRestaurantsSnapshot.current().items());
+        }
+        return new ListRestaurantsResponse(restaurantJpaRepository.findItemsByIsActive(false));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ListRestaurantsResponse searchByName(String term, int limit) {
+        // O índice resolve a busca em memória; o banco só é lido pela chave primária dos encontrados.
+        // IDs de restaurantes já excluídos simplesmente não retornam linhas
+        List<UUID> ids = restaurantNameIndex.search(term, limit);
+        if (ids.isEmpty()) {
+            return new ListRestaurantsResponse(List.of());
+        }
+        Map<UUID, Integer> positions = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+        List<ListRestaurantsResponse.RestaurantItem> items = restaurantJpaRepository.findItemsByIdIn(ids).stream()
+                .sorted(Comparator.comparing(item -> positions.get(item.getId())))
+                .toList();
+        return new ListRestaurantsResponse(items);
+    }
+    
+    @Override
+    public NearbyRestaurantsResponse findNearby(double latitude, double longitude, double radiusKm, int limit) {
+        // O índice espacial só visita as células ao redor do ponto; os dados vêm da fotografia de
+        // ativos, sem transação nem consulta. Um restaurante desativado entre as duas leituras é descartado
+        List<GeoGridIndex.Neighbor<UUID>> neighbors = restaurantGeoIndex.nearest(latitude, longitude, radiusKm, limit);
+        ActiveRestaurantsSnapshot.Snapshot snapshot = activeRestaurantsSnapshot.current();
+        List<NearbyRestaurantsResponse.NearbyItem> items = new ArrayList<>(neighbors.size());
+        for (GeoGridIndex.Neighbor<UUID> neighbor : neighbors) {
+            ListRestaurantsResponse.RestaurantItem item = snapshot.find(neighbor.key());
+            if (item != null) {
+                items.add(new NearbyRestaurantsResponse.NearbyItem(item, neighbor.distanceKm()));
+            }
+        }
+        return new NearbyRestaurantsResponse(items);
+    }
+    
+    @Override
+    public long version() {
+        return restaurantCollectionVersion.current();
+    }
+    
+    @Override
+    public boolean isActive(UUID id) {
+        // Busca binária na fotografia dos ativos, sem transação nem consulta
+        return activeRestaurantsSnapshot.current().find(id) != null;
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ListRestaurantsResponse.RestaurantItem> consumer) {
+        // Os itens não são entidades: nada se acumula no contexto de persistência durante a leitura
+        try (Stream<ListRestaurantsResponse.RestaurantItem> items = restaurantJpaRepository.streamAllItems()) {
+            items.forEach(consumer);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+// Arquivo para o CnpjConverter - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity;
+
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.Cnpj;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Grava o CNPJ como número (BIGINT) em vez de texto.
+ * O índice único fica com 8 bytes por chave e CNPJs com pontuações diferentes
+ * resultam no mesmo valor. Parâmetros de consultas sobre o atributo também passam
+ * por aqui, então buscas por CNPJ aceitam qualquer formatação.
+ */
+@Converter
+public class CnpjConverter implements AttributeConverter<String, Long> {
+    
+    @Override
+    public Long convertToDatabaseColumn(String cnpj) {
+        if (cnpj == null) {
+            return null;
+        }
+        long number = Cnpj.parse(cnpj);
+        if (number == Cnpj.INVALID) {
+            throw new IllegalArgumentException("CNPJ inválido: " + cnpj);
+        }
+        return number;
+    }
+    
+    @Override
+    public String convertToEntityAttribute(Long number) {
+        return number == null ? null : Cnpj.toDigits(number);
+    }
+}
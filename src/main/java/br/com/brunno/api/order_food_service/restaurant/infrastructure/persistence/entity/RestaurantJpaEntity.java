@@ -3,9 +3,13 @@
 package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity;
 
 import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.GeoLocation;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantJpaEntityListener;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -13,19 +17,18 @@ import java.util.UUID;
 /**
  * Entidade JPA para persistência de restaurantes.
  * Representa a tabela restaurants no banco de dados.
+ * A chave primária é o próprio ID de domínio (UUIDv7, ordenado pelo tempo).
+ * O CNPJ é gravado na forma numérica canônica (BIGINT), com o índice único sobre ela.
  */
 @Entity
 @Table(name = "restaurants")
+@EntityListeners(RestaurantJpaEntityListener.class)
 @Data
 @NoArgsConstructor
-public class RestaurantJpaEntity {
+public class RestaurantJpaEntity implements Persistable<UUID> {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "domain_id", nullable = false, unique = true)
-    private UUID domainId;
+    private UUID id;
     
     @Column(name = "user_id", nullable = false)
     private String userId;
@@ -34,8 +37,13 @@ public class RestaurantJpaEntity {
     private String name;
     
     @Column(nullable = false, unique = true)
+    @Convert(converter = CnpjConverter.class)
     private String cnpj;
     
+    private Double latitude;
+    
+    private Double longitude;
+    
     @Column(name = "is_active", nullable = false)
     private boolean isActive;
     
@@ -45,11 +53,33 @@ public class RestaurantJpaEntity {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    public RestaurantJpaEntity(UUID domainId, String userId, String name, String cnpj, boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
-        this.domainId = domainId;
+    // Evita o SELECT que o Spring Data faria antes de inserir uma entidade com ID atribuído
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+    
+    // CNPJ e dono gravados no banco, que são os que estão nos filtros de unicidade: o listener
+    // compara com eles para só mexer nos filtros quando a chave muda, e não a cada UPDATE
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private String persistedCnpj;
+    
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private String persistedUserId;
+    
+    public RestaurantJpaEntity(UUID id, String userId, String name, String cnpj, boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, name, cnpj, null, null, isActive, createdAt, updatedAt);
+    }
+    
+    public RestaurantJpaEntity(UUID id, String userId, String name, String cnpj, Double latitude, Double longitude,
+                               boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
         this.userId = userId;
         this.name = name;
         this.cnpj = cnpj;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.isActive = isActive;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -60,7 +90,24 @@ public class RestaurantJpaEntity {
      * @return entidade de domínio Restaurant
      */
     public Restaurant toDomain() {
-        return new Restaurant(domainId, userId, name, cnpj, isActive, createdAt, updatedAt);
+        return new Restaurant(id, userId, name, cnpj, GeoLocation.of(latitude, longitude), isActive, createdAt, updatedAt);
+    }
+    
+    /**
+     * Entidades criadas a partir do domínio são sempre inserções; as carregadas do banco não
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void markPersisted() {
+        this.persisted = true;
+        this.persistedCnpj = cnpj;
+        this.persistedUserId = userId;
     }
     
     /**
@@ -69,14 +116,28 @@ public class RestaurantJpaEntity {
      * @return entidade JPA
      */
     public static RestaurantJpaEntity fromDomain(Restaurant restaurant) {
+        GeoLocation location = restaurant.getLocation();
         return new RestaurantJpaEntity(
             restaurant.getId(),
             restaurant.getUserId(),
             restaurant.getName(),
             restaurant.getCnpj(),
+            location == null ? null : location.latitude(),
+            location == null ? null : location.longitude(),
             restaurant.isActive(),
             restaurant.getCreatedAt(),
             restaurant.getUpdatedAt()
         );
     }
+    
+    /**
+     * Cria uma entidade JPA a partir de um restaurante já gravado, para que o save gere UPDATE
+     * @param restaurant entidade de domínio existente
+     * @return entidade JPA
+     */
+    public static RestaurantJpaEntity fromExistingDomain(Restaurant restaurant) {
+        RestaurantJpaEntity entity = fromDomain(restaurant);
+        entity.persisted = true;
+        return entity;
+    }
 } 
\ No newline at end of file
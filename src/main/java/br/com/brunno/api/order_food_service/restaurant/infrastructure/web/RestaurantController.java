@@ -2,23 +2,44 @@
 
 package br.com.brunno.api.order_food_service.restaurant.infrastructure.web;
 
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.ChangeRestaurantStatusUseCase;
 import br.com.brunno.api.order_food_service.restaurant.application.usecase.CreateRestaurantUseCase;
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.DeleteRestaurantUseCase;
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.DeleteRestaurantsUseCase;
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.FindNearbyRestaurantsUseCase;
 import br.com.brunno.api.order_food_service.restaurant.application.usecase.GetRestaurantUseCase;
 import br.com.brunno.api.order_food_service.restaurant.application.usecase.ListRestaurantsUseCase;
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.SearchRestaurantsUseCase;
 import br.com.brunno.api.order_food_service.restaurant.application.dto.CreateRestaurantRequest;
 import br.com.brunno.api.order_food_service.restaurant.application.dto.CreateRestaurantResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.DeleteRestaurantsRequest;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.DeleteRestaurantsResponse;
 import br.com.brunno.api.order_food_service.restaurant.application.dto.GetRestaurantResponse;
 import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse;
+import br.com.brunno.api.order_food_service.restaurant.application.dto.NearbyRestaurantsResponse;
 import br.com.brunno.api.order_food_service.restaurant.domain.exceptions.RestaurantNotFoundException;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.BulkDeleteWebRequest;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.BulkDeleteWebResponse;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebRequest;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebResponse;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.GetRestaurantWebResponse;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.NearbyRestaurantWebResponse;
+import br.com.brunno.api.order_food_service.shared.infrastructure.export.ExportColumn;
+import br.com.brunno.api.order_food_service.shared.infrastructure.export.ExportFormat;
+import br.com.brunno.api.order_food_service.shared.infrastructure.export.StreamingExporter;
+import br.com.brunno.api.order_food_service.shared.infrastructure.web.EncodedResponseCache;
+import br.com.brunno.api.order_food_service.shared.infrastructure.web.EntityTags;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,9 +52,28 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class RestaurantController {
     
+    private static final List<ExportColumn<ListRestaurantsResponse.RestaurantItem>> EXPORT_COLUMNS = List.of(
+        new ExportColumn<>("id", ListRestaurantsResponse.RestaurantItem::getId),
+        new ExportColumn<>("userId", ListRestaurantsResponse.RestaurantItem::getUserId),
+        new ExportColumn<>("name", ListRestaurantsResponse.RestaurantItem::getName),
+        new ExportColumn<>("cnpj", ListRestaurantsResponse.RestaurantItem::getCnpj),
+        new ExportColumn<>("latitude", ListRestaurantsResponse.RestaurantItem::getLatitude),
+        new ExportColumn<>("longitude", ListRestaurantsResponse.RestaurantItem::getLongitude),
+        new ExportColumn<>("isActive", ListRestaurantsResponse.RestaurantItem::isActive),
+        new ExportColumn<>("createdAt", ListRestaurantsResponse.RestaurantItem::getCreatedAt),
+        new ExportColumn<>("updatedAt", ListRestaurantsResponse.RestaurantItem::getUpdatedAt)
+    );
+    
     private final CreateRestaurantUseCase createRestaurantUseCase;
     private final GetRestaurantUseCase getRestaurantUseCase;
     private final ListRestaurantsUseCase listRestaurantsUseCase;
+    private final SearchRestaurantsUseCase searchRestaurantsUseCase;
+    private final FindNearbyRestaurantsUseCase findNearbyRestaurantsUseCase;
+    private final ChangeRestaurantStatusUseCase changeRestaurantStatusUseCase;
+    private final DeleteRestaurantUseCase deleteRestaurantUseCase;
+    private final DeleteRestaurantsUseCase deleteRestaurantsUseCase;
+    private final StreamingExporter streamingExporter;
+    private final EncodedResponseCache<RestaurantListView> restaurantListCache;
     
     /**
      * Cria um novo restaurante
@@ -46,7 +86,9 @@ public class RestaurantController {
         CreateRestaurantRequest useCaseRequest = new CreateRestaurantRequest(
             request.getUserId(),
             request.getName(),
-            request.getCnpj()
+            request.getCnpj(),
+            request.getLatitude(),
+            request.getLongitude()
         );
         
         // Executa o use case
@@ -58,6 +100,8 @@ public class RestaurantController {
             useCaseResponse.getUserId(),
             useCaseResponse.getName(),
             useCaseResponse.getCnpj(),
+            useCaseResponse.getLatitude(),
+            useCaseResponse.getLongitude(),
             useCaseResponse.isActive(),
             useCaseResponse.getCreatedAt()
         );
@@ -66,48 +110,228 @@ public class RestaurantController {
     }
     
     /**
-     * Busca um restaurante pelo ID
+     * Busca um restaurante pelo ID. A ETag vem da data da última alteração: com If-None-Match
+     * igual, responde 304 sem corpo
      * @param id ID do restaurante
+     * @param webRequest requisição, para a validação condicional
      * @return dados do restaurante encontrado
      */
     @GetMapping("/{id}")
-    public ResponseEntity<GetRestaurantWebResponse> getRestaurantById(@PathVariable UUID id) {
+    public ResponseEntity<GetRestaurantWebResponse> getRestaurantById(@PathVariable UUID id, WebRequest webRequest) {
         GetRestaurantResponse useCaseResponse = getRestaurantUseCase.execute(id)
                 .orElseThrow(() -> new RestaurantNotFoundException("Restaurante não encontrado com ID: " + id));
         
-        GetRestaurantWebResponse webResponse = new GetRestaurantWebResponse(
+        LocalDateTime changedAt = useCaseResponse.getUpdatedAt() != null
+                ? useCaseResponse.getUpdatedAt()
+                : useCaseResponse.getCreatedAt();
+        if (webRequest.checkNotModified(EntityTags.ofTimestamp(changedAt))) {
+            return null;
+        }
+        return ResponseEntity.ok(toWebResponse(useCaseResponse));
+    }
+    
+    /**
+     * Lista todos os restaurantes. Com If-None-Match igual à versão da coleção, responde 304
+     * sem consultar o banco; caso contrário serve o JSON (ou gzip) já serializado do cache
+     * @param acceptEncoding codificações aceitas pelo cliente
+     * @param webRequest requisição, para a validação condicional
+     * @return lista de restaurantes
+     */
+    @GetMapping
+    public ResponseEntity<byte[]> getAllRestaurants(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        if (collectionNotModified(webRequest)) {
+            return null;
+        }
+        return cachedList(RestaurantListView.ALL, acceptEncoding);
+    }
+    
+    /**
+     * Lista os restaurantes pelo status. Os ativos (vitrine) são montados da fotografia em
+     * memória, sem acesso ao banco, e servidos já serializados do cache.
+     * Com If-None-Match igual à versão da coleção, responde 304
+     * @param active true para ativos, false para inativos
+     * @param acceptEncoding codificações aceitas pelo cliente
+     * @param webRequest requisição, para a validação condicional
+     * @return lista de restaurantes com o status informado
+     */
+    @GetMapping(params = "active")
+    public ResponseEntity<byte[]> getRestaurantsByStatus(
+            @RequestParam boolean active,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+        if (collectionNotModified(webRequest)) {
+            return null;
+        }
+        return cachedList(RestaurantListView.of(active), acceptEncoding);
+    }
+    
+    /**
+     * Ativa um restaurante
+     * @param id ID do restaurante
+     * @return dados do restaurante atualizado
+     */
+    @PostMapping("/{id}/activate")
+    public ResponseEntity<GetRestaurantWebResponse> activateRestaurant(@PathVariable UUID id) {
+        return ResponseEntity.ok(toWebResponse(changeRestaurantStatusUseCase.activate(id)));
+    }
+    
+    /**
+     * Desativa um restaurante
+     * @param id ID do restaurante
+     * @return dados do restaurante atualizado
+     */
+    @PostMapping("/{id}/deactivate")
+    public ResponseEntity<GetRestaurantWebResponse> deactivateRestaurant(@PathVariable UUID id) {
+        return ResponseEntity.ok(toWebResponse(changeRestaurantStatusUseCase.deactivate(id)));
+    }
+    
+    /**
+     * Busca restaurantes por trecho do nome, ignorando maiúsculas e acentos
+     * @param q trecho do nome
+     * @param limit quantidade máxima de resultados
+     * @return restaurantes encontrados
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<GetRestaurantWebResponse>> searchRestaurants(
+            @RequestParam String q,
+            @RequestParam(required = false) Integer limit) {
+        ListRestaurantsResponse useCaseResponse = searchRestaurantsUseCase.execute(q, limit);
+        
+        return ResponseEntity.ok(toWebResponses(useCaseResponse));
+    }
+    
+    /**
+     * Busca os restaurantes ativos próximos a um ponto, do mais próximo ao mais distante
+     * @param lat latitude do ponto
+     * @param lon longitude do ponto
+     * @param radiusKm raio da busca em quilômetros
+     * @param limit quantidade máxima de resultados
+     * @return restaurantes encontrados com a distância até o ponto
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<List<NearbyRestaurantWebResponse>> findNearbyRestaurants(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(required = false) Double radiusKm,
+            @RequestParam(required = false) Integer limit) {
+        NearbyRestaurantsResponse useCaseResponse = findNearbyRestaurantsUseCase.execute(lat, lon, radiusKm, limit);
+        
+        List<NearbyRestaurantWebResponse> webResponse = useCaseResponse.getRestaurants().stream()
+                .map(nearbyItem -> new NearbyRestaurantWebResponse(
+                    nearbyItem.getRestaurant().getId(),
+                    nearbyItem.getRestaurant().getUserId(),
+                    nearbyItem.getRestaurant().getName(),
+                    nearbyItem.getRestaurant().getCnpj(),
+                    nearbyItem.getRestaurant().getLatitude(),
+                    nearbyItem.getRestaurant().getLongitude(),
+                    nearbyItem.getRestaurant().isActive(),
+                    nearbyItem.getRestaurant().getCreatedAt(),
+                    nearbyItem.getRestaurant().getUpdatedAt(),
+                    nearbyItem.getDistanceKm()
+                ))
+                .toList();
+        
+        return ResponseEntity.ok(webResponse);
+    }
+    
+    /**
+     * Exporta todos os restaurantes em NDJSON ou CSV, lidos do banco por cursor e escritos direto
+     * na resposta. O conteúdo é comprimido com gzip quando o cliente envia Accept-Encoding: gzip
+     * @param format formato da exportação (ndjson ou csv)
+     * @param acceptEncoding header Accept-Encoding da requisição
+     * @return arquivo de exportação em streaming
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportRestaurants(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return streamingExporter.export(
+            "restaurants",
+            ExportFormat.fromParameter(format),
+            StreamingExporter.acceptsGzip(acceptEncoding),
+            EXPORT_COLUMNS,
+            listRestaurantsUseCase::executeStreaming
+        );
+    }
+    
+    /**
+     * Exclui um restaurante pelo ID
+     * @param id ID do restaurante a ser excluído
+     * @return resposta sem conteúdo
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteRestaurant(@PathVariable UUID id) {
+        deleteRestaurantUseCase.execute(id);
+        
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Exclui vários restaurantes pelos IDs; IDs inexistentes são apenas contabilizados
+     * @param request IDs dos restaurantes a serem excluídos
+     * @return quantidades de restaurantes solicitados, excluídos e não encontrados
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteWebResponse> deleteRestaurants(@Valid @RequestBody BulkDeleteWebRequest request) {
+        DeleteRestaurantsResponse useCaseResponse = deleteRestaurantsUseCase.execute(
+                new DeleteRestaurantsRequest(request.getIds()));
+        
+        BulkDeleteWebResponse webResponse = new BulkDeleteWebResponse(
+            useCaseResponse.getRequested(),
+            useCaseResponse.getDeleted(),
+            useCaseResponse.getNotFound()
+        );
+        
+        return ResponseEntity.ok(webResponse);
+    }
+    
+    // Compara o If-None-Match com a versão da coleção (e define o header ETag da resposta).
+    // A versão é lida antes da consulta: uma alteração concorrente faz no máximo o cliente buscar de novo
+    private boolean collectionNotModified(WebRequest webRequest) {
+        return webRequest.checkNotModified(EntityTags.ofCollection(listRestaurantsUseCase.version()));
+    }
+    
+    // Corpo já serializado: o gzip pronto vai para quem o aceita, sem comprimir por requisição
+    private ResponseEntity<byte[]> cachedList(RestaurantListView view, String acceptEncoding) {
+        EncodedResponseCache.EncodedResponse encoded = restaurantListCache.get(view);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.hasGzip() && StreamingExporter.acceptsGzip(acceptEncoding)) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(encoded.gzip());
+        }
+        return response.body(encoded.json());
+    }
+    
+    private static GetRestaurantWebResponse toWebResponse(GetRestaurantResponse useCaseResponse) {
+        return new GetRestaurantWebResponse(
             useCaseResponse.getId(),
             useCaseResponse.getUserId(),
             useCaseResponse.getName(),
             useCaseResponse.getCnpj(),
+            useCaseResponse.getLatitude(),
+            useCaseResponse.getLongitude(),
             useCaseResponse.isActive(),
             useCaseResponse.getCreatedAt(),
             useCaseResponse.getUpdatedAt()
         );
-        
-        return ResponseEntity.ok(webResponse);
     }
     
-    /**
-     * Lista todos os restaurantes
-     * @return lista de restaurantes
-     */
-    @GetMapping
-    public ResponseEntity<List<GetRestaurantWebResponse>> getAllRestaurants() {
-        ListRestaurantsResponse useCaseResponse = listRestaurantsUseCase.execute();
-        
-        List<GetRestaurantWebResponse> webResponses = useCaseResponse.getRestaurants().stream()
+    static List<GetRestaurantWebResponse> toWebResponses(ListRestaurantsResponse useCaseResponse) {
+        return useCaseResponse.getRestaurants().stream()
                 .map(restaurantItem -> new GetRestaurantWebResponse(
                     restaurantItem.getId(),
                     restaurantItem.getUserId(),
                     restaurantItem.getName(),
                     restaurantItem.getCnpj(),
+                    restaurantItem.getLatitude(),
+                    restaurantItem.getLongitude(),
                     restaurantItem.isActive(),
                     restaurantItem.getCreatedAt(),
                     restaurantItem.getUpdatedAt()
                 ))
                 .toList();
-        
-        return ResponseEntity.ok(webResponses);
     }
 } 
\ No newline at end of file
@@ -77,6 +77,21 @@ public class RestaurantExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
     }
     
+    /**
+     * Trata exceções de argumento ilegal
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<RestaurantErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
+        RestaurantErrorResponse errorResponse = new RestaurantErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Argumento inválido",
+            ex.getMessage()
+        );
+        
+        return ResponseEntity.badRequest().body(errorResponse);
+    }
+    
     /**
      * Trata exceções genéricas
      */
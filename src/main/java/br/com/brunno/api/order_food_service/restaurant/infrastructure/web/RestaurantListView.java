@@ -0,0 +1,21 @@
+// Arquivo para o RestaurantListView - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.web;
+
+/**
+ * Listagens de restaurantes servidas pelo cache de respostas serializadas
+ */
+public enum RestaurantListView {
+    ALL,
+    ACTIVE,
+    INACTIVE;
+    
+    /**
+     * Listagem filtrada pelo status
+     * @param active true para ativos, false para inativos
+     * @return listagem correspondente
+     */
+    public static RestaurantListView of(boolean active) {
+        return active ? ACTIVE : INACTIVE;
+    }
+}
@@ -0,0 +1,47 @@
+// Arquivo para o RestaurantResponseCacheConfig - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.ListRestaurantsUseCase;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantCollectionVersion;
+import br.com.brunno.api.order_food_service.shared.infrastructure.datasource.ReadConsistency;
+import br.com.brunno.api.order_food_service.shared.infrastructure.web.EncodedResponseCache;
+import br.com.brunno.api.order_food_service.shared.infrastructure.web.ResponseCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache das listagens de restaurantes já serializadas.
+ * As entradas são invalidadas pela versão da coleção, incrementada em toda gravação e exclusão
+ * (RestaurantRepository.save, update, deleteById e deleteAllById), e reconstruídas em segundo plano.
+ * Com réplica de leitura, a consulta exige a réplica em dia com a última escrita: a entrada é
+ * servida a todos os clientes com a versão lida antes dela.
+ */
+@Configuration
+@EnableConfigurationProperties(ResponseCacheProperties.class)
+public class RestaurantResponseCacheConfig {
+    
+    @Bean
+    public EncodedResponseCache<RestaurantListView> restaurantListCache(ListRestaurantsUseCase listRestaurantsUseCase,
+                                                                        RestaurantCollectionVersion restaurantCollectionVersion,
+                                                                        ObjectMapper objectMapper,
+                                                                        ResponseCacheProperties properties,
+                                                                        MeterRegistry meterRegistry) {
+        return new EncodedResponseCache<>(
+            "restaurants",
+            restaurantCollectionVersion,
+            view -> RestaurantController.toWebResponses(ReadConsistency.latest(() -> switch (view) {
+                case ALL -> listRestaurantsUseCase.execute();
+                case ACTIVE -> listRestaurantsUseCase.execute(true);
+                case INACTIVE -> listRestaurantsUseCase.execute(false);
+            })),
+            objectMapper,
+            properties.enabled(),
+            properties.gzip(),
+            meterRegistry
+        );
+    }
+}
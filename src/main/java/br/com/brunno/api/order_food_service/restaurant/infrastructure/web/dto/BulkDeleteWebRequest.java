@@ -0,0 +1,37 @@
+// Arquivo para o BulkDeleteWebRequest - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de requisição para exclusão em lote de restaurantes na camada web.
+ * Contém os IDs dos restaurantes a serem excluídos.
+ */
+public class BulkDeleteWebRequest {
+    
+    @NotEmpty(message = "Lista de IDs é obrigatória")
+    @Size(max = 1000, message = "Máximo de 1000 IDs por requisição")
+    private List<@NotNull(message = "ID não pode ser nulo") UUID> ids;
+    
+    // Construtores
+    public BulkDeleteWebRequest() {}
+    
+    public BulkDeleteWebRequest(List<UUID> ids) {
+        this.ids = ids;
+    }
+    
+    // Getters e Setters
+    public List<UUID> getIds() {
+        return ids;
+    }
+    
+    public void setIds(List<UUID> ids) {
+        this.ids = ids;
+    }
+}
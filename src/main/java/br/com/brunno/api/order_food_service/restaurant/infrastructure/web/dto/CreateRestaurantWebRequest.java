@@ -2,13 +2,13 @@
 
 package br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto;
 
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.validation.ValidCnpj;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 
-import org.hibernate.validator.constraints.br.CNPJ;
-
 /**
  * DTO de requisição para criação de restaurante na camada web.
  * Contém os dados do restaurante a ser criado para recebimento do cliente.
@@ -23,10 +23,19 @@ public class CreateRestaurantWebRequest {
     @Size(min = 2, max = 255, message = "Nome deve ter entre 2 e 255 caracteres")
     private String name;
 
-    @CNPJ(message = "CNPJ inválido")
+    // Aceita o CNPJ com ou sem pontuação; a resposta traz sempre somente os dígitos
+    @ValidCnpj(message = "CNPJ inválido")
     @NotBlank(message = "CNPJ é obrigatório")
-    @Pattern(regexp = "\\d{14}", message = "CNPJ deve conter exatamente 14 dígitos numéricos")
     private String cnpj;
+
+    // Localização opcional; sem ela o restaurante não aparece na busca por proximidade
+    @DecimalMin(value = "-90.0", message = "Latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "Latitude deve estar entre -90 e 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "Longitude deve estar entre -180 e 180")
+    private Double longitude;
     
     // Construtores
     public CreateRestaurantWebRequest() {}
@@ -37,6 +46,12 @@ public class CreateRestaurantWebRequest {
         this.cnpj = cnpj;
     }
     
+    public CreateRestaurantWebRequest(String userId, String name, String cnpj, Double latitude, Double longitude) {
+        this(userId, name, cnpj);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+    
     // Getters e Setters
     public String getUserId() {
         return userId;
@@ -61,4 +76,20 @@ public class CreateRestaurantWebRequest {
     public void setCnpj(String cnpj) {
         this.cnpj = cnpj;
     }
+    
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
 } 
\ No newline at end of file
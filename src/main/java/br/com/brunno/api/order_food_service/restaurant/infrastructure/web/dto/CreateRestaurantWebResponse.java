@@ -17,6 +17,8 @@ public class CreateRestaurantWebResponse {
     private String userId;
     private String name;
     private String cnpj;
+    private Double latitude;
+    private Double longitude;
     @JsonProperty("isActive")
     private boolean active;
     private LocalDateTime createdAt;
@@ -25,10 +27,17 @@ public class CreateRestaurantWebResponse {
     public CreateRestaurantWebResponse() {}
     
     public CreateRestaurantWebResponse(UUID id, String userId, String name, String cnpj, boolean active, LocalDateTime createdAt) {
+        this(id, userId, name, cnpj, null, null, active, createdAt);
+    }
+    
+    public CreateRestaurantWebResponse(UUID id, String userId, String name, String cnpj, Double latitude, Double longitude,
+                                       boolean active, LocalDateTime createdAt) {
         this.id = id;
         this.userId = userId;
         this.name = name;
         this.cnpj = cnpj;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.active = active;
         this.createdAt = createdAt;
     }
@@ -66,6 +75,22 @@ public class CreateRestaurantWebResponse {
         this.cnpj = cnpj;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     public boolean isActive() {
         return active;
     }
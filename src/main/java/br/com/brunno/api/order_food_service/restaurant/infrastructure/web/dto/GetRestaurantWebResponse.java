@@ -15,6 +15,8 @@ public class GetRestaurantWebResponse {
     private String userId;
     private String name;
     private String cnpj;
+    private Double latitude;
+    private Double longitude;
     private boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
@@ -23,10 +25,17 @@ public class GetRestaurantWebResponse {
     public GetRestaurantWebResponse() {}
     
     public GetRestaurantWebResponse(UUID id, String userId, String name, String cnpj, boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, userId, name, cnpj, null, null, isActive, createdAt, updatedAt);
+    }
+    
+    public GetRestaurantWebResponse(UUID id, String userId, String name, String cnpj, Double latitude, Double longitude,
+                                    boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt) {
         this.id = id;
         this.userId = userId;
         this.name = name;
         this.cnpj = cnpj;
+        this.latitude = latitude;
+        this.longitude = longitude;
         this.isActive = isActive;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -65,6 +74,22 @@ public class GetRestaurantWebResponse {
         this.cnpj = cnpj;
     }
     
+    public Double getLatitude() {
+        return latitude;
+    }
+    
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+    
+    public Double getLongitude() {
+        return longitude;
+    }
+    
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+    
     public boolean isActive() {
         return isActive;
     }
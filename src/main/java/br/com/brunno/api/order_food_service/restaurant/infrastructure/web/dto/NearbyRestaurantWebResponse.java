@@ -0,0 +1,33 @@
+// Arquivo para o NearbyRestaurantWebResponse - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de resposta para a busca de restaurantes próximos na camada web.
+ * Contém os dados do restaurante e a distância até o ponto informado pelo cliente.
+ */
+public class NearbyRestaurantWebResponse extends GetRestaurantWebResponse {
+    
+    private double distanceKm;
+    
+    // Construtores
+    public NearbyRestaurantWebResponse() {}
+    
+    public NearbyRestaurantWebResponse(UUID id, String userId, String name, String cnpj, Double latitude, Double longitude,
+                                       boolean isActive, LocalDateTime createdAt, LocalDateTime updatedAt, double distanceKm) {
+        super(id, userId, name, cnpj, latitude, longitude, isActive, createdAt, updatedAt);
+        this.distanceKm = distanceKm;
+    }
+    
+    // Getters e Setters
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+    
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+}
@@ -0,0 +1,18 @@
+// Arquivo para o CnpjValidator - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.web.validation;
+
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.Cnpj;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+/**
+ * Validador da anotação {@link ValidCnpj}
+ */
+public class CnpjValidator implements ConstraintValidator<ValidCnpj, String> {
+    
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        return value == null || value.isEmpty() || Cnpj.isValid(value);
+    }
+}
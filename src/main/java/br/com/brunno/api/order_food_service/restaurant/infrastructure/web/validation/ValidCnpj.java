@@ -0,0 +1,29 @@
+// Arquivo para o ValidCnpj - Camada de Infraestrutura Web
+
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.web.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Valida um CNPJ com ou sem pontuação, incluindo os dígitos verificadores.
+ * Usa a mesma regra do domínio (Cnpj); valores nulos são deixados para o @NotBlank.
+ */
+@Documented
+@Constraint(validatedBy = CnpjValidator.class)
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ValidCnpj {
+    
+    String message() default "CNPJ inválido";
+    
+    Class<?>[] groups() default {};
+    
+    Class<? extends Payload>[] payload() default {};
+}
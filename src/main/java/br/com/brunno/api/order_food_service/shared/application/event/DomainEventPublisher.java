@@ -0,0 +1,19 @@
+// Arquivo para a interface DomainEventPublisher - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.shared.application.event;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+/**
+ * Porta de publicação de eventos de domínio para os outros contextos do próprio serviço
+ * (barramento em memória). Para outros serviços os eventos seguem pela caixa de saída.
+ */
+public interface DomainEventPublisher {
+    
+    /**
+     * Publica o evento depois do commit da transação corrente (ou imediatamente, sem transação).
+     * Nunca espera pelos assinantes: um assinante lento não atrasa o caso de uso
+     * @param event evento a publicar
+     */
+    void publish(DomainEvent event);
+}
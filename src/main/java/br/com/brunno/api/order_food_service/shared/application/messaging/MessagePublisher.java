@@ -0,0 +1,19 @@
+// Arquivo para a interface MessagePublisher - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.shared.application.messaging;
+
+import java.util.List;
+
+/**
+ * Porta de publicação de mensagens no broker (RabbitMQ ou o broker em memória).
+ */
+public interface MessagePublisher {
+    
+    /**
+     * Publica as mensagens, na ordem da lista
+     * @param messages mensagens a publicar
+     * @throws RuntimeException se o broker não confirmar a publicação; nenhuma mensagem do lote
+     * é considerada publicada e o lote inteiro é reenviado depois
+     */
+    void publish(List<OutboundMessage> messages);
+}
@@ -0,0 +1,19 @@
+// Arquivo para o OutboundMessage - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.shared.application.messaging;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Mensagem a ser publicada no broker.
+ *
+ * @param id ID do evento, usado pelos consumidores para descartar entregas repetidas
+ * @param destination exchange de destino (ex: pedido.events)
+ * @param type nome do evento, usado como routing key (ex: PedidoCriado)
+ * @param key ID do agregado de origem
+ * @param payload corpo em JSON
+ * @param occurredAt instante em que o evento ocorreu
+ */
+public record OutboundMessage(UUID id, String destination, String type, UUID key, String payload, Instant occurredAt) {
+}
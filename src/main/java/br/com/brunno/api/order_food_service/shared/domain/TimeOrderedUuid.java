@@ -0,0 +1,75 @@
+// Arquivo para o TimeOrderedUuid - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.shared.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de UUIDs ordenados pelo tempo no formato UUIDv7 (RFC 9562).
+ * Os 48 bits mais significativos guardam o instante em milissegundos, de modo que
+ * identificadores novos são sempre maiores que os anteriores e os inserts no índice
+ * da chave primária acontecem no final da árvore em vez de espalhados.
+ * <p>
+ * Os 12 bits seguintes (rand_a) funcionam como contador dentro do mesmo milissegundo,
+ * garantindo ordem estritamente crescente mesmo com várias gerações por milissegundo
+ * ou com o relógio voltando no tempo. Os 62 bits finais são aleatórios.
+ */
+public final class TimeOrderedUuid {
+    
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+    private static final long RANDOM_62_BITS_MASK = 0x3FFFFFFFFFFFFFFFL;
+    
+    /**
+     * Último (timestamp << 12 | contador) emitido
+     */
+    private static final AtomicLong lastTimestampAndCounter = new AtomicLong();
+    
+    private TimeOrderedUuid() {
+    }
+    
+    /**
+     * Gera um novo UUID maior que todos os gerados anteriormente por esta JVM
+     * @return UUID versão 7
+     */
+    public static UUID next() {
+        long timestampAndCounter = nextTimestampAndCounter(System.currentTimeMillis());
+        
+        long timestamp = timestampAndCounter >>> COUNTER_BITS;
+        long counter = timestampAndCounter & COUNTER_MASK;
+        long mostSignificantBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSignificantBits = VARIANT_RFC_4122
+                | (ThreadLocalRandom.current().nextLong() & RANDOM_62_BITS_MASK);
+        
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+    
+    /**
+     * Extrai o instante de geração (epoch em milissegundos) de um UUIDv7
+     * @param uuid UUID versão 7
+     * @return milissegundos desde a epoch
+     */
+    public static long timestampOf(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("UUID não é da versão 7: " + uuid);
+        }
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+    
+    private static long nextTimestampAndCounter(long now) {
+        long candidate = now << COUNTER_BITS;
+        while (true) {
+            long last = lastTimestampAndCounter.get();
+            // Mesmo milissegundo (ou relógio atrasado): incrementa o contador; ao estourar
+            // os 12 bits o incremento avança para o próximo milissegundo
+            long next = candidate > last ? candidate : last + 1;
+            if (lastTimestampAndCounter.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
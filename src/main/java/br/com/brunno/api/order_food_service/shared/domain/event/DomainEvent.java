@@ -0,0 +1,42 @@
+// Arquivo para o DomainEvent - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.shared.domain.event;
+
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Evento de domínio a ser publicado para outros serviços (ex: "PedidoCriado").
+ * O ID é um UUIDv7: ordena os eventos pelo instante de criação e serve de chave de
+ * deduplicação para os consumidores, já que a entrega é pelo menos uma vez.
+ *
+ * @param id identificador único do evento
+ * @param type nome do evento
+ * @param aggregateType agregado de origem (pedido, restaurante, usuario); define o destino
+ * @param aggregateId ID do agregado de origem
+ * @param payload dados do evento, serializados em JSON na gravação
+ * @param occurredAt instante em que o evento ocorreu
+ */
+public record DomainEvent(UUID id, String type, String aggregateType, UUID aggregateId, Object payload, Instant occurredAt) {
+    
+    public DomainEvent {
+        if (type == null || type.isBlank()) {
+            throw new IllegalArgumentException("Tipo do evento é obrigatório");
+        }
+        if (aggregateType == null || aggregateType.isBlank()) {
+            throw new IllegalArgumentException("Tipo do agregado é obrigatório");
+        }
+        if (aggregateId == null) {
+            throw new IllegalArgumentException("ID do agregado é obrigatório");
+        }
+    }
+    
+    /**
+     * Cria um evento que ocorreu agora
+     */
+    public static DomainEvent of(String type, String aggregateType, UUID aggregateId, Object payload) {
+        return new DomainEvent(TimeOrderedUuid.next(), type, aggregateType, aggregateId, payload, Instant.now());
+    }
+}
@@ -0,0 +1,27 @@
+// Arquivo para a interface OutboxRepository - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.shared.domain.repository;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+import java.util.List;
+
+/**
+ * Interface da caixa de saída de eventos (transactional outbox).
+ * Os eventos são gravados na mesma transação da alteração de domínio que os gerou: ou os dois
+ * são confirmados, ou nenhum. A publicação no broker acontece depois, fora da transação.
+ */
+public interface OutboxRepository {
+    
+    /**
+     * Grava um evento para publicação; exige uma transação ativa
+     * @param event evento de domínio
+     */
+    void append(DomainEvent event);
+    
+    /**
+     * Grava vários eventos para publicação; exige uma transação ativa
+     * @param events eventos de domínio
+     */
+    void appendAll(List<DomainEvent> events);
+}
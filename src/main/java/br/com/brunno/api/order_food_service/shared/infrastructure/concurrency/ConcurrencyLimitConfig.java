@@ -0,0 +1,32 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do limite de requisições simultâneas.
+ * Ativada com request.concurrency-limit.enabled=true (perfil virtual-threads).
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+@ConditionalOnProperty(prefix = "request.concurrency-limit", name = "enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+    
+    /**
+     * Registra o filtro apenas para os endpoints da API, deixando actuator e console H2 de fora
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(ConcurrencyLimitProperties properties,
+                                                                                 ObjectMapper objectMapper,
+                                                                                 MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration =
+                new FilterRegistrationBean<>(new ConcurrencyLimitFilter(properties, objectMapper, meterRegistry));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
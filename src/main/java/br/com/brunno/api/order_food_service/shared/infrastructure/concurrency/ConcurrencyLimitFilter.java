@@ -0,0 +1,97 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limita quantas requisições da API são processadas ao mesmo tempo.
+ * Com threads virtuais não há mais o teto do pool do Tomcat: sem este limite, uma rajada cria
+ * milhares de threads esperando conexão no pool do banco até estourar o connection-timeout.
+ * Aqui o excesso espera no máximo maxWait por uma vaga e depois recebe 503 com Retry-After.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+    
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+    private final ObjectMapper objectMapper;
+    private final Counter rejected;
+    
+    /**
+     * Construtor que registra as métricas do limite
+     * @param properties configuração do limite
+     * @param objectMapper mapper usado para escrever a resposta de erro
+     * @param meterRegistry registro de métricas
+     */
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(properties.maxConcurrent(), true);
+        this.maxWaitNanos = properties.maxWait().toNanos();
+        this.objectMapper = objectMapper;
+        
+        Gauge.builder("http.server.requests.in.flight", permits,
+                        semaphore -> properties.maxConcurrent() - semaphore.availablePermits())
+                .description("Requisições da API em processamento")
+                .register(meterRegistry);
+        Gauge.builder("http.server.requests.queued", permits, Semaphore::getQueueLength)
+                .description("Requisições da API aguardando vaga")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("http.server.requests.rejected")
+                .description("Requisições recusadas com 503 por excesso de concorrência")
+                .register(meterRegistry);
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        
+        if (!acquired) {
+            rejected.increment();
+            writeServiceUnavailable(response);
+            return;
+        }
+        
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            permits.release();
+        }
+    }
+    
+    private void writeServiceUnavailable(HttpServletResponse response) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("timestamp", LocalDateTime.now());
+        body.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        body.put("error", "Serviço sobrecarregado");
+        body.put("message", "Limite de requisições simultâneas atingido, tente novamente");
+        
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,20 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do limite de requisições simultâneas na API (prefixo request.concurrency-limit).
+ *
+ * @param enabled habilita o limite; com threads de plataforma o próprio pool do Tomcat já limita
+ * @param maxConcurrent quantidade máxima de requisições em processamento ao mesmo tempo
+ * @param maxWait tempo máximo que uma requisição espera por uma vaga antes de receber 503
+ */
+@ConfigurationProperties(prefix = "request.concurrency-limit")
+public record ConcurrencyLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("200") int maxConcurrent,
+        @DefaultValue("500ms") Duration maxWait) {
+}
@@ -0,0 +1,190 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.concurrency;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Fila circular pré-alocada com vários produtores e um único consumidor, no estilo do Disruptor.
+ * Os slots são criados uma vez e reaproveitados: o produtor reserva uma sequência com CAS no
+ * cursor (sem lock), preenche o slot e o publica; o consumidor lê de uma vez todas as sequências
+ * contíguas já publicadas e libera os slots avançando a própria sequência.
+ * A publicação de cada slot é marcada com a volta (sequência / capacidade) em que ele foi
+ * escrito, então publicações fora de ordem não expõem slots ainda em preenchimento.
+ * Sem espaço, o produtor espera em intervalos curtos até o limite informado; o consumidor,
+ * sem nada publicado, fica estacionado até a próxima publicação.
+ *
+ * @param <E> tipo do slot
+ */
+public class RingBuffer<E> {
+
+    private static final long FULL_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final int capacity;
+    private final int mask;
+    private final int shift;
+    private final Object[] slots;
+    private final AtomicIntegerArray published;
+    // Última sequência reservada por um produtor
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // Última sequência liberada pelo consumidor; escrita somente pela thread consumidora
+    private volatile long consumed = -1;
+    private volatile boolean consumerWaiting;
+    private volatile Thread consumerThread;
+
+    /**
+     * @param capacity quantidade de slots, potência de 2
+     * @param factory cria cada slot uma única vez
+     */
+    public RingBuffer(int capacity, Supplier<E> factory) {
+        if (capacity < 1 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacidade deve ser uma potência de 2: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.shift = Integer.numberOfTrailingZeros(capacity);
+        this.slots = new Object[capacity];
+        this.published = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = factory.get();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Reserva a próxima sequência sem esperar
+     * @return sequência reservada, ou -1 quando todos os slots estão ocupados
+     */
+    public long tryNext() {
+        long current;
+        long next;
+        do {
+            current = cursor.get();
+            next = current + 1;
+            if (next - capacity > consumed) {
+                return -1;
+            }
+        } while (!cursor.compareAndSet(current, next));
+        return next;
+    }
+
+    /**
+     * Reserva a próxima sequência, esperando até timeout por um slot livre
+     * @param timeout espera máxima
+     * @param unit unidade do timeout
+     * @return sequência reservada, ou -1 se o consumidor não liberou espaço a tempo
+     */
+    public long next(long timeout, TimeUnit unit) {
+        long sequence = tryNext();
+        if (sequence >= 0) {
+            return sequence;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (System.nanoTime() < deadline) {
+            LockSupport.parkNanos(FULL_WAIT_NANOS);
+            sequence = tryNext();
+            if (sequence >= 0) {
+                return sequence;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Slot de uma sequência reservada (pelo produtor) ou publicada (pelo consumidor)
+     */
+    @SuppressWarnings("unchecked")
+    public E get(long sequence) {
+        return (E) slots[(int) sequence & mask];
+    }
+
+    /**
+     * Publica o slot preenchido e acorda o consumidor se ele estiver esperando
+     * @param sequence sequência obtida em next/tryNext
+     */
+    public void publish(long sequence) {
+        published.set((int) sequence & mask, (int) (sequence >>> shift));
+        if (consumerWaiting) {
+            LockSupport.unpark(consumerThread);
+        }
+    }
+
+    /**
+     * Espera (somente a thread consumidora) até haver um slot publicado
+     * @param timeout espera máxima
+     * @param unit unidade do timeout
+     * @return true se há slot publicado para consumir
+     */
+    public boolean awaitPublished(long timeout, TimeUnit unit) {
+        long next = consumed + 1;
+        if (isPublished(next)) {
+            return true;
+        }
+        consumerThread = Thread.currentThread();
+        consumerWaiting = true;
+        try {
+            // Confere de novo depois de sinalizar a espera: um publish anterior não viu o sinal
+            if (isPublished(next)) {
+                return true;
+            }
+            LockSupport.parkNanos(this, unit.toNanos(timeout));
+            return isPublished(next);
+        } finally {
+            consumerWaiting = false;
+        }
+    }
+
+    /**
+     * Entrega ao handler (somente a thread consumidora) os slots publicados em sequência, até
+     * maxBatch, e só então os libera para os produtores
+     * @param maxBatch quantidade máxima de slots no lote
+     * @param handler recebe cada slot; deve copiar o que precisa, pois o slot volta a ser escrito
+     * @return quantidade de slots consumidos
+     */
+    public int drain(int maxBatch, SlotHandler<E> handler) {
+        long first = consumed + 1;
+        long limit = first + maxBatch - 1;
+        long last = first - 1;
+        while (last < limit && isPublished(last + 1)) {
+            last++;
+        }
+        for (long sequence = first; sequence <= last; sequence++) {
+            handler.onSlot(get(sequence), sequence == last);
+        }
+        consumed = last;
+        return (int) (last - first + 1);
+    }
+
+    /**
+     * Slots reservados e ainda não liberados pelo consumidor
+     */
+    public int backlog() {
+        return (int) Math.max(0, cursor.get() - consumed);
+    }
+
+    /**
+     * Quantidade de slots
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    private boolean isPublished(long sequence) {
+        return published.get((int) sequence & mask) == (int) (sequence >>> shift);
+    }
+
+    /**
+     * Recebe os slots de um lote, em ordem de sequência
+     */
+    @FunctionalInterface
+    public interface SlotHandler<E> {
+
+        /**
+         * @param slot slot publicado
+         * @param endOfBatch true no último slot do lote
+         */
+        void onSlot(E slot, boolean endOfBatch);
+    }
+}
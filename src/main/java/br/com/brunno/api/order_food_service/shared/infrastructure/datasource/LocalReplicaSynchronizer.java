@@ -0,0 +1,191 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replicação simulada entre dois bancos H2 em memória, para desenvolvimento e testes do
+ * roteamento: a cada intervalo, copia todas as tabelas do primário para a réplica.
+ * O primário é lido num único snapshot (transação SERIALIZABLE) e a réplica é reescrita numa
+ * única transação, então a réplica sempre enxerga um estado consistente e atrasado do primário,
+ * inclusive o heartbeat do ReplicaLagMonitor.
+ * A estrutura de cada tabela é criada na réplica na primeira cópia, a partir do SCRIPT do H2;
+ * mudanças posteriores de estrutura não são replicadas. Chaves estrangeiras não são criadas na
+ * réplica: a cópia é integral e consistente, e sem elas a ordem de cópia das tabelas não importa.
+ */
+@Slf4j
+public class LocalReplicaSynchronizer implements SmartLifecycle {
+    
+    private static final String TABLES = "select table_name from information_schema.tables"
+            + " where table_schema = 'PUBLIC' and table_type = 'BASE TABLE'";
+    
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration interval;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+    
+    public LocalReplicaSynchronizer(DataSource primary, DataSource replica, Duration interval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.interval = interval;
+    }
+    
+    /**
+     * Copia o estado atual do primário para a réplica
+     */
+    public synchronized void sync() {
+        try (Connection source = primary.getConnection(); Connection target = replica.getConnection()) {
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE);
+            target.setAutoCommit(false);
+            try {
+                List<String> tables = tables(source);
+                Set<String> existing = new HashSet<>(tables(target));
+                for (String table : tables) {
+                    if (!existing.contains(table)) {
+                        createTable(source, target, table);
+                    }
+                }
+                for (String table : tables) {
+                    copy(source, target, table);
+                }
+                target.commit();
+                source.commit();
+            } catch (SQLException e) {
+                target.rollback();
+                source.rollback();
+                throw e;
+            } finally {
+                source.setTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+                source.setAutoCommit(true);
+                target.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Falha ao copiar o primário para a réplica local", e);
+        }
+    }
+    
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "local-replica-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::syncQuietly, 0, millis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    // Uma cópia que falha só atrasa a réplica; o monitor de atraso tira as leituras dela
+    private void syncQuietly() {
+        try {
+            sync();
+        } catch (RuntimeException e) {
+            log.warn("Cópia para a réplica local falhou: {}", e.getMessage());
+        }
+    }
+    
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet rows = statement.executeQuery(TABLES)) {
+            while (rows.next()) {
+                tables.add(rows.getString(1));
+            }
+        }
+        return tables;
+    }
+    
+    // SCRIPT NODATA gera também usuários e sequências; só a tabela, as constraints e os índices interessam
+    private static void createTable(Connection source, Connection target, String table) throws SQLException {
+        List<String> ddl = new ArrayList<>();
+        try (Statement statement = source.createStatement();
+             ResultSet rows = statement.executeQuery("script nodata table " + quote(table))) {
+            while (rows.next()) {
+                String command = rows.getString(1);
+                if (command.startsWith("CREATE MEMORY TABLE") || command.startsWith("CREATE CACHED TABLE")
+                        || command.startsWith("CREATE INDEX") || command.startsWith("CREATE UNIQUE INDEX")
+                        || command.startsWith("ALTER TABLE") && !command.contains("FOREIGN KEY")) {
+                    ddl.add(command);
+                }
+            }
+        }
+        try (Statement statement = target.createStatement()) {
+            for (String command : ddl) {
+                statement.execute(command);
+            }
+        }
+    }
+    
+    private static void copy(Connection source, Connection target, String table) throws SQLException {
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("delete from " + quote(table));
+        }
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("select * from " + quote(table))) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            int columns = metaData.getColumnCount();
+            StringBuilder names = new StringBuilder();
+            StringBuilder placeholders = new StringBuilder();
+            for (int column = 1; column <= columns; column++) {
+                if (column > 1) {
+                    names.append(", ");
+                    placeholders.append(", ");
+                }
+                names.append(quote(metaData.getColumnName(column)));
+                placeholders.append('?');
+            }
+            String insert = "insert into " + quote(table) + " (" + names + ") values (" + placeholders + ")";
+            try (PreparedStatement statement = target.prepareStatement(insert)) {
+                int pending = 0;
+                while (rows.next()) {
+                    for (int column = 1; column <= columns; column++) {
+                        statement.setObject(column, rows.getObject(column));
+                    }
+                    statement.addBatch();
+                    if (++pending == 500) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+            }
+        }
+    }
+    
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+    }
@@ -0,0 +1,104 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Exigência de atualização das leituras da thread corrente, consultada pelo roteamento para a
+ * réplica: uma transação somente leitura só vai para a réplica se ela já tiver replicado tudo o
+ * que foi confirmado no primário até o instante exigido.
+ * O instante vem do cookie de read-your-writes (a última escrita do próprio cliente) ou, com
+ * {@link #latest(Supplier)}, da última escrita de qualquer cliente, para leituras que serão
+ * compartilhadas ou associadas a uma versão da coleção (caches, ETags de listagem).
+ * Sem roteamento para réplica, nada disso tem efeito.
+ */
+public final class ReadConsistency {
+    
+    /**
+     * Exige a última escrita confirmada por qualquer cliente
+     */
+    static final long LATEST = Long.MAX_VALUE;
+    
+    private static final ThreadLocal<State> STATE = new ThreadLocal<>();
+    
+    private ReadConsistency() {
+    }
+    
+    /**
+     * Executa as leituras exigindo que a réplica esteja em dia com a última escrita confirmada
+     * no primário; se não estiver, elas vão para o primário
+     * @param reads leituras a executar
+     * @return resultado das leituras
+     */
+    public static <T> T latest(Supplier<T> reads) {
+        State existing = STATE.get();
+        State state = existing != null ? existing : state();
+        long previous = state.required;
+        state.required = LATEST;
+        try {
+            return reads.get();
+        } finally {
+            // Fora de uma requisição (reconstrução do cache em segundo plano) nada fica na thread
+            if (existing == null) {
+                STATE.remove();
+            } else {
+                state.required = previous;
+            }
+        }
+    }
+    
+    /**
+     * Exige que a réplica tenha replicado as escritas confirmadas até o instante informado
+     * @param epochMillis instante, no relógio da aplicação
+     */
+    static void requireAtLeast(long epochMillis) {
+        State state = state();
+        state.required = Math.max(state.required, epochMillis);
+    }
+    
+    /**
+     * Instante exigido para as leituras da thread corrente (0 quando não há exigência)
+     */
+    static long required() {
+        State state = STATE.get();
+        return state != null ? state.required : 0;
+    }
+    
+    /**
+     * Registra quem é avisado das escritas confirmadas pela thread corrente (a requisição em curso)
+     */
+    static void onWrite(LongConsumer listener) {
+        state().writeListener = listener;
+    }
+    
+    /**
+     * Uma escrita foi confirmada pela thread corrente: as leituras seguintes da mesma requisição
+     * também precisam enxergá-la. Fora de uma requisição (tarefas em segundo plano) não há efeito
+     */
+    static void written(long epochMillis) {
+        State state = STATE.get();
+        if (state == null || state.writeListener == null) {
+            return;
+        }
+        state.required = Math.max(state.required, epochMillis);
+        state.writeListener.accept(epochMillis);
+    }
+    
+    static void clear() {
+        STATE.remove();
+    }
+    
+    private static State state() {
+        State state = STATE.get();
+        if (state == null) {
+            state = new State();
+            STATE.set(state);
+        }
+        return state;
+    }
+    
+    private static final class State {
+        private long required;
+        private LongConsumer writeListener;
+    }
+}
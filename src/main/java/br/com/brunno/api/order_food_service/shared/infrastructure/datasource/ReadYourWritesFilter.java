@@ -0,0 +1,78 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Read-your-writes por cliente: quando uma requisição confirma uma escrita, a resposta leva o
+ * cookie rw-last-write com o instante do commit. Enquanto o cookie vale (a janela de atraso
+ * tolerado), as leituras do cliente só vão para a réplica se ela já tiver esse instante; na
+ * prática, logo após escrever o cliente lê do primário, e os demais clientes seguem na réplica.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    
+    static final String COOKIE = "rw-last-write";
+    
+    private final Duration window;
+    
+    public ReadYourWritesFilter(Duration window) {
+        this.window = window;
+    }
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long lastWrite = lastWrite(request);
+        if (lastWrite > 0) {
+            ReadConsistency.requireAtLeast(lastWrite);
+        }
+        ReadConsistency.onWrite(committedAt -> {
+            // Uma resposta já enviada não aceita cabeçalhos; o cliente fica sem a garantia nessa escrita
+            if (!response.isCommitted()) {
+                response.setHeader(HttpHeaders.SET_COOKIE, cookie(committedAt).toString());
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadConsistency.clear();
+        }
+    }
+    
+    private long lastWrite(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+    
+    private ResponseCookie cookie(long committedAt) {
+        // Arredonda a janela para cima: o cookie não pode expirar antes de a réplica alcançar a escrita
+        long maxAgeSeconds = (window.toMillis() + 999) / 1000;
+        return ResponseCookie.from(COOKIE, Long.toString(committedAt))
+                .maxAge(maxAgeSeconds)
+                .path("/")
+                .httpOnly(true)
+                .sameSite("Lax")
+                .build();
+    }
+}
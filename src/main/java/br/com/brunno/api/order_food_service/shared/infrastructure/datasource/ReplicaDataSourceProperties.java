@@ -0,0 +1,49 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração da réplica de leitura (prefixo datasource.replica).
+ * O primário continua configurado em spring.datasource; o pool da réplica aceita as mesmas
+ * propriedades do Hikari em datasource.replica.hikari.
+ *
+ * @param enabled roteia transações somente leitura para a réplica
+ * @param url URL JDBC da réplica
+ * @param username usuário da réplica
+ * @param password senha da réplica
+ * @param maxLag atraso máximo tolerado; acima dele as leituras voltam para o primário
+ * @param lagCheckInterval intervalo do heartbeat gravado no primário e lido na réplica
+ * @param localReplication replicação simulada entre dois bancos H2, para desenvolvimento e testes
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaDataSourceProperties(
+        @DefaultValue("false") boolean enabled,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("1s") Duration maxLag,
+        @DefaultValue("250ms") Duration lagCheckInterval,
+        @DefaultValue LocalReplication localReplication) {
+    
+    /**
+     * Janela em que um cliente lê do primário após a própria escrita (cookie rw-last-write).
+     * Passada a janela, o atraso medido garante que a réplica já tem a escrita
+     */
+    public Duration readYourWritesWindow() {
+        return maxLag.plus(lagCheckInterval);
+    }
+    
+    /**
+     * Replicação simulada: copia periodicamente todas as tabelas do primário para a réplica
+     *
+     * @param enabled liga a cópia (somente para H2 em memória)
+     * @param interval intervalo entre cópias, que define o atraso da réplica
+     */
+    public record LocalReplication(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("500ms") Duration interval) {
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mede o atraso da réplica por heartbeat: grava periodicamente o instante atual no primário
+ * (tabela replica_heartbeat) e lê na réplica o último heartbeat replicado. Como a replicação
+ * respeita a ordem dos commits, tudo o que foi confirmado no primário antes desse instante já
+ * está na réplica.
+ * Também guarda o instante da última escrita confirmada pela aplicação, usado pelas leituras
+ * que exigem a réplica em dia ({@link ReadConsistency#latest}).
+ * Enquanto a réplica não foi medida (inicialização, réplica fora do ar), ela não recebe leituras.
+ */
+public class ReplicaLagMonitor implements SmartLifecycle {
+    
+    static final String CREATE_TABLE = "create table if not exists replica_heartbeat (id int primary key, beat_at bigint not null)";
+    
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+    private final long intervalMillis;
+    // Último heartbeat visível na réplica (-1 enquanto desconhecido)
+    private volatile long caughtUpTo = -1;
+    private final AtomicLong lastWriteAt = new AtomicLong();
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+    
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, ReplicaDataSourceProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = properties.maxLag().toMillis();
+        this.intervalMillis = properties.lagCheckInterval().toMillis();
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagMillis(System.currentTimeMillis()) / 1000.0)
+                .description("Atraso da réplica medido pelo último heartbeat replicado (NaN enquanto desconhecido)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Decide se uma leitura pode ir para a réplica
+     * @param required instante até o qual as escritas precisam estar replicadas
+     *                 (0 sem exigência, {@link ReadConsistency#LATEST} para a última escrita)
+     * @param now instante atual
+     * @return destino da leitura e o motivo
+     */
+    Decision decide(long required, long now) {
+        long caught = caughtUpTo;
+        if (caught < 0 || now - caught > maxLagMillis) {
+            return Decision.PRIMARY_LAGGING;
+        }
+        long needed = required == ReadConsistency.LATEST ? lastWriteAt.get() : required;
+        // Estritamente depois: um heartbeat do mesmo milissegundo pode ter sido gravado antes do commit
+        return caught > needed ? Decision.REPLICA : Decision.PRIMARY_STALE;
+    }
+    
+    /**
+     * Registra uma escrita confirmada no primário
+     * @param epochMillis instante do commit
+     */
+    void recordWrite(long epochMillis) {
+        lastWriteAt.accumulateAndGet(epochMillis, Math::max);
+    }
+    
+    /**
+     * Grava o heartbeat no primário
+     */
+    public void beat() {
+        primary.update("merge into replica_heartbeat key(id) values (1, ?)", System.currentTimeMillis());
+    }
+    
+    /**
+     * Lê o último heartbeat replicado; se a réplica não responder, ela deixa de receber leituras
+     */
+    public void measure() {
+        try {
+            Long beatAt = replica.queryForObject("select beat_at from replica_heartbeat where id = 1", Long.class);
+            caughtUpTo = beatAt != null ? beatAt : -1;
+        } catch (DataAccessException e) {
+            caughtUpTo = -1;
+        }
+    }
+    
+    @Override
+    public void start() {
+        primary.execute(CREATE_TABLE);
+        beat();
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+    
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+    
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+    
+    private void tick() {
+        measure();
+        try {
+            beat();
+        } catch (DataAccessException e) {
+            // Primário indisponível: as escritas também falham; a próxima batida tenta de novo
+        }
+    }
+    
+    private double lagMillis(long now) {
+        long caught = caughtUpTo;
+        return caught < 0 ? Double.NaN : now - caught;
+    }
+    
+    /**
+     * Destino de uma leitura somente leitura
+     */
+    enum Decision {
+        REPLICA,
+        // Réplica sem medição ou com atraso acima do tolerado
+        PRIMARY_LAGGING,
+        // Réplica ainda sem a escrita exigida pela leitura
+        PRIMARY_STALE
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração do roteamento entre primário e réplica de leitura.
+ * Desligada por padrão; com datasource.replica.enabled=true (perfil replica), o DataSource da
+ * aplicação passa a ser o roteador, e os pools do primário e da réplica ficam atrás dele.
+ * Com datasource.replica.local-replication.enabled=true, a réplica é um segundo H2 em memória
+ * alimentado pelo LocalReplicaSynchronizer.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+    
+    // Declarados como DataSource: as estatísticas de SQL envolvem cada pool num proxy
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+    
+    @Bean
+    public DataSource replicaDataSource(ReplicaDataSourceProperties replica, DataSourceProperties primary,
+                                        Environment environment) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(primary.determineDriverClassName())
+                .url(replica.url())
+                .username(replica.username())
+                .password(replica.password())
+                .build();
+        dataSource.setPoolName("replica");
+        Binder.get(environment).bind("datasource.replica.hikari", Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+    
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary,
+                                               @Qualifier("replicaDataSource") DataSource replica,
+                                               ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+        return new ReplicaLagMonitor(primary, replica, properties, meterRegistry);
+    }
+    
+    /**
+     * DataSource da aplicação (JPA, JdbcTemplate). O proxy preguiçoso adia a escolha do destino
+     * até o primeiro comando, quando o flag readOnly da transação já está definido
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor monitor, MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, monitor, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+    
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration =
+                new FilterRegistrationBean<>(new ReadYourWritesFilter(properties.readYourWritesWindow()));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+    
+    @Bean
+    @ConditionalOnProperty(prefix = "datasource.replica.local-replication", name = "enabled", havingValue = "true")
+    public LocalReplicaSynchronizer localReplicaSynchronizer(@Qualifier("primaryDataSource") DataSource primary,
+                                                             @Qualifier("replicaDataSource") DataSource replica,
+                                                             ReplicaDataSourceProperties properties) {
+        return new LocalReplicaSynchronizer(primary, replica, properties.localReplication().interval());
+    }
+}
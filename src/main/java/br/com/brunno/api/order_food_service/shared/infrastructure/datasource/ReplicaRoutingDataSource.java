@@ -0,0 +1,99 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Roteia cada conexão para o primário ou para a réplica. Transações somente leitura abertas por
+ * casos de uso (@Transactional(readOnly = true) num método de application.usecase) vão para a
+ * réplica quando o ReplicaLagMonitor confirma que ela está dentro do atraso tolerado e já tem as
+ * escritas exigidas pela leitura (ReadConsistency); todo o resto vai para o primário. Leituras
+ * somente leitura avulsas, como as verificações de unicidade e a carga antes de uma atualização,
+ * ficam no primário: decidem escritas e não podem ver dado atrasado.
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy: a conexão só é obtida no primeiro comando,
+ * quando a transação já está marcada como somente leitura.
+ * Publica datasource.routing (target=primary|replica, reason=write|pinned|replica|lagging|stale).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    // Nome das transações declarativas: classe qualificada seguida do método
+    private static final String USE_CASE_PACKAGE = ".application.usecase.";
+    
+    private final ReplicaLagMonitor monitor;
+    private final Counter writes;
+    private final Counter pinnedReads;
+    private final Counter replicaReads;
+    private final Counter laggingReads;
+    private final Counter staleReads;
+    
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor monitor,
+                                    MeterRegistry meterRegistry) {
+        this.monitor = monitor;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        this.writes = routed(meterRegistry, Target.PRIMARY, "write");
+        this.pinnedReads = routed(meterRegistry, Target.PRIMARY, "pinned");
+        this.replicaReads = routed(meterRegistry, Target.REPLICA, "replica");
+        this.laggingReads = routed(meterRegistry, Target.PRIMARY, "lagging");
+        this.staleReads = routed(meterRegistry, Target.PRIMARY, "stale");
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            writes.increment();
+            recordWriteAfterCommit();
+            return Target.PRIMARY;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName == null || !transactionName.contains(USE_CASE_PACKAGE)) {
+            pinnedReads.increment();
+            return Target.PRIMARY;
+        }
+        switch (monitor.decide(ReadConsistency.required(), System.currentTimeMillis())) {
+            case REPLICA:
+                replicaReads.increment();
+                return Target.REPLICA;
+            case PRIMARY_LAGGING:
+                laggingReads.increment();
+                return Target.PRIMARY;
+            default:
+                staleReads.increment();
+                return Target.PRIMARY;
+        }
+    }
+    
+    // O instante é tomado após o commit: um heartbeat posterior a ele garante a escrita na réplica
+    private void recordWriteAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long committedAt = System.currentTimeMillis();
+                monitor.recordWrite(committedAt);
+                ReadConsistency.written(committedAt);
+            }
+        });
+    }
+    
+    private static Counter routed(MeterRegistry meterRegistry, Target target, String reason) {
+        return Counter.builder("datasource.routing")
+                .description("Conexões obtidas por destino e motivo do roteamento")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+    
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+}
@@ -0,0 +1,220 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.eventbus;
+
+import br.com.brunno.api.order_food_service.shared.application.event.DomainEventPublisher;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Barramento de eventos de domínio em memória, para um contexto reagir ao outro sem chamada síncrona.
+ * Quem publica só faz uma oferta sem espera na fila de entrada, depois do commit; uma thread
+ * despachante copia cada evento para a fila limitada de cada assinante interessado, aplicando a
+ * política de transbordo dele, e cada assinante consome a sua fila em uma thread própria
+ * (dedicada ou virtual, event-bus.virtual-threads). Um assinante lento, no máximo, perde eventos
+ * (DROP_OLDEST, COALESCE) ou segura o despachante e, com ele, todos os assinantes (BLOCK); o caso
+ * de uso nunca espera.
+ * Entrega no máximo uma vez: eventos se perdem com a fila de entrada cheia e ao desligar, mesmo
+ * para assinantes BLOCK; o que não pode se perder é consumido pela caixa de saída.
+ * Publica eventbus.ingress.depth, eventbus.ingress.dropped e, por assinante, eventbus.queue.depth,
+ * eventbus.lag (da publicação ao início do tratamento), eventbus.dropped, eventbus.coalesced e eventbus.failures.
+ */
+@Slf4j
+public class DomainEventBus implements DomainEventPublisher, SmartLifecycle {
+
+    private static final long POLL_MILLIS = 100;
+
+    private final EventBusProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<DomainEventSubscriber> subscriberBeans;
+    private final BlockingQueue<Envelope> ingress;
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final SimpleAsyncTaskExecutor executor;
+    private final Counter ingressDropped;
+    private volatile boolean running;
+
+    public DomainEventBus(EventBusProperties properties, MeterRegistry meterRegistry,
+                          ObjectProvider<DomainEventSubscriber> subscriberBeans) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.subscriberBeans = subscriberBeans;
+        this.ingress = new ArrayBlockingQueue<>(properties.ingressCapacity());
+        this.executor = new SimpleAsyncTaskExecutor("event-bus-");
+        this.executor.setVirtualThreads(properties.virtualThreads());
+        this.executor.setDaemon(true);
+        Gauge.builder("eventbus.ingress.depth", ingress, BlockingQueue::size)
+                .description("Eventos aguardando o despachante do barramento")
+                .register(meterRegistry);
+        this.ingressDropped = Counter.builder("eventbus.ingress.dropped")
+                .description("Eventos descartados com a fila de entrada do barramento cheia")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void publish(DomainEvent event) {
+        TransactionCallbacks.afterCommit(() -> {
+            if (!ingress.offer(new Envelope(event, System.nanoTime()))) {
+                ingressDropped.increment();
+            }
+        });
+    }
+
+    /**
+     * Inscreve um assinante; se o barramento já estiver rodando, a thread de consumo inicia na hora
+     * @param subscriber assinante
+     */
+    public void subscribe(DomainEventSubscriber subscriber) {
+        int capacity = subscriber.queueCapacity() > 0 ? subscriber.queueCapacity() : properties.queueCapacity();
+        Subscription subscription = new Subscription(subscriber, new SubscriberQueue(capacity, subscriber.overflowPolicy()));
+        subscriptions.add(subscription);
+        if (running) {
+            executor.execute(() -> consume(subscription));
+        }
+    }
+
+    /**
+     * Cancela a inscrição; eventos ainda na fila do assinante são descartados
+     * @param subscriber assinante inscrito
+     */
+    public void unsubscribe(DomainEventSubscriber subscriber) {
+        for (Subscription subscription : subscriptions) {
+            if (subscription.subscriber == subscriber) {
+                subscriptions.remove(subscription);
+                subscription.close();
+                subscription.meters.forEach(meterRegistry::remove);
+            }
+        }
+    }
+
+    @Override
+    public void start() {
+        subscriberBeans.orderedStream().forEach(this::subscribe);
+        running = true;
+        executor.execute(this::dispatch);
+        subscriptions.forEach(subscription -> executor.execute(() -> consume(subscription)));
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        subscriptions.forEach(Subscription::close);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void dispatch() {
+        Thread.currentThread().setName("event-bus-dispatcher");
+        try {
+            while (running) {
+                Envelope envelope = ingress.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (envelope == null) {
+                    continue;
+                }
+                for (Subscription subscription : subscriptions) {
+                    if (subscription.eventTypes.contains(envelope.event.type())) {
+                        subscription.offer(envelope);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void consume(Subscription subscription) {
+        Thread.currentThread().setName("event-bus-" + subscription.subscriber.name());
+        try {
+            while (running && !subscription.closed) {
+                SubscriberQueue.Slot slot = subscription.queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (slot == null) {
+                    continue;
+                }
+                subscription.lag.record(System.nanoTime() - slot.publishedNanos(), TimeUnit.NANOSECONDS);
+                try {
+                    subscription.subscriber.onEvent(slot.event());
+                } catch (RuntimeException e) {
+                    subscription.failures.increment();
+                    log.warn("Assinante {} falhou ao tratar o evento {} ({})", subscription.subscriber.name(),
+                            slot.event().id(), slot.event().type(), e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Envelope(DomainEvent event, long publishedNanos) {
+    }
+
+    private final class Subscription {
+        private final DomainEventSubscriber subscriber;
+        private final Set<String> eventTypes;
+        private final SubscriberQueue queue;
+        private final Timer lag;
+        private final Counter dropped;
+        private final Counter coalesced;
+        private final Counter failures;
+        private final List<Meter> meters;
+        private volatile boolean closed;
+
+        private Subscription(DomainEventSubscriber subscriber, SubscriberQueue queue) {
+            this.subscriber = subscriber;
+            this.eventTypes = Set.copyOf(subscriber.eventTypes());
+            this.queue = queue;
+            String name = subscriber.name();
+            Gauge depth = Gauge.builder("eventbus.queue.depth", queue, SubscriberQueue::size)
+                    .description("Eventos na fila do assinante")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.lag = Timer.builder("eventbus.lag")
+                    .description("Tempo da publicação do evento até o assinante começar a tratá-lo")
+                    .tag("subscriber", name)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+            this.dropped = Counter.builder("eventbus.dropped")
+                    .description("Eventos descartados com a fila do assinante cheia")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.coalesced = Counter.builder("eventbus.coalesced")
+                    .description("Eventos que substituíram um pendente do mesmo agregado")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.failures = Counter.builder("eventbus.failures")
+                    .description("Eventos cujo tratamento lançou exceção")
+                    .tag("subscriber", name)
+                    .register(meterRegistry);
+            this.meters = List.of(depth, lag, dropped, coalesced, failures);
+        }
+
+        private void offer(Envelope envelope) throws InterruptedException {
+            switch (queue.offer(envelope.event, envelope.publishedNanos)) {
+                case DROPPED_OLDEST -> dropped.increment();
+                case COALESCED -> coalesced.increment();
+                default -> {
+                }
+            }
+        }
+
+        private void close() {
+            closed = true;
+            queue.close();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.eventbus;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+import java.util.Set;
+
+/**
+ * Assinante do barramento de eventos de domínio. Beans que implementam esta interface são
+ * inscritos quando o barramento inicia; cada um tem sua fila e sua thread de consumo.
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * @return nome do assinante, usado nas métricas e no nome da thread
+     */
+    String name();
+
+    /**
+     * @return tipos de evento recebidos (ex: "UsuarioExcluido")
+     */
+    Set<String> eventTypes();
+
+    /**
+     * Trata um evento, na thread de consumo do assinante. Exceções são registradas e o evento é descartado
+     * @param event evento publicado
+     */
+    void onEvent(DomainEvent event);
+
+    /**
+     * @return política quando a fila do assinante enche
+     */
+    default OverflowPolicy overflowPolicy() {
+        return OverflowPolicy.DROP_OLDEST;
+    }
+
+    /**
+     * @return tamanho da fila do assinante; 0 usa event-bus.queue-capacity
+     */
+    default int queueCapacity() {
+        return 0;
+    }
+}
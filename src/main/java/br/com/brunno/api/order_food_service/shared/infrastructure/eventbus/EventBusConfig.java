@@ -0,0 +1,23 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.eventbus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do barramento de eventos de domínio em memória.
+ * Os assinantes são lidos só quando o barramento inicia, pois costumam depender de casos de uso
+ * que por sua vez publicam no barramento.
+ */
+@Configuration
+@EnableConfigurationProperties(EventBusProperties.class)
+public class EventBusConfig {
+
+    @Bean
+    public DomainEventBus domainEventBus(EventBusProperties properties, MeterRegistry meterRegistry,
+                                         ObjectProvider<DomainEventSubscriber> subscribers) {
+        return new DomainEventBus(properties, meterRegistry, subscribers);
+    }
+}
@@ -0,0 +1,18 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.eventbus;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do barramento de eventos de domínio em memória (prefixo event-bus).
+ *
+ * @param ingressCapacity eventos aguardando o despachante; com ela cheia, os novos são descartados
+ * @param queueCapacity tamanho padrão da fila de cada assinante
+ * @param virtualThreads consome cada fila em uma thread virtual (Java 21+) em vez de uma thread dedicada
+ */
+@ConfigurationProperties(prefix = "event-bus")
+public record EventBusProperties(
+        @DefaultValue("8192") int ingressCapacity,
+        @DefaultValue("1024") int queueCapacity,
+        @DefaultValue("false") boolean virtualThreads) {
+}
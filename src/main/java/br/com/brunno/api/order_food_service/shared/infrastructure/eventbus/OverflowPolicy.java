@@ -0,0 +1,25 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.eventbus;
+
+/**
+ * O que fazer quando a fila de um assinante do barramento está cheia.
+ */
+public enum OverflowPolicy {
+
+    /**
+     * Espera por espaço. Segura o despachante, e com ele todos os assinantes, até o assinante
+     * lento consumir; se isso durar, a fila de entrada enche e os eventos novos são descartados.
+     * Nunca segura quem publica
+     */
+    BLOCK,
+
+    /**
+     * Descarta o evento mais antigo da fila para abrir espaço ao novo
+     */
+    DROP_OLDEST,
+
+    /**
+     * Mantém só o evento mais recente de cada agregado: um evento novo substitui o pendente do
+     * mesmo agregado, na posição dele. Com a fila cheia de agregados distintos, descarta o mais antigo
+     */
+    COALESCE
+}
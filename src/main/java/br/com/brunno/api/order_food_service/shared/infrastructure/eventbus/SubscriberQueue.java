@@ -0,0 +1,165 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.eventbus;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fila limitada de um assinante do barramento, com a política de transbordo aplicada na oferta.
+ * Um produtor (o despachante) e um consumidor (a thread do assinante).
+ */
+final class SubscriberQueue {
+
+    /**
+     * Resultado da oferta de um evento
+     */
+    enum Offer {
+        ENQUEUED,
+        COALESCED,
+        DROPPED_OLDEST,
+        CLOSED
+    }
+
+    /**
+     * Evento pendente. Na política COALESCE o evento é trocado pelo mais recente do mesmo agregado,
+     * mantendo a posição e o instante da primeira publicação (o atraso conta desde o evento mais antigo)
+     */
+    static final class Slot {
+        private DomainEvent event;
+        private final long publishedNanos;
+
+        private Slot(DomainEvent event, long publishedNanos) {
+            this.event = event;
+            this.publishedNanos = publishedNanos;
+        }
+
+        DomainEvent event() {
+            return event;
+        }
+
+        long publishedNanos() {
+            return publishedNanos;
+        }
+    }
+
+    private final int capacity;
+    private final OverflowPolicy policy;
+    private final ArrayDeque<Slot> slots;
+    private final Map<UUID, Slot> pendingByAggregate;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+    private boolean closed;
+
+    SubscriberQueue(int capacity, OverflowPolicy policy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacidade da fila do assinante deve ser positiva");
+        }
+        this.capacity = capacity;
+        this.policy = policy;
+        this.slots = new ArrayDeque<>(capacity);
+        this.pendingByAggregate = policy == OverflowPolicy.COALESCE ? new HashMap<>(capacity * 2) : null;
+    }
+
+    /**
+     * Oferece um evento à fila; na política BLOCK espera por espaço
+     * @throws InterruptedException se interrompido esperando espaço
+     */
+    Offer offer(DomainEvent event, long publishedNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            if (closed) {
+                return Offer.CLOSED;
+            }
+            if (pendingByAggregate != null) {
+                Slot pending = pendingByAggregate.get(event.aggregateId());
+                if (pending != null) {
+                    pending.event = event;
+                    return Offer.COALESCED;
+                }
+            }
+
+            Offer result = Offer.ENQUEUED;
+            if (slots.size() == capacity) {
+                if (policy == OverflowPolicy.BLOCK) {
+                    while (slots.size() == capacity && !closed) {
+                        notFull.await();
+                    }
+                    if (closed) {
+                        return Offer.CLOSED;
+                    }
+                } else {
+                    Slot oldest = slots.pollFirst();
+                    if (pendingByAggregate != null) {
+                        pendingByAggregate.remove(oldest.event.aggregateId());
+                    }
+                    result = Offer.DROPPED_OLDEST;
+                }
+            }
+
+            Slot slot = new Slot(event, publishedNanos);
+            slots.addLast(slot);
+            if (pendingByAggregate != null) {
+                pendingByAggregate.put(event.aggregateId(), slot);
+            }
+            notEmpty.signal();
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retira o próximo evento, esperando até o prazo
+     * @return o evento pendente mais antigo, ou null se nada chegou no prazo ou a fila foi fechada
+     */
+    Slot poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long remaining = unit.toNanos(timeout);
+        lock.lock();
+        try {
+            while (slots.isEmpty()) {
+                if (closed || remaining <= 0) {
+                    return null;
+                }
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            Slot slot = slots.pollFirst();
+            if (pendingByAggregate != null) {
+                pendingByAggregate.remove(slot.event.aggregateId());
+            }
+            notFull.signal();
+            return slot;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fecha a fila: ofertas passam a ser recusadas e quem espera é liberado
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            notFull.signalAll();
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.export;
+
+import java.util.function.Function;
+
+/**
+ * Coluna de uma exportação: o nome vira o cabeçalho no CSV e o campo no NDJSON.
+ * @param <T> tipo da linha exportada
+ */
+public class ExportColumn<T> {
+    
+    private final String name;
+    private final Function<T, Object> extractor;
+    
+    public ExportColumn(String name, Function<T, Object> extractor) {
+        this.name = name;
+        this.extractor = extractor;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public Object valueOf(T row) {
+        return extractor.apply(row);
+    }
+}
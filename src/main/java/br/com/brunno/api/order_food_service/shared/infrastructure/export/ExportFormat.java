@@ -0,0 +1,50 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formatos suportados pelos endpoints de exportação.
+ */
+public enum ExportFormat {
+    
+    /**
+     * Um objeto JSON por linha
+     */
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson")),
+    
+    /**
+     * CSV com cabeçalho (RFC 4180), em UTF-8
+     */
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+    
+    private final String extension;
+    private final MediaType mediaType;
+    
+    ExportFormat(String extension, MediaType mediaType) {
+        this.extension = extension;
+        this.mediaType = mediaType;
+    }
+    
+    public String getExtension() {
+        return extension;
+    }
+    
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+    
+    /**
+     * Converte o parâmetro "format" da requisição no formato correspondente
+     * @param value valor do parâmetro (ndjson ou csv, sem diferenciar maiúsculas)
+     * @return formato de exportação
+     * @throws IllegalArgumentException se o formato não for suportado
+     */
+    public static ExportFormat fromParameter(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Formato de exportação inválido: " + value + " (use ndjson ou csv)");
+    }
+}
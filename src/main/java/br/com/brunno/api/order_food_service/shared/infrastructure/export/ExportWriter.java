@@ -0,0 +1,189 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Escreve linhas de uma exportação em NDJSON ou CSV direto no stream de saída.
+ * Cada linha é formatada e descartada assim que escrita, então a memória usada não
+ * depende da quantidade de linhas. Não é thread-safe: uma instância por resposta.
+ * @param <T> tipo da linha exportada
+ */
+public final class ExportWriter<T> implements Closeable {
+    
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private final ExportFormat format;
+    private final List<ExportColumn<T>> columns;
+    private final OutputStream output;
+    private final GZIPOutputStream gzipOutput;
+    private final Writer writer;
+    private final JsonGenerator jsonGenerator;
+    private long rows;
+    
+    /**
+     * Abre o writer e, no CSV, já escreve o cabeçalho
+     * @param format formato da exportação
+     * @param columns colunas exportadas, na ordem de saída
+     * @param output stream de saída da resposta
+     * @param gzip se o conteúdo deve ser comprimido com gzip
+     * @param objectMapper mapper usado para serializar os valores no NDJSON
+     */
+    public ExportWriter(ExportFormat format, List<ExportColumn<T>> columns, OutputStream output,
+                        boolean gzip, ObjectMapper objectMapper) throws IOException {
+        this.format = format;
+        this.columns = columns;
+        this.output = output;
+        // syncFlush: um flush no meio da exportação entrega ao cliente tudo o que já foi comprimido
+        this.gzipOutput = gzip ? new GZIPOutputStream(output, BUFFER_SIZE, true) : null;
+        OutputStream target = gzip ? gzipOutput : output;
+        this.writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+        // Sem separador entre valores raiz: a quebra de linha de cada objeto já é o separador do NDJSON
+        this.jsonGenerator = format == ExportFormat.NDJSON
+                ? objectMapper.getFactory().createGenerator(writer)
+                        .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                        .setRootValueSeparator(null)
+                : null;
+        
+        if (format == ExportFormat.CSV) {
+            writeCsvHeader();
+        }
+    }
+    
+    /**
+     * Escreve uma linha da exportação
+     * @param row linha a ser escrita
+     */
+    public void write(T row) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            writeJsonLine(row);
+        } else {
+            writeCsvLine(row);
+        }
+        // Envia a primeira linha imediatamente; as demais seguem conforme o buffer enche
+        if (++rows == 1) {
+            flush();
+        }
+    }
+    
+    /**
+     * Quantidade de linhas escritas até agora
+     */
+    public long getRows() {
+        return rows;
+    }
+    
+    /**
+     * Finaliza a exportação (inclusive o trailer do gzip), sem fechar o stream da resposta
+     */
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (gzipOutput != null) {
+            gzipOutput.finish();
+        }
+        output.flush();
+    }
+    
+    private void flush() throws IOException {
+        if (jsonGenerator != null) {
+            jsonGenerator.flush();
+        }
+        writer.flush();
+    }
+    
+    private void writeJsonLine(T row) throws IOException {
+        jsonGenerator.writeStartObject();
+        for (ExportColumn<T> column : columns) {
+            jsonGenerator.writeFieldName(column.getName());
+            writeJsonValue(column.valueOf(row));
+        }
+        jsonGenerator.writeEndObject();
+        jsonGenerator.writeRaw('\n');
+    }
+    
+    // Tipos simples são escritos direto no gerador: writeObject passa pelo ObjectMapper
+    // e cria um SerializerProvider a cada valor, o que domina o custo da exportação
+    private void writeJsonValue(Object value) throws IOException {
+        if (value == null) {
+            jsonGenerator.writeNull();
+        } else if (value instanceof String text) {
+            jsonGenerator.writeString(text);
+        } else if (value instanceof Boolean bool) {
+            jsonGenerator.writeBoolean(bool);
+        } else if (value instanceof Double number) {
+            jsonGenerator.writeNumber(number);
+        } else if (value instanceof UUID || value instanceof Enum<?> || value instanceof LocalDateTime) {
+            jsonGenerator.writeString(text(value));
+        } else {
+            jsonGenerator.writeObject(value);
+        }
+    }
+    
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvField(columns.get(i).getName());
+        }
+        writer.write("\r\n");
+        flush();
+    }
+    
+    private void writeCsvLine(T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).valueOf(row);
+            if (value != null) {
+                writeCsvField(text(value));
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    // Datas no mesmo formato ISO usado nas respostas JSON (LocalDateTime.toString omite segundos zerados)
+    private static String text(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+        }
+        return value instanceof Enum<?> constant ? constant.name() : value.toString();
+    }
+    
+    // Aspas apenas quando necessário (RFC 4180): separador, aspas ou quebra de linha no valor
+    private void writeCsvField(String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
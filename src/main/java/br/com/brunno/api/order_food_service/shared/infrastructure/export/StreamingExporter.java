@@ -0,0 +1,81 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Monta as respostas dos endpoints de exportação.
+ * As linhas são escritas na resposta à medida que chegam da origem (um cursor no banco),
+ * então o primeiro byte sai logo após a primeira linha lida e o heap não cresce com o tamanho da tabela.
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamingExporter {
+    
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Cria a resposta de exportação
+     * @param fileName nome do arquivo sugerido ao cliente, sem extensão
+     * @param format formato da exportação
+     * @param gzip se o conteúdo deve ser comprimido com gzip
+     * @param columns colunas exportadas, na ordem de saída
+     * @param source origem das linhas: recebe o consumidor e o chama para cada linha lida
+     * @param <T> tipo da linha exportada
+     * @return resposta com o corpo em streaming
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String fileName, ExportFormat format, boolean gzip,
+                                                            List<ExportColumn<T>> columns, Consumer<Consumer<T>> source) {
+        StreamingResponseBody body = outputStream -> {
+            try (ExportWriter<T> writer = new ExportWriter<>(format, columns, outputStream, gzip, objectMapper)) {
+                source.accept(row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+    
+    /**
+     * Indica se o cliente aceita gzip, conforme o header Accept-Encoding
+     * @param acceptEncoding valor do header, ou null se ausente
+     * @return true se gzip foi aceito (e não recusado com q=0)
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (parts[0].trim().equalsIgnoreCase("gzip")) {
+                return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+}
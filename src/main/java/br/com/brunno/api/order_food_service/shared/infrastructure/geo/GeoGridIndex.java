@@ -0,0 +1,313 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.geo;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Índice espacial em memória em grade regular de latitude/longitude.
+ * Cada ponto fica na célula que contém suas coordenadas; uma busca por raio visita, em anéis a
+ * partir da célula do centro, apenas as células que cobrem o retângulo envolvente do círculo
+ * (tratando a virada em ±180°), mantém os mais próximos num heap limitado e encerra assim que
+ * nenhum anel restante pode conter ponto mais próximo que o pior resultado. Em regiões densas
+ * o custo depende do limite de resultados, não do raio.
+ * Leituras concorrentes são liberadas e escritas são exclusivas.
+ *
+ * @param <K> tipo da chave dos pontos
+ */
+public class GeoGridIndex<K> {
+    
+    /**
+     * Raio médio da Terra em quilômetros
+     */
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+    
+    private final double cellDegrees;
+    private final int rows;
+    private final int columns;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Cell<K>> cells = new HashMap<>();
+    private final Map<K, Long> cellByKey = new HashMap<>();
+    
+    /**
+     * @param cellDegrees lado de cada célula em graus; células menores visitam menos pontos
+     *                    por busca, mas exigem mais células para raios grandes
+     */
+    public GeoGridIndex(double cellDegrees) {
+        if (cellDegrees <= 0 || cellDegrees > 90) {
+            throw new IllegalArgumentException("Tamanho da célula deve estar entre 0 e 90 graus");
+        }
+        this.cellDegrees = cellDegrees;
+        this.rows = (int) Math.ceil(180 / cellDegrees);
+        this.columns = (int) Math.ceil(360 / cellDegrees);
+    }
+    
+    /**
+     * Inclui o ponto, movendo-o de célula se a chave já existir
+     * @param key chave do ponto
+     * @param latitude latitude em graus
+     * @param longitude longitude em graus
+     */
+    public void put(K key, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            removePoint(key);
+            addPoint(key, latitude, longitude);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove o ponto do índice
+     * @param key chave do ponto
+     */
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removePoint(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Descarta o conteúdo atual e indexa todos os pontos informados
+     * @param entries pontos a serem indexados
+     * @param key extrai a chave de cada ponto
+     * @param latitude extrai a latitude de cada ponto
+     * @param longitude extrai a longitude de cada ponto
+     * @param <E> tipo dos pontos
+     */
+    public <E> void rebuild(Stream<E> entries, Function<E, K> key, ToDoubleFunction<E> latitude, ToDoubleFunction<E> longitude) {
+        lock.writeLock().lock();
+        try {
+            cells.clear();
+            cellByKey.clear();
+            entries.forEach(entry -> addPoint(key.apply(entry), latitude.applyAsDouble(entry), longitude.applyAsDouble(entry)));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Busca os pontos mais próximos dentro do raio
+     * @param latitude latitude do centro
+     * @param longitude longitude do centro
+     * @param radiusKm raio em quilômetros
+     * @param limit quantidade máxima de pontos
+     * @return pontos encontrados, do mais próximo ao mais distante
+     */
+    public List<Neighbor<K>> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        if (limit <= 0 || radiusKm <= 0) {
+            return List.of();
+        }
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double minLat = Math.max(-90, latitude - latDelta);
+        double maxLat = Math.min(90, latitude + latDelta);
+        // A longitude encolhe com o cosseno da latitude: usa a latitude mais afastada do equador no retângulo
+        double cos = Math.cos(Math.toRadians(Math.max(Math.abs(minLat), Math.abs(maxLat))));
+        double lonDelta = cos <= latDelta / 180 ? 180 : latDelta / cos;
+        
+        // Deslocamentos de linha e coluna, relativos à célula do centro, que cobrem o retângulo
+        int centerRow = row(latitude);
+        int centerColumn = (int) Math.floor((longitude + 180) / cellDegrees);
+        int minRow = row(minLat) - centerRow;
+        int maxRow = row(maxLat) - centerRow;
+        int minColumn = lonDelta >= 180 ? -centerColumn
+                : (int) Math.floor((longitude - lonDelta + 180) / cellDegrees) - centerColumn;
+        int maxColumn = lonDelta >= 180 ? columns - 1 - centerColumn
+                : Math.min(minColumn + columns - 1, (int) Math.floor((longitude + lonDelta + 180) / cellDegrees) - centerColumn);
+        int lastRing = Math.max(Math.max(-minRow, maxRow), Math.max(-minColumn, maxColumn));
+        // Com mais de meia volta em longitude, o caminho pelo outro lado pode ser mais curto que o deslocamento
+        // da coluna: o limite inferior dos anéis passa a considerar apenas a latitude
+        double boundCos = (maxColumn - minColumn + 1) * cellDegrees > 180 ? 0 : cos;
+        
+        PriorityQueue<Neighbor<K>> farthestFirst = new PriorityQueue<>(limit,
+                Comparator.comparingDouble(Neighbor<K>::distanceKm).reversed());
+        lock.readLock().lock();
+        try {
+            // Visita anéis de células cada vez mais afastados do centro e para quando o heap está cheio
+            // e nenhum ponto do próximo anel pode ser mais próximo que o mais distante encontrado
+            for (int ring = 0; ring <= lastRing; ring++) {
+                if (farthestFirst.size() == limit
+                        && ringLowerBoundKm(ring, latitude, longitude, centerRow, centerColumn, boundCos) > farthestFirst.peek().distanceKm()) {
+                    break;
+                }
+                for (int rowOffset = Math.max(-ring, minRow); rowOffset <= Math.min(ring, maxRow); rowOffset++) {
+                    // Linhas da borda do anel são percorridas inteiras; as do meio, só nas duas extremidades
+                    int step = Math.abs(rowOffset) == ring ? 1 : 2 * ring;
+                    for (int columnOffset = -ring; columnOffset <= ring; columnOffset += step) {
+                        if (columnOffset < minColumn || columnOffset > maxColumn) {
+                            continue;
+                        }
+                        Cell<K> cell = cells.get(cellKey(centerRow + rowOffset, Math.floorMod(centerColumn + columnOffset, columns)));
+                        if (cell != null) {
+                            collect(cell, latitude, longitude, latDelta, radiusKm, limit, farthestFirst);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        
+        @SuppressWarnings("unchecked")
+        Neighbor<K>[] sorted = farthestFirst.toArray(new Neighbor[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(Neighbor::distanceKm));
+        return Arrays.asList(sorted);
+    }
+    
+    /**
+     * Quantidade de pontos indexados
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Distância em quilômetros entre dois pontos pela fórmula de haversine
+     */
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double sinLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+        double sinLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+        double a = sinLat * sinLat + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLon * sinLon;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+    
+    private void collect(Cell<K> cell, double latitude, double longitude, double latDelta, double radiusKm,
+                         int limit, PriorityQueue<Neighbor<K>> farthestFirst) {
+        // Com o heap cheio, só interessa o que estiver mais perto que o pior resultado atual
+        double maxLatDelta = farthestFirst.size() == limit ? farthestFirst.peek().distanceKm() / KM_PER_DEGREE : latDelta;
+        for (int i = 0; i < cell.size; i++) {
+            // Descarte barato pela latitude antes da trigonometria
+            if (Math.abs(cell.latitudes[i] - latitude) > maxLatDelta) {
+                continue;
+            }
+            double distance = distanceKm(latitude, longitude, cell.latitudes[i], cell.longitudes[i]);
+            if (distance > radiusKm) {
+                continue;
+            }
+            if (farthestFirst.size() < limit) {
+                farthestFirst.add(new Neighbor<>(cell.keyAt(i), distance));
+            } else if (distance < farthestFirst.peek().distanceKm()) {
+                farthestFirst.poll();
+                farthestFirst.add(new Neighbor<>(cell.keyAt(i), distance));
+            } else {
+                continue;
+            }
+            if (farthestFirst.size() == limit) {
+                maxLatDelta = farthestFirst.peek().distanceKm() / KM_PER_DEGREE;
+            }
+        }
+    }
+    
+    // Distância mínima do centro até qualquer ponto de um anel: a distância até a borda mais próxima do
+    // bloco de células já visitado, na vertical ou na horizontal (esta medida na latitude mais afastada do equador)
+    private double ringLowerBoundKm(int ring, double latitude, double longitude, int centerRow, int centerColumn,
+                                    double cosMaxLatitude) {
+        if (ring == 0) {
+            return 0;
+        }
+        double south = latitude - ((centerRow - ring + 1) * cellDegrees - 90);
+        double north = (centerRow + ring) * cellDegrees - 90 - latitude;
+        double west = longitude - ((centerColumn - ring + 1) * cellDegrees - 180);
+        double east = (centerColumn + ring) * cellDegrees - 180 - longitude;
+        double alongMeridian = Math.toRadians(Math.max(0, Math.min(south, north))) * EARTH_RADIUS_KM;
+        double alongParallel = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1,
+                cosMaxLatitude * Math.sin(Math.toRadians(Math.min(180, Math.max(0, Math.min(west, east)))) / 2)));
+        return Math.min(alongMeridian, alongParallel);
+    }
+    
+    private void addPoint(K key, double latitude, double longitude) {
+        long cellKey = cellKey(row(latitude), column(longitude));
+        cells.computeIfAbsent(cellKey, k -> new Cell<>()).add(key, latitude, longitude);
+        cellByKey.put(key, cellKey);
+    }
+    
+    private void removePoint(K key) {
+        Long cellKey = cellByKey.remove(key);
+        if (cellKey == null) {
+            return;
+        }
+        Cell<K> cell = cells.get(cellKey);
+        cell.remove(key);
+        if (cell.size == 0) {
+            cells.remove(cellKey);
+        }
+    }
+    
+    private int row(double latitude) {
+        return Math.min(rows - 1, (int) Math.floor((latitude + 90) / cellDegrees));
+    }
+    
+    private int column(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / cellDegrees), columns);
+    }
+    
+    private long cellKey(int row, int column) {
+        return (long) row * columns + column;
+    }
+    
+    /**
+     * Ponto encontrado e sua distância até o centro da busca
+     */
+    public record Neighbor<K>(K key, double distanceKm) {
+    }
+    
+    /**
+     * Pontos de uma célula em arrays paralelos; a remoção troca o último ponto para a posição liberada
+     */
+    private static final class Cell<K> {
+        
+        private Object[] keys = new Object[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int size;
+        
+        void add(K key, double latitude, double longitude) {
+            if (size == keys.length) {
+                int capacity = size * 2;
+                keys = Arrays.copyOf(keys, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            keys[size] = key;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+        
+        void remove(K key) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i].equals(key)) {
+                    size--;
+                    keys[i] = keys[size];
+                    latitudes[i] = latitudes[size];
+                    longitudes[i] = longitudes[size];
+                    keys[size] = null;
+                    return;
+                }
+            }
+        }
+        
+        @SuppressWarnings("unchecked")
+        K keyAt(int index) {
+            return (K) keys[index];
+        }
+    }
+}
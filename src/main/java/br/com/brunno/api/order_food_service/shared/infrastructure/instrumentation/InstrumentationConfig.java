@@ -0,0 +1,23 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração da instrumentação de latência e vazão por caso de uso e por porta de repositório.
+ * Ativa por padrão; desligada com instrumentation.enabled=false.
+ * As métricas ficam em /actuator/metrics e, no formato de scrape, em /actuator/prometheus.
+ */
+@Configuration
+@EnableConfigurationProperties(InstrumentationProperties.class)
+@ConditionalOnProperty(prefix = "instrumentation", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class InstrumentationConfig {
+    
+    @Bean
+    public LayerMetricsAspect layerMetricsAspect(InstrumentationProperties properties, MeterRegistry meterRegistry) {
+        return new LayerMetricsAspect(properties, meterRegistry);
+    }
+}
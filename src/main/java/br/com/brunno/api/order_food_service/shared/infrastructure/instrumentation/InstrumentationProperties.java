@@ -0,0 +1,22 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.instrumentation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração da instrumentação de casos de uso e portas de repositório (prefixo instrumentation).
+ *
+ * @param enabled registra o aspecto que mede casos de uso e repositórios
+ * @param percentileHistogram publica os buckets de histograma, usados para calcular percentis no Prometheus
+ * @param minimumExpectedLatency menor latência esperada, limite inferior dos buckets
+ * @param maximumExpectedLatency maior latência esperada, limite superior dos buckets
+ */
+@ConfigurationProperties(prefix = "instrumentation")
+public record InstrumentationProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean percentileHistogram,
+        @DefaultValue("10us") Duration minimumExpectedLatency,
+        @DefaultValue("10s") Duration maximumExpectedLatency) {
+}
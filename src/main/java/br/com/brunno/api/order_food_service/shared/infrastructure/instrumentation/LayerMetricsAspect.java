@@ -0,0 +1,177 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.instrumentation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede latência e vazão de todo método público dos casos de uso e de toda porta de repositório
+ * (UserRepository, RestaurantRepository e os repositórios de leitura), separando o tempo de cada
+ * etapa: o tempo de CreateRestaurantUseCase.execute fica em usecase.execution, e o de cada
+ * existsByCnpj, existsByUserId e save chamado por ele em séries próprias de repository.execution.
+ *
+ * Publica:
+ * usecase.execution / repository.execution: timers com histograma de percentis e tag outcome
+ * (success|failure), sem o tipo da exceção para não multiplicar os buckets;
+ * usecase.calls / repository.calls: contadores por outcome e exception (none no sucesso).
+ * Repositórios levam as tags port (interface) e implementation (classe): com o cache de usuários
+ * ligado, CachingUserRepository e UserPersistenceAdapter aparecem separados.
+ *
+ * Os medidores são resolvidos uma vez por classe e método; a medição em si não consulta o registro.
+ */
+@Aspect
+public class LayerMetricsAspect {
+
+    private static final String USE_CASE_TIMER = "usecase.execution";
+    private static final String USE_CASE_CALLS = "usecase.calls";
+    private static final String REPOSITORY_TIMER = "repository.execution";
+    private static final String REPOSITORY_CALLS = "repository.calls";
+
+    private final InstrumentationProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Map<Method, LayerMeters>> meters = new ConcurrentHashMap<>();
+    private final LayerMeters unmeasured = new LayerMeters();
+
+    public LayerMetricsAspect(InstrumentationProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // version() das listagens é uma leitura de contador, chamada a cada requisição condicional
+    @Around("execution(public * br.com.brunno.api.order_food_service..application.usecase.*UseCase.*(..))"
+            + " && !execution(long version())")
+    public Object measureUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        return measure(joinPoint, metersFor(joinPoint, true));
+    }
+
+    @Around("execution(* br.com.brunno.api.order_food_service..domain.repository.*Repository+.*(..))"
+            + " || execution(* br.com.brunno.api.order_food_service..application.query.*QueryRepository+.*(..))")
+    public Object measureRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        LayerMeters layerMeters = metersFor(joinPoint, false);
+        // Métodos do adaptador que não pertencem à porta (auxiliares, toString) não são medidos
+        if (layerMeters == null) {
+            return joinPoint.proceed();
+        }
+        return measure(joinPoint, layerMeters);
+    }
+
+    private Object measure(ProceedingJoinPoint joinPoint, LayerMeters layerMeters) throws Throwable {
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            layerMeters.success(System.nanoTime() - start);
+            return result;
+        } catch (Throwable e) {
+            layerMeters.failure(System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    private LayerMeters metersFor(ProceedingJoinPoint joinPoint, boolean useCase) {
+        Class<?> targetClass = ClassUtils.getUserClass(joinPoint.getTarget());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Map<Method, LayerMeters> byMethod = meters.computeIfAbsent(targetClass, c -> new ConcurrentHashMap<>());
+        LayerMeters layerMeters = byMethod.get(method);
+        if (layerMeters == null) {
+            layerMeters = byMethod.computeIfAbsent(method, m -> useCase
+                    ? new LayerMeters(USE_CASE_TIMER, USE_CASE_CALLS,
+                        Tags.of("usecase", targetClass.getSimpleName(), "method", m.getName()))
+                    : repositoryMeters(targetClass, m));
+        }
+        return layerMeters == unmeasured ? null : layerMeters;
+    }
+
+    private LayerMeters repositoryMeters(Class<?> targetClass, Method method) {
+        for (Class<?> port : ClassUtils.getAllInterfacesForClassAsSet(targetClass)) {
+            String portPackage = port.getPackageName();
+            boolean isPort = portPackage.endsWith(".domain.repository") || portPackage.endsWith(".application.query");
+            if (isPort && ClassUtils.hasMethod(port, method.getName(), method.getParameterTypes())) {
+                return new LayerMeters(REPOSITORY_TIMER, REPOSITORY_CALLS, Tags.of(
+                        "port", port.getSimpleName(),
+                        "implementation", targetClass.getSimpleName(),
+                        "method", method.getName()));
+            }
+        }
+        return unmeasured;
+    }
+
+    private Timer timer(String name, Tags tags, String outcome) {
+        Timer.Builder builder = Timer.builder(name)
+                .description("Latência por caso de uso ou porta de repositório")
+                .tags(tags)
+                .tag("outcome", outcome);
+        if (properties.percentileHistogram()) {
+            builder.publishPercentileHistogram()
+                    .minimumExpectedValue(properties.minimumExpectedLatency())
+                    .maximumExpectedValue(properties.maximumExpectedLatency());
+        }
+        return builder.register(meterRegistry);
+    }
+
+    private Counter counter(String name, Tags tags, String outcome, String exception) {
+        return Counter.builder(name)
+                .description("Chamadas por caso de uso ou porta de repositório, por resultado e tipo de exceção")
+                .tags(tags)
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Medidores de um método; os de falha são registrados na primeira falha de cada tipo
+     */
+    private final class LayerMeters {
+
+        private final String timerName;
+        private final String callsName;
+        private final Tags tags;
+        private final Timer successTimer;
+        private final Counter successCalls;
+        private volatile Timer failureTimer;
+        private final Map<Class<?>, Counter> failureCalls = new ConcurrentHashMap<>();
+
+        LayerMeters(String timerName, String callsName, Tags tags) {
+            this.timerName = timerName;
+            this.callsName = callsName;
+            this.tags = tags;
+            this.successTimer = timer(timerName, tags, "success");
+            this.successCalls = counter(callsName, tags, "success", "none");
+        }
+
+        // Marcador dos métodos que não pertencem a nenhuma porta
+        LayerMeters() {
+            this.timerName = null;
+            this.callsName = null;
+            this.tags = Tags.empty();
+            this.successTimer = null;
+            this.successCalls = null;
+        }
+
+        void success(long elapsedNanos) {
+            successTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            successCalls.increment();
+        }
+
+        void failure(long elapsedNanos, Throwable error) {
+            Timer timer = failureTimer;
+            if (timer == null) {
+                timer = timer(timerName, tags, "failure");
+                failureTimer = timer;
+            }
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            failureCalls.computeIfAbsent(error.getClass(),
+                    type -> counter(callsName, tags, "failure", type.getSimpleName())).increment();
+        }
+    }
+}
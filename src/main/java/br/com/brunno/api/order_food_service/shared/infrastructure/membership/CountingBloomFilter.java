@@ -0,0 +1,189 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.membership;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom com contadores de 4 bits, o que permite remover chaves.
+ * Responde "talvez exista" ou "com certeza não existe" sem falsos negativos,
+ * desde que só sejam removidas chaves que foram adicionadas.
+ * Thread-safe: os contadores são atualizados com CAS, 16 contadores por long.
+ */
+public final class CountingBloomFilter {
+    
+    private static final int COUNTERS_PER_WORD = 16;
+    private static final long COUNTER_MASK = 0xFL;
+    private static final int MAX_COUNT = 15;
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    
+    private final AtomicLongArray words;
+    private final long counterCount;
+    private final int hashFunctions;
+    private final AtomicLong nonZeroCounters = new AtomicLong();
+    
+    /**
+     * Cria um filtro dimensionado para a quantidade de chaves e a taxa de falsos positivos desejada
+     * @param expectedInsertions quantidade esperada de chaves
+     * @param falsePositiveRate taxa de falsos positivos desejada (entre 0 e 1, exclusivo)
+     */
+    public CountingBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions < 1) {
+            throw new IllegalArgumentException("Quantidade esperada de chaves deve ser positiva");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Taxa de falsos positivos deve estar entre 0 e 1");
+        }
+        
+        long counters = optimalCounterCount(expectedInsertions, falsePositiveRate);
+        long wordCount = (counters + COUNTERS_PER_WORD - 1) / COUNTERS_PER_WORD;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Filtro grande demais para " + expectedInsertions + " chaves");
+        }
+        
+        this.words = new AtomicLongArray((int) wordCount);
+        this.counterCount = wordCount * COUNTERS_PER_WORD;
+        this.hashFunctions = optimalHashFunctions(expectedInsertions, counterCount);
+    }
+    
+    /**
+     * Adiciona uma chave ao filtro
+     * @param key chave
+     */
+    public void add(CharSequence key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 + SEED) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            increment(Math.floorMod(h1 + i * h2, counterCount));
+        }
+    }
+    
+    /**
+     * Remove uma chave previamente adicionada
+     * @param key chave
+     * @return true se a chave constava no filtro e foi removida
+     */
+    public boolean remove(CharSequence key) {
+        if (!mightContain(key)) {
+            return false;
+        }
+        long h1 = hash(key);
+        long h2 = mix(h1 + SEED) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            decrement(Math.floorMod(h1 + i * h2, counterCount));
+        }
+        return true;
+    }
+    
+    /**
+     * Verifica se a chave pode estar no conjunto
+     * @param key chave
+     * @return false se a chave com certeza não foi adicionada; true se talvez tenha sido
+     */
+    public boolean mightContain(CharSequence key) {
+        long h1 = hash(key);
+        long h2 = mix(h1 + SEED) | 1;
+        for (int i = 0; i < hashFunctions; i++) {
+            if (counterAt(Math.floorMod(h1 + i * h2, counterCount)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Estima a taxa de falsos positivos atual a partir da fração de contadores ocupados
+     * @return taxa estimada de falsos positivos
+     */
+    public double estimatedFalsePositiveRate() {
+        return Math.pow((double) nonZeroCounters.get() / counterCount, hashFunctions);
+    }
+    
+    /**
+     * Memória ocupada pelos contadores
+     * @return tamanho em bytes
+     */
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+    
+    public long getCounterCount() {
+        return counterCount;
+    }
+    
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+    
+    private int counterAt(long index) {
+        int shift = (int) (index & (COUNTERS_PER_WORD - 1)) << 2;
+        return (int) ((words.get((int) (index >>> 4)) >>> shift) & COUNTER_MASK);
+    }
+    
+    private void increment(long index) {
+        int wordIndex = (int) (index >>> 4);
+        int shift = (int) (index & (COUNTERS_PER_WORD - 1)) << 2;
+        while (true) {
+            long word = words.get(wordIndex);
+            int count = (int) ((word >>> shift) & COUNTER_MASK);
+            // Contador saturado não é mais alterado, para nunca gerar falso negativo
+            if (count == MAX_COUNT) {
+                return;
+            }
+            if (words.compareAndSet(wordIndex, word, word + (1L << shift))) {
+                if (count == 0) {
+                    nonZeroCounters.incrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+    
+    private void decrement(long index) {
+        int wordIndex = (int) (index >>> 4);
+        int shift = (int) (index & (COUNTERS_PER_WORD - 1)) << 2;
+        while (true) {
+            long word = words.get(wordIndex);
+            int count = (int) ((word >>> shift) & COUNTER_MASK);
+            if (count == 0 || count == MAX_COUNT) {
+                return;
+            }
+            if (words.compareAndSet(wordIndex, word, word - (1L << shift))) {
+                if (count == 1) {
+                    nonZeroCounters.decrementAndGet();
+                }
+                return;
+            }
+        }
+    }
+    
+    /**
+     * Hash FNV-1a de 64 bits sobre os caracteres, finalizado com o mix do MurmurHash3
+     */
+    private static long hash(CharSequence key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+    
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+    
+    static long optimalCounterCount(long expectedInsertions, double falsePositiveRate) {
+        double ln2 = Math.log(2);
+        return Math.max(COUNTERS_PER_WORD,
+                (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+    }
+    
+    static int optimalHashFunctions(long expectedInsertions, long counterCount) {
+        return Math.max(1, (int) Math.round((double) counterCount / expectedInsertions * Math.log(2)));
+    }
+}
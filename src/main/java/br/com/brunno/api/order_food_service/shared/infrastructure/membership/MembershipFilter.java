@@ -0,0 +1,143 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.membership;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.transaction.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.stream.Stream;
+
+/**
+ * Filtro de pertinência consultado antes de verificações de unicidade no banco.
+ * Enquanto não for carregado (ou se estiver desativado) responde sempre "talvez exista",
+ * de modo que a consulta ao banco continua sendo feita e o resultado nunca fica incorreto.
+ * Publica a taxa estimada de falsos positivos, a memória ocupada e o resultado das verificações.
+ */
+public class MembershipFilter {
+    
+    private final String name;
+    private final MembershipFilterProperties properties;
+    private volatile CountingBloomFilter filter;
+    private volatile boolean ready;
+    
+    private final Counter skippedQueries;
+    private final Counter truePositives;
+    private final Counter falsePositives;
+    
+    /**
+     * Construtor que registra as métricas do filtro
+     * @param name nome do filtro, usado como tag das métricas
+     * @param properties configuração dos filtros
+     * @param meterRegistry registro de métricas
+     */
+    public MembershipFilter(String name, MembershipFilterProperties properties, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.properties = properties;
+        
+        Gauge.builder("membership.filter.false.positive.rate", this, MembershipFilter::estimatedFalsePositiveRate)
+                .description("Taxa estimada de falsos positivos do filtro")
+                .tag("filter", name)
+                .register(meterRegistry);
+        Gauge.builder("membership.filter.memory", this, MembershipFilter::memoryBytes)
+                .description("Memória ocupada pelo filtro")
+                .baseUnit("bytes")
+                .tag("filter", name)
+                .register(meterRegistry);
+        
+        this.skippedQueries = checksCounter(meterRegistry, "skipped");
+        this.truePositives = checksCounter(meterRegistry, "true_positive");
+        this.falsePositives = checksCounter(meterRegistry, "false_positive");
+    }
+    
+    /**
+     * Reconstrói o filtro a partir das chaves existentes no banco
+     * @param currentSize quantidade atual de chaves, usada para dimensionar o filtro com folga
+     * @param keys chaves existentes
+     */
+    public void rebuild(long currentSize, Stream<String> keys) {
+        if (!properties.enabled()) {
+            return;
+        }
+        
+        ready = false;
+        long expectedInsertions = Math.max(properties.expectedInsertions(), currentSize * 2);
+        CountingBloomFilter rebuilt = new CountingBloomFilter(expectedInsertions, properties.falsePositiveRate());
+        // Instala o novo filtro antes da leitura para que inserções concorrentes também entrem nele
+        filter = rebuilt;
+        keys.forEach(rebuilt::add);
+        ready = true;
+    }
+    
+    /**
+     * Verifica se a chave pode existir
+     * @param key chave
+     * @return false somente se a chave com certeza não existe no banco
+     */
+    public boolean mightContain(String key) {
+        if (!ready) {
+            return true;
+        }
+        boolean mightContain = filter.mightContain(key);
+        if (!mightContain) {
+            skippedQueries.increment();
+        }
+        return mightContain;
+    }
+    
+    /**
+     * Registra o resultado da consulta ao banco feita após um "talvez exista"
+     * @param exists resultado da consulta
+     */
+    public void recordQueryResult(boolean exists) {
+        if (ready) {
+            (exists ? truePositives : falsePositives).increment();
+        }
+    }
+    
+    /**
+     * Adiciona uma chave gravada no banco
+     * @param key chave
+     */
+    public void add(String key) {
+        CountingBloomFilter current = filter;
+        if (current != null) {
+            current.add(key);
+        }
+    }
+    
+    /**
+     * Remove uma chave excluída do banco após o commit da transação,
+     * para que um rollback nunca deixe o filtro sem uma chave existente
+     * @param key chave
+     */
+    public void removeAfterCommit(String key) {
+        TransactionCallbacks.afterCommit(() -> {
+            CountingBloomFilter current = filter;
+            if (ready && current != null) {
+                current.remove(key);
+            }
+        });
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    private double estimatedFalsePositiveRate() {
+        CountingBloomFilter current = filter;
+        return current == null ? 1.0 : current.estimatedFalsePositiveRate();
+    }
+    
+    private double memoryBytes() {
+        CountingBloomFilter current = filter;
+        return current == null ? 0 : current.memoryBytes();
+    }
+    
+    private Counter checksCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("membership.filter.checks")
+                .description("Verificações de unicidade por resultado do filtro")
+                .tag("filter", name)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,12 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.membership;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registra a configuração dos filtros de pertinência.
+ */
+@Configuration
+@EnableConfigurationProperties(MembershipFilterProperties.class)
+public class MembershipFilterConfig {
+}
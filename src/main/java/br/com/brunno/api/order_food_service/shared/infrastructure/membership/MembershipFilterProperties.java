@@ -0,0 +1,19 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.membership;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração dos filtros de pertinência usados nas verificações de unicidade
+ * (prefixo membership-filter).
+ *
+ * @param enabled habilita os filtros; quando desativados toda verificação vai ao banco
+ * @param expectedInsertions quantidade mínima de chaves para dimensionar cada filtro
+ * @param falsePositiveRate taxa de falsos positivos desejada
+ */
+@ConfigurationProperties(prefix = "membership-filter")
+public record MembershipFilterProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long expectedInsertions,
+        @DefaultValue("0.01") double falsePositiveRate) {
+}
@@ -0,0 +1,72 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.messaging;
+
+import br.com.brunno.api.order_food_service.shared.application.messaging.MessagePublisher;
+import br.com.brunno.api.order_food_service.shared.application.messaging.OutboundMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broker em memória que implementa MessagePublisher, para rodar e medir a publicação de
+ * eventos localmente sem RabbitMQ. Cada destino (exchange) tem sua lista de assinantes,
+ * chamados na thread de quem publica. A falha de um assinante não impede a entrega aos demais,
+ * mas ao fim do lote a publicação falha: o relay mantém o lote pendente e o publica de novo,
+ * como a reentrega de um broker real ao consumidor que não confirmou. Os assinantes descartam
+ * repetidos pelo ID do evento ou tratam o evento de forma idempotente.
+ * Publica messaging.published por destino.
+ */
+@Slf4j
+public class InMemoryMessageBroker implements MessagePublisher {
+
+    private final Map<String, List<Consumer<OutboundMessage>>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> publishedByDestination = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public InMemoryMessageBroker(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void publish(List<OutboundMessage> messages) {
+        RuntimeException failure = null;
+        for (OutboundMessage message : messages) {
+            for (Consumer<OutboundMessage> subscriber : subscribers.getOrDefault(message.destination(), List.of())) {
+                try {
+                    subscriber.accept(message);
+                } catch (RuntimeException e) {
+                    log.warn("Assinante de {} falhou ao receber {} {}", message.destination(), message.type(), message.id(), e);
+                    failure = e;
+                }
+            }
+            publishedByDestination.computeIfAbsent(message.destination(), destination -> Counter.builder("messaging.published")
+                    .description("Mensagens publicadas no broker em memória")
+                    .tag("destination", destination)
+                    .register(meterRegistry)).increment();
+        }
+        if (failure != null) {
+            throw new IllegalStateException("Assinante do broker em memória falhou; o lote será publicado de novo", failure);
+        }
+    }
+
+    /**
+     * Assina as mensagens de um destino
+     * @param destination exchange (ex: pedido.events)
+     * @param subscriber chamado para cada mensagem publicada no destino
+     */
+    public void subscribe(String destination, Consumer<OutboundMessage> subscriber) {
+        subscribers.computeIfAbsent(destination, key -> new CopyOnWriteArrayList<>()).add(subscriber);
+    }
+
+    /**
+     * Remove a assinatura
+     */
+    public void unsubscribe(String destination, Consumer<OutboundMessage> subscriber) {
+        subscribers.getOrDefault(destination, List.of()).remove(subscriber);
+    }
+}
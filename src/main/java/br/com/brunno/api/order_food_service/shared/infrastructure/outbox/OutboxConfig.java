@@ -0,0 +1,35 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.outbox;
+
+import br.com.brunno.api.order_food_service.shared.application.messaging.MessagePublisher;
+import br.com.brunno.api.order_food_service.shared.infrastructure.messaging.InMemoryMessageBroker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Configuração da caixa de saída de eventos e do broker.
+ * Sem outro MessagePublisher registrado (RabbitMQ), os eventos vão para o broker em memória.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(MessagePublisher.class)
+    public InMemoryMessageBroker inMemoryMessageBroker(MeterRegistry meterRegistry) {
+        return new InMemoryMessageBroker(meterRegistry);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                   MessagePublisher messagePublisher, OutboxProperties properties,
+                                   MeterRegistry meterRegistry) {
+        return new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), messagePublisher,
+                properties, meterRegistry);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.outbox;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Adaptador JPA da caixa de saída.
+ * Os eventos entram no contexto de persistência da transação do caso de uso e são gravados no
+ * mesmo flush da alteração de domínio (em lote, com hibernate.jdbc.batch_size). Sem transação
+ * ativa a gravação é recusada: um evento gravado fora dela poderia sobreviver a um rollback.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxPersistenceAdapter implements OutboxRepository {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        entityManager.persist(toEntity(event));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            entityManager.persist(toEntity(event));
+        }
+    }
+
+    private OutboxEventJpaEntity toEntity(DomainEvent event) {
+        OutboxEventJpaEntity entity = new OutboxEventJpaEntity();
+        entity.setId(event.id());
+        entity.setAggregateType(event.aggregateType());
+        entity.setAggregateId(event.aggregateId());
+        entity.setEventType(event.type());
+        entity.setOccurredAt(event.occurredAt());
+        try {
+            entity.setPayload(objectMapper.writeValueAsString(event.payload()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o evento " + event.type(), e);
+        }
+        return entity;
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração da caixa de saída de eventos (prefixo outbox).
+ *
+ * @param relayEnabled inicia a thread que publica os eventos pendentes
+ * @param batchSize eventos reservados e publicados por vez
+ * @param pollInterval espera entre consultas quando não há lote cheio pendente
+ * @param lease tempo de reserva de um lote; se o relay cair, outro publica o lote depois disso
+ * @param retention por quanto tempo os eventos já publicados ficam na tabela
+ */
+@ConfigurationProperties(prefix = "outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean relayEnabled,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration pollInterval,
+        @DefaultValue("30s") Duration lease,
+        @DefaultValue("1h") Duration retention) {
+}
@@ -0,0 +1,186 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.outbox;
+
+import br.com.brunno.api.order_food_service.shared.application.messaging.MessagePublisher;
+import br.com.brunno.api.order_food_service.shared.application.messaging.OutboundMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publica os eventos pendentes da caixa de saída, em lotes, pelo MessagePublisher.
+ * Cada lote passa por três passos, sem transação aberta durante a chamada ao broker:
+ * 1. numa transação curta, seleciona os pendentes mais antigos com FOR UPDATE SKIP LOCKED
+ *    (linhas já travadas por outra instância são puladas, não esperadas) e os reserva por
+ *    outbox.lease gravando locked_until;
+ * 2. publica o lote;
+ * 3. marca o lote como publicado com um único lote JDBC de updates.
+ * Se o broker falhar, ou a instância cair entre 2 e 3, a reserva expira e o lote é publicado
+ * de novo: a entrega é pelo menos uma vez, e os consumidores descartam repetidos pelo ID do evento.
+ * Enquanto encontra lotes cheios, continua sem esperar; caso contrário consulta a cada
+ * outbox.poll-interval. Eventos publicados há mais de outbox.retention são apagados.
+ * Publica outbox.published, outbox.publish.failures e outbox.relay (tempo por lote).
+ */
+@Slf4j
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final String CLAIM = """
+            select id, aggregate_type, aggregate_id, event_type, payload, occurred_at
+            from outbox_event
+            where published_at is null and (locked_until is null or locked_until < ?)
+            order by id
+            fetch first ? rows only
+            for update skip locked""";
+    private static final String LOCK = "update outbox_event set locked_until = ?, attempts = attempts + 1 where id = ?";
+    private static final String MARK_PUBLISHED = "update outbox_event set published_at = ?, locked_until = null where id = ?";
+    private static final String PURGE = "delete from outbox_event where published_at < ?";
+
+    private static final RowMapper<OutboundMessage> MESSAGE_MAPPER = (rs, rowNum) -> new OutboundMessage(
+            rs.getObject("id", UUID.class),
+            rs.getString("aggregate_type") + ".events",
+            rs.getString("event_type"),
+            rs.getObject("aggregate_id", UUID.class),
+            rs.getString("payload"),
+            rs.getTimestamp("occurred_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MessagePublisher messagePublisher;
+    private final OutboxProperties properties;
+    private final Counter published;
+    private final Counter failures;
+    private final Timer relayTimer;
+    private volatile Instant lastPurge = Instant.EPOCH;
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                       MessagePublisher messagePublisher, OutboxProperties properties, MeterRegistry meterRegistry) {
+        if (properties.batchSize() < 1) {
+            throw new IllegalArgumentException("Tamanho do lote da caixa de saída deve ser positivo");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.messagePublisher = messagePublisher;
+        this.properties = properties;
+        this.published = Counter.builder("outbox.published")
+                .description("Eventos da caixa de saída publicados no broker")
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.publish.failures")
+                .description("Eventos cuja publicação falhou e será repetida após a reserva expirar")
+                .register(meterRegistry);
+        this.relayTimer = Timer.builder("outbox.relay")
+                .description("Tempo para reservar, publicar e marcar um lote da caixa de saída")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Reserva, publica e marca um lote de eventos pendentes
+     * @return quantidade de eventos publicados (0 se não havia pendentes)
+     * @throws RuntimeException se o broker recusar o lote; os eventos continuam pendentes
+     */
+    public int relayOnce() {
+        long start = System.nanoTime();
+        Instant now = Instant.now();
+        List<OutboundMessage> batch = transactionTemplate.execute(status -> claim(now));
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            messagePublisher.publish(batch);
+        } catch (RuntimeException e) {
+            failures.increment(batch.size());
+            throw e;
+        }
+
+        Timestamp publishedAt = Timestamp.from(Instant.now());
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(MARK_PUBLISHED, batch, batch.size(),
+                (ps, message) -> {
+                    ps.setTimestamp(1, publishedAt);
+                    ps.setObject(2, message.id());
+                }));
+        published.increment(batch.size());
+        relayTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        return batch.size();
+    }
+
+    /**
+     * Apaga os eventos publicados há mais tempo que a retenção
+     * @return quantidade de eventos apagados
+     */
+    public int purge() {
+        lastPurge = Instant.now();
+        return jdbcTemplate.update(PURGE, Timestamp.from(lastPurge.minus(properties.retention())));
+    }
+
+    @Override
+    public void start() {
+        if (!properties.relayEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.pollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::tick, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(properties.lease().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tick() {
+        try {
+            while (running && relayOnce() == properties.batchSize()) {
+                // Lote cheio: provavelmente há mais pendentes, continua sem esperar o intervalo
+            }
+            if (Instant.now().isAfter(lastPurge.plus(properties.retention().dividedBy(10)))) {
+                purge();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Falha ao publicar eventos da caixa de saída; nova tentativa após a reserva expirar", e);
+        }
+    }
+
+    private List<OutboundMessage> claim(Instant now) {
+        List<OutboundMessage> batch = jdbcTemplate.query(CLAIM, MESSAGE_MAPPER, Timestamp.from(now), properties.batchSize());
+        if (!batch.isEmpty()) {
+            Timestamp lockedUntil = Timestamp.from(now.plus(properties.lease()));
+            jdbcTemplate.batchUpdate(LOCK, batch, batch.size(), (ps, message) -> {
+                ps.setTimestamp(1, lockedUntil);
+                ps.setObject(2, message.id());
+            });
+        }
+        return batch;
+    }
+}
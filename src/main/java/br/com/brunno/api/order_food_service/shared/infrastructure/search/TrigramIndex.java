@@ -0,0 +1,316 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Índice invertido de trigramas em memória para busca por trecho de texto ("contém").
+ * Cada documento recebe um número sequencial e cada trigrama do texto normalizado aponta
+ * para a lista ordenada dos documentos que o contêm. Uma busca intersecciona as listas
+ * dos trigramas do termo, começando pela menor, e confirma o trecho no texto normalizado,
+ * parando assim que atinge o limite de resultados.
+ * A normalização ignora maiúsculas e acentos do português (ç, ã, é, ...), e qualquer
+ * sequência de caracteres que não seja letra ou dígito vira um único espaço.
+ * Exclusões apenas marcam o documento; as listas são compactadas quando os removidos
+ * passam de um quarto do índice. Leituras concorrentes são liberadas e escritas são exclusivas.
+ *
+ * @param <K> tipo da chave dos documentos
+ */
+public class TrigramIndex<K> {
+    
+    /**
+     * Equivalentes sem acento dos caracteres de U+00C0 a U+00FF (maiúsculas e minúsculas)
+     */
+    private static final String LATIN1_FOLDING =
+            "aaaaaaaceeeeiiiidnooooo ouuuuyts" + "aaaaaaaceeeeiiiidnooooo ouuuuyty";
+    
+    private static final int MIN_REMOVED_TO_COMPACT = 1024;
+    
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Integer> documents = new HashMap<>();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    // Posição = número do documento; null marca documento removido
+    private final List<K> keys = new ArrayList<>();
+    private final List<String> texts = new ArrayList<>();
+    private int removed;
+    
+    /**
+     * Indexa o texto de um documento, substituindo o texto anterior se a chave já existir
+     * @param key chave do documento
+     * @param text texto a ser indexado
+     */
+    public void put(K key, String text) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(key);
+            addDocument(key, fold(text));
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove um documento do índice
+     * @param key chave do documento
+     */
+    public void remove(K key) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(key);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Descarta o conteúdo atual e indexa todos os documentos informados
+     * @param entries documentos a serem indexados
+     * @param key extrai a chave de cada documento
+     * @param text extrai o texto de cada documento
+     * @param <E> tipo dos documentos
+     */
+    public <E> void rebuild(Stream<E> entries, Function<E, K> key, Function<E, String> text) {
+        lock.writeLock().lock();
+        try {
+            clear();
+            entries.forEach(entry -> addDocument(key.apply(entry), fold(text.apply(entry))));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Busca os documentos cujo texto contém o termo, ignorando maiúsculas e acentos.
+     * Termos com menos de três caracteres não formam trigramas e percorrem os textos em sequência.
+     * @param term trecho procurado
+     * @param limit quantidade máxima de resultados
+     * @return chaves dos documentos encontrados, na ordem em que foram indexados
+     */
+    public List<K> search(String term, int limit) {
+        String folded = fold(term);
+        if (folded.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        
+        lock.readLock().lock();
+        try {
+            return folded.length() < 3 ? scan(folded, limit) : intersect(folded, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Quantidade de documentos indexados
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Quantidade de trigramas distintos no índice
+     */
+    public int trigramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Normaliza o texto para indexação e busca: minúsculas, sem acentos, com letras e dígitos
+     * separados por um único espaço e sem espaços nas pontas
+     * @param text texto original
+     * @return texto normalizado
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        char[] folded = new char[text.length()];
+        int length = 0;
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= '\u00C0' && c <= '\u00FF') {
+                c = LATIN1_FOLDING.charAt(c - '\u00C0');
+            } else if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                // Acento combinado (texto em forma decomposta): a letra base já foi copiada
+                continue;
+            } else if (Character.isLetterOrDigit(c)) {
+                c = Character.toLowerCase(c);
+            } else {
+                c = ' ';
+            }
+            
+            if (c == ' ') {
+                pendingSpace = length > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                folded[length++] = ' ';
+                pendingSpace = false;
+            }
+            folded[length++] = c;
+        }
+        return new String(folded, 0, length);
+    }
+    
+    private void addDocument(K key, String folded) {
+        int document = keys.size();
+        keys.add(key);
+        texts.add(folded);
+        documents.put(key, document);
+        for (int i = 0; i + 3 <= folded.length(); i++) {
+            PostingList list = postings.computeIfAbsent(trigram(folded, i), t -> new PostingList());
+            // Documentos entram em ordem crescente: repetir o último indica trigrama repetido no texto
+            if (list.size == 0 || list.documents[list.size - 1] != document) {
+                list.add(document);
+            }
+        }
+    }
+    
+    private void removeDocument(K key) {
+        Integer document = documents.remove(key);
+        if (document != null) {
+            keys.set(document, null);
+            texts.set(document, null);
+            removed++;
+        }
+    }
+    
+    private void compactIfNeeded() {
+        if (removed < MIN_REMOVED_TO_COMPACT || removed * 4 < keys.size()) {
+            return;
+        }
+        List<K> liveKeys = new ArrayList<>(documents.size());
+        List<String> liveTexts = new ArrayList<>(documents.size());
+        for (int document = 0; document < keys.size(); document++) {
+            if (keys.get(document) != null) {
+                liveKeys.add(keys.get(document));
+                liveTexts.add(texts.get(document));
+            }
+        }
+        clear();
+        for (int i = 0; i < liveKeys.size(); i++) {
+            addDocument(liveKeys.get(i), liveTexts.get(i));
+        }
+    }
+    
+    private void clear() {
+        documents.clear();
+        postings.clear();
+        keys.clear();
+        texts.clear();
+        removed = 0;
+    }
+    
+    private List<K> scan(String folded, int limit) {
+        List<K> result = new ArrayList<>(Math.min(limit, 64));
+        for (int document = 0; document < texts.size() && result.size() < limit; document++) {
+            String text = texts.get(document);
+            if (text != null && text.contains(folded)) {
+                result.add(keys.get(document));
+            }
+        }
+        return result;
+    }
+    
+    private List<K> intersect(String folded, int limit) {
+        int count = folded.length() - 2;
+        PostingList[] lists = new PostingList[count];
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            PostingList list = postings.get(trigram(folded, i));
+            if (list == null) {
+                return List.of();
+            }
+            boolean repeated = false;
+            for (int j = 0; j < distinct && !repeated; j++) {
+                repeated = lists[j] == list;
+            }
+            if (!repeated) {
+                lists[distinct++] = list;
+            }
+        }
+        Arrays.sort(lists, 0, distinct, (a, b) -> Integer.compare(a.size, b.size));
+        
+        // Percorre a menor lista; nas demais o cursor só avança, pois todas estão ordenadas
+        int[] cursors = new int[distinct];
+        List<K> result = new ArrayList<>(Math.min(limit, 64));
+        PostingList smallest = lists[0];
+        candidates:
+        for (int i = 0; i < smallest.size && result.size() < limit; i++) {
+            int document = smallest.documents[i];
+            for (int j = 1; j < distinct; j++) {
+                cursors[j] = lists[j].seek(document, cursors[j]);
+                if (cursors[j] == lists[j].size) {
+                    break candidates;
+                }
+                if (lists[j].documents[cursors[j]] != document) {
+                    continue candidates;
+                }
+            }
+            // Os trigramas podem aparecer em posições separadas: confirma o trecho completo
+            String text = texts.get(document);
+            if (text != null && text.contains(folded)) {
+                result.add(keys.get(document));
+            }
+        }
+        return result;
+    }
+    
+    private static long trigram(String text, int offset) {
+        return ((long) text.charAt(offset) << 32) | ((long) text.charAt(offset + 1) << 16) | text.charAt(offset + 2);
+    }
+    
+    /**
+     * Lista crescente de números de documento que contêm um trigrama
+     */
+    private static final class PostingList {
+        
+        private int[] documents = new int[4];
+        private int size;
+        
+        void add(int document) {
+            if (size == documents.length) {
+                documents = Arrays.copyOf(documents, size + (size >> 1));
+            }
+            documents[size++] = document;
+        }
+        
+        /**
+         * Posição do primeiro documento maior ou igual ao procurado, a partir de from.
+         * Avança em saltos exponenciais e termina com busca binária
+         */
+        int seek(int document, int from) {
+            int step = 1;
+            int low = from;
+            int high = from;
+            while (high < size && documents[high] < document) {
+                low = high + 1;
+                high += step;
+                step <<= 1;
+            }
+            high = Math.min(high, size);
+            int index = Arrays.binarySearch(documents, low, high, document);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
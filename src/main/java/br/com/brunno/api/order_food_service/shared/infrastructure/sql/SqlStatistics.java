@@ -0,0 +1,187 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.sql;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Estatísticas dos comandos SQL executados pela aplicação, agregadas pelo texto do comando
+ * (com os placeholders, como o Hibernate os prepara): execuções, tempo médio, máximo e total
+ * e linhas retornadas ou afetadas. As execuções mais lentas que o limite configurado vão para
+ * um buffer circular de tamanho fixo, com os parâmetros de bind.
+ * O registro de uma execução rápida só toca contadores (LongAdder) do comando; nada é alocado
+ * fora do caminho de comandos lentos.
+ */
+public class SqlStatistics {
+    
+    private static final int MAX_PARAMETER_LENGTH = 200;
+    
+    private final long slowThresholdNanos;
+    private final int maxStatements;
+    private final boolean captureParameters;
+    private final Map<String, StatementCounters> statements = new ConcurrentHashMap<>();
+    private final LongAdder untracked = new LongAdder();
+    private final AtomicReferenceArray<SlowStatement> slowLog;
+    private final AtomicLong slowSequence = new AtomicLong();
+    
+    public SqlStatistics(SqlStatisticsProperties properties) {
+        this.slowThresholdNanos = properties.slowThreshold().toNanos();
+        this.maxStatements = properties.maxStatements();
+        this.captureParameters = properties.captureParameters();
+        this.slowLog = new AtomicReferenceArray<>(Math.max(1, properties.slowLogSize()));
+    }
+    
+    /**
+     * Indica se uma execução com esta duração entra no registro de comandos lentos;
+     * quem mede usa para copiar os parâmetros de bind somente quando necessário
+     * @param elapsedNanos duração da execução
+     */
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= slowThresholdNanos;
+    }
+    
+    /**
+     * Registra uma execução
+     * @param sql texto do comando
+     * @param elapsedNanos duração da execução (sem a leitura do ResultSet)
+     * @param rows linhas lidas do ResultSet ou afetadas pelo comando
+     * @param parameters parâmetros de bind (por posição), ou null se não capturados
+     */
+    public void record(String sql, long elapsedNanos, long rows, Object[] parameters) {
+        StatementCounters counters = statements.get(sql);
+        if (counters == null) {
+            if (statements.size() >= maxStatements) {
+                untracked.increment();
+                recordSlow(sql, elapsedNanos, rows, parameters);
+                return;
+            }
+            counters = statements.computeIfAbsent(sql, s -> new StatementCounters());
+        }
+        counters.executions.increment();
+        counters.totalNanos.add(elapsedNanos);
+        counters.maxNanos.accumulate(elapsedNanos);
+        counters.rows.add(rows);
+        recordSlow(sql, elapsedNanos, rows, parameters);
+    }
+    
+    /**
+     * Comandos agregados, do maior tempo total para o menor
+     */
+    public List<StatementSummary> statements() {
+        List<StatementSummary> summaries = new ArrayList<>(statements.size());
+        statements.forEach((sql, counters) -> {
+            long executions = counters.executions.sum();
+            long totalNanos = counters.totalNanos.sum();
+            summaries.add(new StatementSummary(sql, executions,
+                    executions == 0 ? 0 : millis(totalNanos / executions),
+                    millis(counters.maxNanos.get()), millis(totalNanos), counters.rows.sum()));
+        });
+        summaries.sort(Comparator.comparingDouble(StatementSummary::totalMs).reversed());
+        return summaries;
+    }
+    
+    /**
+     * Comandos lentos ainda no buffer circular, do mais lento para o mais rápido
+     */
+    public List<SlowStatement> slowest() {
+        List<SlowStatement> slow = new ArrayList<>(slowLog.length());
+        for (int i = 0; i < slowLog.length(); i++) {
+            SlowStatement statement = slowLog.get(i);
+            if (statement != null) {
+                slow.add(statement);
+            }
+        }
+        slow.sort(Comparator.comparingDouble(SlowStatement::elapsedMs).reversed());
+        return slow;
+    }
+    
+    /**
+     * Execuções de comandos que não couberam no limite de comandos distintos
+     */
+    public long untrackedExecutions() {
+        return untracked.sum();
+    }
+    
+    /**
+     * Descarta as estatísticas e o registro de comandos lentos
+     */
+    public void reset() {
+        statements.clear();
+        untracked.reset();
+        for (int i = 0; i < slowLog.length(); i++) {
+            slowLog.set(i, null);
+        }
+    }
+    
+    boolean capturesParameters() {
+        return captureParameters;
+    }
+    
+    private void recordSlow(String sql, long elapsedNanos, long rows, Object[] parameters) {
+        if (!isSlow(elapsedNanos)) {
+            return;
+        }
+        int slot = (int) (slowSequence.getAndIncrement() % slowLog.length());
+        slowLog.set(slot, new SlowStatement(sql, millis(elapsedNanos), rows,
+                captureParameters && parameters != null ? format(parameters) : List.of(), Instant.now()));
+    }
+    
+    private static List<String> format(Object[] parameters) {
+        return Arrays.stream(parameters).map(SqlStatistics::format).toList();
+    }
+    
+    private static String format(Object parameter) {
+        if (parameter == null) {
+            return "null";
+        }
+        if (parameter instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        String value = parameter.toString();
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+    
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+    
+    private static final class StatementCounters {
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+        private final LongAdder rows = new LongAdder();
+    }
+    
+    /**
+     * Estatísticas agregadas de um comando
+     *
+     * @param sql texto do comando
+     * @param executions quantidade de execuções
+     * @param meanMs tempo médio em milissegundos
+     * @param maxMs maior tempo em milissegundos
+     * @param totalMs tempo total em milissegundos
+     * @param rows linhas retornadas ou afetadas, somadas
+     */
+    public record StatementSummary(String sql, long executions, double meanMs, double maxMs, double totalMs, long rows) {
+    }
+    
+    /**
+     * Uma execução lenta
+     *
+     * @param sql texto do comando
+     * @param elapsedMs duração em milissegundos
+     * @param rows linhas retornadas ou afetadas
+     * @param parameters parâmetros de bind, por posição
+     * @param executedAt instante do fim da execução
+     */
+    public record SlowStatement(String sql, double elapsedMs, long rows, List<String> parameters, Instant executedAt) {
+    }
+}
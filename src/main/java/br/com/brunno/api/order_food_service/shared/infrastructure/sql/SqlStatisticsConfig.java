@@ -0,0 +1,52 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.sql;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuração das estatísticas de comandos SQL.
+ * Ativa por padrão; desligada com sql.statistics.enabled=false, quando o DataSource do pool
+ * é usado sem nenhum proxy. As estatísticas ficam em /actuator/sqlstats.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlStatisticsProperties.class)
+@ConditionalOnProperty(prefix = "sql.statistics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatisticsConfig {
+    
+    @Bean
+    public SqlStatistics sqlStatistics(SqlStatisticsProperties properties) {
+        return new SqlStatistics(properties);
+    }
+    
+    @Bean
+    public SqlStatisticsEndpoint sqlStatisticsEndpoint(SqlStatistics sqlStatistics) {
+        return new SqlStatisticsEndpoint(sqlStatistics);
+    }
+    
+    /**
+     * Envolve o DataSource da aplicação assim que ele é criado. Estático para não antecipar a
+     * criação desta configuração; as estatísticas são resolvidas só quando o DataSource aparece
+     */
+    @Bean
+    public static BeanPostProcessor sqlStatisticsDataSourcePostProcessor(ObjectProvider<SqlStatistics> sqlStatistics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Proxies e roteadores (réplica de leitura) delegam a pools que já são envolvidos
+                if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)
+                        && !(bean instanceof AbstractRoutingDataSource)) {
+                    return new StatisticsDataSource(dataSource, sqlStatistics.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,44 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * Endpoint do actuator com as estatísticas de comandos SQL (GET /actuator/sqlstats)
+ * e o descarte delas (DELETE /actuator/sqlstats)
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatisticsEndpoint {
+    
+    private final SqlStatistics sqlStatistics;
+    
+    public SqlStatisticsEndpoint(SqlStatistics sqlStatistics) {
+        this.sqlStatistics = sqlStatistics;
+    }
+    
+    @ReadOperation
+    public SqlStatisticsReport report() {
+        return new SqlStatisticsReport(sqlStatistics.statements(), sqlStatistics.slowest(),
+                sqlStatistics.untrackedExecutions());
+    }
+    
+    @DeleteOperation
+    public void reset() {
+        sqlStatistics.reset();
+    }
+    
+    /**
+     * Estatísticas dos comandos e registro de comandos lentos
+     *
+     * @param statements comandos agregados, do maior tempo total para o menor
+     * @param slowest execuções lentas mais recentes, da mais lenta para a mais rápida
+     * @param untrackedExecutions execuções de comandos além do limite de comandos distintos
+     */
+    public record SqlStatisticsReport(List<SqlStatistics.StatementSummary> statements,
+                                      List<SqlStatistics.SlowStatement> slowest,
+                                      long untrackedExecutions) {
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.sql;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração das estatísticas de comandos SQL (prefixo sql.statistics).
+ *
+ * @param enabled envolve o DataSource para medir cada comando executado
+ * @param slowThreshold execuções a partir desta duração entram no registro de comandos lentos
+ * @param slowLogSize quantidade de comandos lentos mantidos (os mais recentes)
+ * @param maxStatements quantidade máxima de comandos distintos agregados; os excedentes são só contados
+ * @param captureParameters guarda os parâmetros de bind dos comandos lentos (podem conter dados pessoais)
+ */
+@ConfigurationProperties(prefix = "sql.statistics")
+public record SqlStatisticsProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100ms") Duration slowThreshold,
+        @DefaultValue("50") int slowLogSize,
+        @DefaultValue("500") int maxStatements,
+        @DefaultValue("true") boolean captureParameters) {
+}
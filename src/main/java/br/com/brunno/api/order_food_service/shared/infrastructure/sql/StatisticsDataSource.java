@@ -0,0 +1,272 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * DataSource que mede cada comando executado pelas conexões que entrega e registra o resultado
+ * em SqlStatistics. Conexões, statements e ResultSets são proxies finos sobre os do pool:
+ * a execução é cronometrada, os setXxx guardam os parâmetros de bind num array por statement e
+ * o ResultSet conta as linhas lidas. A execução é registrada quando o ResultSet (ou o statement)
+ * é fechado, já com a quantidade de linhas.
+ * Substitui o show-sql e o log TRACE de binds, que formatam e escrevem cada comando.
+ */
+public class StatisticsDataSource extends DelegatingDataSource {
+
+    private final SqlStatistics statistics;
+
+    public StatisticsDataSource(DataSource targetDataSource, SqlStatistics statistics) {
+        super(targetDataSource);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connectionProxy(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connectionProxy(super.getConnection(username, password));
+    }
+
+    private Connection connectionProxy(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        ConnectionHandler(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "prepareStatement":
+                    return statementProxy((Statement) StatisticsDataSource.invoke(connection, method, args),
+                            PreparedStatement.class, (String) args[0]);
+                case "prepareCall":
+                    return statementProxy((Statement) StatisticsDataSource.invoke(connection, method, args),
+                            CallableStatement.class, (String) args[0]);
+                case "createStatement":
+                    return statementProxy((Statement) StatisticsDataSource.invoke(connection, method, args),
+                            Statement.class, null);
+                default:
+                    return StatisticsDataSource.invoke(connection, method, args);
+            }
+        }
+
+        private Object statementProxy(Statement statement, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement statement;
+        private final String preparedSql;
+        private Object[] parameters = new Object[8];
+        private int parameterCount;
+        // Consulta executada cujo ResultSet ainda está sendo lido
+        private PendingQuery pending;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+                return StatisticsDataSource.invoke(statement, method, args);
+            }
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "clearParameters":
+                    parameterCount = 0;
+                    Arrays.fill(parameters, null);
+                    return StatisticsDataSource.invoke(statement, method, args);
+                case "executeQuery":
+                    return executeQuery(method, args);
+                case "execute":
+                    return execute(method, args);
+                case "executeUpdate":
+                case "executeLargeUpdate":
+                    return executeUpdate(method, args);
+                case "executeBatch":
+                case "executeLargeBatch":
+                    return executeBatch(method, args);
+                case "getResultSet":
+                    return resultSetProxy((ResultSet) StatisticsDataSource.invoke(statement, method, args));
+                case "close":
+                    flushPending();
+                    return StatisticsDataSource.invoke(statement, method, args);
+                default:
+                    return StatisticsDataSource.invoke(statement, method, args);
+            }
+        }
+
+        private Object executeQuery(Method method, Object[] args) throws Throwable {
+            flushPending();
+            long start = System.nanoTime();
+            ResultSet resultSet = (ResultSet) StatisticsDataSource.invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+            pending = new PendingQuery(sql(args), elapsed, capturedParameters(elapsed));
+            return resultSetProxy(resultSet);
+        }
+
+        private Object execute(Method method, Object[] args) throws Throwable {
+            flushPending();
+            long start = System.nanoTime();
+            boolean hasResultSet = (Boolean) StatisticsDataSource.invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+            if (hasResultSet) {
+                pending = new PendingQuery(sql(args), elapsed, capturedParameters(elapsed));
+            } else {
+                statistics.record(sql(args), elapsed, Math.max(0, statement.getUpdateCount()), capturedParameters(elapsed));
+            }
+            return hasResultSet;
+        }
+
+        private Object executeUpdate(Method method, Object[] args) throws Throwable {
+            flushPending();
+            long start = System.nanoTime();
+            Object result = StatisticsDataSource.invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+            statistics.record(sql(args), elapsed, ((Number) result).longValue(), capturedParameters(elapsed));
+            return result;
+        }
+
+        // O lote é registrado como uma execução do comando preparado, com a soma das linhas afetadas
+        private Object executeBatch(Method method, Object[] args) throws Throwable {
+            flushPending();
+            long start = System.nanoTime();
+            Object result = StatisticsDataSource.invoke(statement, method, args);
+            long elapsed = System.nanoTime() - start;
+            long rows = 0;
+            if (result instanceof int[] counts) {
+                for (int count : counts) {
+                    rows += Math.max(0, count);
+                }
+            } else if (result instanceof long[] counts) {
+                for (long count : counts) {
+                    rows += Math.max(0, count);
+                }
+            }
+            statistics.record(preparedSql != null ? preparedSql : "<batch>", elapsed, rows, capturedParameters(elapsed));
+            return result;
+        }
+
+        private void bind(int index, Object value) {
+            if (index < 1) {
+                return;
+            }
+            if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        // Copia os parâmetros somente para execuções lentas; as demais não alocam nada
+        private Object[] capturedParameters(long elapsedNanos) {
+            if (!statistics.isSlow(elapsedNanos) || !statistics.capturesParameters()) {
+                return null;
+            }
+            return Arrays.copyOf(parameters, parameterCount);
+        }
+
+        private String sql(Object[] args) {
+            return args != null && args.length > 0 && args[0] instanceof String sql ? sql : preparedSql;
+        }
+
+        private Object resultSetProxy(ResultSet resultSet) {
+            if (resultSet == null || pending == null) {
+                return resultSet;
+            }
+            PendingQuery query = pending;
+            return Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class<?>[]{ResultSet.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "next" -> {
+                            boolean hasRow = (Boolean) StatisticsDataSource.invoke(resultSet, method, args);
+                            if (hasRow) {
+                                query.rows++;
+                            }
+                            yield hasRow;
+                        }
+                        case "close" -> {
+                            flush(query);
+                            yield StatisticsDataSource.invoke(resultSet, method, args);
+                        }
+                        default -> StatisticsDataSource.invoke(resultSet, method, args);
+                    });
+        }
+
+        private void flushPending() {
+            if (pending != null) {
+                flush(pending);
+            }
+        }
+
+        private void flush(PendingQuery query) {
+            if (query.recorded) {
+                return;
+            }
+            query.recorded = true;
+            statistics.record(query.sql, query.elapsedNanos, query.rows, query.parameters);
+            if (pending == query) {
+                pending = null;
+            }
+        }
+    }
+
+    private static final class PendingQuery {
+        private final String sql;
+        private final long elapsedNanos;
+        private final Object[] parameters;
+        private long rows;
+        private boolean recorded;
+
+        PendingQuery(String sql, long elapsedNanos, Object[] parameters) {
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+            this.parameters = parameters;
+        }
+    }
+}
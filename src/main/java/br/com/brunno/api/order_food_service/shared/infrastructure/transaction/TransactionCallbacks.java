@@ -0,0 +1,34 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilitário para executar ações somente após o commit da transação corrente.
+ * Usado por estruturas em memória (caches, índices) que não podem enxergar
+ * alterações que ainda podem sofrer rollback.
+ */
+public final class TransactionCallbacks {
+    
+    private TransactionCallbacks() {
+    }
+    
+    /**
+     * Executa a ação após o commit da transação corrente,
+     * ou imediatamente se não houver transação ativa
+     * @param action ação a ser executada
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
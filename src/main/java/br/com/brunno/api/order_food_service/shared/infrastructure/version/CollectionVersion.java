@@ -0,0 +1,86 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.version;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Versão em memória de uma coleção (tabela), incrementada após o commit de cada transação que a
+ * altera. Permite validar uma resposta de listagem já entregue ao cliente com uma única leitura,
+ * sem consultar nem serializar os dados.
+ * Quem lê deve obter a versão antes dos dados: uma alteração concorrente faz no máximo o cliente
+ * buscar de novo, nunca associa dados antigos a uma versão nova.
+ * Várias escritas na mesma transação geram um único incremento.
+ */
+public class CollectionVersion {
+    
+    private final AtomicLong version = new AtomicLong();
+    private final List<LongConsumer> listeners = new CopyOnWriteArrayList<>();
+    
+    /**
+     * @param name nome da coleção, usado como tag da métrica
+     * @param meterRegistry registro de métricas
+     */
+    public CollectionVersion(String name, MeterRegistry meterRegistry) {
+        Gauge.builder("collection.version", version, AtomicLong::get)
+                .description("Versão em memória da coleção, incrementada a cada alteração confirmada")
+                .tag("collection", name)
+                .register(meterRegistry);
+    }
+    
+    /**
+     * Versão atual da coleção
+     */
+    public long current() {
+        return version.get();
+    }
+    
+    /**
+     * Registra um ouvinte chamado a cada incremento, na thread que confirmou a transação.
+     * Deve ser rápido: trabalho pesado (como reconstruir uma resposta) vai para outra thread
+     * @param listener recebe a nova versão
+     */
+    public void addListener(LongConsumer listener) {
+        listeners.add(listener);
+    }
+    
+    /**
+     * Incrementa a versão após o commit da transação corrente (uma vez por transação),
+     * ou imediatamente se não houver transação ativa
+     */
+    public void incrementAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            increment();
+            return;
+        }
+        // A própria instância marca a transação que já registrou o incremento
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        // Incrementa no afterCompletion, que roda depois de todos os afterCommit: quem enxergar a
+        // versão nova já enxerga também os índices e fotografias atualizados após o mesmo commit
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(CollectionVersion.this);
+                if (status == STATUS_COMMITTED) {
+                    increment();
+                }
+            }
+        });
+    }
+    
+    private void increment() {
+        long current = version.incrementAndGet();
+        for (LongConsumer listener : listeners) {
+            listener.accept(current);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.version.CollectionVersion;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Cache de respostas de listagem já serializadas em JSON (e opcionalmente já comprimidas em gzip),
+ * servidas como bytes sem passar pelo Jackson nem alocar os DTOs a cada requisição.
+ * Cada entrada guarda a versão da coleção lida antes da consulta e vale enquanto a versão não
+ * mudar. Quando a coleção muda, as chaves já requisitadas são reconstruídas numa thread própria;
+ * uma requisição que chegue antes disso reconstrói a entrada ela mesma (uma por chave por vez).
+ * Requisições dentro de uma transação ativa ignoram o cache: podem enxergar escritas ainda não
+ * confirmadas, que não podem ser servidas a outros clientes.
+ * Publica response.cache.requests (result=hit|miss|bypass), response.cache.rebuild
+ * (trigger=request|background) e response.cache.size, todos com a tag cache.
+ *
+ * @param <K> chave da listagem (por exemplo, o filtro aplicado)
+ */
+public class EncodedResponseCache<K> implements AutoCloseable {
+
+    private final String name;
+    private final CollectionVersion version;
+    private final Function<K, ?> loader;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final boolean gzip;
+    private final Map<K, EncodedResponse> entries = new ConcurrentHashMap<>();
+    private final Map<K, Object> rebuildLocks = new ConcurrentHashMap<>();
+    private final AtomicBoolean rebuildScheduled = new AtomicBoolean();
+    private final ExecutorService rebuildExecutor;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+    private final Timer requestRebuilds;
+    private final Timer backgroundRebuilds;
+
+    /**
+     * @param name nome do cache, usado como tag das métricas e no nome da thread de reconstrução
+     * @param version versão da coleção listada
+     * @param loader consulta que produz o corpo da resposta para a chave
+     * @param objectMapper serializador JSON da aplicação
+     * @param enabled false serializa a cada requisição, sem guardar nada
+     * @param gzip guarda também a versão comprimida do corpo
+     * @param meterRegistry registro de métricas
+     */
+    public EncodedResponseCache(String name, CollectionVersion version, Function<K, ?> loader,
+                                ObjectMapper objectMapper, boolean enabled, boolean gzip,
+                                MeterRegistry meterRegistry) {
+        this.name = name;
+        this.version = version;
+        this.loader = loader;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.gzip = gzip;
+        this.rebuildExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "response-cache-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.hits = requests("hit", meterRegistry);
+        this.misses = requests("miss", meterRegistry);
+        this.bypasses = requests("bypass", meterRegistry);
+        this.requestRebuilds = rebuilds("request", meterRegistry);
+        this.backgroundRebuilds = rebuilds("background", meterRegistry);
+        Gauge.builder("response.cache.size", entries, this::encodedBytes)
+                .description("Bytes das respostas mantidas no cache (JSON e gzip)")
+                .baseUnit("bytes")
+                .tag("cache", name)
+                .register(meterRegistry);
+
+        if (enabled) {
+            version.addListener(changed -> scheduleRebuild());
+        }
+    }
+
+    /**
+     * Resposta da chave, do cache quando a versão da coleção não mudou
+     * @param key chave da listagem
+     * @return corpo serializado
+     */
+    public EncodedResponse get(K key) {
+        if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+            bypasses.increment();
+            return encode(key, version.current());
+        }
+
+        EncodedResponse cached = entries.get(key);
+        if (cached != null && cached.version() >= version.current()) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return requestRebuilds.record(() -> rebuild(key));
+    }
+
+    @Override
+    public void close() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    // Várias alterações seguidas geram uma única reconstrução pendente
+    private void scheduleRebuild() {
+        if (!rebuildScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            rebuildExecutor.execute(() -> {
+                rebuildScheduled.set(false);
+                for (K key : entries.keySet()) {
+                    try {
+                        backgroundRebuilds.record(() -> rebuild(key));
+                    } catch (RuntimeException e) {
+                        // A entrada desatualizada sai do cache e a próxima requisição reconstrói (e vê o erro)
+                        entries.remove(key);
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rebuildScheduled.set(false);
+        }
+    }
+
+    // Apenas uma reconstrução por chave por vez: quem espera reaproveita o resultado
+    private EncodedResponse rebuild(K key) {
+        synchronized (rebuildLocks.computeIfAbsent(key, k -> new Object())) {
+            long current = version.current();
+            EncodedResponse cached = entries.get(key);
+            if (cached != null && cached.version() >= current) {
+                return cached;
+            }
+            EncodedResponse rebuilt = encode(key, current);
+            entries.put(key, rebuilt);
+            return rebuilt;
+        }
+    }
+
+    // A versão é lida antes da consulta: uma alteração concorrente deixa a entrada com versão
+    // antiga (e logo reconstruída), nunca dados antigos com a versão nova
+    private EncodedResponse encode(K key, long atVersion) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(loader.apply(key));
+            return new EncodedResponse(atVersion, json, gzip ? gzip(json) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar a resposta do cache " + name, e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return compressed.toByteArray();
+    }
+
+    private double encodedBytes(Map<K, EncodedResponse> entries) {
+        long total = 0;
+        for (EncodedResponse entry : entries.values()) {
+            total += entry.json().length + (entry.gzip() != null ? entry.gzip().length : 0);
+        }
+        return total;
+    }
+
+    private Counter requests(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("response.cache.requests")
+                .description("Requisições ao cache de respostas serializadas")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer rebuilds(String trigger, MeterRegistry meterRegistry) {
+        return Timer.builder("response.cache.rebuild")
+                .description("Tempo de consulta, serialização e compressão de uma entrada do cache")
+                .tag("cache", name)
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Corpo de uma listagem já serializado
+     *
+     * @param version versão da coleção lida antes da consulta
+     * @param json corpo em JSON
+     * @param gzip mesmo corpo comprimido em gzip, ou null quando a compressão prévia está desligada
+     */
+    public record EncodedResponse(long version, byte[] json, byte[] gzip) {
+
+        /**
+         * Indica se há corpo comprimido para servir a quem aceita gzip
+         */
+        public boolean hasGzip() {
+            return gzip != null;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.web;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Construção de ETags a partir de versões, sem serializar a resposta.
+ * As ETags são fracas (W/"..."): identificam a versão dos dados, não os bytes do corpo, que
+ * podem variar com a compressão. Usadas com WebRequest.checkNotModified, que compara o
+ * If-None-Match e responde 304 antes de qualquer consulta ou serialização.
+ */
+public final class EntityTags {
+    
+    /**
+     * Identifica esta execução da aplicação: versões de coleção são contadores em memória que
+     * recomeçam a cada inicialização e não podem coincidir com as de outra instância
+     */
+    private static final String INSTANCE = Long.toString(new SecureRandom().nextLong() & Long.MAX_VALUE, 36);
+    
+    private EntityTags() {
+    }
+    
+    /**
+     * ETag de um recurso com versão numérica persistida
+     * @param version versão do recurso
+     * @return ETag fraca
+     */
+    public static String ofVersion(long version) {
+        return "W/\"" + Long.toString(version, 36) + "\"";
+    }
+    
+    /**
+     * ETag de um recurso versionado pelo instante da última alteração
+     * @param changedAt instante da última alteração
+     * @return ETag fraca
+     */
+    public static String ofTimestamp(LocalDateTime changedAt) {
+        long epochMicros = changedAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + changedAt.getNano() / 1_000;
+        return ofVersion(epochMicros);
+    }
+    
+    /**
+     * ETag de uma listagem a partir da versão em memória da coleção
+     * @param version versão da coleção
+     * @return ETag fraca, válida apenas nesta execução da aplicação
+     */
+    public static String ofCollection(long version) {
+        return "W/\"" + INSTANCE + "-" + Long.toString(version, 36) + "\"";
+    }
+}
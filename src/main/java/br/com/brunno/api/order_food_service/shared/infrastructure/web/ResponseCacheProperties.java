@@ -0,0 +1,16 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração dos caches de respostas serializadas das listagens (prefixo response-cache).
+ *
+ * @param enabled guarda as respostas já serializadas; desligado, serializa a cada requisição
+ * @param gzip guarda também o corpo comprimido, servido a quem envia Accept-Encoding: gzip
+ */
+@ConfigurationProperties(prefix = "response-cache")
+public record ResponseCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("true") boolean gzip) {
+}
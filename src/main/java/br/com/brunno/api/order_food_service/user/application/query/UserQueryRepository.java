@@ -0,0 +1,37 @@
+// Arquivo para a interface UserQueryRepository - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.user.application.query;
+
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse;
+
+import java.util.function.Consumer;
+
+/**
+ * Porta de leitura de usuários (modelo de leitura).
+ * Entrega os dados já no formato de resposta dos casos de uso, sem passar pela
+ * entidade de domínio, para as consultas que apenas exibem dados.
+ */
+public interface UserQueryRepository {
+    
+    /**
+     * Busca uma página de usuários ordenada por ID (paginação keyset)
+     * @param after cursor opaco da página anterior, ou null para a primeira página
+     * @param limit quantidade máxima de usuários na página
+     * @return página de usuários com o cursor da próxima página (null se não houver)
+     * @throws IllegalArgumentException se o cursor for inválido
+     */
+    ListUsersResponse findPage(String after, int limit);
+    
+    /**
+     * Versão da coleção, incrementada após cada alteração confirmada.
+     * Deve ser lida antes dos dados que ela valida
+     * @return versão atual da coleção
+     */
+    long version();
+    
+    /**
+     * Percorre todos os usuários em ordem de ID, sem carregá-los todos em memória
+     * @param consumer consumidor chamado para cada usuário
+     */
+    void streamAll(Consumer<ListUsersResponse.UserItem> consumer);
+}
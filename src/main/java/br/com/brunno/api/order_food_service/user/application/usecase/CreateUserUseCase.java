@@ -3,28 +3,42 @@
 package br.com.brunno.api.order_food_service.user.application.usecase;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.brunno.api.order_food_service.shared.application.event.DomainEventPublisher;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.CreateUserRequest;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.CreateUserResponse;
 import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.domain.event.UserCreatedEvent;
 import br.com.brunno.api.order_food_service.user.domain.exceptions.UserAlreadyExistsException;
 import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
 
 /**
  * Caso de uso para criação de usuários.
  * Implementa as regras de negócio para criação de um novo usuário.
+ * O evento UsuarioCriado é gravado na caixa de saída na mesma transação do usuário
+ * e publicado no barramento de eventos em memória após o commit.
  */
 @Service
 public class CreateUserUseCase {
     
     private final UserRepository userRepository;
+    private final OutboxRepository outboxRepository;
+    private final DomainEventPublisher domainEventPublisher;
     
     /**
-     * Construtor que recebe a dependência do repositório
+     * Construtor que recebe as dependências dos repositórios e do barramento de eventos
      * @param userRepository repositório de usuários
+     * @param outboxRepository caixa de saída de eventos
+     * @param domainEventPublisher barramento de eventos em memória
      */
-    public CreateUserUseCase(UserRepository userRepository) {
+    public CreateUserUseCase(UserRepository userRepository, OutboxRepository outboxRepository,
+                             DomainEventPublisher domainEventPublisher) {
         this.userRepository = userRepository;
+        this.outboxRepository = outboxRepository;
+        this.domainEventPublisher = domainEventPublisher;
     }
     
     /**
@@ -34,6 +48,7 @@ public class CreateUserUseCase {
      * @throws IllegalArgumentException se os dados forem inválidos
      * @throws UserAlreadyExistsException se já existir usuário com o email fornecido
      */
+    @Transactional
     public CreateUserResponse execute(CreateUserRequest request) {
         // Validações de entrada
         if (request == null) {
@@ -53,6 +68,11 @@ public class CreateUserUseCase {
         // Salva no repositório
         User savedUser = userRepository.save(user);
         
+        // Registra o evento para publicação após o commit
+        DomainEvent event = UserCreatedEvent.of(savedUser);
+        outboxRepository.append(event);
+        domainEventPublisher.publish(event);
+        
         // Retorna a resposta
         return new CreateUserResponse(savedUser);
     }
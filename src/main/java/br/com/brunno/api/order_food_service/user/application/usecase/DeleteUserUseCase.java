@@ -3,27 +3,41 @@
 package br.com.brunno.api.order_food_service.user.application.usecase;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.brunno.api.order_food_service.shared.application.event.DomainEventPublisher;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.DeleteUserRequest;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.DeleteUserResponse;
+import br.com.brunno.api.order_food_service.user.domain.event.UserDeletedEvent;
 import br.com.brunno.api.order_food_service.user.domain.exceptions.UserNotFoundException;
 import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
 
 /**
  * Caso de uso para exclusão de usuários.
  * Implementa as regras de negócio para exclusão de um usuário existente.
+ * O evento UsuarioExcluido é gravado na caixa de saída na mesma transação da exclusão
+ * e publicado no barramento de eventos em memória após o commit.
  */
 @Service
 public class DeleteUserUseCase {
     
     private final UserRepository userRepository;
+    private final OutboxRepository outboxRepository;
+    private final DomainEventPublisher domainEventPublisher;
     
     /**
-     * Construtor que recebe a dependência do repositório
+     * Construtor que recebe as dependências dos repositórios e do barramento de eventos
      * @param userRepository repositório de usuários
+     * @param outboxRepository caixa de saída de eventos
+     * @param domainEventPublisher barramento de eventos em memória
      */
-    public DeleteUserUseCase(UserRepository userRepository) {
+    public DeleteUserUseCase(UserRepository userRepository, OutboxRepository outboxRepository,
+                             DomainEventPublisher domainEventPublisher) {
         this.userRepository = userRepository;
+        this.outboxRepository = outboxRepository;
+        this.domainEventPublisher = domainEventPublisher;
     }
     
     /**
@@ -33,6 +47,7 @@ public class DeleteUserUseCase {
      * @throws IllegalArgumentException se os dados forem inválidos
      * @throws UserNotFoundException se o usuário não for encontrado
      */
+    @Transactional
     public DeleteUserResponse execute(DeleteUserRequest request) {
         // Validações de entrada
         if (request == null) {
@@ -41,13 +56,15 @@ public class DeleteUserUseCase {
         
         request.validate();
         
-        // Verifica se o usuário existe antes de tentar excluir
-        if (!userRepository.findById(request.getUserId()).isPresent()) {
+        // Exclui direto: nenhuma linha afetada significa que o usuário não existe
+        if (userRepository.deleteById(request.getUserId()) == 0) {
             throw new UserNotFoundException("Usuário não encontrado com o ID: " + request.getUserId());
         }
         
-        // Executa a exclusão
-        userRepository.deleteById(request.getUserId());
+        // Registra o evento para publicação após o commit
+        DomainEvent event = UserDeletedEvent.of(request.getUserId());
+        outboxRepository.append(event);
+        domainEventPublisher.publish(event);
         
         // Retorna a resposta
         return new DeleteUserResponse(request.getUserId());
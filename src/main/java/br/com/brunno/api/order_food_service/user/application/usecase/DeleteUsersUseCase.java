@@ -0,0 +1,72 @@
+// Arquivo para o DeleteUsersUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.user.application.usecase;
+
+import br.com.brunno.api.order_food_service.shared.application.event.DomainEventPublisher;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.domain.repository.OutboxRepository;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.DeleteUsersRequest;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.DeleteUsersResponse;
+import br.com.brunno.api.order_food_service.user.domain.event.UserDeletedEvent;
+import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Caso de uso para exclusão de usuários em lote.
+ * IDs inexistentes não geram erro; a resposta informa quantos usuários foram excluídos.
+ * Como na exclusão individual, cada usuário excluído gera um evento UsuarioExcluido, gravado
+ * na caixa de saída na mesma transação e publicado no barramento de eventos após o commit.
+ */
+@Service
+public class DeleteUsersUseCase {
+    
+    private final UserRepository userRepository;
+    private final OutboxRepository outboxRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    
+    /**
+     * Construtor que recebe as dependências dos repositórios e do barramento de eventos
+     * @param userRepository repositório de usuários
+     * @param outboxRepository caixa de saída de eventos
+     * @param domainEventPublisher barramento de eventos em memória
+     */
+    public DeleteUsersUseCase(UserRepository userRepository, OutboxRepository outboxRepository,
+                              DomainEventPublisher domainEventPublisher) {
+        this.userRepository = userRepository;
+        this.outboxRepository = outboxRepository;
+        this.domainEventPublisher = domainEventPublisher;
+    }
+    
+    /**
+     * Executa o caso de uso de exclusão de usuários em lote
+     * @param request IDs dos usuários a serem excluídos
+     * @return quantidades solicitada e excluída
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    @Transactional
+    public DeleteUsersResponse execute(DeleteUsersRequest request) {
+        if (request == null) {
+            throw new IllegalArgumentException("Request não pode ser nulo");
+        }
+        
+        request.validate();
+        
+        Set<UUID> distinctIds = new LinkedHashSet<>(request.getUserIds());
+        List<UUID> deletedIds = userRepository.deleteAllById(distinctIds);
+        
+        // Eventos só para os usuários que existiam, gravados em lote na caixa de saída
+        List<DomainEvent> events = deletedIds.stream().map(UserDeletedEvent::of).toList();
+        if (!events.isEmpty()) {
+            outboxRepository.appendAll(events);
+            events.forEach(domainEventPublisher::publish);
+        }
+        
+        return new DeleteUsersResponse(distinctIds.size(), deletedIds.size());
+    }
+}
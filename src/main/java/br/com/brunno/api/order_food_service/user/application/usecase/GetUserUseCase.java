@@ -9,6 +9,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Caso de uso para busca de usuário por ID.
@@ -33,6 +34,7 @@ public class GetUserUseCase {
      * @param id ID do usuário
      * @return Optional contendo o usuário se encontrado
      */
+    @Transactional(readOnly = true)
     public Optional<GetUserResponse> execute(UUID id) {
         return userRepository.findById(id)
                 .map(GetUserResponse::new);
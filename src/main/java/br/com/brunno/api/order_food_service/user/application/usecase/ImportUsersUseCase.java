@@ -0,0 +1,141 @@
+// Arquivo para o ImportUsersUseCase - Camada de Aplicação 
+
+package br.com.brunno.api.order_food_service.user.application.usecase;
+
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.importing.ImportUserRow;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.importing.ImportUsersResponse;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.importing.ImportUsersResponse.RowResult;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Caso de uso para importação em lote de usuários.
+ * Valida cada linha com as mesmas regras da entidade User e grava os usuários válidos
+ * em lotes, cada lote em uma única transação com inserts agrupados via JDBC batching.
+ */
+@Service
+public class ImportUsersUseCase {
+    
+    private final UserRepository userRepository;
+    private final int batchSize;
+    
+    /**
+     * Construtor que recebe a dependência do repositório e o tamanho do lote
+     * @param userRepository repositório de usuários
+     * @param batchSize quantidade de usuários gravados por transação
+     */
+    public ImportUsersUseCase(UserRepository userRepository,
+                              @Value("${user.import.batch-size:500}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo");
+        }
+        this.userRepository = userRepository;
+        this.batchSize = batchSize;
+    }
+    
+    /**
+     * Executa a importação, consumindo as linhas à medida que são lidas
+     * @param rows linhas do arquivo de importação
+     * @return relatório com o resultado de cada linha
+     */
+    public ImportUsersResponse execute(Stream<ImportUserRow> rows) {
+        List<RowResult> results = new ArrayList<>();
+        Set<String> emailsInFile = new HashSet<>();
+        List<PendingUser> batch = new ArrayList<>(batchSize);
+        
+        Iterator<ImportUserRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            ImportUserRow row = iterator.next();
+            
+            if (row.getReadError() != null) {
+                results.add(RowResult.failed(row.getLine(), row.getReadError()));
+                continue;
+            }
+            
+            User user;
+            try {
+                user = new User(row.getNome(), row.getEmail(), parseTipo(row.getTipo()));
+            } catch (IllegalArgumentException e) {
+                results.add(RowResult.failed(row.getLine(), e.getMessage()));
+                continue;
+            }
+            
+            if (!emailsInFile.add(user.getEmail())) {
+                results.add(RowResult.failed(row.getLine(), "Email repetido no arquivo: " + user.getEmail()));
+                continue;
+            }
+            
+            batch.add(new PendingUser(row.getLine(), user));
+            if (batch.size() == batchSize) {
+                results.addAll(saveBatch(batch));
+                batch.clear();
+            }
+        }
+        
+        if (!batch.isEmpty()) {
+            results.addAll(saveBatch(batch));
+        }
+        
+        return new ImportUsersResponse(results);
+    }
+    
+    /**
+     * Grava um lote: uma consulta para descartar emails já cadastrados e um insert em lote.
+     * Se o lote falhar (por exemplo, email cadastrado concorrentemente), grava linha a linha
+     * para isolar as falhas.
+     */
+    private List<RowResult> saveBatch(List<PendingUser> batch) {
+        Set<String> existingEmails = userRepository.findExistingEmails(
+                batch.stream().map(pending -> pending.user().getEmail()).toList());
+        
+        List<RowResult> results = new ArrayList<>(batch.size());
+        List<PendingUser> toSave = new ArrayList<>(batch.size());
+        for (PendingUser pending : batch) {
+            if (existingEmails.contains(pending.user().getEmail())) {
+                results.add(RowResult.failed(pending.line(),
+                        "Já existe um usuário com o email: " + pending.user().getEmail()));
+            } else {
+                toSave.add(pending);
+            }
+        }
+        
+        try {
+            userRepository.saveAll(toSave.stream().map(PendingUser::user).toList());
+            toSave.forEach(pending -> results.add(RowResult.created(pending.line(), pending.user().getId())));
+        } catch (RuntimeException batchFailure) {
+            for (PendingUser pending : toSave) {
+                try {
+                    userRepository.save(pending.user());
+                    results.add(RowResult.created(pending.line(), pending.user().getId()));
+                } catch (RuntimeException e) {
+                    results.add(RowResult.failed(pending.line(), "Falha ao gravar usuário: " + e.getMessage()));
+                }
+            }
+        }
+        
+        return results;
+    }
+    
+    private static User.UserType parseTipo(String tipo) {
+        if (tipo == null || tipo.isBlank()) {
+            return null;
+        }
+        try {
+            return User.UserType.valueOf(tipo.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Tipo de usuário inválido: " + tipo);
+        }
+    }
+    
+    private record PendingUser(long line, User user) {
+    }
+}
@@ -1,9 +1,12 @@
 package br.com.brunno.api.order_food_service.user.application.usecase;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import br.com.brunno.api.order_food_service.user.application.query.UserQueryRepository;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse;
-import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
+
+import java.util.function.Consumer;
 
 /**
  * Caso de uso para listagem de usuários.
@@ -12,22 +15,50 @@ import br.com.brunno.api.order_food_service.user.domain.repository.UserRepositor
 @Service
 public class ListUsersUseCase {
     
-    private final UserRepository userRepository;
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    
+    private final UserQueryRepository userQueryRepository;
+    
+    /**
+     * Construtor que recebe a dependência do repositório de leitura
+     * @param userQueryRepository repositório de leitura de usuários
+     */
+    public ListUsersUseCase(UserQueryRepository userQueryRepository) {
+        this.userQueryRepository = userQueryRepository;
+    }
+    
+    /**
+     * Lista uma página de usuários
+     * @param after cursor da página anterior, ou null para a primeira página
+     * @param limit tamanho da página, ou null para usar o padrão
+     * @return página de usuários com o cursor da próxima página
+     * @throws IllegalArgumentException se o limite ou o cursor forem inválidos
+     */
+    @Transactional(readOnly = true)
+    public ListUsersResponse execute(String after, Integer limit) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : limit;
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limite deve estar entre 1 e " + MAX_PAGE_SIZE);
+        }
+        
+        return userQueryRepository.findPage(after, pageSize);
+    }
     
     /**
-     * Construtor que recebe a dependência do repositório
-     * @param userRepository repositório de usuários
+     * Versão atual da coleção, usada para validar listagens já entregues sem refazer a consulta
+     * @return versão da coleção
      */
-    public ListUsersUseCase(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public long version() {
+        return userQueryRepository.version();
     }
     
     /**
-     * Lista todos os usuários
-     * @param request dados da requisição (por enquanto vazio)
-     * @return lista de usuários
+     * Percorre todos os usuários, entregando cada item à medida que é lido do repositório
+     * @param consumer consumidor que recebe cada item da listagem
      */
-    public ListUsersResponse execute() {
-        return new ListUsersResponse(userRepository.findAll());
+    @Transactional(readOnly = true)
+    public void executeStreaming(Consumer<ListUsersResponse.UserItem> consumer) {
+        userQueryRepository.streamAll(consumer);
     }
 } 
\ No newline at end of file
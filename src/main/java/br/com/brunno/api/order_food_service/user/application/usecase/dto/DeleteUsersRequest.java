@@ -0,0 +1,42 @@
+package br.com.brunno.api.order_food_service.user.application.usecase.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de requisição para exclusão de usuários em lote.
+ * Contém os IDs dos usuários a serem excluídos.
+ */
+public class DeleteUsersRequest {
+    
+    private final List<UUID> userIds;
+    
+    /**
+     * Construtor que recebe os IDs dos usuários a serem excluídos
+     * @param userIds IDs dos usuários
+     */
+    public DeleteUsersRequest(List<UUID> userIds) {
+        this.userIds = userIds;
+    }
+    
+    /**
+     * Retorna os IDs dos usuários
+     * @return IDs dos usuários
+     */
+    public List<UUID> getUserIds() {
+        return userIds;
+    }
+    
+    /**
+     * Valida os dados da requisição
+     * @throws IllegalArgumentException se os dados forem inválidos
+     */
+    public void validate() {
+        if (userIds == null || userIds.isEmpty()) {
+            throw new IllegalArgumentException("Lista de IDs não pode ser vazia");
+        }
+        if (userIds.contains(null)) {
+            throw new IllegalArgumentException("ID do usuário não pode ser nulo");
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package br.com.brunno.api.order_food_service.user.application.usecase.dto;
+
+/**
+ * DTO de resposta para exclusão de usuários em lote.
+ * Informa quantos IDs distintos foram solicitados e quantos usuários foram de fato excluídos.
+ */
+public class DeleteUsersResponse {
+    
+    private final int requested;
+    private final int deleted;
+    
+    /**
+     * Construtor que recebe as quantidades da exclusão
+     * @param requested quantidade de IDs distintos solicitados
+     * @param deleted quantidade de usuários excluídos
+     */
+    public DeleteUsersResponse(int requested, int deleted) {
+        this.requested = requested;
+        this.deleted = deleted;
+    }
+    
+    /**
+     * Retorna a quantidade de IDs distintos solicitados
+     * @return quantidade solicitada
+     */
+    public int getRequested() {
+        return requested;
+    }
+    
+    /**
+     * Retorna a quantidade de usuários excluídos
+     * @return quantidade excluída
+     */
+    public int getDeleted() {
+        return deleted;
+    }
+    
+    /**
+     * Retorna a quantidade de IDs que não correspondiam a nenhum usuário
+     * @return quantidade não encontrada
+     */
+    public int getNotFound() {
+        return requested - deleted;
+    }
+}
@@ -13,12 +13,14 @@ public class GetUserResponse {
     private final String nome;
     private final String email;
     private final User.UserType tipo;
+    private final long version;
     
     public GetUserResponse(User user) {
         this.id = user.getId();
         this.nome = user.getNome();
         this.email = user.getEmail();
         this.tipo = user.getTipo();
+        this.version = user.getVersion();
     }
     
     public UUID getId() {
@@ -36,4 +38,8 @@ public class GetUserResponse {
     public User.UserType getTipo() {
         return tipo;
     }
+    
+    public long getVersion() {
+        return version;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,65 @@
+package br.com.brunno.api.order_food_service.user.application.usecase.dto.importing;
+
+/**
+ * Linha de um arquivo de importação de usuários.
+ * Linhas que não puderam ser lidas chegam ao caso de uso com o erro de leitura preenchido,
+ * para que apareçam no relatório como qualquer outra falha.
+ */
+public class ImportUserRow {
+    
+    private final long line;
+    private final String nome;
+    private final String email;
+    private final String tipo;
+    private final String readError;
+    
+    private ImportUserRow(long line, String nome, String email, String tipo, String readError) {
+        this.line = line;
+        this.nome = nome;
+        this.email = email;
+        this.tipo = tipo;
+        this.readError = readError;
+    }
+    
+    /**
+     * Cria uma linha lida com sucesso
+     * @param line número da linha no arquivo
+     * @param nome nome do usuário
+     * @param email email do usuário
+     * @param tipo tipo do usuário, como texto
+     * @return linha de importação
+     */
+    public static ImportUserRow of(long line, String nome, String email, String tipo) {
+        return new ImportUserRow(line, nome, email, tipo, null);
+    }
+    
+    /**
+     * Cria uma linha que não pôde ser lida
+     * @param line número da linha no arquivo
+     * @param readError motivo da falha de leitura
+     * @return linha de importação com erro
+     */
+    public static ImportUserRow unreadable(long line, String readError) {
+        return new ImportUserRow(line, null, null, null, readError);
+    }
+    
+    public long getLine() {
+        return line;
+    }
+    
+    public String getNome() {
+        return nome;
+    }
+    
+    public String getEmail() {
+        return email;
+    }
+    
+    public String getTipo() {
+        return tipo;
+    }
+    
+    public String getReadError() {
+        return readError;
+    }
+}
@@ -0,0 +1,75 @@
+package br.com.brunno.api.order_food_service.user.application.usecase.dto.importing;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Relatório da importação em lote de usuários, com o resultado de cada linha.
+ */
+public class ImportUsersResponse {
+    
+    private final int created;
+    private final int failed;
+    private final List<RowResult> rows;
+    
+    public ImportUsersResponse(List<RowResult> rows) {
+        this.rows = rows;
+        this.created = (int) rows.stream().filter(RowResult::isCreated).count();
+        this.failed = rows.size() - created;
+    }
+    
+    public int getTotal() {
+        return rows.size();
+    }
+    
+    public int getCreated() {
+        return created;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public List<RowResult> getRows() {
+        return rows;
+    }
+    
+    /**
+     * Resultado da importação de uma linha
+     */
+    public static class RowResult {
+        private final long line;
+        private final UUID id;
+        private final String error;
+        
+        private RowResult(long line, UUID id, String error) {
+            this.line = line;
+            this.id = id;
+            this.error = error;
+        }
+        
+        public static RowResult created(long line, UUID id) {
+            return new RowResult(line, id, null);
+        }
+        
+        public static RowResult failed(long line, String error) {
+            return new RowResult(line, null, error);
+        }
+        
+        public long getLine() {
+            return line;
+        }
+        
+        public UUID getId() {
+            return id;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public boolean isCreated() {
+            return error == null;
+        }
+    }
+}
@@ -11,17 +11,24 @@ import java.util.UUID;
 public class ListUsersResponse {
     
     private final List<UserItem> users;
+    private final String nextCursor;
     
-    public ListUsersResponse(List<User> users) {
-        this.users = users.stream()
-                .map(UserItem::new)
-                .toList();
+    public ListUsersResponse(List<UserItem> users, String nextCursor) {
+        this.users = users;
+        this.nextCursor = nextCursor;
     }
     
     public List<UserItem> getUsers() {
         return users;
     }
     
+    /**
+     * Cursor para a próxima página, ou null se não houver mais usuários
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+    
     /**
      * Item individual de usuário na listagem
      */
@@ -38,6 +45,13 @@ public class ListUsersResponse {
             this.tipo = user.getTipo();
         }
         
+        public UserItem(UUID id, String nome, String email, User.UserType tipo) {
+            this.id = id;
+            this.nome = nome;
+            this.email = email;
+            this.tipo = tipo;
+        }
+        
         public UUID getId() {
             return id;
         }
@@ -2,6 +2,8 @@
 
 package br.com.brunno.api.order_food_service.user.domain.entity;
 
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+
 import java.util.Objects;
 import java.util.UUID;
 
@@ -15,6 +17,7 @@ public class User {
     private String nome;
     private String email;
     private UserType tipo;
+    private final long version;
     
     /**
      * Enum para definir os tipos de usuário conforme especificado no README.md
@@ -28,10 +31,11 @@ public class User {
      * Construtor para criação de um novo usuário
      */
     public User(String nome, String email, UserType tipo) {
-        this.id = UUID.randomUUID();
+        this.id = TimeOrderedUuid.next();
         this.nome = nome;
         this.email = email;
         this.tipo = tipo;
+        this.version = 0;
         validate();
     }
     
@@ -39,10 +43,19 @@ public class User {
      * Construtor para reconstrução de um usuário existente
      */
     public User(UUID id, String nome, String email, UserType tipo) {
+        this(id, nome, email, tipo, 0);
+    }
+    
+    /**
+     * Construtor para reconstrução de um usuário existente com a versão persistida,
+     * incrementada pelo banco a cada alteração
+     */
+    public User(UUID id, String nome, String email, UserType tipo, long version) {
         this.id = id;
         this.nome = nome;
         this.email = email;
         this.tipo = tipo;
+        this.version = version;
         validate();
     }
     
@@ -123,6 +136,10 @@ public class User {
         return tipo;
     }
     
+    public long getVersion() {
+        return version;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -143,6 +160,7 @@ public class User {
                 ", nome='" + nome + '\'' +
                 ", email='" + email + '\'' +
                 ", tipo=" + tipo +
+                ", version=" + version +
                 '}';
     }
 } 
\ No newline at end of file
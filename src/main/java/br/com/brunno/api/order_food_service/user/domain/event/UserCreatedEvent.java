@@ -0,0 +1,31 @@
+// Arquivo para o UserCreatedEvent - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.user.domain.event;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+
+import java.util.UUID;
+
+/**
+ * Evento UsuarioCriado, publicado em usuario.events quando um usuário é cadastrado.
+ */
+public record UserCreatedEvent(UUID userId, String nome, String email, User.UserType tipo) {
+    
+    public static final String TYPE = "UsuarioCriado";
+    public static final String AGGREGATE_TYPE = "usuario";
+    
+    /**
+     * Cria o evento de domínio para o usuário cadastrado
+     * @param user usuário cadastrado
+     * @return evento a ser gravado na caixa de saída
+     */
+    public static DomainEvent of(User user) {
+        return DomainEvent.of(TYPE, AGGREGATE_TYPE, user.getId(), new UserCreatedEvent(
+            user.getId(),
+            user.getNome(),
+            user.getEmail(),
+            user.getTipo()
+        ));
+    }
+}
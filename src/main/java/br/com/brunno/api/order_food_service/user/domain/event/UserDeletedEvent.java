@@ -0,0 +1,24 @@
+// Arquivo para o UserDeletedEvent - Camada de Domínio 
+
+package br.com.brunno.api.order_food_service.user.domain.event;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+
+import java.util.UUID;
+
+/**
+ * Evento UsuarioExcluido, publicado em usuario.events quando um usuário é excluído.
+ */
+public record UserDeletedEvent(UUID userId) {
+    
+    public static final String TYPE = "UsuarioExcluido";
+    
+    /**
+     * Cria o evento de domínio para o usuário excluído
+     * @param userId ID do usuário excluído
+     * @return evento a ser gravado na caixa de saída
+     */
+    public static DomainEvent of(UUID userId) {
+        return DomainEvent.of(TYPE, UserCreatedEvent.AGGREGATE_TYPE, userId, new UserDeletedEvent(userId));
+    }
+}
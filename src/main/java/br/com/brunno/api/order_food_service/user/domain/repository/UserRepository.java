@@ -4,8 +4,10 @@ package br.com.brunno.api.order_food_service.user.domain.repository;
 
 import br.com.brunno.api.order_food_service.user.domain.entity.User;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -21,6 +23,13 @@ public interface UserRepository {
      */
     User save(User user);
     
+    /**
+     * Salva vários usuários novos em uma única transação
+     * @param users usuários a serem salvos
+     * @return usuários salvos
+     */
+    List<User> saveAll(List<User> users);
+    
     /**
      * Busca um usuário pelo ID
      * @param id ID do usuário
@@ -48,9 +57,24 @@ public interface UserRepository {
      */
     boolean existsByEmail(String email);
     
+    /**
+     * Retorna, dentre os emails fornecidos, os que já pertencem a algum usuário
+     * @param emails emails a serem verificados
+     * @return emails já cadastrados
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+    
     /**
      * Deleta um usuário pelo ID
      * @param id ID do usuário a ser deletado
+     * @return quantidade de usuários deletados (0 se o usuário não existir)
+     */
+    int deleteById(UUID id);
+    
+    /**
+     * Deleta vários usuários pelos IDs; IDs inexistentes são ignorados
+     * @param ids IDs dos usuários a serem deletados
+     * @return IDs dos usuários que existiam e foram deletados
      */
-    void deleteById(UUID id);
+    List<UUID> deleteAllById(Collection<UUID> ids);
 } 
\ No newline at end of file
@@ -0,0 +1,142 @@
+package br.com.brunno.api.order_food_service.user.infrastructure.cache;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.datasource.ReadConsistency;
+import br.com.brunno.api.order_food_service.shared.infrastructure.transaction.TransactionCallbacks;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Decorador de UserRepository com cache de leitura (read-through) por ID e por email.
+ * O cache por email guarda apenas o ID do usuário, de modo que toda leitura passa pelo
+ * cache por ID e nunca devolve um usuário excluído ou com email alterado.
+ * Escritas e exclusões invalidam o cache de forma síncrona e novamente após o commit.
+ */
+public class CachingUserRepository implements UserRepository {
+    
+    private final UserRepository delegate;
+    private final Cache<UUID, User> usersById;
+    private final Cache<String, UUID> idsByEmail;
+    
+    /**
+     * Construtor que recebe o repositório decorado e os caches
+     * @param delegate repositório que acessa o banco de dados
+     * @param usersById cache de usuários por ID
+     * @param idsByEmail cache de IDs de usuário por email
+     */
+    public CachingUserRepository(UserRepository delegate, Cache<UUID, User> usersById, Cache<String, UUID> idsByEmail) {
+        this.delegate = delegate;
+        this.usersById = usersById;
+        this.idsByEmail = idsByEmail;
+    }
+    
+    @Override
+    public User save(User user) {
+        invalidate(user.getId(), user.getEmail());
+        User savedUser = delegate.save(user);
+        invalidate(savedUser.getId(), savedUser.getEmail());
+        TransactionCallbacks.afterCommit(() -> invalidate(savedUser.getId(), savedUser.getEmail()));
+        return savedUser;
+    }
+    
+    @Override
+    public List<User> saveAll(List<User> users) {
+        // Usuários novos nunca estão no cache (ausências não são armazenadas), não há o que invalidar
+        return delegate.saveAll(users);
+    }
+    
+    @Override
+    public Optional<User> findById(UUID id) {
+        // O carregamento é atômico por chave: uma invalidação concorrente aguarda o
+        // carregamento terminar e remove o valor, evitando repopular o cache com dado antigo.
+        // Pelo mesmo motivo, o valor cacheado nunca vem de uma réplica atrasada
+        return Optional.ofNullable(usersById.get(id, key -> ReadConsistency.latest(() -> delegate.findById(key).orElse(null))))
+                .map(CachingUserRepository::copyOf);
+    }
+    
+    @Override
+    public Optional<User> findByEmail(String email) {
+        UUID cachedId = idsByEmail.getIfPresent(email);
+        if (cachedId != null) {
+            Optional<User> user = findById(cachedId);
+            if (user.isPresent() && user.get().getEmail().equals(email)) {
+                return user;
+            }
+            idsByEmail.invalidate(email);
+        }
+        
+        // Apenas o mapeamento email -> ID é guardado aqui; o usuário entra no cache por ID
+        // somente pelo carregamento atômico de findById
+        Optional<User> user = delegate.findByEmail(email);
+        user.ifPresent(found -> idsByEmail.put(email, found.getId()));
+        return user;
+    }
+    
+    @Override
+    public List<User> findAll() {
+        return delegate.findAll();
+    }
+    
+    @Override
+    public boolean existsByEmail(String email) {
+        // Apenas respostas positivas são servidas pelo cache; ausência sempre consulta o banco
+        UUID cachedId = idsByEmail.getIfPresent(email);
+        if (cachedId != null) {
+            User cachedUser = usersById.getIfPresent(cachedId);
+            if (cachedUser != null && cachedUser.getEmail().equals(email)) {
+                return true;
+            }
+        }
+        return delegate.existsByEmail(email);
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return delegate.findExistingEmails(emails);
+    }
+    
+    @Override
+    public int deleteById(UUID id) {
+        invalidate(id, null);
+        int deleted = delegate.deleteById(id);
+        invalidate(id, null);
+        TransactionCallbacks.afterCommit(() -> invalidate(id, null));
+        return deleted;
+    }
+    
+    @Override
+    public List<UUID> deleteAllById(Collection<UUID> ids) {
+        ids.forEach(id -> invalidate(id, null));
+        List<UUID> deleted = delegate.deleteAllById(ids);
+        ids.forEach(id -> invalidate(id, null));
+        TransactionCallbacks.afterCommit(() -> ids.forEach(id -> invalidate(id, null)));
+        return deleted;
+    }
+    
+    /**
+     * Remove o usuário do cache por ID e as entradas de email que apontam para ele
+     */
+    private void invalidate(UUID id, String email) {
+        User cachedUser = usersById.getIfPresent(id);
+        if (cachedUser != null) {
+            idsByEmail.invalidate(cachedUser.getEmail());
+        }
+        if (email != null) {
+            idsByEmail.invalidate(email);
+        }
+        usersById.invalidate(id);
+    }
+    
+    /**
+     * Entrega uma cópia para que alterações feitas pelo chamador não afetem o cache
+     */
+    private static User copyOf(User user) {
+        return new User(user.getId(), user.getNome(), user.getEmail(), user.getTipo(), user.getVersion());
+    }
+}
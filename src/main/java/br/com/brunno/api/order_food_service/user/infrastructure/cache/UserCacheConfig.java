@@ -0,0 +1,54 @@
+package br.com.brunno.api.order_food_service.user.infrastructure.cache;
+
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserPersistenceAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.UUID;
+
+/**
+ * Configuração do cache de leitura de usuários.
+ * Ativada com user.cache.enabled=true; quando desativada, os casos de uso
+ * acessam diretamente o UserPersistenceAdapter.
+ */
+@Configuration
+@EnableConfigurationProperties(UserCacheProperties.class)
+@ConditionalOnProperty(prefix = "user.cache", name = "enabled", havingValue = "true")
+public class UserCacheConfig {
+    
+    /**
+     * Cria o repositório com cache, registrado como implementação primária de UserRepository.
+     * Os caches usam eviction W-TinyLFU do Caffeine e publicam métricas de hit/miss/eviction.
+     */
+    @Bean
+    @Primary
+    public UserRepository cachingUserRepository(UserPersistenceAdapter userPersistenceAdapter,
+                                                UserCacheProperties properties,
+                                                MeterRegistry meterRegistry) {
+        Cache<UUID, User> usersById = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        
+        Cache<String, UUID> idsByEmail = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        
+        CaffeineCacheMetrics.monitor(meterRegistry, usersById, "users.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, idsByEmail, "users.byEmail");
+        
+        return new CachingUserRepository(userPersistenceAdapter, usersById, idsByEmail);
+    }
+}
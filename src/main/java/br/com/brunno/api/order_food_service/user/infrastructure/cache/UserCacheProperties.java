@@ -0,0 +1,20 @@
+package br.com.brunno.api.order_food_service.user.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuração do cache de leitura de usuários (prefixo user.cache).
+ *
+ * @param enabled habilita o cache em frente ao UserRepository
+ * @param maximumSize quantidade máxima de usuários mantidos em cache
+ * @param ttl tempo de vida de cada entrada após a escrita
+ */
+@ConfigurationProperties(prefix = "user.cache")
+public record UserCacheProperties(
+        boolean enabled,
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("10m") Duration ttl) {
+}
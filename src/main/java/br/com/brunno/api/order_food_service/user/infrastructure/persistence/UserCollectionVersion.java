@@ -0,0 +1,20 @@
+// Arquivo para o UserCollectionVersion - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.version.CollectionVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Versão da coleção de usuários, usada nas ETags das listagens.
+ * Incrementada pelo UserJpaEntityListener em toda gravação e exclusão feita via JPA
+ * e pelo UserPersistenceAdapter nas exclusões via JPQL.
+ */
+@Component
+public class UserCollectionVersion extends CollectionVersion {
+    
+    public UserCollectionVersion(MeterRegistry meterRegistry) {
+        super("users", meterRegistry);
+    }
+}
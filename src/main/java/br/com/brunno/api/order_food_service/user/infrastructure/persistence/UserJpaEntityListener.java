@@ -0,0 +1,52 @@
+// Arquivo para o UserJpaEntityListener - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.entity.UserJpaEntity;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Entity listener de UserJpaEntity.
+ * Mantém as estruturas em memória do módulo de usuário atualizadas em toda gravação
+ * e exclusão feita via JPA, inclusive as que não passam pelo adaptador de persistência.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserJpaEntityListener {
+    
+    private final UserMembershipFilters userMembershipFilters;
+    private final UserCollectionVersion userCollectionVersion;
+    
+    // Adiciona antes do INSERT: com ID atribuído o insert só ocorre no flush, e o filtro não
+    // pode ter falsos negativos nesse intervalo. Um rollback deixa apenas um falso positivo
+    @PrePersist
+    void onPersisting(UserJpaEntity entity) {
+        userMembershipFilters.emails().add(entity.getEmail());
+        // Uma exclusão antes do flush ainda encontra o email adicionado
+        entity.setPersistedEmail(entity.getEmail());
+        userCollectionVersion.incrementAfterCommit();
+    }
+    
+    // O filtro é de contagem: adicionar o mesmo email a cada UPDATE faria a exclusão, que remove
+    // uma vez só, deixá-lo para sempre como "talvez presente". Só uma troca de email mexe no filtro
+    @PreUpdate
+    void onUpdating(UserJpaEntity entity) {
+        if (!Objects.equals(entity.getEmail(), entity.getPersistedEmail())) {
+            userMembershipFilters.emails().add(entity.getEmail());
+            userMembershipFilters.emails().removeAfterCommit(entity.getPersistedEmail());
+        }
+        userCollectionVersion.incrementAfterCommit();
+    }
+    
+    @PostRemove
+    void onRemoved(UserJpaEntity entity) {
+        userMembershipFilters.emails().removeAfterCommit(entity.getPersistedEmail());
+        userCollectionVersion.incrementAfterCommit();
+    }
+}
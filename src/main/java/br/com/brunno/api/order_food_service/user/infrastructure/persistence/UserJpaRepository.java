@@ -2,19 +2,29 @@
 
 package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
 
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse;
 import br.com.brunno.api.order_food_service.user.infrastructure.persistence.entity.UserJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Interface JPA para persistência de usuários.
  * Responsável pela comunicação direta com o banco de dados.
  */
 @Repository
-public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
+public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {
     
     /**
      * Busca um usuário pelo email
@@ -31,15 +41,64 @@ public interface UserJpaRepository extends JpaRepository<UserJpaEntity, Long> {
     boolean existsByEmail(String email);
 
     /**
-     * Busca um usuário pelo id de domínio
-     * @param id ID de domínio
-     * @return Optional contendo o usuário se encontrado
+     * Busca, dentre os emails fornecidos, os que já estão cadastrados
+     * @param emails emails a serem verificados
+     * @return emails já cadastrados
+     */
+    @Query("select u.email from UserJpaEntity u where u.email in :emails")
+    Set<String> findEmailsIn(Collection<String> emails);
+
+    /**
+     * Deleta os usuários com os IDs fornecidos com um único comando e devolve ID e email das linhas deletadas.
+     * Exclusões diretas não disparam @PostRemove: os emails devolvidos saem do filtro de unicidade.
+     * Sintaxe H2 (OLD TABLE); no PostgreSQL o equivalente é DELETE ... RETURNING id, email
+     * @param ids IDs dos usuários
+     * @return IDs e emails dos usuários deletados
+     */
+    @Query(value = "select cast(id as varchar) as id, email from old table (delete from users where id in :ids)", nativeQuery = true)
+    List<UserKey> removeAllByIdInReturningKeys(Collection<UUID> ids);
+
+    /**
+     * Busca a primeira página de usuários em ordem crescente de id (paginação keyset)
+     * @param limit quantidade máxima de registros
+     * @return itens de listagem
+     */
+    @Query("select new br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse$UserItem(u.id, u.nome, u.email, u.tipo) "
+            + "from UserJpaEntity u order by u.id")
+    List<ListUsersResponse.UserItem> findItems(Limit limit);
+
+    /**
+     * Busca usuários com id maior que o informado, em ordem crescente (paginação keyset)
+     * @param id último id da página anterior
+     * @param limit quantidade máxima de registros
+     * @return itens de listagem
+     */
+    @Query("select new br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse$UserItem(u.id, u.nome, u.email, u.tipo) "
+            + "from UserJpaEntity u where u.id > :id order by u.id")
+    List<ListUsersResponse.UserItem> findItemsAfter(UUID id, Limit limit);
+
+    /**
+     * Percorre todos os usuários em ordem de id, lendo do banco em lotes.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     * @return stream de itens de listagem
+     */
+    @Query("select new br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse$UserItem(u.id, u.nome, u.email, u.tipo) "
+            + "from UserJpaEntity u order by u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<ListUsersResponse.UserItem> streamAllItems();
+
+    /**
+     * Percorre os emails de todos os usuários, usado para carregar o filtro de unicidade
+     * @return stream de emails
      */
-    Optional<UserJpaEntity> findByDomainId(UUID id);
+    @Query("select u.email from UserJpaEntity u")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllEmails();
 
     /**
-     * Deleta um usuário pelo id de domínio
-     * @param id ID de domínio
+     * ID e email de um usuário deletado, devolvidos pelo próprio DELETE.
+     * O ID vem como texto: o resultado da consulta nativa não tem o tipo UUID da entidade
      */
-    void deleteByDomainId(UUID id);
+    record UserKey(String id, String email) {
+    }
 } 
\ No newline at end of file
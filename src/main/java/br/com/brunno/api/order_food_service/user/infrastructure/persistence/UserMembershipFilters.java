@@ -0,0 +1,30 @@
+// Arquivo para o UserMembershipFilters - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.membership.MembershipFilter;
+import br.com.brunno.api.order_food_service.shared.infrastructure.membership.MembershipFilterProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Filtros de pertinência do módulo de usuário, consultados antes de existsByEmail.
+ * Mantidos atualizados pelo UserJpaEntityListener em toda gravação e exclusão feita via JPA,
+ * e pelo UserPersistenceAdapter nas exclusões diretas via JPQL.
+ */
+@Component
+public class UserMembershipFilters {
+    
+    private final MembershipFilter emails;
+    
+    public UserMembershipFilters(MembershipFilterProperties properties, MeterRegistry meterRegistry) {
+        this.emails = new MembershipFilter("users.email", properties, meterRegistry);
+    }
+    
+    /**
+     * Filtro de emails de usuários cadastrados
+     */
+    public MembershipFilter emails() {
+        return emails;
+    }
+}
@@ -0,0 +1,33 @@
+// Arquivo para o UserMembershipFiltersInitializer - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.stream.Stream;
+
+/**
+ * Carrega os filtros de pertinência do módulo de usuário a partir do banco
+ * durante a inicialização, antes de o servidor web começar a receber requisições.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserMembershipFiltersInitializer implements SmartInitializingSingleton {
+    
+    private final UserJpaRepository userJpaRepository;
+    private final UserMembershipFilters userMembershipFilters;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        transactionTemplate.executeWithoutResult(status -> {
+            long currentSize = userJpaRepository.count();
+            try (Stream<String> emails = userJpaRepository.streamAllEmails()) {
+                userMembershipFilters.emails().rebuild(currentSize, emails);
+            }
+        });
+    }
+}
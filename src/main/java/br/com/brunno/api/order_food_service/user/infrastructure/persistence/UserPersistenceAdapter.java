@@ -5,12 +5,18 @@ package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
 import br.com.brunno.api.order_food_service.user.domain.entity.User;
 import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
 import br.com.brunno.api.order_food_service.user.infrastructure.persistence.entity.UserJpaEntity;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -22,7 +28,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserPersistenceAdapter implements UserRepository {
     
+    /**
+     * Quantidade máxima de IDs por comando DELETE na exclusão em lote
+     */
+    private static final int DELETE_BATCH_SIZE = 500;
+    
+    private static final Map<String, Object> READ_ONLY = Map.of(HibernateHints.HINT_READ_ONLY, true);
+    
     private final UserJpaRepository userJpaRepository;
+    private final EntityManager entityManager;
+    private final UserMembershipFilters userMembershipFilters;
+    private final UserCollectionVersion userCollectionVersion;
     
     @Override
     public User save(User user) {
@@ -32,8 +48,21 @@ public class UserPersistenceAdapter implements UserRepository {
     }
     
     @Override
+    @Transactional
+    public List<User> saveAll(List<User> users) {
+        List<UserJpaEntity> entities = users.stream().map(UserJpaEntity::fromDomain).toList();
+        // persist + flush único: com hibernate.jdbc.batch_size os inserts vão ao banco em lotes
+        entities.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+        return entities.stream().map(UserJpaEntity::toDomain).toList();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
     public Optional<User> findById(UUID id) {
-        return userJpaRepository.findByDomainId(id)
+        // find() read-only pela chave primária: a entidade não guarda cópia para dirty checking
+        return Optional.ofNullable(entityManager.find(UserJpaEntity.class, id, READ_ONLY))
                 .map(UserJpaEntity::toDomain);
     }
     
@@ -53,12 +82,53 @@ public class UserPersistenceAdapter implements UserRepository {
     
     @Override
     public boolean existsByEmail(String email) {
-        return userJpaRepository.existsByEmail(email);
+        // O filtro descarta sem consulta ao banco os emails que com certeza não existem
+        if (!userMembershipFilters.emails().mightContain(email)) {
+            return false;
+        }
+        boolean exists = userJpaRepository.existsByEmail(email);
+        userMembershipFilters.emails().recordQueryResult(exists);
+        return exists;
+    }
+    
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Set.of();
+        }
+        return userJpaRepository.findEmailsIn(emails);
     }
     
     @Override
     @Transactional
-    public void deleteById(UUID id) {
-        userJpaRepository.deleteByDomainId(id);
+    public int deleteById(UUID id) {
+        // DELETE direto: as linhas devolvidas pelo próprio comando indicam se o registro existia
+        return delete(List.of(id)).size();
+    }
+    
+    @Override
+    @Transactional
+    public List<UUID> deleteAllById(Collection<UUID> ids) {
+        List<UUID> distinctIds = ids.stream().distinct().toList();
+        List<UUID> deletedIds = new ArrayList<>();
+        // Um comando DELETE por lote, limitando o tamanho da lista IN
+        for (int from = 0; from < distinctIds.size(); from += DELETE_BATCH_SIZE) {
+            delete(distinctIds.subList(from, Math.min(from + DELETE_BATCH_SIZE, distinctIds.size())))
+                    .forEach(key -> deletedIds.add(UUID.fromString(key.id())));
+        }
+        return deletedIds;
+    }
+    
+    // Exclusões diretas não disparam @PostRemove: os emails devolvidos pelo DELETE saem do
+    // filtro de unicidade após o commit, como faria o entity listener
+    private List<UserJpaRepository.UserKey> delete(List<UUID> ids) {
+        List<UserJpaRepository.UserKey> keys = userJpaRepository.removeAllByIdInReturningKeys(ids);
+        if (!keys.isEmpty()) {
+            // O DELETE nativo não passa pelo contexto de persistência: descarta entidades das linhas excluídas
+            entityManager.clear();
+            keys.forEach(key -> userMembershipFilters.emails().removeAfterCommit(key.email()));
+            userCollectionVersion.incrementAfterCommit();
+        }
+        return keys;
     }
-} 
\ No newline at end of file
+}
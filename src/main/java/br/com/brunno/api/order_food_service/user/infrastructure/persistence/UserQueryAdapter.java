@@ -0,0 +1,84 @@
+// Arquivo para o UserQueryAdapter - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.user.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.user.application.query.UserQueryRepository;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Adaptador do modelo de leitura de usuários.
+ * As consultas projetam apenas as colunas necessárias direto nos DTOs de resposta, em
+ * transações somente leitura, sem entidades gerenciadas nem conversão para o domínio.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserQueryAdapter implements UserQueryRepository {
+    
+    private final UserJpaRepository userJpaRepository;
+    private final UserCollectionVersion userCollectionVersion;
+    
+    @Override
+    @Transactional(readOnly = true)
+    public ListUsersResponse findPage(String after, int limit) {
+        UUID lastId = decodeCursor(after);
+        // Busca um registro a mais para saber se existe próxima página sem um count(*)
+        List<ListUsersResponse.UserItem> items = lastId == null
+                ? userJpaRepository.findItems(Limit.of(limit + 1))
+                : userJpaRepository.findItemsAfter(lastId, Limit.of(limit + 1));
+        
+        boolean hasNext = items.size() > limit;
+        List<ListUsersResponse.UserItem> pageItems = hasNext ? items.subList(0, limit) : items;
+        String nextCursor = hasNext ? encodeCursor(pageItems.get(limit - 1).getId()) : null;
+        
+        return new ListUsersResponse(pageItems, nextCursor);
+    }
+    
+    @Override
+    public long version() {
+        return userCollectionVersion.current();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<ListUsersResponse.UserItem> consumer) {
+        // Os itens não são entidades: nada se acumula no contexto de persistência durante a leitura
+        try (Stream<ListUsersResponse.UserItem> items = userJpaRepository.streamAllItems()) {
+            items.forEach(consumer);
+        }
+    }
+    
+    private static String encodeCursor(UUID id) {
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+    
+    private static UUID decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor, e);
+        }
+        if (bytes.length != 16) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+}
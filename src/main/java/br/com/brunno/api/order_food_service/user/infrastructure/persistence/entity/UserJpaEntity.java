@@ -1,28 +1,30 @@
 package br.com.brunno.api.order_food_service.user.infrastructure.persistence.entity;
 
 import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserJpaEntityListener;
 import jakarta.persistence.*;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.util.UUID;
 
 /**
  * Entidade JPA para persistência de usuários.
  * Representa a tabela users no banco de dados.
+ * A chave primária é o próprio ID de domínio (UUIDv7, ordenado pelo tempo).
  */
 @Entity
 @Table(name = "users")
+@EntityListeners(UserJpaEntityListener.class)
 @Data
 @NoArgsConstructor
-public class UserJpaEntity {
+public class UserJpaEntity implements Persistable<UUID> {
     
+    // ID atribuído pelo domínio: não depende de sequência nem IDENTITY, permitindo inserts em lote
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "domain_id",nullable = false, unique = true)
-    private UUID domainId;
+    private UUID id;
     
     @Column(nullable = false)
     private String nome;
@@ -34,19 +36,57 @@ public class UserJpaEntity {
     @Column(nullable = false)
     private User.UserType tipo;
     
-    public UserJpaEntity(UUID domainId, String nome, String email, User.UserType tipo) {
-        this.domainId = domainId;
+    // Incrementada pelo Hibernate a cada UPDATE; identifica a versão do recurso nas ETags
+    @Version
+    @Column(nullable = false)
+    private long version;
+    
+    // Com ID atribuído, o Spring Data não sabe distinguir insert de update; sem esta marca
+    // cada save faria um SELECT antes do INSERT
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private boolean persisted;
+    
+    // Email gravado no banco, que é o que está no filtro de unicidade: o listener compara com ele
+    // para só mexer no filtro quando o email muda, e não a cada UPDATE
+    @Transient
+    @EqualsAndHashCode.Exclude
+    private String persistedEmail;
+    
+    public UserJpaEntity(UUID id, String nome, String email, User.UserType tipo) {
+        this.id = id;
         this.nome = nome;
         this.email = email;
         this.tipo = tipo;
     }
+    
+    public UserJpaEntity(UUID id, String nome, String email, User.UserType tipo, long version) {
+        this(id, nome, email, tipo);
+        this.version = version;
+    }
 
     /**
      * Converte a entidade JPA para a entidade de domínio
      * @return entidade de domínio User
      */
     public User toDomain() {
-        return new User(domainId, nome, email, tipo);
+        return new User(id, nome, email, tipo, version);
+    }
+    
+    /**
+     * Entidades criadas a partir do domínio são sempre inserções; as carregadas do banco não
+     */
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+    
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    void markPersisted() {
+        this.persisted = true;
+        this.persistedEmail = email;
     }
     
     /**
@@ -59,7 +99,8 @@ public class UserJpaEntity {
             user.getId(),
             user.getNome(),
             user.getEmail(),
-            user.getTipo()
+            user.getTipo(),
+            user.getVersion()
         );
     }
 } 
\ No newline at end of file
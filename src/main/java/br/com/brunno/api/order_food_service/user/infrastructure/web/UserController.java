@@ -4,25 +4,49 @@ package br.com.brunno.api.order_food_service.user.infrastructure.web;
 
 import br.com.brunno.api.order_food_service.user.application.usecase.CreateUserUseCase;
 import br.com.brunno.api.order_food_service.user.application.usecase.DeleteUserUseCase;
+import br.com.brunno.api.order_food_service.user.application.usecase.DeleteUsersUseCase;
 import br.com.brunno.api.order_food_service.user.application.usecase.GetUserUseCase;
+import br.com.brunno.api.order_food_service.user.application.usecase.ImportUsersUseCase;
 import br.com.brunno.api.order_food_service.user.application.usecase.ListUsersUseCase;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.CreateUserRequest;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.CreateUserResponse;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.DeleteUserRequest;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.DeleteUsersRequest;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.DeleteUsersResponse;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.get.GetUserResponse;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.importing.ImportUserRow;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.importing.ImportUsersResponse;
 import br.com.brunno.api.order_food_service.user.application.usecase.dto.list.ListUsersResponse;
 import br.com.brunno.api.order_food_service.user.domain.exceptions.UserNotFoundException;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.BulkDeleteWebRequest;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.BulkDeleteWebResponse;
 import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebRequest;
 import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebResponse;
 import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.GetUserWebResponse;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.ImportUsersWebResponse;
+import br.com.brunno.api.order_food_service.shared.infrastructure.datasource.ReadConsistency;
+import br.com.brunno.api.order_food_service.shared.infrastructure.export.ExportColumn;
+import br.com.brunno.api.order_food_service.shared.infrastructure.export.ExportFormat;
+import br.com.brunno.api.order_food_service.shared.infrastructure.export.StreamingExporter;
+import br.com.brunno.api.order_food_service.shared.infrastructure.web.EntityTags;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Controller REST para operações de usuário.
@@ -33,10 +57,37 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class UserController {
     
+    /**
+     * Header com o cursor da próxima página na listagem paginada
+     */
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    
+    /**
+     * Tipo de conteúdo NDJSON aceito na importação em lote
+     */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    
+    /**
+     * Tipo de conteúdo CSV aceito na importação em lote
+     */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    
+    private static final List<ExportColumn<ListUsersResponse.UserItem>> EXPORT_COLUMNS = List.of(
+        new ExportColumn<>("id", ListUsersResponse.UserItem::getId),
+        new ExportColumn<>("nome", ListUsersResponse.UserItem::getNome),
+        new ExportColumn<>("email", ListUsersResponse.UserItem::getEmail),
+        new ExportColumn<>("tipo", ListUsersResponse.UserItem::getTipo)
+    );
+    
     private final CreateUserUseCase createUserUseCase;
     private final GetUserUseCase getUserUseCase;
     private final ListUsersUseCase listUsersUseCase;
     private final DeleteUserUseCase deleteUserUseCase;
+    private final DeleteUsersUseCase deleteUsersUseCase;
+    private final ImportUsersUseCase importUsersUseCase;
+    private final UserImportReader userImportReader;
+    private final StreamingExporter streamingExporter;
+    private final ObjectMapper objectMapper;
     
     /**
      * Cria um novo usuário
@@ -67,15 +118,41 @@ public class UserController {
     }
     
     /**
-     * Busca um usuário pelo ID
+     * Importa usuários em lote a partir de um arquivo NDJSON (um usuário por linha)
+     * @param body conteúdo do arquivo
+     * @return relatório com o resultado de cada linha
+     */
+    @PostMapping(value = "/import", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportUsersWebResponse> importUsersNdjson(InputStream body) {
+        return importUsers(userImportReader.readNdjson(body));
+    }
+    
+    /**
+     * Importa usuários em lote a partir de um arquivo CSV com cabeçalho nome,email,tipo
+     * @param body conteúdo do arquivo
+     * @return relatório com o resultado de cada linha
+     */
+    @PostMapping(value = "/import", consumes = TEXT_CSV_VALUE)
+    public ResponseEntity<ImportUsersWebResponse> importUsersCsv(InputStream body) {
+        return importUsers(userImportReader.readCsv(body));
+    }
+    
+    /**
+     * Busca um usuário pelo ID. A ETag vem da versão do usuário: com If-None-Match igual,
+     * responde 304 sem corpo
      * @param id ID do usuário
+     * @param webRequest requisição, para a validação condicional
      * @return dados do usuário encontrado
      */
     @GetMapping("/{id}")
-    public ResponseEntity<GetUserWebResponse> getUserById(@PathVariable UUID id) {
+    public ResponseEntity<GetUserWebResponse> getUserById(@PathVariable UUID id, WebRequest webRequest) {
         GetUserResponse useCaseResponse = getUserUseCase.execute(id)
                 .orElseThrow(() -> new UserNotFoundException("Usuário não encontrado com ID: " + id));
         
+        if (webRequest.checkNotModified(EntityTags.ofVersion(useCaseResponse.getVersion()))) {
+            return null;
+        }
+        
         GetUserWebResponse webResponse = new GetUserWebResponse(
             useCaseResponse.getId(),
             useCaseResponse.getNome(),
@@ -87,23 +164,82 @@ public class UserController {
     }
     
     /**
-     * Lista todos os usuários
-     * @return lista de usuários
+     * Lista os usuários com paginação keyset.
+     * O cursor da próxima página é retornado no header X-Next-Cursor.
+     * Com If-None-Match igual à versão da coleção, responde 304 sem consultar o banco
+     * @param limit quantidade máxima de usuários na página
+     * @param after cursor da página anterior
+     * @param webRequest requisição, para a validação condicional
+     * @return página de usuários
      */
     @GetMapping
-    public ResponseEntity<List<GetUserWebResponse>> getAllUsers() {
-        ListUsersResponse useCaseResponse = listUsersUseCase.execute();
+    public ResponseEntity<List<GetUserWebResponse>> getAllUsers(
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String after,
+            WebRequest webRequest) {
+        // A versão é lida antes da consulta: uma alteração concorrente faz no máximo o cliente buscar de novo.
+        // Um 304 também dispensa o X-Next-Cursor, que o cliente já tem da resposta anterior
+        if (webRequest.checkNotModified(EntityTags.ofCollection(listUsersUseCase.version()))) {
+            return null;
+        }
+        // A ETag é a versão atual: a página não pode vir de uma réplica que ainda não a alcançou
+        ListUsersResponse useCaseResponse = ReadConsistency.latest(() -> listUsersUseCase.execute(after, limit));
         
         List<GetUserWebResponse> webResponses = useCaseResponse.getUsers().stream()
-                .map(userItem -> new GetUserWebResponse(
-                    userItem.getId(),
-                    userItem.getNome(),
-                    userItem.getEmail(),
-                    userItem.getTipo()
-                ))
+                .map(UserController::toWebResponse)
                 .toList();
         
-        return ResponseEntity.ok(webResponses);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (useCaseResponse.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, useCaseResponse.getNextCursor());
+        }
+        return response.body(webResponses);
+    }
+    
+    /**
+     * Lista todos os usuários em modo streaming: cada usuário é escrito na resposta
+     * à medida que é lido do banco, mantendo o uso de memória constante
+     * @return array JSON com todos os usuários
+     */
+    @GetMapping(params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamAllUsers() {
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.writeStartArray();
+                listUsersUseCase.executeStreaming(userItem -> {
+                    try {
+                        generator.writeObject(toWebResponse(userItem));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                generator.writeEndArray();
+            }
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+    
+    /**
+     * Exporta todos os usuários em NDJSON ou CSV, lidos do banco por cursor e escritos direto
+     * na resposta. O conteúdo é comprimido com gzip quando o cliente envia Accept-Encoding: gzip
+     * @param format formato da exportação (ndjson ou csv)
+     * @param acceptEncoding header Accept-Encoding da requisição
+     * @return arquivo de exportação em streaming
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return streamingExporter.export(
+            "users",
+            ExportFormat.fromParameter(format),
+            StreamingExporter.acceptsGzip(acceptEncoding),
+            EXPORT_COLUMNS,
+            listUsersUseCase::executeStreaming
+        );
     }
     
     /**
@@ -119,4 +255,55 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
     
-} 
\ No newline at end of file
+    /**
+     * Exclui vários usuários pelos IDs; IDs inexistentes são apenas contabilizados
+     * @param request IDs dos usuários a serem excluídos
+     * @return quantidades de usuários solicitados, excluídos e não encontrados
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteWebResponse> deleteUsers(@Valid @RequestBody BulkDeleteWebRequest request) {
+        DeleteUsersResponse useCaseResponse = deleteUsersUseCase.execute(new DeleteUsersRequest(request.getIds()));
+        
+        BulkDeleteWebResponse webResponse = new BulkDeleteWebResponse(
+            useCaseResponse.getRequested(),
+            useCaseResponse.getDeleted(),
+            useCaseResponse.getNotFound()
+        );
+        
+        return ResponseEntity.ok(webResponse);
+    }
+    
+    private ResponseEntity<ImportUsersWebResponse> importUsers(Stream<ImportUserRow> rows) {
+        ImportUsersResponse useCaseResponse;
+        try (rows) {
+            useCaseResponse = importUsersUseCase.execute(rows);
+        }
+        
+        List<ImportUsersWebResponse.RowWebResponse> rowResponses = useCaseResponse.getRows().stream()
+                .map(row -> new ImportUsersWebResponse.RowWebResponse(
+                    row.getLine(),
+                    row.isCreated() ? "CREATED" : "FAILED",
+                    row.getId(),
+                    row.getError()))
+                .toList();
+        
+        ImportUsersWebResponse webResponse = new ImportUsersWebResponse(
+            useCaseResponse.getTotal(),
+            useCaseResponse.getCreated(),
+            useCaseResponse.getFailed(),
+            rowResponses
+        );
+        
+        return ResponseEntity.ok(webResponse);
+    }
+    
+    private static GetUserWebResponse toWebResponse(ListUsersResponse.UserItem userItem) {
+        return new GetUserWebResponse(
+            userItem.getId(),
+            userItem.getNome(),
+            userItem.getEmail(),
+            userItem.getTipo()
+        );
+    }
+    
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+// Arquivo para o UserImportReader - Camada de Infraestrutura 
+
+package br.com.brunno.api.order_food_service.user.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.importing.ImportUserRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Leitor dos arquivos de importação de usuários (NDJSON e CSV).
+ * As linhas são lidas sob demanda, sem carregar o arquivo inteiro em memória.
+ * Linhas mal formadas viram linhas com erro de leitura em vez de interromper a importação.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserImportReader {
+    
+    private static final List<String> CSV_COLUMNS = List.of("nome", "email", "tipo");
+    
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Lê um arquivo NDJSON: um objeto JSON {"nome", "email", "tipo"} por linha
+     * @param inputStream corpo da requisição
+     * @return linhas lidas, numeradas a partir de 1
+     */
+    public Stream<ImportUserRow> readNdjson(InputStream inputStream) {
+        AtomicLong lineNumber = new AtomicLong();
+        return lines(inputStream)
+                .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+                .filter(numbered -> !numbered.text().isBlank())
+                .map(this::parseJsonLine);
+    }
+    
+    /**
+     * Lê um arquivo CSV com cabeçalho contendo as colunas nome, email e tipo (em qualquer ordem)
+     * @param inputStream corpo da requisição
+     * @return linhas lidas; a numeração considera o cabeçalho como linha 1
+     */
+    public Stream<ImportUserRow> readCsv(InputStream inputStream) {
+        BufferedReader reader = bufferedReader(inputStream);
+        int[] columnIndexes = readCsvHeader(reader);
+        
+        AtomicLong lineNumber = new AtomicLong(1);
+        return reader.lines()
+                .map(line -> new NumberedLine(lineNumber.incrementAndGet(), line))
+                .filter(numbered -> !numbered.text().isBlank())
+                .map(numbered -> parseCsvLine(numbered, columnIndexes));
+    }
+    
+    private ImportUserRow parseJsonLine(NumberedLine numbered) {
+        try {
+            JsonNode node = objectMapper.readTree(numbered.text());
+            if (!node.isObject()) {
+                return ImportUserRow.unreadable(numbered.number(), "Linha não é um objeto JSON");
+            }
+            return ImportUserRow.of(numbered.number(), text(node, "nome"), text(node, "email"), text(node, "tipo"));
+        } catch (JsonProcessingException e) {
+            return ImportUserRow.unreadable(numbered.number(), "JSON inválido: " + e.getOriginalMessage());
+        }
+    }
+    
+    private static ImportUserRow parseCsvLine(NumberedLine numbered, int[] columnIndexes) {
+        List<String> fields;
+        try {
+            fields = splitCsv(numbered.text());
+        } catch (IllegalArgumentException e) {
+            return ImportUserRow.unreadable(numbered.number(), e.getMessage());
+        }
+        return ImportUserRow.of(
+                numbered.number(),
+                field(fields, columnIndexes[0]),
+                field(fields, columnIndexes[1]),
+                field(fields, columnIndexes[2]));
+    }
+    
+    private static int[] readCsvHeader(BufferedReader reader) {
+        String header;
+        try {
+            header = reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (header == null) {
+            throw new IllegalArgumentException("Arquivo CSV vazio: cabeçalho nome,email,tipo é obrigatório");
+        }
+        
+        List<String> columns = splitCsv(header.replace("\uFEFF", "")).stream()
+                .map(column -> column.trim().toLowerCase())
+                .toList();
+        int[] indexes = new int[CSV_COLUMNS.size()];
+        for (int i = 0; i < CSV_COLUMNS.size(); i++) {
+            indexes[i] = columns.indexOf(CSV_COLUMNS.get(i));
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("Coluna obrigatória ausente no cabeçalho CSV: " + CSV_COLUMNS.get(i));
+            }
+        }
+        return indexes;
+    }
+    
+    /**
+     * Separa os campos de uma linha CSV, aceitando campos entre aspas com vírgulas e aspas duplicadas
+     */
+    static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        
+        if (quoted) {
+            throw new IllegalArgumentException("Linha CSV com aspas não fechadas");
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+    
+    private static String field(List<String> fields, int index) {
+        return index < fields.size() ? fields.get(index).trim() : null;
+    }
+    
+    private static String text(JsonNode node, String field) {
+        JsonNode value = node.get(field);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+    
+    private static Stream<String> lines(InputStream inputStream) {
+        return bufferedReader(inputStream).lines();
+    }
+    
+    private static BufferedReader bufferedReader(InputStream inputStream) {
+        return new BufferedReader(new InputStreamReader(Objects.requireNonNull(inputStream), StandardCharsets.UTF_8));
+    }
+    
+    private record NumberedLine(long number, String text) {
+    }
+}
@@ -0,0 +1,46 @@
+package br.com.brunno.api.order_food_service.user.infrastructure.web.dto;
+
+/**
+ * DTO de resposta para exclusão em lote de usuários na camada web.
+ * Informa quantos IDs distintos foram recebidos, quantos foram excluídos e quantos não existiam.
+ */
+public class BulkDeleteWebResponse {
+    
+    private int requested;
+    private int deleted;
+    private int notFound;
+    
+    // Construtores
+    public BulkDeleteWebResponse() {}
+    
+    public BulkDeleteWebResponse(int requested, int deleted, int notFound) {
+        this.requested = requested;
+        this.deleted = deleted;
+        this.notFound = notFound;
+    }
+    
+    // Getters e Setters
+    public int getRequested() {
+        return requested;
+    }
+    
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+    
+    public int getDeleted() {
+        return deleted;
+    }
+    
+    public void setDeleted(int deleted) {
+        this.deleted = deleted;
+    }
+    
+    public int getNotFound() {
+        return notFound;
+    }
+    
+    public void setNotFound(int notFound) {
+        this.notFound = notFound;
+    }
+}
@@ -0,0 +1,111 @@
+package br.com.brunno.api.order_food_service.user.infrastructure.web.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resposta para importação em lote de usuários na camada web.
+ * Contém os totais da importação e o resultado de cada linha do arquivo.
+ */
+public class ImportUsersWebResponse {
+    
+    private int total;
+    private int created;
+    private int failed;
+    private List<RowWebResponse> rows;
+    
+    // Construtores
+    public ImportUsersWebResponse() {}
+    
+    public ImportUsersWebResponse(int total, int created, int failed, List<RowWebResponse> rows) {
+        this.total = total;
+        this.created = created;
+        this.failed = failed;
+        this.rows = rows;
+    }
+    
+    // Getters e Setters
+    public int getTotal() {
+        return total;
+    }
+    
+    public void setTotal(int total) {
+        this.total = total;
+    }
+    
+    public int getCreated() {
+        return created;
+    }
+    
+    public void setCreated(int created) {
+        this.created = created;
+    }
+    
+    public int getFailed() {
+        return failed;
+    }
+    
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+    
+    public List<RowWebResponse> getRows() {
+        return rows;
+    }
+    
+    public void setRows(List<RowWebResponse> rows) {
+        this.rows = rows;
+    }
+    
+    /**
+     * Resultado de uma linha do arquivo: ID do usuário criado ou o motivo da falha
+     */
+    public static class RowWebResponse {
+        
+        private long line;
+        private String status;
+        private UUID id;
+        private String error;
+        
+        public RowWebResponse() {}
+        
+        public RowWebResponse(long line, String status, UUID id, String error) {
+            this.line = line;
+            this.status = status;
+            this.id = id;
+            this.error = error;
+        }
+        
+        public long getLine() {
+            return line;
+        }
+        
+        public void setLine(long line) {
+            this.line = line;
+        }
+        
+        public String getStatus() {
+            return status;
+        }
+        
+        public void setStatus(String status) {
+            this.status = status;
+        }
+        
+        public UUID getId() {
+            return id;
+        }
+        
+        public void setId(UUID id) {
+            this.id = id;
+        }
+        
+        public String getError() {
+            return error;
+        }
+        
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
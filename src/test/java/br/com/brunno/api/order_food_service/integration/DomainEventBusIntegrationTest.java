@@ -0,0 +1,220 @@
+package br.com.brunno.api.order_food_service.integration;
+
+import br.com.brunno.api.order_food_service.restaurant.application.usecase.ChangeRestaurantStatusUseCase;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantJpaRepository;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebRequest;
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import br.com.brunno.api.order_food_service.shared.infrastructure.eventbus.DomainEventBus;
+import br.com.brunno.api.order_food_service.shared.infrastructure.eventbus.DomainEventSubscriber;
+import br.com.brunno.api.order_food_service.shared.infrastructure.eventbus.OverflowPolicy;
+import br.com.brunno.api.order_food_service.user.application.usecase.CreateUserUseCase;
+import br.com.brunno.api.order_food_service.user.application.usecase.dto.CreateUserRequest;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.domain.event.UserCreatedEvent;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserJpaRepository;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes integrados do barramento de eventos de domínio: reação do contexto de restaurantes
+ * à exclusão de usuários e isolamento dos casos de uso em relação a assinantes lentos.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test")
+class DomainEventBusIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
+    @Autowired
+    private CreateUserUseCase createUserUseCase;
+
+    @Autowired
+    private ChangeRestaurantStatusUseCase changeRestaurantStatusUseCase;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RestaurantJpaRepository restaurantRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        restaurantRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox_event");
+    }
+
+    @AfterEach
+    void tearDown() {
+        restaurantRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox_event");
+    }
+
+    @Test
+    @DisplayName("Deve desativar o restaurante do usuário excluído pelo barramento de eventos")
+    void deveDesativarRestauranteDoUsuarioExcluido() throws Exception {
+        // Arrange
+        String userId = objectMapper.readTree(mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                            new CreateUserWebRequest("Dono Restaurante", "dono@email.com", User.UserType.RESTAURANTE))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asText();
+        UUID restaurantId = UUID.fromString(objectMapper.readTree(mockMvc.perform(post("/api/restaurants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                            new CreateRestaurantWebRequest(userId, "Cantina do Dono", "11222333000181"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asText());
+
+        // Act
+        mockMvc.perform(delete("/api/users/{id}", userId))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (restaurantRepository.findById(restaurantId).orElseThrow().toDomain().isActive()) {
+            assertTrue(System.nanoTime() < deadline, "restaurante não foi desativado no prazo");
+            Thread.sleep(10);
+        }
+        assertEquals(List.of("RestauranteCriado", "RestauranteDesativado", "UsuarioCriado", "UsuarioExcluido"),
+                jdbcTemplate.queryForList("select event_type from outbox_event order by event_type", String.class));
+    }
+
+    @Test
+    @DisplayName("Deve gravar um único RestauranteDesativado quando o barramento e o relay desativam ao mesmo tempo")
+    void deveDesativarUmaVezComEntregasConcorrentes() throws Exception {
+        // Arrange
+        String userId = UUID.randomUUID().toString();
+        UUID restaurantId = UUID.fromString(objectMapper.readTree(mockMvc.perform(post("/api/restaurants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                            new CreateRestaurantWebRequest(userId, "Cantina Concorrente", "11222333000181"))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asText());
+        CountDownLatch deactivated = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread first = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            changeRestaurantStatusUseCase.deactivateOwnedBy(userId);
+            deactivated.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        first.start();
+        assertTrue(deactivated.await(10, TimeUnit.SECONDS));
+
+        // Act: a segunda entrega espera a primeira transação, ainda aberta, terminar
+        Thread second = new Thread(() -> changeRestaurantStatusUseCase.deactivateOwnedBy(userId));
+        second.start();
+        Thread.sleep(200);
+        release.countDown();
+        first.join(TimeUnit.SECONDS.toMillis(10));
+        second.join(TimeUnit.SECONDS.toMillis(10));
+
+        // Assert
+        assertFalse(restaurantRepository.findById(restaurantId).orElseThrow().toDomain().isActive());
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "select count(*) from outbox_event where event_type = 'RestauranteDesativado'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Não deve atrasar a criação de usuários quando um assinante está travado")
+    void naoDeveAtrasarCasoDeUsoComAssinanteTravado() throws Exception {
+        // Arrange: assinante com fila de 1 evento que trava no primeiro
+        CountDownLatch release = new CountDownLatch(1);
+        DomainEventSubscriber stuck = new DomainEventSubscriber() {
+            @Override
+            public String name() {
+                return "teste-travado";
+            }
+
+            @Override
+            public Set<String> eventTypes() {
+                return Set.of(UserCreatedEvent.TYPE);
+            }
+
+            @Override
+            public void onEvent(DomainEvent event) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            @Override
+            public OverflowPolicy overflowPolicy() {
+                return OverflowPolicy.BLOCK;
+            }
+
+            @Override
+            public int queueCapacity() {
+                return 1;
+            }
+        };
+        domainEventBus.subscribe(stuck);
+
+        try {
+            // Act & Assert
+            assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+                for (int i = 0; i < 20; i++) {
+                    createUserUseCase.execute(new CreateUserRequest(
+                        "Cliente " + i, "cliente" + i + "@email.com", User.UserType.CLIENTE));
+                }
+            });
+            assertEquals(20, userRepository.count());
+        } finally {
+            release.countDown();
+            domainEventBus.unsubscribe(stuck);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package br.com.brunno.api.order_food_service.integration;
+
+import br.com.brunno.api.order_food_service.inventory.infrastructure.engine.StockEngine;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.StockJpaRepository;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.ReserveStockWebRequest;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.SetStockWebRequest;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.StockLineWebRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração para o InventoryController
+ * Testa das requisições HTTP até a gravação em lote das quantidades na tabela stock_items.
+ * Cada teste usa produtos novos: a contagem em memória vive enquanto o contexto do Spring.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test")
+class InventoryControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StockEngine stockEngine;
+
+    @Autowired
+    private StockJpaRepository stockRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve reservar, confirmar e gravar a quantidade no banco em lote")
+    void deveReservarConfirmarEGravarEmLote() throws Exception {
+        // Arrange
+        UUID productId = UUID.randomUUID();
+        setStock(productId, new SetStockWebRequest(restaurantId, 10))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(10));
+
+        // Act
+        String reservationId = objectMapper.readTree(reserve(productId, 3)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("RESERVED"))
+                .andReturn().getResponse().getContentAsString()).get("id").asText();
+        mockMvc.perform(get("/api/inventory/products/{productId}/stock", productId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.onHand").value(10))
+                .andExpect(jsonPath("$.reserved").value(3))
+                .andExpect(jsonPath("$.available").value(7));
+        mockMvc.perform(post("/api/inventory/reservations/{id}/commit", reservationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMMITTED"));
+
+        // Assert: o banco só recebe a baixa na gravação em lote
+        assertEquals(10, stockRepository.findById(productId).orElseThrow().getQuantity());
+        stockEngine.flush();
+        assertEquals(7, stockRepository.findById(productId).orElseThrow().getQuantity());
+        assertEquals(1, stockRepository.findById(productId).orElseThrow().getRevision());
+    }
+
+    @Test
+    @DisplayName("Deve recusar reserva acima do disponível e devolver as unidades liberadas")
+    void deveRecusarReservaAcimaDoDisponivel() throws Exception {
+        // Arrange
+        UUID productId = UUID.randomUUID();
+        setStock(productId, new SetStockWebRequest(restaurantId, 2)).andExpect(status().isOk());
+        String reservationId = objectMapper.readTree(reserve(productId, 2)
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asText();
+
+        // Act & Assert
+        reserve(productId, 1)
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Estoque insuficiente"));
+        mockMvc.perform(post("/api/inventory/reservations/{id}/release", reservationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("RELEASED"));
+        mockMvc.perform(post("/api/inventory/reservations/{id}/release", reservationId))
+                .andExpect(status().isNotFound());
+        reserve(productId, 1).andExpect(status().isCreated());
+    }
+
+    @Test
+    @DisplayName("Deve validar o cadastro de estoque e a reserva de produto sem estoque")
+    void deveValidarCadastroEReserva() throws Exception {
+        UUID productId = UUID.randomUUID();
+
+        setStock(productId, new SetStockWebRequest(restaurantId, -1))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.quantity").exists());
+        setStock(productId, new SetStockWebRequest(null, 5))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/inventory/products/{productId}/stock", productId))
+                .andExpect(status().isNotFound());
+        reserve(productId, 1)
+                .andExpect(status().isNotFound());
+
+        // Reposição de produto cadastrado não pode deixar o estoque abaixo do reservado
+        setStock(productId, new SetStockWebRequest(restaurantId, 5)).andExpect(status().isOk());
+        reserve(productId, 4).andExpect(status().isCreated());
+        setStock(productId, new SetStockWebRequest(null, 3))
+                .andExpect(status().isBadRequest());
+        setStock(productId, new SetStockWebRequest(null, 8))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.available").value(4));
+    }
+
+    private ResultActions setStock(UUID productId, SetStockWebRequest request) throws Exception {
+        return mockMvc.perform(put("/api/inventory/products/{productId}/stock", productId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)));
+    }
+
+    private ResultActions reserve(UUID productId, int quantity) throws Exception {
+        return mockMvc.perform(post("/api/inventory/reservations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                    new ReserveStockWebRequest(List.of(new StockLineWebRequest(productId, quantity))))));
+    }
+}
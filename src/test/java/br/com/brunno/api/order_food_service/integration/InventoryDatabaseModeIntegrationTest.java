@@ -0,0 +1,195 @@
+package br.com.brunno.api.order_food_service.integration;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockReservationNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockLedger;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.persistence.DatabaseStockLedger;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.ReserveStockWebRequest;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.SetStockWebRequest;
+import br.com.brunno.api.order_food_service.inventory.infrastructure.web.dto.StockLineWebRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes integrados do estoque contado direto no banco (inventory.mode=database): reservas por
+ * UPDATE condicional em lote, recusa com os produtos em falta e disputa pelo mesmo produto.
+ * Banco H2 próprio, para não dividir stock_items com o contexto do estoque em memória.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:integration_inventorydb;DB_CLOSE_DELAY=-1",
+    "inventory.mode=database",
+    "inventory.reservation-ttl=0s"
+})
+@ActiveProfiles("integration-test")
+class InventoryDatabaseModeIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Deve usar a contagem no banco e baixar o estoque só na confirmação")
+    void deveReservarEConfirmarNoBanco() throws Exception {
+        // Arrange
+        assertInstanceOf(DatabaseStockLedger.class, stockLedger);
+        UUID first = createStock(10);
+        UUID second = createStock(5);
+
+        // Act
+        String reservationId = objectMapper.readTree(mockMvc.perform(post("/api/inventory/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReserveStockWebRequest(List.of(
+                            new StockLineWebRequest(first, 3), new StockLineWebRequest(second, 5))))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asText();
+        assertEquals(new StockLevel(first, restaurantId, 10, 3), stockLedger.find(first).orElseThrow());
+
+        mockMvc.perform(post("/api/inventory/reservations/{id}/commit", reservationId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMMITTED"));
+        mockMvc.perform(post("/api/inventory/reservations/{id}/commit", reservationId))
+                .andExpect(status().isNotFound());
+
+        // Assert
+        assertEquals(new StockLevel(first, restaurantId, 7, 0), stockLedger.find(first).orElseThrow());
+        assertEquals(new StockLevel(second, restaurantId, 0, 0), stockLedger.find(second).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a reserva inteira informando todos os produtos em falta")
+    void deveInformarProdutosEmFalta() throws Exception {
+        // Arrange
+        UUID plenty = createStock(10);
+        UUID scarce = createStock(1);
+        UUID empty = createStock(0);
+        Integer reservations = jdbcTemplate.queryForObject("select count(*) from stock_reservations", Integer.class);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/inventory/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new ReserveStockWebRequest(List.of(
+                            new StockLineWebRequest(plenty, 2), new StockLineWebRequest(scarce, 2),
+                            new StockLineWebRequest(empty, 1))))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.shortages.length()").value(2))
+                .andExpect(jsonPath("$.shortages[?(@.productId == '" + scarce + "')].available").value(1))
+                .andExpect(jsonPath("$.shortages[?(@.productId == '" + empty + "')].requested").value(1));
+
+        // O produto com estoque não ficou reservado e nenhuma reserva foi gravada
+        assertEquals(0, stockLedger.find(plenty).orElseThrow().reserved());
+        assertEquals(reservations, jdbcTemplate.queryForObject("select count(*) from stock_reservations", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Não deve reservar além do estoque com muitas threads disputando o mesmo produto")
+    void naoDeveReservarAlemDoEstoque() throws Exception {
+        // Arrange: cada reserva leva o produto disputado e um com estoque de sobra
+        UUID contended = createStock(40);
+        UUID plenty = createStock(1_000);
+        int threads = 8;
+        CountDownLatch ready = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        // Act
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                int reserved = 0;
+                for (int i = 0; i < 10; i++) {
+                    try {
+                        stockLedger.reserve(List.of(new StockLine(plenty, 1), new StockLine(contended, 1)));
+                        reserved++;
+                    } catch (InsufficientStockException e) {
+                        // Esgotado
+                    }
+                }
+                return reserved;
+            }));
+        }
+        int reserved = 0;
+        for (Future<Integer> result : results) {
+            reserved += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(40, reserved);
+        assertEquals(new StockLevel(contended, restaurantId, 40, 40), stockLedger.find(contended).orElseThrow());
+        assertEquals(40, stockLedger.find(plenty).orElseThrow().reserved());
+    }
+
+    @Test
+    @DisplayName("Deve liberar as reservas expiradas e devolver as unidades")
+    void deveLiberarReservasExpiradas() throws Exception {
+        // Arrange
+        UUID product = createStock(3);
+        StockReservation reservation = stockLedger.reserve(List.of(new StockLine(product, 3)));
+
+        // Act
+        int expired = ((DatabaseStockLedger) stockLedger).expireReservations();
+
+        // Assert
+        assertTrue(expired >= 1);
+        assertEquals(3, stockLedger.find(product).orElseThrow().available());
+        assertThrows(StockReservationNotFoundException.class, () -> stockLedger.commit(reservation.getId()));
+    }
+
+    private UUID createStock(int quantity) throws Exception {
+        UUID productId = UUID.randomUUID();
+        mockMvc.perform(put("/api/inventory/products/{productId}/stock", productId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SetStockWebRequest(restaurantId, quantity))))
+                .andExpect(status().isOk());
+        return productId;
+    }
+}
@@ -0,0 +1,258 @@
+package br.com.brunno.api.order_food_service.integration;
+
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderBatchResult;
+import br.com.brunno.api.order_food_service.order.application.dto.CreateOrderRequest;
+import br.com.brunno.api.order_food_service.order.application.usecase.CreateOrdersBatchUseCase;
+import br.com.brunno.api.order_food_service.order.domain.exceptions.RestaurantUnavailableException;
+import br.com.brunno.api.order_food_service.order.infrastructure.persistence.OrderJpaRepository;
+import br.com.brunno.api.order_food_service.order.infrastructure.web.dto.CreateOrderWebRequest;
+import br.com.brunno.api.order_food_service.order.infrastructure.web.dto.OrderItemWebRequest;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantJpaRepository;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebRequest;
+import br.com.brunno.api.order_food_service.shared.infrastructure.sql.SqlStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes de integração para o OrderController
+ * Testa desde a camada de controller até a persistência de dados. Sem transação de teste:
+ * o restaurante só passa a aceitar pedidos após o commit da criação.
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test")
+class OrderControllerIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private OrderJpaRepository orderRepository;
+
+    @Autowired
+    private RestaurantJpaRepository restaurantRepository;
+
+    @Autowired
+    private SqlStatistics sqlStatistics;
+
+    @Autowired
+    private CreateOrdersBatchUseCase createOrdersBatchUseCase;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        orderRepository.deleteAll();
+        restaurantRepository.deleteAll();
+
+        CreateRestaurantWebRequest restaurant = new CreateRestaurantWebRequest("1", "Cantina Pedidos", "11222333000181");
+        String created = mockMvc.perform(post("/api/restaurants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(restaurant)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        restaurantId = UUID.fromString(objectMapper.readTree(created).get("id").asText());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderRepository.deleteAll();
+        restaurantRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve criar pedido com itens e calcular o total")
+    void deveCriarPedidoComItens() throws Exception {
+        // Arrange
+        UUID customerId = UUID.randomUUID();
+        CreateOrderWebRequest request = new CreateOrderWebRequest(customerId, restaurantId, List.of(
+            new OrderItemWebRequest(UUID.randomUUID(), 2, new BigDecimal("19.90")),
+            new OrderItemWebRequest(UUID.randomUUID(), 1, new BigDecimal("7.50"))
+        ));
+
+        // Act
+        String created = placeOrder(request)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.customerId").value(customerId.toString()))
+                .andExpect(jsonPath("$.itemCount").value(2))
+                .andExpect(jsonPath("$.total").value(47.30))
+                .andExpect(jsonPath("$.status").value("CRIADO"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String id = objectMapper.readTree(created).get("id").asText();
+
+        // Assert
+        mockMvc.perform(get("/api/orders/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.restaurantId").value(restaurantId.toString()))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].quantity").value(2))
+                .andExpect(jsonPath("$.items[0].subtotal").value(39.80))
+                .andExpect(jsonPath("$.items[1].unitPrice").value(7.50))
+                .andExpect(jsonPath("$.total").value(47.30));
+    }
+
+    @Test
+    @DisplayName("Deve gravar os itens do pedido em um único lote JDBC")
+    void deveGravarItensEmUmUnicoLote() throws Exception {
+        // Arrange
+        CreateOrderWebRequest request = new CreateOrderWebRequest(UUID.randomUUID(), restaurantId, List.of(
+            new OrderItemWebRequest(UUID.randomUUID(), 1, new BigDecimal("10.00")),
+            new OrderItemWebRequest(UUID.randomUUID(), 2, new BigDecimal("12.00")),
+            new OrderItemWebRequest(UUID.randomUUID(), 3, new BigDecimal("14.00"))
+        ));
+        sqlStatistics.reset();
+
+        // Act
+        placeOrder(request)
+                .andExpect(status().isCreated());
+
+        // Assert: um comando para o pedido e uma execução (em lote) para os três itens
+        assertEquals(1, executions("insert into orders"));
+        SqlStatistics.StatementSummary items = statement("insert into order_items");
+        assertEquals(1, items.executions());
+        assertEquals(3, items.rows());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 422 quando o restaurante não existe ou está inativo")
+    void deveRetornar422QuandoRestauranteIndisponivel() throws Exception {
+        // Arrange
+        CreateOrderWebRequest request = new CreateOrderWebRequest(UUID.randomUUID(), UUID.randomUUID(), List.of(
+            new OrderItemWebRequest(UUID.randomUUID(), 1, new BigDecimal("10.00"))
+        ));
+
+        // Act & Assert
+        placeOrder(request)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.error").value("Restaurante indisponível"));
+
+        // Act & Assert: restaurante desativado deixa de aceitar pedidos
+        mockMvc.perform(post("/api/restaurants/{id}/deactivate", restaurantId))
+                .andExpect(status().is2xxSuccessful());
+        request.setRestaurantId(restaurantId);
+        placeOrder(request)
+                .andExpect(status().isUnprocessableEntity());
+        assertEquals(0, orderRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o pedido não tem itens ou tem item inválido")
+    void deveRetornar400QuandoItensInvalidos() throws Exception {
+        // Arrange
+        CreateOrderWebRequest semItens = new CreateOrderWebRequest(UUID.randomUUID(), restaurantId, List.of());
+        CreateOrderWebRequest quantidadeZero = new CreateOrderWebRequest(UUID.randomUUID(), restaurantId, List.of(
+            new OrderItemWebRequest(UUID.randomUUID(), 0, new BigDecimal("10.00"))
+        ));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(semItens)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.items").exists());
+        mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(quantidadeZero)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors['items[0].quantity']").exists());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 quando o pedido não existe")
+    void deveRetornar404QuandoPedidoNaoExiste() throws Exception {
+        mockMvc.perform(get("/api/orders/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").value("Pedido não encontrado"));
+    }
+
+    @Test
+    @DisplayName("Deve gravar um lote de pedidos em uma transação e reportar as falhas de cada pedido")
+    void deveGravarLoteDePedidosEmUmaTransacao() {
+        // Arrange
+        List<CreateOrderRequest.Item> items = List.of(
+            new CreateOrderRequest.Item(UUID.randomUUID(), 1, new BigDecimal("10.00")),
+            new CreateOrderRequest.Item(UUID.randomUUID(), 2, new BigDecimal("5.00"))
+        );
+        List<CreateOrderRequest> requests = List.of(
+            new CreateOrderRequest(UUID.randomUUID(), restaurantId, items),
+            new CreateOrderRequest(UUID.randomUUID(), UUID.randomUUID(), items),
+            new CreateOrderRequest(UUID.randomUUID(), restaurantId, items),
+            new CreateOrderRequest(UUID.randomUUID(), restaurantId, List.of()),
+            new CreateOrderRequest(UUID.randomUUID(), restaurantId, items)
+        );
+        sqlStatistics.reset();
+
+        // Act
+        List<CreateOrderBatchResult> results = createOrdersBatchUseCase.execute(requests);
+
+        // Assert: resultados na ordem das requisições, válidos gravados juntos
+        assertEquals(5, results.size());
+        assertTrue(results.get(0).isCreated());
+        assertInstanceOf(RestaurantUnavailableException.class, results.get(1).getError());
+        assertTrue(results.get(2).isCreated());
+        assertInstanceOf(IllegalArgumentException.class, results.get(3).getError());
+        assertTrue(results.get(4).isCreated());
+        assertEquals(3, orderRepository.count());
+
+        SqlStatistics.StatementSummary orders = statement("insert into orders");
+        assertEquals(1, orders.executions());
+        assertEquals(3, orders.rows());
+        SqlStatistics.StatementSummary orderItems = statement("insert into order_items");
+        assertEquals(1, orderItems.executions());
+        assertEquals(6, orderItems.rows());
+    }
+
+    // A criação é assíncrona (fila de entrada): a resposta vem no dispatch assíncrono
+    private ResultActions placeOrder(CreateOrderWebRequest request) throws Exception {
+        MvcResult started = mockMvc.perform(post("/api/orders")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(started));
+    }
+
+    private long executions(String sql) {
+        return statement(sql).executions();
+    }
+
+    private SqlStatistics.StatementSummary statement(String sql) {
+        return sqlStatistics.statements().stream()
+                .filter(statement -> statement.sql().contains(sql))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,319 @@
+package br.com.brunno.api.order_food_service.integration;
+
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.event.UserDeletedSubscriber;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantJpaRepository;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebRequest;
+import br.com.brunno.api.order_food_service.shared.application.messaging.MessagePublisher;
+import br.com.brunno.api.order_food_service.shared.application.messaging.OutboundMessage;
+import br.com.brunno.api.order_food_service.shared.infrastructure.eventbus.DomainEventBus;
+import br.com.brunno.api.order_food_service.shared.infrastructure.messaging.InMemoryMessageBroker;
+import br.com.brunno.api.order_food_service.shared.infrastructure.outbox.OutboxProperties;
+import br.com.brunno.api.order_food_service.shared.infrastructure.outbox.OutboxRelay;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserJpaRepository;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.BulkDeleteWebRequest;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes integrados da caixa de saída: eventos gravados na transação do caso de uso e
+ * publicados pelo relay no broker em memória. O relay é acionado pelo teste
+ * (outbox.relay-enabled=false no perfil integration-test).
+ */
+@SpringBootTest
+@ActiveProfiles("integration-test")
+class OutboxIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private InMemoryMessageBroker broker;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RestaurantJpaRepository restaurantRepository;
+
+    @Autowired
+    private UserJpaRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DomainEventBus domainEventBus;
+
+    @Autowired
+    private UserDeletedSubscriber userDeletedSubscriber;
+
+    private MockMvc mockMvc;
+    private final List<OutboundMessage> restaurantEvents = new CopyOnWriteArrayList<>();
+    private final Consumer<OutboundMessage> restaurantSubscriber = restaurantEvents::add;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext).build();
+        restaurantRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox_event");
+        broker.subscribe("restaurante.events", restaurantSubscriber);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.unsubscribe("restaurante.events", restaurantSubscriber);
+        restaurantRepository.deleteAll();
+        userRepository.deleteAll();
+        jdbcTemplate.update("delete from outbox_event");
+    }
+
+    @Test
+    @DisplayName("Deve publicar o evento gravado na transação do caso de uso e marcá-lo como publicado")
+    void devePublicarEventoDoCasoDeUso() throws Exception {
+        // Arrange
+        String restaurantId = createRestaurant("1", "Cantina Outbox", "11222333000181");
+        assertEquals(1, pending());
+        assertTrue(restaurantEvents.isEmpty());
+
+        // Act
+        int relayed = outboxRelay.relayOnce();
+
+        // Assert
+        assertEquals(1, relayed);
+        assertEquals(1, restaurantEvents.size());
+        OutboundMessage message = restaurantEvents.get(0);
+        assertEquals("RestauranteCriado", message.type());
+        assertEquals(restaurantId, message.key().toString());
+        JsonNode payload = objectMapper.readTree(message.payload());
+        assertEquals("Cantina Outbox", payload.get("name").asText());
+        assertEquals("11222333000181", payload.get("cnpj").asText());
+        assertEquals(0, pending());
+        assertEquals(0, outboxRelay.relayOnce());
+    }
+
+    @Test
+    @DisplayName("Não deve gravar evento quando a transação do caso de uso falha")
+    void naoDeveGravarEventoQuandoTransacaoFalha() throws Exception {
+        // Arrange
+        createRestaurant("1", "Cantina Original", "11222333000181");
+
+        // Act: CNPJ repetido
+        mockMvc.perform(post("/api/restaurants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                            new CreateRestaurantWebRequest("2", "Cantina Repetida", "11222333000181"))))
+                .andExpect(status().isConflict());
+
+        // Assert
+        assertEquals(1, pending());
+    }
+
+    @Test
+    @DisplayName("Deve gravar o evento de usuário criado no destino usuario.events")
+    void deveGravarEventoDeUsuarioCriado() throws Exception {
+        // Arrange
+        List<OutboundMessage> userEvents = new CopyOnWriteArrayList<>();
+        Consumer<OutboundMessage> subscriber = userEvents::add;
+        broker.subscribe("usuario.events", subscriber);
+        try {
+            mockMvc.perform(post("/api/users")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(
+                                new CreateUserWebRequest("Maria Eventos", "maria.eventos@email.com", User.UserType.CLIENTE))))
+                    .andExpect(status().isCreated());
+
+            // Act
+            outboxRelay.relayOnce();
+
+            // Assert
+            assertEquals(1, userEvents.size());
+            assertEquals("UsuarioCriado", userEvents.get(0).type());
+            assertEquals("maria.eventos@email.com",
+                    objectMapper.readTree(userEvents.get(0).payload()).get("email").asText());
+        } finally {
+            broker.unsubscribe("usuario.events", subscriber);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter o lote pendente quando o broker falha e publicá-lo depois que a reserva expira")
+    void deveRepublicarQuandoBrokerFalha() throws Exception {
+        // Arrange: relay com broker fora do ar e reserva que expira imediatamente
+        createRestaurant("1", "Cantina Instável", "11222333000181");
+        OutboxRelay failingRelay = relay(messages -> {
+            throw new IllegalStateException("broker indisponível");
+        }, Duration.ZERO);
+
+        // Act
+        assertThrows(IllegalStateException.class, failingRelay::relayOnce);
+
+        // Assert
+        assertEquals(1, pending());
+        assertEquals(1, outboxRelay.relayOnce());
+        assertEquals(1, restaurantEvents.size());
+        assertEquals(2, jdbcTemplate.queryForObject("select attempts from outbox_event", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve desativar pela caixa de saída os restaurantes dos usuários excluídos em lote")
+    void deveDesativarRestaurantesDeUsuariosExcluidosEmLote() throws Exception {
+        // Arrange: sem o assinante do barramento, só o relay da caixa de saída desativa os restaurantes
+        String firstOwner = createUser("Dono Um", "dono.um@email.com");
+        String secondOwner = createUser("Dono Dois", "dono.dois@email.com");
+        String firstRestaurant = createRestaurant(firstOwner, "Cantina Um", "11222333000181");
+        String secondRestaurant = createRestaurant(secondOwner, "Cantina Dois", "11444777000161");
+        while (outboxRelay.relayOnce() > 0) {
+            // publica os eventos de criação antes da exclusão
+        }
+        domainEventBus.unsubscribe(userDeletedSubscriber);
+        try {
+            // Act
+            mockMvc.perform(post("/api/users/bulk-delete")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(new BulkDeleteWebRequest(List.of(
+                                UUID.fromString(firstOwner), UUID.fromString(secondOwner), UUID.randomUUID())))))
+                    .andExpect(status().isOk());
+
+            // Assert: um evento por usuário que existia
+            assertEquals(2, jdbcTemplate.queryForObject(
+                    "select count(*) from outbox_event where event_type = 'UsuarioExcluido'", Integer.class));
+            assertTrue(isActive(firstRestaurant));
+            while (outboxRelay.relayOnce() > 0) {
+                // publica os eventos de exclusão e os de desativação gerados por eles
+            }
+            assertFalse(isActive(firstRestaurant));
+            assertFalse(isActive(secondRestaurant));
+        } finally {
+            domainEventBus.subscribe(userDeletedSubscriber);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter o lote pendente quando um assinante do broker em memória falha")
+    void deveManterLotePendenteQuandoAssinanteFalha() throws Exception {
+        // Arrange
+        createRestaurant("1", "Cantina Instável", "11222333000181");
+        Consumer<OutboundMessage> failingSubscriber = message -> {
+            throw new IllegalStateException("assinante indisponível");
+        };
+        broker.subscribe("restaurante.events", failingSubscriber);
+
+        // Act
+        try {
+            assertThrows(IllegalStateException.class, relay(broker, Duration.ZERO)::relayOnce);
+        } finally {
+            broker.unsubscribe("restaurante.events", failingSubscriber);
+        }
+
+        // Assert: os demais assinantes receberam, mas o evento volta a ser publicado
+        assertEquals(1, restaurantEvents.size());
+        assertEquals(1, pending());
+        assertEquals(1, outboxRelay.relayOnce());
+        assertEquals(2, restaurantEvents.size());
+    }
+
+    @Test
+    @DisplayName("Deve pular eventos travados por outra instância do relay em vez de esperar")
+    void devePularEventosTravadosPorOutroRelay() throws Exception {
+        // Arrange
+        createRestaurant("1", "Cantina Concorrente", "11222333000181");
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread otherRelay = new Thread(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            jdbcTemplate.queryForList("select id from outbox_event where published_at is null for update");
+            locked.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        otherRelay.start();
+        assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+        // Act & Assert: enquanto a outra transação segura a linha, ela é pulada
+        try {
+            assertEquals(0, outboxRelay.relayOnce());
+        } finally {
+            release.countDown();
+            otherRelay.join();
+        }
+        assertEquals(1, outboxRelay.relayOnce());
+    }
+
+    private OutboxRelay relay(MessagePublisher publisher, Duration lease) {
+        return new OutboxRelay(jdbcTemplate, new TransactionTemplate(transactionManager), publisher,
+                new OutboxProperties(false, 500, Duration.ofMillis(100), lease, Duration.ofHours(1)),
+                new SimpleMeterRegistry());
+    }
+
+    private String createRestaurant(String userId, String name, String cnpj) throws Exception {
+        String created = mockMvc.perform(post("/api/restaurants")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CreateRestaurantWebRequest(userId, name, cnpj))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(created).get("id").asText();
+    }
+
+    private String createUser(String name, String email) throws Exception {
+        String created = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(
+                            new CreateUserWebRequest(name, email, User.UserType.RESTAURANTE))))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        return objectMapper.readTree(created).get("id").asText();
+    }
+
+    private boolean isActive(String restaurantId) {
+        return restaurantRepository.findById(UUID.fromString(restaurantId)).orElseThrow().toDomain().isActive();
+    }
+
+    private int pending() {
+        return jdbcTemplate.queryForObject("select count(*) from outbox_event where published_at is null", Integer.class);
+    }
+}
@@ -0,0 +1,144 @@
+package br.com.brunno.api.order_food_service.integration;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.datasource.LocalReplicaSynchronizer;
+import br.com.brunno.api.order_food_service.shared.infrastructure.datasource.ReadYourWritesFilter;
+import br.com.brunno.api.order_food_service.shared.infrastructure.datasource.ReplicaLagMonitor;
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserJpaRepository;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Testes integrados do roteamento entre primário e réplica.
+ * A réplica é um segundo H2 em memória; os intervalos longos desligam a replicação e o heartbeat
+ * automáticos, que o teste dispara manualmente para controlar o atraso da réplica.
+ */
+@SpringBootTest(properties = {
+    "datasource.replica.url=jdbc:h2:mem:integration_replicadb;DB_CLOSE_DELAY=-1",
+    "datasource.replica.max-lag=1h",
+    "datasource.replica.lag-check-interval=1h",
+    "datasource.replica.local-replication.interval=1h"
+})
+@ActiveProfiles({"integration-test", "replica"})
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private LocalReplicaSynchronizer localReplicaSynchronizer;
+
+    @Autowired
+    private UserJpaRepository userJpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
+                .addFilter(readYourWritesFilter.getFilter(), "/api/*")
+                .build();
+        userJpaRepository.deleteAll();
+        replicate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userJpaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve ler da réplica atrasada sem o cookie e do primário logo após a própria escrita")
+    void deveGarantirLeituraDaPropriaEscrita() throws Exception {
+        // Given
+        CreateUserWebRequest request = new CreateUserWebRequest("Ana Réplica", "ana.replica@email.com",
+                User.UserType.CLIENTE);
+
+        // When
+        MvcResult created = mockMvc.perform(post("/api/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        String id = objectMapper.readTree(created.getResponse().getContentAsString()).get("id").asText();
+        Cookie lastWrite = created.getResponse().getCookie("rw-last-write");
+
+        // Then: outro cliente lê a réplica, que ainda não tem o usuário
+        assertNotNull(lastWrite);
+        assertTrue(lastWrite.isHttpOnly());
+        double replicaReads = routedReads("replica");
+        mockMvc.perform(get("/api/users/{id}", id))
+                .andExpect(status().isNotFound());
+        assertEquals(replicaReads + 1, routedReads("replica"));
+
+        // Then: quem escreveu lê do primário
+        mockMvc.perform(get("/api/users/{id}", id).cookie(lastWrite))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("ana.replica@email.com"));
+
+        // Then: a listagem, associada à versão atual da coleção, não vem da réplica atrasada
+        mockMvc.perform(get("/api/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].email").value(hasItem("ana.replica@email.com")));
+
+        // When: a réplica alcança a escrita
+        replicate();
+
+        // Then
+        double replicaReadsAfterSync = routedReads("replica");
+        mockMvc.perform(get("/api/users/{id}", id).cookie(lastWrite))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.email").value("ana.replica@email.com"));
+        assertEquals(replicaReadsAfterSync + 1, routedReads("replica"));
+    }
+
+    // O heartbeat precisa ser posterior às escritas já confirmadas (resolução de milissegundos)
+    private void replicate() throws InterruptedException {
+        Thread.sleep(2);
+        replicaLagMonitor.beat();
+        localReplicaSynchronizer.sync();
+        replicaLagMonitor.measure();
+    }
+
+    private double routedReads(String target) {
+        return meterRegistry.find("datasource.routing").tag("target", target).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
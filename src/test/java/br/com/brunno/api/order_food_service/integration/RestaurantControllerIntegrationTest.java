@@ -1,22 +1,36 @@
 package br.com.brunno.api.order_food_service.integration;
 
+import br.com.brunno.api.order_food_service.restaurant.domain.entity.Restaurant;
+import br.com.brunno.api.order_food_service.restaurant.domain.valueobject.GeoLocation;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.ActiveRestaurantsSnapshot;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantJpaRepository;
+import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.RestaurantMembershipFilters;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence.entity.RestaurantJpaEntity;
 import br.com.brunno.api.order_food_service.restaurant.infrastructure.web.dto.CreateRestaurantWebRequest;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -27,6 +41,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Testa desde a camada de controller até a persistência de dados
  */
 @SpringBootTest
+@AutoConfigureObservability(tracing = false)
 @ActiveProfiles("integration-test")
 @Transactional
 class RestaurantControllerIntegrationTest {
@@ -37,6 +52,12 @@ class RestaurantControllerIntegrationTest {
     @Autowired
     private RestaurantJpaRepository restaurantRepository;
 
+    @Autowired
+    private RestaurantMembershipFilters restaurantMembershipFilters;
+
+    @Autowired
+    private ActiveRestaurantsSnapshot activeRestaurantsSnapshot;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -135,6 +156,53 @@ class RestaurantControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").exists());
     }
 
+    @Test
+    @DisplayName("Deve aceitar CNPJ formatado e gravá-lo na forma canônica")
+    void deveAceitarCnpjFormatado() throws Exception {
+        // Arrange
+        CreateRestaurantWebRequest request = new CreateRestaurantWebRequest("1", "Restaurante Formatado", "11.222.333/0001-81");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.cnpj").value("11222333000181"));
+
+        // A busca pelo CNPJ funciona com qualquer formatação
+        assertEquals("11222333000181", restaurantRepository.findByCnpj("11222333000181").orElseThrow().getCnpj());
+        assertTrue(restaurantRepository.existsByCnpj("11.222.333/0001-81"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 409 quando o mesmo CNPJ chega com outra formatação")
+    void deveRetornarErro409QuandoCnpjFormatadoJaExiste() throws Exception {
+        // Arrange
+        criarRestaurante("1", "Restaurante 1", "11222333000181");
+        CreateRestaurantWebRequest request = new CreateRestaurantWebRequest("2", "Restaurante 2", "11.222.333/0001-81");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict());
+        assertEquals(1, restaurantRepository.count());
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 quando os dígitos verificadores do CNPJ não conferem")
+    void deveRetornarErro400QuandoDigitosVerificadoresInvalidos() throws Exception {
+        // Arrange
+        CreateRestaurantWebRequest request = new CreateRestaurantWebRequest("1", "Restaurante Teste", "11222333000182");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors").exists());
+    }
+
     @Test
     @DisplayName("Deve retornar erro 409 quando usuário já tem restaurante")
     void deveRetornarErro409QuandoUsuarioJaTemRestaurante() throws Exception {
@@ -249,6 +317,92 @@ class RestaurantControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value(containsString("Restaurante não encontrado")));
     }
 
+    @Test
+    @DisplayName("Deve excluir restaurante com sucesso")
+    void deveExcluirRestauranteComSucesso() throws Exception {
+        // Arrange
+        String id = criarRestaurante("1", "Restaurante Excluído", "11222333000181");
+
+        // Act
+        mockMvc.perform(delete("/api/restaurants/{id}", id))
+                .andExpect(status().isNoContent());
+
+        // Assert
+        mockMvc.perform(get("/api/restaurants/{id}", id))
+                .andExpect(status().isNotFound());
+        assertFalse(restaurantRepository.existsByCnpj("11222333000181"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 404 ao excluir restaurante inexistente")
+    void deveRetornarErro404AoExcluirRestauranteInexistente() throws Exception {
+        mockMvc.perform(delete("/api/restaurants/{id}", "8df1dae3-5cc4-4619-85fa-7fccf7bc3441"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(containsString("Restaurante não encontrado")));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve excluir restaurantes em lote informando os IDs não encontrados")
+    void deveExcluirRestaurantesEmLote() throws Exception {
+        // Os filtros de unicidade só são atualizados após o commit, então este teste não roda na transação do teste
+        // Arrange
+        String owner1 = UUID.randomUUID().toString();
+        String owner2 = UUID.randomUUID().toString();
+        String id1 = criarRestaurante(owner1, "Restaurante Um", "11222333000181");
+        String id2 = criarRestaurante(owner2, "Restaurante Dois", "96702689000175");
+        String body = objectMapper.writeValueAsString(Map.of(
+                "ids", List.of(id1, id2, id1, "8df1dae3-5cc4-4619-85fa-7fccf7bc3441")));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/restaurants/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(jsonPath("$.notFound").value(1));
+
+        assertEquals(0, restaurantRepository.count());
+        // O DELETE direto também retira os donos do filtro de unicidade
+        assertFalse(restaurantMembershipFilters.owners().mightContain(owner1));
+        assertFalse(restaurantMembershipFilters.owners().mightContain(owner2));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve retirar CNPJ e dono dos filtros ao excluir restaurante ativado e desativado várias vezes")
+    void deveRetirarChavesDosFiltrosAposVariasAtualizacoes() throws Exception {
+        // Os filtros de unicidade só são atualizados após o commit, então este teste não roda na transação do teste
+        // Arrange
+        String owner = UUID.randomUUID().toString();
+        String id = criarRestaurante(owner, "Restaurante Alternado", "98765432000198");
+        for (int i = 0; i < 20; i++) {
+            mockMvc.perform(post("/api/restaurants/{id}/deactivate", id))
+                    .andExpect(status().isOk());
+            mockMvc.perform(post("/api/restaurants/{id}/activate", id))
+                    .andExpect(status().isOk());
+        }
+
+        // Act
+        mockMvc.perform(delete("/api/restaurants/{id}", id))
+                .andExpect(status().isNoContent());
+
+        // Assert: os UPDATEs não somaram as chaves de novo no filtro de contagem
+        assertFalse(restaurantMembershipFilters.cnpjs().mightContain("98765432000198"));
+        assertFalse(restaurantMembershipFilters.owners().mightContain(owner));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 ao excluir em lote sem IDs")
+    void deveRetornarErro400AoExcluirEmLoteSemIds() throws Exception {
+        mockMvc.perform(post("/api/restaurants/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.ids").exists());
+    }
+
     @Test
     @DisplayName("Deve validar tamanho mínimo do nome")
     void deveValidarTamanhoMinimoDoNome() throws Exception {
@@ -290,4 +444,438 @@ class RestaurantControllerIntegrationTest {
         assertTrue(savedRestaurant.isActive());
         assertNotNull(savedRestaurant.getCreatedAt());
     }
-} 
\ No newline at end of file
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve buscar restaurantes por trecho do nome ignorando maiúsculas e acentos")
+    void deveBuscarRestaurantesPorTrechoDoNome() throws Exception {
+        // O índice de busca só é atualizado após o commit, então este teste não roda na transação do teste
+        try {
+            // Arrange
+            String acaiId = criarRestaurante("1", "Açaí da Praça", "11222333000181");
+            criarRestaurante("2", "Pizzaria Bella Napoli", "96702689000175");
+            criarRestaurante("3", "Cantina São João", "00000000000191");
+
+            // Act & Assert
+            mockMvc.perform(get("/api/restaurants/search").param("q", "acai"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].id").value(acaiId))
+                    .andExpect(jsonPath("$[0].name").value("Açaí da Praça"));
+
+            mockMvc.perform(get("/api/restaurants/search").param("q", "SAO  JOÃO"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andExpect(jsonPath("$[0].name").value("Cantina São João"));
+
+            mockMvc.perform(get("/api/restaurants/search").param("q", "a").param("limit", "2"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+
+            // Restaurante excluído deixa de ser encontrado
+            mockMvc.perform(delete("/api/restaurants/{id}", acaiId))
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(get("/api/restaurants/search").param("q", "acai"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o limite da busca é inválido")
+    void deveRetornar400QuandoLimiteDaBuscaInvalido() throws Exception {
+        mockMvc.perform(get("/api/restaurants/search").param("q", "pizza").param("limit", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Limite deve estar entre 1 e")));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve listar ativos pela fotografia em memória e refletir ativação e desativação")
+    void deveListarRestaurantesAtivosEInativos() throws Exception {
+        // A fotografia de ativos só é atualizada após o commit, então este teste não roda na transação do teste
+        try {
+            // Arrange
+            String primeiroId = criarRestaurante("1", "Restaurante Ativo", "11222333000181");
+            String segundoId = criarRestaurante("2", "Restaurante Desativado", "96702689000175");
+
+            // Act & Assert
+            mockMvc.perform(get("/api/restaurants").param("active", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", containsInAnyOrder(primeiroId, segundoId)));
+
+            mockMvc.perform(post("/api/restaurants/{id}/deactivate", segundoId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.active").value(false))
+                    .andExpect(jsonPath("$.updatedAt").exists());
+
+            mockMvc.perform(get("/api/restaurants").param("active", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(primeiroId)));
+            mockMvc.perform(get("/api/restaurants").param("active", "false"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(segundoId)))
+                    .andExpect(jsonPath("$[0].active").value(false));
+
+            mockMvc.perform(post("/api/restaurants/{id}/activate", segundoId))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.active").value(true));
+            mockMvc.perform(get("/api/restaurants").param("active", "true"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", containsInAnyOrder(primeiroId, segundoId)));
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+        mockMvc.perform(get("/api/restaurants").param("active", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve responder 304 ao buscar restaurante com ETag ainda válida e 200 após alteração")
+    void deveResponder304AoBuscarRestauranteComEtagValida() throws Exception {
+        try {
+            // Arrange
+            String id = criarRestaurante("1", "Restaurante Exemplo", "11222333000181");
+            String eTag = mockMvc.perform(get("/api/restaurants/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", startsWith("W/\"")))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader("ETag");
+
+            // Act & Assert
+            mockMvc.perform(get("/api/restaurants/{id}", id).header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+
+            mockMvc.perform(post("/api/restaurants/{id}/deactivate", id))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/restaurants/{id}", id).header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.active").value(false))
+                    .andExpect(header().string("ETag", not(eTag)));
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve responder 304 nas listagens até que a coleção de restaurantes seja alterada")
+    void deveResponder304NasListagensAteAlteracaoDaColecao() throws Exception {
+        // A versão da coleção só muda após o commit, então este teste não roda na transação do teste
+        try {
+            // Arrange
+            String id = criarRestaurante("1", "Restaurante Exemplo", "11222333000181");
+            String eTag = mockMvc.perform(get("/api/restaurants"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader("ETag");
+
+            // Act & Assert - nada mudou
+            mockMvc.perform(get("/api/restaurants").header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified())
+                    .andExpect(content().string(""));
+            mockMvc.perform(get("/api/restaurants").param("active", "true").header("If-None-Match", eTag))
+                    .andExpect(status().isNotModified());
+
+            // Act & Assert - uma mudança de status muda a versão da coleção
+            mockMvc.perform(post("/api/restaurants/{id}/deactivate", id))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/restaurants").param("active", "true").header("If-None-Match", eTag))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)))
+                    .andExpect(header().string("ETag", not(eTag)));
+
+            // Act & Assert - a exclusão via JPQL também muda a versão
+            String afterDeactivation = mockMvc.perform(get("/api/restaurants"))
+                    .andReturn()
+                    .getResponse()
+                    .getHeader("ETag");
+            mockMvc.perform(delete("/api/restaurants/{id}", id))
+                    .andExpect(status().isNoContent());
+            mockMvc.perform(get("/api/restaurants").header("If-None-Match", afterDeactivation))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve servir a listagem já serializada, em gzip quando aceito, e refletir alterações")
+    void deveServirListagemDoCacheDeRespostas() throws Exception {
+        // O cache é invalidado pela versão da coleção, que só muda após o commit
+        try {
+            // Arrange
+            criarRestaurante("1", "Restaurante Exemplo", "11222333000181");
+            String json = mockMvc.perform(get("/api/restaurants"))
+                    .andExpect(status().isOk())
+                    .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                    .andExpect(header().string("Vary", "Accept-Encoding"))
+                    .andExpect(jsonPath("$", hasSize(1)))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            // Act & Assert - o corpo comprimido é o mesmo JSON
+            byte[] compressed = mockMvc.perform(get("/api/restaurants").header("Accept-Encoding", "gzip, deflate"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("Content-Encoding", "gzip"))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsByteArray();
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+                assertEquals(json, new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            // Act & Assert - um novo restaurante invalida a entrada
+            criarRestaurante("2", "Outro Restaurante", "96702689000175");
+            mockMvc.perform(get("/api/restaurants"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(2)));
+            mockMvc.perform(get("/api/restaurants").param("active", "true").header("Accept-Encoding", "gzip;q=0"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().doesNotExist("Content-Encoding"))
+                    .andExpect(jsonPath("$", hasSize(2)));
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve expor no formato do Prometheus a latência do caso de uso e de cada chamada ao repositório")
+    void deveExporMetricasDeCasoDeUsoERepositorio() throws Exception {
+        // Arrange: uma criação com sucesso e uma rejeitada por CNPJ duplicado
+        criarRestaurante("1", "Restaurante Exemplo", "11222333000181");
+        mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(
+                        new CreateRestaurantWebRequest("2", "Outro Restaurante", "11222333000181"))))
+                .andExpect(status().isConflict());
+
+        // Act
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Assert
+        assertTrue(scrape.contains("usecase_execution_seconds_bucket{method=\"execute\",outcome=\"success\",usecase=\"CreateRestaurantUseCase\""));
+        assertTrue(scrape.contains("usecase_calls_total{exception=\"RestaurantAlreadyExistsException\",method=\"execute\",outcome=\"failure\",usecase=\"CreateRestaurantUseCase\"}"));
+        assertTrue(scrape.contains("repository_execution_seconds_count{implementation=\"RestaurantPersistenceAdapter\",method=\"existsByCnpj\",outcome=\"success\",port=\"RestaurantRepository\"}"));
+        assertTrue(scrape.contains("repository_execution_seconds_count{implementation=\"RestaurantPersistenceAdapter\",method=\"save\",outcome=\"success\",port=\"RestaurantRepository\"}"));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve expor as estatísticas dos comandos SQL executados no endpoint do actuator")
+    void deveExporEstatisticasDeComandosSql() throws Exception {
+        // O insert só é executado no flush do commit, então este teste não roda na transação do teste
+        try {
+            // Arrange
+            criarRestaurante("1", "Restaurante Exemplo", "11222333000181");
+
+            // Act
+            String report = mockMvc.perform(get("/actuator/sqlstats"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.untrackedExecutions").value(0))
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            // Assert
+            JsonNode insert = null;
+            for (JsonNode statement : objectMapper.readTree(report).get("statements")) {
+                if (statement.get("sql").asText().contains("insert into restaurants")) {
+                    insert = statement;
+                }
+            }
+            assertNotNull(insert);
+            assertTrue(insert.get("executions").asLong() >= 1);
+            assertTrue(insert.get("rows").asLong() >= 1);
+            assertTrue(insert.get("maxMs").asDouble() >= insert.get("meanMs").asDouble());
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 ao desativar restaurante inexistente")
+    void deveRetornar404AoDesativarRestauranteInexistente() throws Exception {
+        mockMvc.perform(post("/api/restaurants/{id}/deactivate", "8df1dae3-5cc4-4619-85fa-7fccf7bc3441"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Deve criar restaurante com localização")
+    void deveCriarRestauranteComLocalizacao() throws Exception {
+        // Arrange
+        CreateRestaurantWebRequest request = new CreateRestaurantWebRequest("1", "Restaurante da Sé", "11222333000181",
+                -23.5505, -46.6333);
+
+        // Act & Assert
+        String response = mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.latitude").value(-23.5505))
+                .andExpect(jsonPath("$.longitude").value(-46.6333))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        mockMvc.perform(get("/api/restaurants/{id}", objectMapper.readTree(response).get("id").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.latitude").value(-23.5505))
+                .andExpect(jsonPath("$.longitude").value(-46.6333));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando apenas a latitude é informada")
+    void deveRetornar400QuandoApenasLatitudeInformada() throws Exception {
+        CreateRestaurantWebRequest request = new CreateRestaurantWebRequest("1", "Restaurante da Sé", "11222333000181",
+                -23.5505, null);
+
+        mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve buscar restaurantes ativos próximos ordenados pela distância")
+    void deveBuscarRestaurantesProximos() throws Exception {
+        // O índice espacial só é atualizado após o commit, então este teste não roda na transação do teste
+        try {
+            // Arrange: Sé, Paulista (~2,6 km), Pinheiros (~6 km), Campinas (~84 km) e um restaurante sem localização
+            String seId = criarRestaurante("1", "Restaurante da Sé", "11222333000181", -23.5505, -46.6333);
+            String paulistaId = criarRestaurante("2", "Restaurante da Paulista", "96702689000175", -23.5614, -46.6559);
+            String pinheirosId = criarRestaurante("3", "Restaurante de Pinheiros", "00000000000191", -23.5670, -46.6920);
+            criarRestaurante("4", "Restaurante de Campinas", "11444777000161", -22.9056, -47.0608);
+            criarRestaurante("5", "Restaurante sem Endereço", "33000167000101");
+
+            // Act & Assert
+            mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(seId, paulistaId)))
+                    .andExpect(jsonPath("$[0].distanceKm").value(closeTo(0.0, 0.001)))
+                    .andExpect(jsonPath("$[1].distanceKm").value(closeTo(2.55, 0.1)));
+
+            mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333")
+                            .param("radiusKm", "10"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(seId, paulistaId, pinheirosId)));
+
+            mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333")
+                            .param("radiusKm", "10").param("limit", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(seId)));
+
+            // Restaurante desativado sai da busca
+            mockMvc.perform(post("/api/restaurants/{id}/deactivate", paulistaId))
+                    .andExpect(status().isOk());
+            mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(seId)));
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Deve indexar e desindexar restaurantes gravados e excluídos direto pelo repositório JPA")
+    void deveIndexarRestaurantesGravadosDiretoPeloJpa() throws Exception {
+        // Os índices só são atualizados após o commit, então este teste não roda na transação do teste
+        try {
+            // Arrange
+            RestaurantJpaEntity entity = RestaurantJpaEntity.fromDomain(new Restaurant(
+                    "1", "Pastelaria do Repositório", "11222333000181", GeoLocation.of(-23.5505, -46.6333)));
+
+            // Act: saveAll não passa pelo adaptador de persistência
+            restaurantRepository.saveAll(List.of(entity));
+
+            // Assert
+            String id = entity.getId().toString();
+            mockMvc.perform(get("/api/restaurants/search").param("q", "pastelaria"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(id)));
+            mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$[*].id", contains(id)));
+            assertNotNull(activeRestaurantsSnapshot.current().find(entity.getId()));
+
+            restaurantRepository.deleteAll();
+            mockMvc.perform(get("/api/restaurants/search").param("q", "pastelaria"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+            mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$", hasSize(0)));
+            assertNull(activeRestaurantsSnapshot.current().find(entity.getId()));
+        } finally {
+            restaurantRepository.deleteAll();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o raio ou as coordenadas da busca por proximidade são inválidos")
+    void deveRetornar400QuandoBuscaPorProximidadeInvalida() throws Exception {
+        mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333")
+                        .param("radiusKm", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Raio")));
+        mockMvc.perform(get("/api/restaurants/nearby").param("lat", "-23.5505").param("lon", "-46.6333")
+                        .param("radiusKm", "500"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/restaurants/nearby").param("lat", "91").param("lon", "-46.6333"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Latitude")));
+    }
+
+    private String criarRestaurante(String userId, String name, String cnpj) throws Exception {
+        CreateRestaurantWebRequest request = new CreateRestaurantWebRequest(userId, name, cnpj);
+
+        String response = mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(response).get("id").asText();
+    }
+
+    private String criarRestaurante(String userId, String name, String cnpj, double latitude, double longitude) throws Exception {
+        CreateRestaurantWebRequest request = new CreateRestaurantWebRequest(userId, name, cnpj, latitude, longitude);
+
+        String response = mockMvc.perform(post("/api/restaurants")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        return objectMapper.readTree(response).get("id").asText();
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o formato de exportação de restaurantes é inválido")
+    void deveRetornar400QuandoFormatoDeExportacaoInvalido() throws Exception {
+        mockMvc.perform(get("/api/restaurants/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Formato de exportação inválido")));
+    }
+}
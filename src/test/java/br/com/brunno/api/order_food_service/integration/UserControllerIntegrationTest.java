@@ -1,8 +1,11 @@
 package br.com.brunno.api.order_food_service.integration;
 
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
 import br.com.brunno.api.order_food_service.user.domain.entity.User;
 import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserJpaRepository;
+import br.com.brunno.api.order_food_service.user.infrastructure.persistence.UserMembershipFilters;
 import br.com.brunno.api.order_food_service.user.infrastructure.persistence.entity.UserJpaEntity;
+import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.BulkDeleteWebRequest;
 import br.com.brunno.api.order_food_service.user.infrastructure.web.dto.CreateUserWebRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,12 +19,17 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -44,6 +52,9 @@ class UserControllerIntegrationTest {
     @Autowired
     private UserJpaRepository userJpaRepository;
 
+    @Autowired
+    private UserMembershipFilters userMembershipFilters;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -116,7 +127,7 @@ class UserControllerIntegrationTest {
     void deveBuscarUsuarioPorIdComSucesso() throws Exception {
         // Given
         UserJpaEntity userEntity = new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Maria Santos",
             "maria.santos@email.com",
             User.UserType.RESTAURANTE
@@ -124,9 +135,9 @@ class UserControllerIntegrationTest {
         UserJpaEntity savedUser = userJpaRepository.save(userEntity);
 
         // When & Then
-        mockMvc.perform(get("/api/users/{id}", savedUser.getDomainId()))
+        mockMvc.perform(get("/api/users/{id}", savedUser.getId()))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(savedUser.getDomainId().toString()))
+                .andExpect(jsonPath("$.id").value(savedUser.getId().toString()))
                 .andExpect(jsonPath("$.nome").value("Maria Santos"))
                 .andExpect(jsonPath("$.email").value("maria.santos@email.com"))
                 .andExpect(jsonPath("$.tipo").value("RESTAURANTE"));
@@ -149,14 +160,14 @@ class UserControllerIntegrationTest {
     void deveListarTodosUsuariosComSucesso() throws Exception {
         // Given
         UserJpaEntity user1 = userJpaRepository.save(new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Pedro Costa",
             "pedro.costa@email.com",
             User.UserType.CLIENTE
         ));
         
         UserJpaEntity user2 = userJpaRepository.save(new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Restaurante ABC",
             "restaurante.abc@email.com",
             User.UserType.RESTAURANTE
@@ -166,11 +177,11 @@ class UserControllerIntegrationTest {
         mockMvc.perform(get("/api/users"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id").value(user1.getDomainId().toString()))
+                .andExpect(jsonPath("$[0].id").value(user1.getId().toString()))
                 .andExpect(jsonPath("$[0].nome").value("Pedro Costa"))
                 .andExpect(jsonPath("$[0].email").value("pedro.costa@email.com"))
                 .andExpect(jsonPath("$[0].tipo").value("CLIENTE"))
-                .andExpect(jsonPath("$[1].id").value(user2.getDomainId().toString()))
+                .andExpect(jsonPath("$[1].id").value(user2.getId().toString()))
                 .andExpect(jsonPath("$[1].nome").value("Restaurante ABC"))
                 .andExpect(jsonPath("$[1].email").value("restaurante.abc@email.com"))
                 .andExpect(jsonPath("$[1].tipo").value("RESTAURANTE"));
@@ -185,12 +196,271 @@ class UserControllerIntegrationTest {
                 .andExpect(jsonPath("$", hasSize(0)));
     }
 
+    @Test
+    @DisplayName("Deve paginar usuários por cursor")
+    void devePaginarUsuariosPorCursor() throws Exception {
+        // Given
+        for (int i = 1; i <= 3; i++) {
+            userJpaRepository.save(new UserJpaEntity(
+                TimeOrderedUuid.next(),
+                "Usuário " + i,
+                "usuario" + i + "@email.com",
+                User.UserType.CLIENTE
+            ));
+        }
+
+        // When & Then - primeira página
+        String nextCursor = mockMvc.perform(get("/api/users").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].nome").value("Usuário 1"))
+                .andExpect(jsonPath("$[1].nome").value("Usuário 2"))
+                .andExpect(header().exists("X-Next-Cursor"))
+                .andReturn()
+                .getResponse()
+                .getHeader("X-Next-Cursor");
+
+        // When & Then - última página
+        mockMvc.perform(get("/api/users").param("limit", "2").param("after", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].nome").value("Usuário 3"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o limite da página é inválido")
+    void deveRetornar400QuandoLimiteInvalido() throws Exception {
+        mockMvc.perform(get("/api/users").param("limit", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 ao buscar usuário com ETag ainda válida")
+    void deveResponder304AoBuscarUsuarioComEtagValida() throws Exception {
+        // Given
+        UserJpaEntity savedUser = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Maria Santos",
+            "maria.santos@email.com",
+            User.UserType.RESTAURANTE
+        ));
+        String eTag = mockMvc.perform(get("/api/users/{id}", savedUser.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", startsWith("W/\"")))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/api/users/{id}", savedUser.getId()).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/users/{id}", savedUser.getId()).header("If-None-Match", "W/\"outra\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nome").value("Maria Santos"));
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 na listagem até que a coleção de usuários seja alterada")
+    void deveResponder304NaListagemAteAlteracaoDaColecao() throws Exception {
+        // Given
+        userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Pedro Costa",
+            "pedro.costa@email.com",
+            User.UserType.CLIENTE
+        ));
+        String eTag = mockMvc.perform(get("/api/users").param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // When & Then - nada mudou
+        mockMvc.perform(get("/api/users").param("limit", "10").header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // When & Then - um novo usuário muda a versão da coleção
+        CreateUserWebRequest request = new CreateUserWebRequest("Ana Lima", "ana.lima@email.com", User.UserType.CLIENTE);
+        mockMvc.perform(post("/api/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/users").param("limit", "10").header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string("ETag", not(eTag)));
+    }
+
+    @Test
+    @DisplayName("Deve listar todos os usuários em modo streaming")
+    void deveListarUsuariosEmModoStreaming() throws Exception {
+        // Given
+        UserJpaEntity user1 = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Pedro Costa",
+            "pedro.costa@email.com",
+            User.UserType.CLIENTE
+        ));
+
+        UserJpaEntity user2 = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Restaurante ABC",
+            "restaurante.abc@email.com",
+            User.UserType.RESTAURANTE
+        ));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/users").param("stream", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(user1.getId().toString()))
+                .andExpect(jsonPath("$[1].id").value(user2.getId().toString()))
+                .andExpect(jsonPath("$[1].tipo").value("RESTAURANTE"));
+    }
+
+    @Test
+    @DisplayName("Deve importar usuários em lote via NDJSON reportando falhas por linha")
+    void deveImportarUsuariosViaNdjson() throws Exception {
+        // Given
+        userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Usuário Existente",
+            "existente@email.com",
+            User.UserType.CLIENTE
+        ));
+
+        String ndjson = """
+            {"nome": "Ana Lima", "email": "ana@email.com", "tipo": "CLIENTE"}
+            {"nome": "Bruno Costa", "email": "bruno@email.com", "tipo": "RESTAURANTE"}
+            {"nome": "Duplicado", "email": "existente@email.com", "tipo": "CLIENTE"}
+            {"nome": "", "email": "sem.nome@email.com", "tipo": "CLIENTE"}
+            {"nome": "Tipo Errado", "email": "tipo@email.com", "tipo": "ADMIN"}
+            {nao é json
+            {"nome": "Ana Repetida", "email": "ana@email.com", "tipo": "CLIENTE"}
+            """;
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType("application/x-ndjson")
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(7))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(5))
+                .andExpect(jsonPath("$.rows[?(@.line == 1)].status").value("CREATED"))
+                .andExpect(jsonPath("$.rows[?(@.line == 2)].status").value("CREATED"))
+                .andExpect(jsonPath("$.rows[?(@.line == 3)].error").value(hasItem(containsString("Já existe um usuário com o email"))))
+                .andExpect(jsonPath("$.rows[?(@.line == 4)].error").value("Nome não pode ser vazio"))
+                .andExpect(jsonPath("$.rows[?(@.line == 5)].error").value(hasItem(containsString("Tipo de usuário inválido"))))
+                .andExpect(jsonPath("$.rows[?(@.line == 6)].error").value(hasItem(containsString("JSON inválido"))))
+                .andExpect(jsonPath("$.rows[?(@.line == 7)].error").value(hasItem(containsString("Email repetido no arquivo"))));
+
+        assertEquals(3, userJpaRepository.count());
+        assertTrue(userJpaRepository.existsByEmail("bruno@email.com"));
+    }
+
+    @Test
+    @DisplayName("Deve importar usuários em lote via CSV")
+    void deveImportarUsuariosViaCsv() throws Exception {
+        // Given
+        String csv = """
+            email,nome,tipo
+            carla@email.com,"Souza, Carla",CLIENTE
+            restaurante@email.com,Restaurante Bom,RESTAURANTE
+            invalido,Email Inválido,CLIENTE
+            """;
+
+        // When & Then
+        mockMvc.perform(post("/api/users/import")
+                .contentType("text/csv")
+                .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rows[?(@.line == 4)].status").value("FAILED"));
+
+        assertEquals("Souza, Carla", userJpaRepository.findByEmail("carla@email.com").orElseThrow().getNome());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o cabeçalho CSV não possui as colunas obrigatórias")
+    void deveRetornar400QuandoCabecalhoCsvInvalido() throws Exception {
+        mockMvc.perform(post("/api/users/import")
+                .contentType("text/csv")
+                .content("nome,email\nFulano,fulano@email.com\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("tipo")));
+    }
+
+    @Test
+    @DisplayName("Deve excluir usuários em lote informando os IDs não encontrados")
+    void deveExcluirUsuariosEmLote() throws Exception {
+        // Given
+        UserJpaEntity user1 = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Usuário Um",
+            "um@email.com",
+            User.UserType.CLIENTE
+        ));
+        UserJpaEntity user2 = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Usuário Dois",
+            "dois@email.com",
+            User.UserType.CLIENTE
+        ));
+        UserJpaEntity user3 = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Usuário Três",
+            "tres@email.com",
+            User.UserType.RESTAURANTE
+        ));
+        BulkDeleteWebRequest request = new BulkDeleteWebRequest(
+            List.of(user1.getId(), user3.getId(), UUID.randomUUID()));
+
+        // When & Then
+        mockMvc.perform(post("/api/users/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requested").value(3))
+                .andExpect(jsonPath("$.deleted").value(2))
+                .andExpect(jsonPath("$.notFound").value(1));
+
+        assertFalse(userJpaRepository.findById(user1.getId()).isPresent());
+        assertTrue(userJpaRepository.findById(user2.getId()).isPresent());
+        assertFalse(userJpaRepository.findById(user3.getId()).isPresent());
+        // O DELETE direto também retira os emails do filtro de unicidade
+        assertFalse(userMembershipFilters.emails().mightContain("um@email.com"));
+        assertTrue(userMembershipFilters.emails().mightContain("dois@email.com"));
+        assertFalse(userMembershipFilters.emails().mightContain("tres@email.com"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 ao excluir usuários em lote sem IDs")
+    void deveRetornar400AoExcluirEmLoteSemIds() throws Exception {
+        mockMvc.perform(post("/api/users/bulk-delete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"ids\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors.ids").exists());
+    }
+
     @Test
     @DisplayName("Deve retornar erro quando email já existe")
     void deveRetornarErroQuandoEmailJaExiste() throws Exception {
         // Given
         userJpaRepository.save(new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Usuário Existente",
             "email.existente@email.com",
             User.UserType.CLIENTE
@@ -215,21 +485,47 @@ class UserControllerIntegrationTest {
     void deveExcluirUsuarioComSucesso() throws Exception {
         // Given
         UserJpaEntity userParaExcluir = userJpaRepository.save(new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Usuário para Excluir",
             "usuario.excluir@email.com",
             User.UserType.CLIENTE
         ));
 
         // Verificar que o usuário existe antes da exclusão
-        assertTrue(userJpaRepository.findByDomainId(userParaExcluir.getDomainId()).isPresent());
+        assertTrue(userJpaRepository.findById(userParaExcluir.getId()).isPresent());
 
         // When & Then
-        mockMvc.perform(delete("/api/users/{id}", userParaExcluir.getDomainId()))
+        mockMvc.perform(delete("/api/users/{id}", userParaExcluir.getId()))
                 .andExpect(status().isNoContent());
 
         // Verificar que o usuário foi realmente excluído
-        assertFalse(userJpaRepository.findByDomainId(userParaExcluir.getDomainId()).isPresent());
+        assertFalse(userJpaRepository.findById(userParaExcluir.getId()).isPresent());
+        assertFalse(userMembershipFilters.emails().mightContain("usuario.excluir@email.com"));
+    }
+
+    @Test
+    @DisplayName("Deve retirar o email do filtro ao excluir usuário atualizado várias vezes")
+    void deveRetirarEmailDoFiltroAposVariasAtualizacoes() throws Exception {
+        // Given
+        UUID id = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(),
+            "Usuário Alterado",
+            "usuario.alterado@email.com",
+            User.UserType.CLIENTE
+        )).getId();
+        for (int i = 0; i < 20; i++) {
+            UserJpaEntity user = userJpaRepository.findById(id).orElseThrow();
+            user.setNome("Usuário Alterado " + i);
+            userJpaRepository.save(user);
+        }
+        assertEquals(20, userJpaRepository.findById(id).orElseThrow().getVersion());
+
+        // When
+        mockMvc.perform(delete("/api/users/{id}", id))
+                .andExpect(status().isNoContent());
+
+        // Then: os UPDATEs não somaram o email de novo no filtro de contagem
+        assertFalse(userMembershipFilters.emails().mightContain("usuario.alterado@email.com"));
     }
 
     @Test
@@ -249,21 +545,21 @@ class UserControllerIntegrationTest {
     void deveExcluirUsuarioEManterOutrosIntactos() throws Exception {
         // Given
         UserJpaEntity user1 = userJpaRepository.save(new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Usuário 1",
             "usuario1@email.com",
             User.UserType.CLIENTE
         ));
 
         UserJpaEntity user2 = userJpaRepository.save(new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Usuário 2",
             "usuario2@email.com",
             User.UserType.RESTAURANTE
         ));
 
         UserJpaEntity user3 = userJpaRepository.save(new UserJpaEntity(
-            UUID.randomUUID(),
+            TimeOrderedUuid.next(),
             "Usuário 3",
             "usuario3@email.com",
             User.UserType.CLIENTE
@@ -273,13 +569,13 @@ class UserControllerIntegrationTest {
         assertEquals(3, userJpaRepository.count());
 
         // When - Excluir apenas o user2
-        mockMvc.perform(delete("/api/users/{id}", user2.getDomainId()))
+        mockMvc.perform(delete("/api/users/{id}", user2.getId()))
                 .andExpect(status().isNoContent());
 
         // Then - Verificar que apenas o user2 foi excluído
-        assertFalse(userJpaRepository.findByDomainId(user2.getDomainId()).isPresent());
-        assertTrue(userJpaRepository.findByDomainId(user1.getDomainId()).isPresent());
-        assertTrue(userJpaRepository.findByDomainId(user3.getDomainId()).isPresent());
+        assertFalse(userJpaRepository.findById(user2.getId()).isPresent());
+        assertTrue(userJpaRepository.findById(user1.getId()).isPresent());
+        assertTrue(userJpaRepository.findById(user3.getId()).isPresent());
         assertEquals(2, userJpaRepository.count());
     }
 
@@ -312,4 +608,63 @@ class UserControllerIntegrationTest {
             Arguments.of("Usuário Teste", "usuario.teste@email.com", User.UserType.CLIENTE)
         );
     }
+
+    @Test
+    @DisplayName("Deve exportar usuários em CSV com cabeçalho, em ordem de ID")
+    void deveExportarUsuariosEmCsv() throws Exception {
+        // Given
+        UserJpaEntity user1 = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(), "Souza, Carla", "carla@email.com", User.UserType.CLIENTE));
+        UserJpaEntity user2 = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(), "Pizzaria Central", "pizzaria@email.com", User.UserType.RESTAURANTE));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/users/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"))
+                .andExpect(header().string("Content-Disposition", containsString("users.csv")))
+                .andExpect(content().string("id,nome,email,tipo\r\n"
+                        + user1.getId() + ",\"Souza, Carla\",carla@email.com,CLIENTE\r\n"
+                        + user2.getId() + ",Pizzaria Central,pizzaria@email.com,RESTAURANTE\r\n"));
+    }
+
+    @Test
+    @DisplayName("Deve exportar usuários em NDJSON comprimido quando o cliente aceita gzip")
+    void deveExportarUsuariosEmNdjsonComGzip() throws Exception {
+        // Given
+        UserJpaEntity user = userJpaRepository.save(new UserJpaEntity(
+            TimeOrderedUuid.next(), "Pedro Costa", "pedro.costa@email.com", User.UserType.CLIENTE));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/users/export").header("Accept-Encoding", "gzip"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        String ndjson = new String(new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes(),
+                StandardCharsets.UTF_8);
+        List<String> lines = ndjson.lines().toList();
+        assertEquals(1, lines.size());
+        assertEquals(user.getId().toString(), objectMapper.readTree(lines.get(0)).get("id").asText());
+        assertEquals("CLIENTE", objectMapper.readTree(lines.get(0)).get("tipo").asText());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 quando o formato de exportação é inválido")
+    void deveRetornar400QuandoFormatoDeExportacaoInvalido() throws Exception {
+        mockMvc.perform(get("/api/users/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(containsString("Formato de exportação inválido")));
+    }
 } 
\ No newline at end of file
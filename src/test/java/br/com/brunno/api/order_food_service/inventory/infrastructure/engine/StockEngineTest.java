@@ -0,0 +1,231 @@
+package br.com.brunno.api.order_food_service.inventory.infrastructure.engine;
+
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockItem;
+import br.com.brunno.api.order_food_service.inventory.domain.entity.StockReservation;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.InsufficientStockException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockItemNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.exceptions.StockReservationNotFoundException;
+import br.com.brunno.api.order_food_service.inventory.domain.repository.StockRepository;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLevel;
+import br.com.brunno.api.order_food_service.inventory.domain.valueobject.StockLine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StockEngine - Estoque em memória com diário e gravação em lote")
+class StockEngineTest {
+
+    private static final UUID RESTAURANT = UUID.randomUUID();
+
+    @TempDir
+    Path journalDirectory;
+
+    private final InMemoryStockRepository repository = new InMemoryStockRepository();
+    private final Map<StockEngine, SimpleMeterRegistry> registries = new LinkedHashMap<>();
+
+    @AfterEach
+    void tearDown() {
+        registries.keySet().forEach(StockEngine::stop);
+    }
+
+    @Test
+    @DisplayName("Deve reservar, confirmar e liberar unidades")
+    void deveReservarConfirmarELiberar() {
+        StockEngine engine = start(Duration.ofMinutes(15));
+        UUID product = register(engine, 10);
+
+        StockReservation confirmed = engine.reserve(List.of(new StockLine(product, 3)));
+        StockReservation released = engine.reserve(List.of(new StockLine(product, 2)));
+        assertEquals(new StockLevel(product, RESTAURANT, 10, 5), engine.find(product).orElseThrow());
+
+        assertEquals(StockReservation.Status.COMMITTED, engine.commit(confirmed.getId()).getStatus());
+        assertEquals(StockReservation.Status.RELEASED, engine.release(released.getId()).getStatus());
+        assertEquals(new StockLevel(product, RESTAURANT, 7, 0), engine.find(product).orElseThrow());
+        assertThrows(StockReservationNotFoundException.class, () -> engine.commit(confirmed.getId()));
+        assertThrows(StockItemNotFoundException.class, () -> engine.reserve(List.of(new StockLine(UUID.randomUUID(), 1))));
+    }
+
+    @Test
+    @DisplayName("Deve reservar todos os produtos ou nenhum")
+    void deveReservarTodosOuNenhum() {
+        StockEngine engine = start(Duration.ofMinutes(15));
+        UUID plenty = register(engine, 10);
+        UUID scarce = register(engine, 1);
+
+        assertThrows(InsufficientStockException.class,
+                () -> engine.reserve(List.of(new StockLine(plenty, 5), new StockLine(scarce, 2))));
+        assertEquals(0, engine.find(plenty).orElseThrow().reserved());
+
+        // Produto repetido tem as quantidades somadas
+        StockReservation reservation = engine.reserve(List.of(new StockLine(plenty, 4), new StockLine(plenty, 6)));
+        assertEquals(List.of(new StockLine(plenty, 10)), reservation.getLines());
+        assertEquals(0, engine.find(plenty).orElseThrow().available());
+    }
+
+    @Test
+    @DisplayName("Não deve vender além do estoque com muitas threads disputando o mesmo produto")
+    void naoDeveVenderAlemDoEstoque() throws Exception {
+        StockEngine engine = start(Duration.ofMinutes(15));
+        UUID product = register(engine, 1_000);
+        int threads = 16;
+        CountDownLatch ready = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                ready.await();
+                int sold = 0;
+                for (int i = 0; i < 200; i++) {
+                    try {
+                        engine.commit(engine.reserve(List.of(new StockLine(product, 1))).getId());
+                        sold++;
+                    } catch (InsufficientStockException e) {
+                        // Esgotado: as demais tentativas também falham
+                    }
+                }
+                return sold;
+            }));
+        }
+        int sold = 0;
+        for (Future<Integer> result : results) {
+            sold += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1_000, sold);
+        assertEquals(new StockLevel(product, RESTAURANT, 0, 0), engine.find(product).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve gravar no banco só as quantidades alteradas e apagar o diário antigo")
+    void deveGravarQuantidadesAlteradas() throws Exception {
+        StockEngine engine = start(Duration.ofMinutes(15));
+        UUID changed = register(engine, 10);
+        UUID untouched = register(engine, 10);
+
+        engine.commit(engine.reserve(List.of(new StockLine(changed, 4))).getId());
+        engine.setOnHand(changed, 20);
+
+        assertEquals(1, engine.flush());
+        assertEquals(20, repository.items.get(changed).getQuantity());
+        assertEquals(2, repository.items.get(changed).getRevision());
+        assertEquals(0, repository.items.get(untouched).getRevision());
+        assertEquals(0, engine.flush());
+        assertEquals(1, journalFiles());
+    }
+
+    @Test
+    @DisplayName("Deve recuperar quantidades e reservas abertas do diário após uma queda")
+    void deveRecuperarDoDiario() throws Exception {
+        StockEngine crashed = start(Duration.ofMinutes(15));
+        UUID product = register(crashed, 10);
+        crashed.commit(crashed.reserve(List.of(new StockLine(product, 3))).getId());
+        StockReservation open = crashed.reserve(List.of(new StockLine(product, 2)));
+        crashed.release(crashed.reserve(List.of(new StockLine(product, 1))).getId());
+        awaitJournal(crashed);
+
+        // Sem stop: o banco ainda tem a quantidade do cadastro
+        assertEquals(10, repository.items.get(product).getQuantity());
+        StockEngine recovered = start(Duration.ofMinutes(15));
+
+        assertEquals(new StockLevel(product, RESTAURANT, 7, 2), recovered.find(product).orElseThrow());
+        assertEquals(7, repository.items.get(product).getQuantity());
+        recovered.commit(open.getId());
+        assertEquals(new StockLevel(product, RESTAURANT, 5, 0), recovered.find(product).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Deve liberar as reservas abertas há mais tempo que o limite")
+    void deveLiberarReservasExpiradas() throws Exception {
+        StockEngine engine = start(Duration.ofMillis(1));
+        UUID product = register(engine, 5);
+        StockReservation reservation = engine.reserve(List.of(new StockLine(product, 5)));
+        Thread.sleep(5);
+
+        assertEquals(1, engine.expireReservations());
+        assertEquals(5, engine.find(product).orElseThrow().available());
+        assertThrows(StockReservationNotFoundException.class, () -> engine.commit(reservation.getId()));
+    }
+
+    private StockEngine start(Duration reservationTtl) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StockEngine engine = new StockEngine(new InventoryProperties(InventoryProperties.Mode.MEMORY, 1024, 8, Duration.ofHours(1), reservationTtl,
+                journalDirectory.toString(), 1024, false), repository, meterRegistry);
+        engine.start();
+        registries.put(engine, meterRegistry);
+        return engine;
+    }
+
+    private UUID register(StockEngine engine, int quantity) {
+        StockItem item = repository.save(new StockItem(UUID.randomUUID(), RESTAURANT, quantity));
+        engine.register(item);
+        return item.getProductId();
+    }
+
+    private long journalFiles() throws IOException {
+        try (Stream<Path> files = Files.list(journalDirectory)) {
+            return files.count();
+        }
+    }
+
+    private void awaitJournal(StockEngine engine) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registries.get(engine).get("inventory.journal.backlog").gauge().value() > 0) {
+            assertTrue(System.nanoTime() < deadline, "diário não gravado no prazo");
+            Thread.sleep(5);
+        }
+    }
+
+    /**
+     * Repositório em memória que aplica a mesma regra de revisão do adaptador JDBC
+     */
+    private static final class InMemoryStockRepository implements StockRepository {
+        private final Map<UUID, StockItem> items = new ConcurrentHashMap<>();
+
+        @Override
+        public StockItem save(StockItem item) {
+            items.put(item.getProductId(), item);
+            return item;
+        }
+
+        @Override
+        public List<StockItem> findAll() {
+            return List.copyOf(items.values());
+        }
+
+        @Override
+        public int updateQuantities(List<StockItem> batch) {
+            int updated = 0;
+            for (StockItem item : batch) {
+                StockItem current = items.get(item.getProductId());
+                if (current != null && current.getRevision() < item.getRevision()) {
+                    items.put(item.getProductId(), item);
+                    updated++;
+                }
+            }
+            return updated;
+        }
+    }
+}
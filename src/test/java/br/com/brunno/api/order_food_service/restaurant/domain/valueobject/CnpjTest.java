@@ -0,0 +1,54 @@
+package br.com.brunno.api.order_food_service.restaurant.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Cnpj - Validação e normalização")
+class CnpjTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"11222333000181", "11.222.333/0001-81", "96.702.689/0001-75", "00.000.000/0001-91"})
+    @DisplayName("Deve aceitar CNPJs válidos com ou sem pontuação")
+    void deveAceitarCnpjsValidos(String cnpj) {
+        assertTrue(Cnpj.isValid(cnpj));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "123", "11222333000182", "11222333000191", "112223330001811", "11 222 333 0001 81",
+            "11222333a00181", "00000000000000", "11.111.111/1111-11"})
+    @DisplayName("Deve rejeitar CNPJs com tamanho, caracteres ou dígitos verificadores inválidos")
+    void deveRejeitarCnpjsInvalidos(String cnpj) {
+        assertFalse(Cnpj.isValid(cnpj));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar CNPJ nulo")
+    void deveRejeitarCnpjNulo() {
+        assertEquals(Cnpj.INVALID, Cnpj.parse(null));
+        assertNull(Cnpj.normalize(null));
+    }
+
+    @Test
+    @DisplayName("Deve ler o número canônico e convertê-lo de volta preservando zeros à esquerda")
+    void deveConverterNumeroCanonico() {
+        long number = Cnpj.parse("00.000.000/0001-91");
+
+        assertEquals(191L, number);
+        assertEquals("00000000000191", Cnpj.toDigits(number));
+        assertEquals(11222333000181L, Cnpj.parse("11.222.333/0001-81"));
+    }
+
+    @Test
+    @DisplayName("Deve normalizar para somente dígitos, reaproveitando a instância já canônica")
+    void deveNormalizar() {
+        String canonical = "11222333000181";
+
+        assertSame(canonical, Cnpj.normalize(canonical));
+        assertEquals(canonical, Cnpj.normalize("11.222.333/0001-81"));
+        assertNull(Cnpj.normalize("11.222.333/0001-82"));
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.brunno.api.order_food_service.restaurant.infrastructure.persistence;
+
+import br.com.brunno.api.order_food_service.restaurant.application.dto.ListRestaurantsResponse.RestaurantItem;
+import br.com.brunno.api.order_food_service.shared.domain.TimeOrderedUuid;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ActiveRestaurantsSnapshot - Fotografia de restaurantes ativos")
+class ActiveRestaurantsSnapshotTest {
+
+    private static final LocalDateTime AGORA = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ActiveRestaurantsSnapshot snapshot = new ActiveRestaurantsSnapshot(meterRegistry);
+
+    @Test
+    @DisplayName("Deve publicar uma nova versão ordenada por ID a cada alteração, sem alterar as anteriores")
+    void devePublicarNovaVersaoACadaAlteracao() {
+        // Given
+        UUID primeiro = TimeOrderedUuid.next();
+        UUID segundo = TimeOrderedUuid.next();
+        snapshot.rebuild(Stream.of(item(segundo, true, AGORA)));
+        ActiveRestaurantsSnapshot.Snapshot anterior = snapshot.current();
+
+        // When
+        snapshot.apply(item(primeiro, true, AGORA));
+
+        // Then
+        ActiveRestaurantsSnapshot.Snapshot atual = snapshot.current();
+        assertEquals(anterior.version() + 1, atual.version());
+        assertEquals(List.of(primeiro, segundo), ids(atual));
+        assertEquals(List.of(segundo), ids(anterior));
+        assertEquals(atual.version(), meterRegistry.get("restaurants.active.snapshot.version").gauge().value());
+        assertEquals(2, meterRegistry.get("restaurants.active.snapshot.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve remover restaurantes desativados ou excluídos")
+    void deveRemoverDesativadosEExcluidos() {
+        // Given
+        UUID primeiro = TimeOrderedUuid.next();
+        UUID segundo = TimeOrderedUuid.next();
+        snapshot.rebuild(Stream.of(item(primeiro, true, AGORA), item(segundo, true, AGORA)));
+
+        // When
+        snapshot.apply(item(primeiro, false, AGORA.plusMinutes(1)));
+        snapshot.remove(List.of(segundo));
+
+        // Then
+        assertTrue(snapshot.current().items().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever um estado mais novo com um commit que chegou atrasado")
+    void naoDeveSobrescreverEstadoMaisNovo() {
+        // Given
+        UUID id = TimeOrderedUuid.next();
+        snapshot.apply(item(id, true, AGORA.plusMinutes(5)));
+        long versao = snapshot.current().version();
+
+        // When
+        snapshot.apply(item(id, false, AGORA));
+
+        // Then
+        assertEquals(versao, snapshot.current().version());
+        assertEquals(List.of(id), ids(snapshot.current()));
+    }
+
+    private static RestaurantItem item(UUID id, boolean active, LocalDateTime updatedAt) {
+        return new RestaurantItem(id, "1", "Restaurante", "11222333000181", active, AGORA, updatedAt);
+    }
+
+    private static List<UUID> ids(ActiveRestaurantsSnapshot.Snapshot snapshot) {
+        return snapshot.items().stream().map(RestaurantItem::getId).toList();
+    }
+}
@@ -0,0 +1,73 @@
+package br.com.brunno.api.order_food_service.shared.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TimeOrderedUuid - Gerador de UUIDv7")
+class TimeOrderedUuidTest {
+
+    @Test
+    @DisplayName("Deve gerar UUIDs versão 7 com variante RFC 4122 e o instante atual")
+    void deveGerarUuidVersao7() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID uuid = TimeOrderedUuid.next();
+
+        // Then
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertTrue(TimeOrderedUuid.timestampOf(uuid) >= before);
+        assertTrue(TimeOrderedUuid.timestampOf(uuid) <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    @DisplayName("Deve gerar UUIDs estritamente crescentes mesmo no mesmo milissegundo")
+    void deveGerarUuidsCrescentes() {
+        UUID previous = TimeOrderedUuid.next();
+        for (int i = 0; i < 100_000; i++) {
+            UUID current = TimeOrderedUuid.next();
+            assertTrue(current.getMostSignificantBits() > previous.getMostSignificantBits(),
+                    () -> "UUID fora de ordem: " + current);
+            previous = current;
+        }
+    }
+
+    @Test
+    @DisplayName("Não deve gerar UUIDs repetidos com várias threads")
+    void naoDeveRepetirEntreThreads() throws InterruptedException {
+        // Given
+        Set<UUID> generated = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 20_000; i++) {
+                    generated.add(TimeOrderedUuid.next());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // Then
+        assertEquals(160_000, generated.size());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar extração de instante de UUID que não é versão 7")
+    void deveRejeitarUuidDeOutraVersao() {
+        assertThrows(IllegalArgumentException.class, () -> TimeOrderedUuid.timestampOf(UUID.randomUUID()));
+    }
+}
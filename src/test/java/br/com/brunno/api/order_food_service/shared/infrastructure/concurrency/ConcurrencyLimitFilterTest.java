@@ -0,0 +1,80 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.concurrency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ConcurrencyLimitFilter - Limite de requisições simultâneas")
+class ConcurrencyLimitFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+        new ConcurrencyLimitProperties(true, 1, Duration.ofMillis(50)),
+        new ObjectMapper().registerModule(new JavaTimeModule()),
+        meterRegistry
+    );
+
+    @Test
+    @DisplayName("Deve processar a requisição quando há vaga e liberá-la ao final")
+    void deveProcessarQuandoHaVaga() throws Exception {
+        // When
+        MockHttpServletResponse first = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), first, new MockFilterChain());
+        MockHttpServletResponse second = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), second, new MockFilterChain());
+
+        // Then
+        assertEquals(200, first.getStatus());
+        assertEquals(200, second.getStatus());
+        assertEquals(0, meterRegistry.get("http.server.requests.in.flight").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve responder 503 com Retry-After quando o limite está ocupado além do tempo de espera")
+    void deveResponder503QuandoLimiteOcupado() throws Exception {
+        // Given: uma requisição ocupa a única vaga até ser liberada
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> busy = CompletableFuture.runAsync(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(),
+                        (request, response) -> {
+                            inside.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertTrue(inside.await(5, TimeUnit.SECONDS));
+
+        // When
+        MockHttpServletResponse rejected = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), rejected, new MockFilterChain());
+        release.countDown();
+        busy.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(503, rejected.getStatus());
+        assertEquals("1", rejected.getHeader("Retry-After"));
+        assertTrue(rejected.getContentAsString().contains("Limite de requisições simultâneas"));
+        assertEquals(1, meterRegistry.get("http.server.requests.rejected").counter().count());
+    }
+}
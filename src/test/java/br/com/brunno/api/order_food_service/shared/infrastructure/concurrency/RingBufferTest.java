@@ -0,0 +1,147 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.concurrency;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RingBuffer - Fila circular com vários produtores e um consumidor")
+class RingBufferTest {
+
+    @Test
+    @DisplayName("Deve exigir capacidade potência de 2")
+    void deveExigirCapacidadePotenciaDeDois() {
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(6, Holder::new));
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<>(0, Holder::new));
+    }
+
+    @Test
+    @DisplayName("Deve recusar reserva com a fila cheia até o consumidor liberar slots")
+    void deveRecusarReservaComFilaCheia() {
+        RingBuffer<Holder> buffer = new RingBuffer<>(4, Holder::new);
+        for (int i = 0; i < 4; i++) {
+            publish(buffer, buffer.tryNext(), i);
+        }
+
+        assertEquals(-1, buffer.tryNext());
+        assertEquals(-1, buffer.next(1, TimeUnit.MILLISECONDS));
+        assertEquals(4, buffer.backlog());
+
+        assertEquals(2, buffer.drain(2, (slot, endOfBatch) -> { }));
+        assertEquals(4, buffer.tryNext());
+        assertEquals(5, buffer.tryNext());
+        assertEquals(-1, buffer.tryNext());
+    }
+
+    @Test
+    @DisplayName("Deve entregar apenas slots publicados em sequência, respeitando o tamanho do lote")
+    void deveEntregarApenasSlotsContiguos() {
+        RingBuffer<Holder> buffer = new RingBuffer<>(8, Holder::new);
+        long first = buffer.tryNext();
+        long second = buffer.tryNext();
+        long third = buffer.tryNext();
+        publish(buffer, first, 10);
+        publish(buffer, third, 30);
+
+        List<Integer> drained = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        assertEquals(1, buffer.drain(10, (slot, endOfBatch) -> {
+            drained.add(slot.value);
+            ends.add(endOfBatch);
+        }));
+        assertEquals(List.of(10), drained);
+
+        // O segundo slot publicado por último libera o terceiro, que já estava pronto
+        publish(buffer, second, 20);
+        assertEquals(1, buffer.drain(1, (slot, endOfBatch) -> {
+            drained.add(slot.value);
+            ends.add(endOfBatch);
+        }));
+        assertEquals(1, buffer.drain(10, (slot, endOfBatch) -> {
+            drained.add(slot.value);
+            ends.add(endOfBatch);
+        }));
+        assertEquals(List.of(10, 20, 30), drained);
+        assertEquals(List.of(true, true, true), ends);
+        assertEquals(0, buffer.drain(10, (slot, endOfBatch) -> { }));
+    }
+
+    @Test
+    @DisplayName("Deve esperar publicação e retornar false quando nada é publicado no prazo")
+    void deveEsperarPublicacao() throws Exception {
+        RingBuffer<Holder> buffer = new RingBuffer<>(4, Holder::new);
+        assertFalse(buffer.awaitPublished(10, TimeUnit.MILLISECONDS));
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            publish(buffer, buffer.tryNext(), 1);
+        });
+        producer.start();
+
+        assertTrue(buffer.awaitPublished(5, TimeUnit.SECONDS));
+        producer.join();
+    }
+
+    @Test
+    @DisplayName("Deve entregar cada item uma única vez com vários produtores concorrentes")
+    void deveEntregarCadaItemUmaVezComProdutoresConcorrentes() throws Exception {
+        int producers = 4;
+        int perProducer = 20_000;
+        RingBuffer<Holder> buffer = new RingBuffer<>(64, Holder::new);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            for (int p = 0; p < producers; p++) {
+                int base = p * perProducer;
+                executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perProducer; i++) {
+                        long sequence = buffer.next(5, TimeUnit.SECONDS);
+                        publish(buffer, sequence, base + i);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+
+            boolean[] seen = new boolean[producers * perProducer];
+            int[] received = new int[1];
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received[0] < seen.length && System.nanoTime() < deadline) {
+                if (buffer.awaitPublished(100, TimeUnit.MILLISECONDS)) {
+                    buffer.drain(16, (slot, endOfBatch) -> {
+                        assertFalse(seen[slot.value], "item entregue duas vezes: " + slot.value);
+                        seen[slot.value] = true;
+                        received[0]++;
+                    });
+                }
+            }
+
+            assertEquals(seen.length, received[0]);
+            assertEquals(0, buffer.backlog());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void publish(RingBuffer<Holder> buffer, long sequence, int value) {
+        assertTrue(sequence >= 0);
+        buffer.get(sequence).value = value;
+        buffer.publish(sequence);
+    }
+
+    private static final class Holder {
+        private int value;
+    }
+}
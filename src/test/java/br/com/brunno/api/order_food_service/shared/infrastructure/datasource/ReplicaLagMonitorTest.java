@@ -0,0 +1,127 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ReplicaLagMonitor - Atraso da réplica e decisão de roteamento")
+class ReplicaLagMonitorTest {
+
+    private static final long MAX_LAG_MILLIS = 1000;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private LocalReplicaSynchronizer synchronizer;
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource primaryDataSource = h2("primary");
+        JdbcDataSource replicaDataSource = h2("replica");
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        primary.execute("create table pedido (id bigint generated by default as identity primary key,"
+                + " codigo varchar(20) not null unique)");
+        primary.execute(ReplicaLagMonitor.CREATE_TABLE);
+
+        ReplicaDataSourceProperties properties = new ReplicaDataSourceProperties(true, null, null, null,
+                Duration.ofMillis(MAX_LAG_MILLIS), Duration.ofMillis(250),
+                new ReplicaDataSourceProperties.LocalReplication(true, Duration.ofMillis(500)));
+        synchronizer = new LocalReplicaSynchronizer(primaryDataSource, replicaDataSource, Duration.ofMillis(500));
+        monitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Não deve rotear para a réplica antes da primeira medição")
+    void naoDeveRotearAntesDaPrimeiraMedicao() {
+        assertEquals(ReplicaLagMonitor.Decision.PRIMARY_LAGGING, monitor.decide(0, System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("Deve rotear para a réplica somente depois que ela replicar a escrita exigida")
+    void deveRotearSomenteDepoisDeReplicarAEscritaExigida() throws Exception {
+        // Given: réplica em dia
+        replicate();
+        assertEquals(ReplicaLagMonitor.Decision.REPLICA, monitor.decide(0, System.currentTimeMillis()));
+
+        // When: escrita confirmada no primário, ainda não copiada
+        Thread.sleep(2);
+        primary.update("insert into pedido (codigo) values ('P-1')");
+        long committedAt = System.currentTimeMillis();
+        monitor.recordWrite(committedAt);
+
+        // Then
+        long now = System.currentTimeMillis();
+        assertEquals(ReplicaLagMonitor.Decision.REPLICA, monitor.decide(0, now));
+        assertEquals(ReplicaLagMonitor.Decision.PRIMARY_STALE, monitor.decide(committedAt, now));
+        assertEquals(ReplicaLagMonitor.Decision.PRIMARY_STALE, monitor.decide(ReadConsistency.LATEST, now));
+
+        // When: um heartbeat posterior à escrita chega à réplica
+        Thread.sleep(2);
+        replicate();
+
+        // Then
+        now = System.currentTimeMillis();
+        assertEquals(ReplicaLagMonitor.Decision.REPLICA, monitor.decide(committedAt, now));
+        assertEquals(ReplicaLagMonitor.Decision.REPLICA, monitor.decide(ReadConsistency.LATEST, now));
+        assertEquals(1, replica.queryForObject("select count(*) from pedido where codigo = 'P-1'", Integer.class));
+    }
+
+    @Test
+    @DisplayName("Deve tirar as leituras da réplica quando o atraso passar do tolerado ou ela não responder")
+    void deveTirarLeiturasDaReplicaAtrasadaOuFora() {
+        // Given
+        replicate();
+        long now = System.currentTimeMillis();
+
+        // Then: o atraso cresce com o tempo enquanto nenhum heartbeat novo chega
+        assertEquals(ReplicaLagMonitor.Decision.PRIMARY_LAGGING, monitor.decide(0, now + MAX_LAG_MILLIS + 10));
+
+        // When: réplica sem a tabela de heartbeat
+        replica.execute("drop table replica_heartbeat");
+        monitor.measure();
+
+        // Then
+        assertEquals(ReplicaLagMonitor.Decision.PRIMARY_LAGGING, monitor.decide(0, System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("Deve copiar estrutura, inserções e exclusões do primário para a réplica")
+    void deveCopiarEstruturaEDadosParaAReplica() {
+        // Given
+        primary.update("insert into pedido (codigo) values ('P-1'), ('P-2'), ('P-3')");
+
+        // When
+        synchronizer.sync();
+
+        // Then
+        assertEquals(3, replica.queryForObject("select count(*) from pedido", Integer.class));
+
+        // When
+        primary.update("delete from pedido where codigo = 'P-2'");
+        synchronizer.sync();
+
+        // Then: a constraint única foi criada na réplica e a cópia substitui o conteúdo
+        assertEquals(2, replica.queryForObject("select count(*) from pedido", Integer.class));
+        assertThrows(Exception.class, () -> replica.update("insert into pedido (codigo) values ('P-1')"));
+    }
+
+    private void replicate() {
+        monitor.beat();
+        synchronizer.sync();
+        monitor.measure();
+    }
+
+    private static JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + "_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,212 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.eventbus;
+
+import br.com.brunno.api.order_food_service.shared.domain.event.DomainEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DomainEventBus - Barramento de eventos de domínio em memória")
+class DomainEventBusTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private DomainEventBus bus;
+
+    @AfterEach
+    void tearDown() {
+        if (bus != null) {
+            bus.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve entregar cada evento apenas aos assinantes do tipo dele")
+    void deveEntregarApenasAosAssinantesDoTipo() throws Exception {
+        start(8192);
+        List<DomainEvent> created = new CopyOnWriteArrayList<>();
+        List<DomainEvent> all = new CopyOnWriteArrayList<>();
+        bus.subscribe(subscriber("criados", OverflowPolicy.DROP_OLDEST, 16, Set.of("Criado"), created::add));
+        bus.subscribe(subscriber("todos", OverflowPolicy.DROP_OLDEST, 16, Set.of("Criado", "Excluido"), all::add));
+
+        bus.publish(event("Criado", UUID.randomUUID()));
+        bus.publish(event("Excluido", UUID.randomUUID()));
+        bus.publish(event("Ignorado", UUID.randomUUID()));
+
+        await(() -> all.size() == 2);
+        assertEquals(List.of("Criado"), created.stream().map(DomainEvent::type).toList());
+        assertEquals(List.of("Criado", "Excluido"), all.stream().map(DomainEvent::type).toList());
+        assertEquals(2, meterRegistry.get("eventbus.lag").tag("subscriber", "todos").timer().count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar os eventos mais antigos quando a fila do assinante enche (DROP_OLDEST)")
+    void deveDescartarMaisAntigos() throws Exception {
+        start(8192);
+        BlockedListener listener = new BlockedListener();
+        bus.subscribe(subscriber("lento", OverflowPolicy.DROP_OLDEST, 2, Set.of("Criado"), listener));
+
+        DomainEvent first = event("Criado", UUID.randomUUID());
+        bus.publish(first);
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        List<DomainEvent> rest = List.of(event("Criado", UUID.randomUUID()), event("Criado", UUID.randomUUID()),
+                event("Criado", UUID.randomUUID()), event("Criado", UUID.randomUUID()));
+        rest.forEach(bus::publish);
+        await(() -> counter("eventbus.dropped", "lento") == 2);
+        assertEquals(2, meterRegistry.get("eventbus.queue.depth").tag("subscriber", "lento").gauge().value());
+
+        listener.release.countDown();
+        await(() -> listener.received.size() == 3);
+        assertEquals(List.of(first, rest.get(2), rest.get(3)), listener.received);
+    }
+
+    @Test
+    @DisplayName("Deve manter só o evento mais recente de cada agregado, na posição do primeiro (COALESCE)")
+    void deveAgruparPorAgregado() throws Exception {
+        start(8192);
+        BlockedListener listener = new BlockedListener();
+        bus.subscribe(subscriber("coalesce", OverflowPolicy.COALESCE, 8, Set.of("Alterado"), listener));
+
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        DomainEvent first = event("Alterado", UUID.randomUUID());
+        bus.publish(first);
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        bus.publish(event("Alterado", a));
+        bus.publish(event("Alterado", b));
+        bus.publish(event("Alterado", a));
+        DomainEvent latestA = event("Alterado", a);
+        bus.publish(latestA);
+        await(() -> counter("eventbus.coalesced", "coalesce") == 2);
+
+        listener.release.countDown();
+        await(() -> listener.received.size() == 3);
+        assertEquals(List.of(first.aggregateId(), a, b), listener.received.stream().map(DomainEvent::aggregateId).toList());
+        assertSame(latestA, listener.received.get(1));
+    }
+
+    @Test
+    @DisplayName("Não deve fazer quem publica esperar por um assinante lento, mesmo na política BLOCK")
+    void naoDeveSegurarQuemPublica() throws Exception {
+        start(16);
+        BlockedListener listener = new BlockedListener();
+        bus.subscribe(subscriber("bloqueante", OverflowPolicy.BLOCK, 1, Set.of("Criado"), listener));
+
+        bus.publish(event("Criado", UUID.randomUUID()));
+        assertTrue(listener.entered.await(5, TimeUnit.SECONDS));
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (int i = 0; i < 1_000; i++) {
+                bus.publish(event("Criado", UUID.randomUUID()));
+            }
+        });
+
+        // O assinante não perde nada do que chegou ao despachante; o excesso fica na fila de entrada
+        assertTrue(meterRegistry.get("eventbus.ingress.dropped").counter().count() > 0);
+        assertEquals(0, counter("eventbus.dropped", "bloqueante"));
+        listener.release.countDown();
+        await(() -> listener.received.size() > 16);
+    }
+
+    @Test
+    @DisplayName("Deve continuar entregando depois que o assinante lança exceção")
+    void deveContinuarAposFalhaDoAssinante() throws Exception {
+        start(8192);
+        List<DomainEvent> received = new CopyOnWriteArrayList<>();
+        bus.subscribe(subscriber("instavel", OverflowPolicy.DROP_OLDEST, 16, Set.of("Criado"), event -> {
+            received.add(event);
+            if (received.size() == 1) {
+                throw new IllegalStateException("falha no assinante");
+            }
+        }));
+
+        bus.publish(event("Criado", UUID.randomUUID()));
+        bus.publish(event("Criado", UUID.randomUUID()));
+
+        await(() -> received.size() == 2);
+        assertEquals(1, counter("eventbus.failures", "instavel"));
+    }
+
+    private void start(int ingressCapacity) {
+        bus = new DomainEventBus(new EventBusProperties(ingressCapacity, 1024, false), meterRegistry,
+                new DefaultListableBeanFactory().getBeanProvider(DomainEventSubscriber.class));
+        bus.start();
+    }
+
+    private double counter(String name, String subscriber) {
+        return meterRegistry.get(name).tag("subscriber", subscriber).counter().count();
+    }
+
+    private static DomainEvent event(String type, UUID aggregateId) {
+        return DomainEvent.of(type, "teste", aggregateId, null);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "condição não atendida no prazo");
+            Thread.sleep(5);
+        }
+    }
+
+    private static DomainEventSubscriber subscriber(String name, OverflowPolicy policy, int capacity,
+                                                    Set<String> types, Consumer<DomainEvent> listener) {
+        return new DomainEventSubscriber() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public Set<String> eventTypes() {
+                return types;
+            }
+
+            @Override
+            public void onEvent(DomainEvent event) {
+                listener.accept(event);
+            }
+
+            @Override
+            public OverflowPolicy overflowPolicy() {
+                return policy;
+            }
+
+            @Override
+            public int queueCapacity() {
+                return capacity;
+            }
+        };
+    }
+
+    /**
+     * Assinante que trava no primeiro evento até ser liberado
+     */
+    private static final class BlockedListener implements Consumer<DomainEvent> {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<DomainEvent> received = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void accept(DomainEvent event) {
+            received.add(event);
+            entered.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
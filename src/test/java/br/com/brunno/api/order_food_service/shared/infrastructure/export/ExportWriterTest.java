@@ -0,0 +1,102 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.export;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ExportWriter - Escrita de exportações NDJSON e CSV")
+class ExportWriterTest {
+
+    private static final List<ExportColumn<String[]>> COLUMNS = List.of(
+        new ExportColumn<>("nome", row -> row[0]),
+        new ExportColumn<>("email", row -> row[1])
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Deve escrever CSV com cabeçalho e aspas apenas quando necessário")
+    void deveEscreverCsv() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        try (ExportWriter<String[]> writer = new ExportWriter<>(ExportFormat.CSV, COLUMNS, output, false, objectMapper)) {
+            writer.write(new String[] {"João Silva", "joao@email.com"});
+            writer.write(new String[] {"Souza, \"Carla\"", null});
+        }
+
+        // Then
+        assertEquals("nome,email\r\n"
+                + "João Silva,joao@email.com\r\n"
+                + "\"Souza, \"\"Carla\"\"\",\r\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve escrever um objeto JSON por linha no NDJSON")
+    void deveEscreverNdjson() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        try (ExportWriter<String[]> writer = new ExportWriter<>(ExportFormat.NDJSON, COLUMNS, output, false, objectMapper)) {
+            writer.write(new String[] {"João Silva", "joao@email.com"});
+            writer.write(new String[] {"Maria", null});
+            assertEquals(2, writer.getRows());
+        }
+
+        // Then
+        assertEquals("{\"nome\":\"João Silva\",\"email\":\"joao@email.com\"}\n"
+                + "{\"nome\":\"Maria\",\"email\":null}\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Deve entregar a primeira linha antes do fim da exportação, inclusive com gzip")
+    void deveEntregarPrimeiraLinhaImediatamente() throws IOException {
+        // Given
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (ExportWriter<String[]> writer = new ExportWriter<>(ExportFormat.NDJSON, COLUMNS, output, true, objectMapper)) {
+            // When
+            writer.write(new String[] {"João Silva", "joao@email.com"});
+
+            // Then: o que já saiu descomprime até a primeira linha completa
+            byte[] partial = output.toByteArray();
+            assertTrue(partial.length > 0);
+            String firstLine = new String(new GZIPInputStream(new ByteArrayInputStream(partial))
+                    .readNBytes("{\"nome\":\"João Silva\",\"email\":\"joao@email.com\"}\n"
+                            .getBytes(StandardCharsets.UTF_8).length), StandardCharsets.UTF_8);
+            assertEquals("{\"nome\":\"João Silva\",\"email\":\"joao@email.com\"}\n", firstLine);
+        }
+
+        String complete = new String(new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))
+                .readAllBytes(), StandardCharsets.UTF_8);
+        assertEquals("{\"nome\":\"João Silva\",\"email\":\"joao@email.com\"}\n", complete);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar gzip apenas quando o cliente não o recusa")
+    void deveInterpretarAcceptEncoding() {
+        assertTrue(StreamingExporter.acceptsGzip("gzip"));
+        assertTrue(StreamingExporter.acceptsGzip("deflate, GZIP;q=0.5, br"));
+        assertFalse(StreamingExporter.acceptsGzip("gzip;q=0"));
+        assertFalse(StreamingExporter.acceptsGzip("deflate, br"));
+        assertFalse(StreamingExporter.acceptsGzip(null));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar formato de exportação desconhecido")
+    void deveRejeitarFormatoDesconhecido() {
+        assertEquals(ExportFormat.CSV, ExportFormat.fromParameter("CSV"));
+        assertThrows(IllegalArgumentException.class, () -> ExportFormat.fromParameter("xml"));
+    }
+}
@@ -0,0 +1,133 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("GeoGridIndex - Busca espacial por raio")
+class GeoGridIndexTest {
+
+    @Test
+    @DisplayName("Deve calcular a distância de haversine")
+    void deveCalcularDistancia() {
+        // Praça da Sé -> Rio de Janeiro (Cinelândia): cerca de 361 km
+        assertEquals(361, GeoGridIndex.distanceKm(-23.5505, -46.6333, -22.9099, -43.1763), 2);
+        assertEquals(0, GeoGridIndex.distanceKm(-23.5505, -46.6333, -23.5505, -46.6333), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Deve retornar os pontos dentro do raio ordenados pela distância")
+    void deveRetornarPontosDentroDoRaioOrdenados() {
+        // Given
+        GeoGridIndex<String> index = new GeoGridIndex<>(0.02);
+        index.put("se", -23.5505, -46.6333);
+        index.put("paulista", -23.5614, -46.6559);
+        index.put("pinheiros", -23.5670, -46.6920);
+        index.put("campinas", -22.9056, -47.0608);
+
+        // When
+        List<GeoGridIndex.Neighbor<String>> within5 = index.nearest(-23.5505, -46.6333, 5, 10);
+        List<GeoGridIndex.Neighbor<String>> within10 = index.nearest(-23.5505, -46.6333, 10, 10);
+        List<GeoGridIndex.Neighbor<String>> limited = index.nearest(-23.5505, -46.6333, 10, 2);
+
+        // Then
+        assertEquals(List.of("se", "paulista"), keys(within5));
+        assertEquals(List.of("se", "paulista", "pinheiros"), keys(within10));
+        assertEquals(List.of("se", "paulista"), keys(limited));
+        assertEquals(0, within5.get(0).distanceKm(), 1e-9);
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve mover o ponto de célula ao reindexar e esquecê-lo ao remover")
+    void deveMoverERemoverPontos() {
+        // Given
+        GeoGridIndex<String> index = new GeoGridIndex<>(0.02);
+        index.put("food-truck", -22.9056, -47.0608);
+
+        // When
+        index.put("food-truck", -23.5510, -46.6340);
+
+        // Then
+        assertEquals(List.of("food-truck"), keys(index.nearest(-23.5505, -46.6333, 1, 10)));
+        assertEquals(List.of(), keys(index.nearest(-22.9056, -47.0608, 1, 10)));
+        assertEquals(1, index.size());
+
+        index.remove("food-truck");
+        assertEquals(List.of(), keys(index.nearest(-23.5505, -46.6333, 1, 10)));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar pontos do outro lado do antimeridiano e perto dos polos")
+    void deveTratarAntimeridianoEPolos() {
+        // Given
+        GeoGridIndex<String> index = new GeoGridIndex<>(0.5);
+        index.put("leste", 0, 179.99);
+        index.put("oeste", 0, -179.99);
+        index.put("polo", 89.99, 10);
+        index.put("polo-oposto", 89.99, -170);
+
+        // When & Then
+        assertEquals(List.of("leste", "oeste"), keys(index.nearest(0, 179.99, 5, 10)));
+        assertEquals(List.of("polo", "polo-oposto"), keys(index.nearest(89.99, 10, 5, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve retornar o mesmo resultado que uma varredura completa")
+    void deveCoincidirComVarreduraCompleta() {
+        // Given: pontos aleatórios ao redor de São Paulo
+        Random random = new Random(42);
+        List<double[]> points = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) {
+            points.add(new double[] {i, -23.55 + random.nextGaussian() * 0.2, -46.63 + random.nextGaussian() * 0.2});
+        }
+        GeoGridIndex<Integer> index = new GeoGridIndex<>(0.02);
+        index.rebuild(points.stream(), point -> (int) point[0], point -> point[1], point -> point[2]);
+
+        double[][] centers = {{-23.55, -46.63}, {-23.80, -46.40}, {-23.10, -47.20}};
+        for (double[] center : centers) {
+            for (double radius : new double[] {0.5, 2, 5, 20, 50}) {
+                for (int limit : new int[] {1, 20, 500}) {
+                    // When
+                    List<Integer> found = keys(index.nearest(center[0], center[1], radius, limit));
+
+                    // Then
+                    List<Integer> expected = points.stream()
+                            .filter(point -> GeoGridIndex.distanceKm(center[0], center[1], point[1], point[2]) <= radius)
+                            .sorted(Comparator.comparingDouble(point -> GeoGridIndex.distanceKm(center[0], center[1], point[1], point[2])))
+                            .limit(limit)
+                            .map(point -> (int) point[0])
+                            .toList();
+                    assertEquals(expected, found, "centro " + center[0] + "," + center[1] + " raio " + radius + " limite " + limit);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Deve descartar o conteúdo anterior ao reconstruir")
+    void deveDescartarConteudoAoReconstruir() {
+        // Given
+        GeoGridIndex<String> index = new GeoGridIndex<>(0.02);
+        index.put("antigo", -23.5505, -46.6333);
+
+        // When
+        index.rebuild(Stream.of("novo"), key -> key, key -> -23.5614, key -> -46.6559);
+
+        // Then
+        assertEquals(List.of("novo"), keys(index.nearest(-23.5505, -46.6333, 5, 10)));
+        assertEquals(1, index.size());
+    }
+
+    private static <K> List<K> keys(List<GeoGridIndex.Neighbor<K>> neighbors) {
+        return neighbors.stream().map(GeoGridIndex.Neighbor::key).toList();
+    }
+}
@@ -0,0 +1,85 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.membership;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CountingBloomFilter - Filtro de pertinência")
+class CountingBloomFilterTest {
+
+    @Test
+    @DisplayName("Não deve ter falsos negativos para chaves adicionadas")
+    void naoDeveTerFalsosNegativos() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("usuario" + i + "@email.com");
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("usuario" + i + "@email.com"));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve manter a taxa de falsos positivos próxima da configurada")
+    void deveManterTaxaDeFalsosPositivos() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("usuario" + i + "@email.com");
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("outro" + i + "@email.com")) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertTrue(falsePositives / 100_000.0 < 0.02, "taxa observada: " + falsePositives / 100_000.0);
+        assertTrue(filter.estimatedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    @DisplayName("Deve remover chaves sem afetar as demais")
+    void deveRemoverChavesSemAfetarAsDemais() {
+        // Given
+        CountingBloomFilter filter = new CountingBloomFilter(1_000, 0.01);
+        for (int i = 0; i < 1_000; i++) {
+            filter.add("11222333000" + i);
+        }
+
+        // When
+        for (int i = 0; i < 500; i++) {
+            assertTrue(filter.remove("11222333000" + i));
+        }
+
+        // Then
+        for (int i = 500; i < 1_000; i++) {
+            assertTrue(filter.mightContain("11222333000" + i));
+        }
+        int stillPresent = 0;
+        for (int i = 0; i < 500; i++) {
+            if (filter.mightContain("11222333000" + i)) {
+                stillPresent++;
+            }
+        }
+        assertTrue(stillPresent < 25, "chaves removidas ainda presentes: " + stillPresent);
+    }
+
+    @Test
+    @DisplayName("Deve informar a memória ocupada")
+    void deveInformarMemoriaOcupada() {
+        CountingBloomFilter filter = new CountingBloomFilter(100_000, 0.01);
+
+        assertEquals(filter.getCounterCount() / 2, filter.memoryBytes());
+        assertEquals(7, filter.getHashFunctions());
+    }
+}
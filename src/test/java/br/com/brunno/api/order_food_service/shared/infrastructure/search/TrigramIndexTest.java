@@ -0,0 +1,99 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TrigramIndex - Busca por trecho de texto")
+class TrigramIndexTest {
+
+    @Test
+    @DisplayName("Deve normalizar maiúsculas, acentos e separadores")
+    void deveNormalizarTexto() {
+        assertEquals("acai da praca", TrigramIndex.fold("  Açaí   da PRAÇA! "));
+        assertEquals("sao joao", TrigramIndex.fold("São João"));
+        assertEquals("", TrigramIndex.fold(null));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar documentos pelo trecho, com ou sem acento")
+    void deveEncontrarPorTrecho() {
+        // Given
+        TrigramIndex<Integer> index = new TrigramIndex<>();
+        index.put(1, "Açaí da Praça");
+        index.put(2, "Pizzaria Bella Napoli");
+        index.put(3, "Cantina São João");
+
+        // When & Then
+        assertEquals(List.of(1), index.search("ACAI", 10));
+        assertEquals(List.of(2), index.search("zaria bel", 10));
+        assertEquals(List.of(3), index.search("são joão", 10));
+        assertEquals(List.of(1, 3), index.search("ca", 10));
+        assertEquals(List.of(), index.search("sushi", 10));
+    }
+
+    @Test
+    @DisplayName("Não deve retornar documentos que têm os trigramas fora de sequência")
+    void naoDeveRetornarTrigramasForaDeSequencia() {
+        // Given: "abcxbcd" tem abc e bcd, mas não contém "abcd"
+        TrigramIndex<Integer> index = new TrigramIndex<>();
+        index.put(1, "abcxbcd");
+        index.put(2, "abcd");
+
+        // When & Then
+        assertEquals(List.of(2), index.search("abcd", 10));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite e refletir atualizações e exclusões")
+    void deveRespeitarLimiteAtualizacoesEExclusoes() {
+        // Given
+        TrigramIndex<Integer> index = new TrigramIndex<>();
+        IntStream.range(0, 50).forEach(i -> index.put(i, "Pizzaria " + i));
+
+        // When
+        index.put(0, "Hamburgueria");
+        index.remove(1);
+
+        // Then
+        assertEquals(List.of(2, 3, 4), index.search("pizza", 3));
+        assertEquals(List.of(0), index.search("hamburg", 10));
+        assertEquals(49, index.size());
+    }
+
+    @Test
+    @DisplayName("Deve manter os resultados após compactar os documentos removidos")
+    void deveManterResultadosAposCompactar() {
+        // Given
+        TrigramIndex<Integer> index = new TrigramIndex<>();
+        index.rebuild(IntStream.range(0, 4000).boxed(), i -> i, i -> "Restaurante " + i);
+
+        // When: remove o suficiente para disparar a compactação
+        IntStream.range(0, 2000).forEach(index::remove);
+
+        // Then
+        assertEquals(2000, index.size());
+        assertEquals(List.of(3999), index.search("restaurante 3999", 10));
+        assertEquals(List.of(), index.search("restaurante 1999", 10));
+        assertEquals(List.of(2000, 2001), index.search("restaurante", 2));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir o índice descartando o conteúdo anterior")
+    void deveReconstruirIndice() {
+        // Given
+        TrigramIndex<String> index = new TrigramIndex<>();
+        index.put("antigo", "Padaria Antiga");
+
+        // When
+        index.rebuild(Map.of("novo", "Padaria Nova").entrySet().stream(), Map.Entry::getKey, Map.Entry::getValue);
+
+        // Then
+        assertEquals(List.of("novo"), index.search("padaria", 10));
+    }
+}
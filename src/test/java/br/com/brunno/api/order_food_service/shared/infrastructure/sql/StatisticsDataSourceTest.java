@@ -0,0 +1,124 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.sql;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("StatisticsDataSource - Estatísticas de comandos SQL")
+class StatisticsDataSourceTest {
+
+    private static final String INSERT = "insert into pessoa (id, nome) values (?, ?)";
+    private static final String SELECT = "select id, nome from pessoa where id > ?";
+
+    private SqlStatistics statistics;
+    private StatisticsDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:sqlstats_" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        // Limite zero: toda execução entra no registro de comandos lentos
+        statistics = new SqlStatistics(new SqlStatisticsProperties(true, Duration.ZERO, 3, 500, true));
+        dataSource = new StatisticsDataSource(h2, statistics);
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table pessoa (id int primary key, nome varchar(50))");
+        }
+    }
+
+    @Test
+    @DisplayName("Deve agregar execuções e linhas por comando, incluindo lotes e consultas")
+    void deveAgregarExecucoesELinhasPorComando() throws Exception {
+        // When
+        try (Connection connection = dataSource.getConnection()) {
+            try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                for (int id = 1; id <= 3; id++) {
+                    insert.setInt(1, id);
+                    insert.setString(2, "Pessoa " + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            try (PreparedStatement select = connection.prepareStatement(SELECT)) {
+                select.setInt(1, 1);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    while (resultSet.next()) {
+                        assertNotNull(resultSet.getString("nome"));
+                    }
+                }
+                select.setInt(1, 2);
+                // ResultSet não fechado explicitamente: registrado no fechamento do statement
+                ResultSet resultSet = select.executeQuery();
+                assertTrue(resultSet.next());
+            }
+        }
+
+        // Then
+        SqlStatistics.StatementSummary insert = summary(INSERT);
+        assertEquals(1, insert.executions());
+        assertEquals(3, insert.rows());
+
+        SqlStatistics.StatementSummary select = summary(SELECT);
+        assertEquals(2, select.executions());
+        assertEquals(3, select.rows());
+        assertTrue(select.maxMs() >= select.meanMs());
+    }
+
+    @Test
+    @DisplayName("Deve manter no buffer circular apenas as execuções lentas mais recentes, com os parâmetros de bind")
+    void deveManterExecucoesLentasComParametros() throws Exception {
+        // When: cinco execuções num buffer de três posições
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(INSERT)) {
+            for (int id = 1; id <= 5; id++) {
+                insert.setInt(1, id);
+                insert.setString(2, "Pessoa " + id);
+                insert.executeUpdate();
+            }
+        }
+
+        // Then
+        List<SqlStatistics.SlowStatement> slowest = statistics.slowest().stream()
+                .filter(statement -> statement.sql().equals(INSERT))
+                .toList();
+        assertEquals(3, statistics.slowest().size());
+        assertFalse(slowest.isEmpty());
+        assertTrue(slowest.stream().allMatch(statement -> statement.rows() == 1));
+        assertTrue(slowest.stream().anyMatch(statement -> statement.parameters().equals(List.of("5", "Pessoa 5"))));
+        assertTrue(slowest.stream().noneMatch(statement -> statement.parameters().equals(List.of("1", "Pessoa 1"))));
+    }
+
+    @Test
+    @DisplayName("Deve descartar as estatísticas no reset")
+    void deveDescartarEstatisticasNoReset() throws Exception {
+        // Given
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement select = connection.prepareStatement(SELECT)) {
+            select.setInt(1, 0);
+            select.executeQuery().close();
+        }
+
+        // When
+        statistics.reset();
+
+        // Then
+        assertTrue(statistics.statements().isEmpty());
+        assertTrue(statistics.slowest().isEmpty());
+    }
+
+    private SqlStatistics.StatementSummary summary(String sql) {
+        return statistics.statements().stream()
+                .filter(statement -> statement.sql().equals(sql))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,86 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.version;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CollectionVersion - Versão de coleção após o commit")
+class CollectionVersionTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CollectionVersion version = new CollectionVersion("restaurants", meterRegistry);
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new NoOpTransactionManager());
+
+    @Test
+    @DisplayName("Deve incrementar imediatamente fora de transação")
+    void deveIncrementarForaDeTransacao() {
+        version.incrementAfterCommit();
+
+        assertEquals(1, version.current());
+        assertEquals(1, meterRegistry.get("collection.version").tag("collection", "restaurants").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Deve incrementar uma única vez por transação e somente após o commit")
+    void deveIncrementarUmaVezAposCommit() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            version.incrementAfterCommit();
+            version.incrementAfterCommit();
+            version.incrementAfterCommit();
+            assertEquals(0, version.current());
+        });
+
+        // Then
+        assertEquals(1, version.current());
+
+        // A transação seguinte registra seu próprio incremento
+        transactionTemplate.executeWithoutResult(status -> version.incrementAfterCommit());
+        assertEquals(2, version.current());
+    }
+
+    @Test
+    @DisplayName("Não deve incrementar quando a transação sofre rollback")
+    void naoDeveIncrementarNoRollback() {
+        // When
+        transactionTemplate.executeWithoutResult(status -> {
+            version.incrementAfterCommit();
+            status.setRollbackOnly();
+        });
+
+        // Then
+        assertEquals(0, version.current());
+
+        transactionTemplate.executeWithoutResult(status -> version.incrementAfterCommit());
+        assertEquals(1, version.current());
+    }
+
+    /**
+     * Gerenciador de transação sem recurso: apenas ativa a sincronização do Spring
+     */
+    private static final class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
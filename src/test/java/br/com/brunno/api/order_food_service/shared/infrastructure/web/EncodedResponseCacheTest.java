@@ -0,0 +1,106 @@
+package br.com.brunno.api.order_food_service.shared.infrastructure.web;
+
+import br.com.brunno.api.order_food_service.shared.infrastructure.version.CollectionVersion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EncodedResponseCache - Cache de respostas serializadas")
+class EncodedResponseCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CollectionVersion version = new CollectionVersion("restaurants", meterRegistry);
+    private final List<String> names = new CopyOnWriteArrayList<>(List.of("Restaurante A"));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private EncodedResponseCache<String> cache = newCache(true);
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    @DisplayName("Deve servir os mesmos bytes enquanto a versão da coleção não muda")
+    void deveServirDoCacheEnquantoVersaoNaoMuda() {
+        // When
+        EncodedResponseCache.EncodedResponse first = cache.get("all");
+        EncodedResponseCache.EncodedResponse second = cache.get("all");
+
+        // Then
+        assertSame(first, second);
+        assertEquals("[\"Restaurante A\"]", new String(first.json(), StandardCharsets.UTF_8));
+        assertEquals(1, loads.get());
+        assertEquals(1, requests("hit"));
+        assertEquals(1, requests("miss"));
+        assertTrue(meterRegistry.get("response.cache.size").tag("cache", "restaurants").gauge().value() > 0);
+    }
+
+    @Test
+    @DisplayName("Deve guardar o corpo comprimido equivalente ao JSON")
+    void deveGuardarCorpoComprimido() throws IOException {
+        // When
+        EncodedResponseCache.EncodedResponse encoded = cache.get("all");
+
+        // Then
+        assertTrue(encoded.hasGzip());
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded.gzip()))) {
+            assertArrayEquals(encoded.json(), in.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve refletir a alteração da coleção assim que a versão muda")
+    void deveRefletirAlteracaoDaColecao() {
+        // Given
+        cache.get("all");
+
+        // When
+        names.add("Restaurante B");
+        version.incrementAfterCommit();
+
+        // Then: a reconstrução em segundo plano ou a própria requisição serializa os dados novos
+        EncodedResponseCache.EncodedResponse encoded = cache.get("all");
+        assertEquals("[\"Restaurante A\",\"Restaurante B\"]", new String(encoded.json(), StandardCharsets.UTF_8));
+        assertEquals(1, encoded.version());
+    }
+
+    @Test
+    @DisplayName("Deve serializar a cada requisição quando desativado")
+    void deveSerializarACadaRequisicaoQuandoDesativado() {
+        // Given
+        cache.close();
+        cache = newCache(false);
+
+        // When
+        cache.get("all");
+        cache.get("all");
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(2, requests("bypass"));
+    }
+
+    private EncodedResponseCache<String> newCache(boolean enabled) {
+        return new EncodedResponseCache<>("restaurants", version, key -> {
+            loads.incrementAndGet();
+            return List.copyOf(names);
+        }, new ObjectMapper(), enabled, true, meterRegistry);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("response.cache.requests").tag("result", result).counter().count();
+    }
+}
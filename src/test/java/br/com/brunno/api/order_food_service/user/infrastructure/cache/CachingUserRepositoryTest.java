@@ -0,0 +1,182 @@
+package br.com.brunno.api.order_food_service.user.infrastructure.cache;
+
+import br.com.brunno.api.order_food_service.user.domain.entity.User;
+import br.com.brunno.api.order_food_service.user.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("CachingUserRepository - Cache de leitura de usuários")
+class CachingUserRepositoryTest {
+
+    private InMemoryUserRepository delegate;
+    private CachingUserRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new InMemoryUserRepository();
+        repository = new CachingUserRepository(
+            delegate,
+            Caffeine.newBuilder().maximumSize(100).build(),
+            Caffeine.newBuilder().maximumSize(100).build()
+        );
+    }
+
+    @Test
+    @DisplayName("Deve servir leituras repetidas por ID a partir do cache")
+    void deveServirLeiturasRepetidasDoCache() {
+        // Given
+        User user = delegate.save(new User("João Silva", "joao@email.com", User.UserType.CLIENTE));
+
+        // When
+        repository.findById(user.getId());
+        repository.findById(user.getId());
+        Optional<User> found = repository.findById(user.getId());
+
+        // Then
+        assertTrue(found.isPresent());
+        assertEquals(1, delegate.findByIdCalls);
+    }
+
+    @Test
+    @DisplayName("Deve servir leituras por email a partir do cache por ID")
+    void deveServirLeiturasPorEmailDoCache() {
+        // Given
+        User user = delegate.save(new User("João Silva", "joao@email.com", User.UserType.CLIENTE));
+        repository.findByEmail("joao@email.com");
+
+        // When
+        Optional<User> found = repository.findByEmail("joao@email.com");
+
+        // Then
+        assertEquals(user.getId(), found.orElseThrow().getId());
+        assertEquals(1, delegate.findByEmailCalls);
+        assertTrue(repository.existsByEmail("joao@email.com"));
+        assertEquals(0, delegate.existsByEmailCalls);
+    }
+
+    @Test
+    @DisplayName("Não deve devolver usuário excluído")
+    void naoDeveDevolverUsuarioExcluido() {
+        // Given
+        User user = delegate.save(new User("João Silva", "joao@email.com", User.UserType.CLIENTE));
+        repository.findById(user.getId());
+        repository.findByEmail("joao@email.com");
+
+        // When
+        repository.deleteById(user.getId());
+
+        // Then
+        assertTrue(repository.findById(user.getId()).isEmpty());
+        assertTrue(repository.findByEmail("joao@email.com").isEmpty());
+        assertFalse(repository.existsByEmail("joao@email.com"));
+    }
+
+    @Test
+    @DisplayName("Deve refletir alterações salvas, inclusive troca de email")
+    void deveRefletirAlteracoesSalvas() {
+        // Given
+        User user = delegate.save(new User("João Silva", "joao@email.com", User.UserType.CLIENTE));
+        repository.findByEmail("joao@email.com");
+
+        // When
+        User updated = repository.findById(user.getId()).orElseThrow();
+        updated.update("João Souza", "joao.souza@email.com");
+        repository.save(updated);
+
+        // Then
+        assertEquals("João Souza", repository.findById(user.getId()).orElseThrow().getNome());
+        assertTrue(repository.findByEmail("joao@email.com").isEmpty());
+        assertEquals(user.getId(), repository.findByEmail("joao.souza@email.com").orElseThrow().getId());
+    }
+
+    @Test
+    @DisplayName("Alterações no objeto devolvido não devem afetar o cache")
+    void alteracoesNoObjetoDevolvidoNaoDevemAfetarOCache() {
+        // Given
+        User user = delegate.save(new User("João Silva", "joao@email.com", User.UserType.CLIENTE));
+
+        // When
+        repository.findById(user.getId()).orElseThrow().update("Outro Nome", null);
+
+        // Then
+        assertEquals("João Silva", repository.findById(user.getId()).orElseThrow().getNome());
+    }
+
+    /**
+     * Repositório em memória que conta os acessos ao "banco"
+     */
+    private static class InMemoryUserRepository implements UserRepository {
+
+        private final Map<UUID, User> users = new LinkedHashMap<>();
+        private int findByIdCalls;
+        private int findByEmailCalls;
+        private int existsByEmailCalls;
+
+        @Override
+        public User save(User user) {
+            User copy = new User(user.getId(), user.getNome(), user.getEmail(), user.getTipo());
+            users.put(copy.getId(), copy);
+            return copy;
+        }
+
+        @Override
+        public List<User> saveAll(List<User> usersToSave) {
+            return usersToSave.stream().map(this::save).toList();
+        }
+
+        @Override
+        public Optional<User> findById(UUID id) {
+            findByIdCalls++;
+            return Optional.ofNullable(users.get(id));
+        }
+
+        @Override
+        public Optional<User> findByEmail(String email) {
+            findByEmailCalls++;
+            return users.values().stream().filter(user -> user.getEmail().equals(email)).findFirst();
+        }
+
+        @Override
+        public List<User> findAll() {
+            return new ArrayList<>(users.values());
+        }
+
+        @Override
+        public boolean existsByEmail(String email) {
+            existsByEmailCalls++;
+            return users.values().stream().anyMatch(user -> user.getEmail().equals(email));
+        }
+
+        @Override
+        public Set<String> findExistingEmails(Collection<String> emails) {
+            return users.values().stream()
+                    .map(User::getEmail)
+                    .filter(emails::contains)
+                    .collect(Collectors.toSet());
+        }
+
+        @Override
+        public int deleteById(UUID id) {
+            return users.remove(id) != null ? 1 : 0;
+        }
+
+        @Override
+        public List<UUID> deleteAllById(Collection<UUID> ids) {
+            return ids.stream().filter(id -> deleteById(id) > 0).toList();
+        }
+    }
+}